@@ -0,0 +1,80 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaPredicate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.tinyj.lava.utils.JavaFun.toLavaFun;
+import static org.tinyj.lava.utils.LavaFun.toJavaFun;
+
+/**
+ * Cost of adapting between Java and Lava functors with
+ * {@code LavaFun.toJavaFun(...)} and {@code JavaFun.toLavaFun(...)}.
+ * {@code roundTrip<n>} invokes a functor converted back and forth {@code n}
+ * times, {@code create_*} measures the conversion itself. Converting back
+ * unwraps the adapter, so a round trip returns the original functor and
+ * invokes no extra layers. Each {@code toLavaFun(...)} on the way still
+ * allocates a short lived adapter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdapterBenchmark {
+
+  String x = "alpha";
+
+  Function<String, String> trim = String::trim;
+  Predicate<String> isEmpty = String::isEmpty;
+
+  LavaFunction<String, String, RuntimeException> toLava;
+  Function<String, String> roundTrip1;
+  Function<String, String> roundTrip4;
+  Predicate<String> predicateRoundTrip1;
+
+  @Setup
+  public void setup() {
+    toLava = toLavaFun(trim);
+    roundTrip1 = toJavaFun(toLavaFun(trim));
+    roundTrip4 = toJavaFun(toLavaFun(toJavaFun(toLavaFun(toJavaFun(toLavaFun(toJavaFun(toLavaFun(trim))))))));
+    predicateRoundTrip1 = toJavaFun(toLavaFun(isEmpty));
+  }
+
+  @Benchmark
+  public String baseline() { return trim.apply(x); }
+
+  @Benchmark
+  public String toLava() { return toLava.checkedApply(x); }
+
+  @Benchmark
+  public String roundTrip1() { return roundTrip1.apply(x); }
+
+  @Benchmark
+  public String roundTrip4() { return roundTrip4.apply(x); }
+
+  @Benchmark
+  public boolean predicateBaseline() { return isEmpty.test(x); }
+
+  @Benchmark
+  public boolean predicateRoundTrip1() { return predicateRoundTrip1.test(x); }
+
+  @Benchmark
+  public LavaFunction<String, String, RuntimeException> create_toLava() { return toLavaFun(trim); }
+
+  @Benchmark
+  public Function<String, String> create_roundTrip1() { return toJavaFun(toLavaFun(trim)); }
+
+  @Benchmark
+  public Function<String, String> create_roundTrip4() {
+    return toJavaFun(toLavaFun(toJavaFun(toLavaFun(toJavaFun(toLavaFun(toJavaFun(toLavaFun(trim))))))));
+  }
+
+  @Benchmark
+  public LavaPredicate<String, RuntimeException> create_predicateToLava() { return toLavaFun(isEmpty); }
+}
@@ -0,0 +1,82 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Lookup cost of {@code JavaFun.memoize(BiFunction, ...)} compared to
+ * memoizing a function on a {@link List} key allocated per call. Keys are
+ * drawn from {@code keys} distinct pairs fitting into the cache, all lookups
+ * but the first few hit. Run with {@code -prof gc}, {@code biMemoized} does
+ * not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BiMemoizeBenchmark {
+
+  @Param({"1024"})
+  int maxSize;
+
+  @Param({"256"})
+  int keys;
+
+  BiFunction<Integer, Integer, Integer> biMemoized;
+  Function<List<Integer>, Integer> pairMemoized;
+
+  @Setup
+  public void setup() {
+    biMemoized = JavaFun.memoize((BiFunction<Integer, Integer, Integer>) BiMemoizeBenchmark::work, maxSize);
+    pairMemoized = JavaFun.memoize((Function<List<Integer>, Integer>) xy -> work(xy.get(0), xy.get(1)), maxSize);
+  }
+
+  @State(Scope.Thread)
+  public static class Keys {
+
+    Integer[] xs;
+    Integer[] ys;
+    int next;
+
+    @Setup
+    public void setup(BiMemoizeBenchmark benchmark) {
+      xs = new Integer[1 << 16];
+      ys = new Integer[1 << 16];
+      long seed = System.nanoTime();
+      for (int i = 0; i < xs.length; i++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        final int key = (int) ((seed >>> 33) % benchmark.keys);
+        xs[i] = key >>> 4;
+        ys[i] = key & 15;
+      }
+    }
+  }
+
+  static Integer work(Integer x, Integer y) {
+    int h = x;
+    for (int i = 0; i < 100; i++) {
+      h = h * 31 + y;
+    }
+    return h;
+  }
+
+  @Benchmark
+  public Integer biMemoized(Keys keys) {
+    final int i = keys.next++ & (keys.xs.length - 1);
+    return biMemoized.apply(keys.xs[i], keys.ys[i]);
+  }
+
+  @Benchmark
+  public Integer pairMemoized(Keys keys) {
+    final int i = keys.next++ & (keys.xs.length - 1);
+    return pairMemoized.apply(Arrays.asList(keys.xs[i], keys.ys[i]));
+  }
+}
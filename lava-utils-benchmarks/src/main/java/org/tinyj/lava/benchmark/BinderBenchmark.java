@@ -0,0 +1,169 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.NoException;
+import org.tinyj.lava.utils.JavaFun;
+import org.tinyj.lava.utils.LavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cost of invoking binder results compared to the equivalent hand written
+ * lambdas ({@code *_lambda}), as well as the cost of producing them
+ * ({@code create_*}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BinderBenchmark {
+
+  String x = "alpha";
+  String y = "beta";
+
+  BiFunction<String, String, String> longer = (a, b) -> a.length() >= b.length() ? a : b;
+  Function<String, String> trim = String::trim;
+  LavaBiFunction<String, String, String, NoException> lavaLonger = (a, b) -> a.length() >= b.length() ? a : b;
+  LavaFunction<String, String, NoException> lavaTrim = String::trim;
+
+  Function<String, String> bindFirst;
+  Function<String, String> bindFirst_lambda;
+  Function<String, String> bindSecond;
+  Function<String, String> bindSecond_lambda;
+  Supplier<String> bind;
+  Supplier<String> bind_lambda;
+  BiFunction<String, String, String> flip;
+  BiFunction<String, String, String> flip_lambda;
+  BiFunction<String, String, String> link;
+  BiFunction<String, String, String> link_lambda;
+  BiFunction<String, String, String> linkFirst;
+  BiFunction<String, String, String> linkFirst_lambda;
+  BiFunction<String, String, String> linkSecond;
+  BiFunction<String, String, String> linkSecond_lambda;
+  Function<String, String> linkTo5;
+  Function<String, String> linkTo5_lambda;
+  BiFunction<String, String, String> andThen5;
+  BiFunction<String, String, String> andThen5_lambda;
+  LavaFunction<String, String, NoException> lavaBindFirst;
+  LavaFunction<String, String, NoException> lavaBindFirst_lambda;
+  LavaFunction<String, String, ?> lavaLinkTo5;
+  LavaFunction<String, String, NoException> lavaLinkTo5_lambda;
+
+  @Setup
+  public void setup() {
+    bindFirst = JavaFun.bind(longer).bindFirst(x);
+    bindFirst_lambda = b -> longer.apply(x, b);
+    bindSecond = JavaFun.bind(longer).bindSecond(y);
+    bindSecond_lambda = a -> longer.apply(a, y);
+    bind = JavaFun.bind(longer).bind(x, y);
+    bind_lambda = () -> longer.apply(x, y);
+    flip = JavaFun.bind(longer).flip();
+    flip_lambda = (b, a) -> longer.apply(a, b);
+    link = JavaFun.bind(longer).link(trim, trim);
+    link_lambda = (a, b) -> longer.apply(trim.apply(a), trim.apply(b));
+    linkFirst = JavaFun.bind(longer).linkFirst(trim);
+    linkFirst_lambda = (a, b) -> longer.apply(trim.apply(a), b);
+    linkSecond = JavaFun.bind(longer).linkSecond(trim);
+    linkSecond_lambda = (a, b) -> longer.apply(a, trim.apply(b));
+    linkTo5 = JavaFun.bind(trim).linkTo(trim).linkTo(trim).linkTo(trim).linkTo(trim);
+    linkTo5_lambda = a -> trim.apply(trim.apply(trim.apply(trim.apply(trim.apply(a)))));
+    andThen5 = JavaFun.bind(longer).andThen(trim).andThen(trim).andThen(trim).andThen(trim);
+    andThen5_lambda = (a, b) -> trim.apply(trim.apply(trim.apply(trim.apply(longer.apply(a, b)))));
+    lavaBindFirst = LavaFun.bind(lavaLonger).bindFirst(x);
+    lavaBindFirst_lambda = b -> lavaLonger.checkedApply(x, b);
+    lavaLinkTo5 = LavaFun.bind(lavaTrim).linkTo(lavaTrim).linkTo(lavaTrim).linkTo(lavaTrim).linkTo(lavaTrim);
+    lavaLinkTo5_lambda = a -> lavaTrim.checkedApply(lavaTrim.checkedApply(lavaTrim.checkedApply(lavaTrim.checkedApply(lavaTrim.checkedApply(a)))));
+  }
+
+  @Benchmark
+  public String baseline() { return longer.apply(x, y); }
+
+  @Benchmark
+  public String bindFirst() { return bindFirst.apply(y); }
+
+  @Benchmark
+  public String bindFirst_lambda() { return bindFirst_lambda.apply(y); }
+
+  @Benchmark
+  public String bindSecond() { return bindSecond.apply(x); }
+
+  @Benchmark
+  public String bindSecond_lambda() { return bindSecond_lambda.apply(x); }
+
+  @Benchmark
+  public String bind() { return bind.get(); }
+
+  @Benchmark
+  public String bind_lambda() { return bind_lambda.get(); }
+
+  @Benchmark
+  public String flip() { return flip.apply(y, x); }
+
+  @Benchmark
+  public String flip_lambda() { return flip_lambda.apply(y, x); }
+
+  @Benchmark
+  public String link() { return link.apply(x, y); }
+
+  @Benchmark
+  public String link_lambda() { return link_lambda.apply(x, y); }
+
+  @Benchmark
+  public String linkFirst() { return linkFirst.apply(x, y); }
+
+  @Benchmark
+  public String linkFirst_lambda() { return linkFirst_lambda.apply(x, y); }
+
+  @Benchmark
+  public String linkSecond() { return linkSecond.apply(x, y); }
+
+  @Benchmark
+  public String linkSecond_lambda() { return linkSecond_lambda.apply(x, y); }
+
+  @Benchmark
+  public String linkTo5() { return linkTo5.apply(x); }
+
+  @Benchmark
+  public String linkTo5_lambda() { return linkTo5_lambda.apply(x); }
+
+  @Benchmark
+  public String andThen5() { return andThen5.apply(x, y); }
+
+  @Benchmark
+  public String andThen5_lambda() { return andThen5_lambda.apply(x, y); }
+
+  @Benchmark
+  public String lavaBindFirst() throws Exception { return lavaBindFirst.checkedApply(y); }
+
+  @Benchmark
+  public String lavaBindFirst_lambda() { return lavaBindFirst_lambda.checkedApply(y); }
+
+  @Benchmark
+  public String lavaLinkTo5() throws Exception { return lavaLinkTo5.checkedApply(x); }
+
+  @Benchmark
+  public String lavaLinkTo5_lambda() { return lavaLinkTo5_lambda.checkedApply(x); }
+
+  @Benchmark
+  public Function<String, String> create_bindFirst() { return JavaFun.bind(longer).bindFirst(x); }
+
+  @Benchmark
+  public Function<String, String> create_bindFirst_lambda() { return b -> longer.apply(x, b); }
+
+  @Benchmark
+  public Function<String, String> create_linkTo5() {
+    return JavaFun.bind(trim).linkTo(trim).linkTo(trim).linkTo(trim).linkTo(trim);
+  }
+
+  @Benchmark
+  public BiFunction<String, String, String> create_andThen5() {
+    return JavaFun.bind(longer).andThen(trim).andThen(trim).andThen(trim).andThen(trim);
+  }
+}
@@ -0,0 +1,70 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.utils.CheckedCarrier;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.tinyj.lava.utils.LavaFun.toJavaFunCarrying;
+import static org.tinyj.lava.utils.LavaFun.toJavaFunSneaky;
+
+/**
+ * Cost of passing a checked exception through a Java functor.
+ * {@code wrapped} wraps into a fresh {@link UndeclaredThrowableException},
+ * {@code sneaky} rethrows the original exception as is and {@code carrying}
+ * wraps into a stackless {@link CheckedCarrier}. The exception thrown is
+ * preallocated, only the cost of bridging it is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CheckedBridgeBenchmark {
+
+  static final IOException FAILURE = new IOException("failed");
+
+  LavaFunction<String, String, IOException> failing = x -> { throw FAILURE; };
+
+  Function<String, String> wrapped = x -> {
+    try {
+      return failing.checkedApply(x);
+    } catch (IOException e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  };
+  Function<String, String> sneaky = toJavaFunSneaky(failing);
+  Function<String, String> carrying = toJavaFunCarrying(failing);
+
+  @Benchmark
+  public Throwable wrapped() {
+    try {
+      return new Throwable(wrapped.apply("x"));
+    } catch (UndeclaredThrowableException e) {
+      return e.getCause();
+    }
+  }
+
+  @Benchmark
+  public Throwable sneaky() {
+    try {
+      return new Throwable(sneaky.apply("x"));
+    } catch (Exception e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Throwable carrying() {
+    try {
+      return new Throwable(carrying.apply("x"));
+    } catch (CheckedCarrier e) {
+      return e.carried();
+    }
+  }
+}
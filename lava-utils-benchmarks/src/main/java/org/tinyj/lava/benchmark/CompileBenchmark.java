@@ -0,0 +1,61 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cost of invoking bindings of several different targets, each from its own
+ * call site. The lambda based binder ({@code *_lambda}) forwards all of them
+ * through one shared, megamorphic call site. Compiled bindings get a class of
+ * their own and stay monomorphic. Compiling requires Java 15 or later, on
+ * earlier versions both variants measure the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompileBenchmark {
+
+  Integer x = 42;
+
+  Function<Integer, Integer> sum_lambda;
+  Function<Integer, Integer> max_lambda;
+  Function<Integer, Integer> xor_lambda;
+  Function<Integer, Integer> mul_lambda;
+  Function<Integer, Integer> sum_compiled;
+  Function<Integer, Integer> max_compiled;
+  Function<Integer, Integer> xor_compiled;
+  Function<Integer, Integer> mul_compiled;
+
+  @Setup
+  public void setup() {
+    final BiFunction<Integer, Integer, Integer> sum = Integer::sum;
+    final BiFunction<Integer, Integer, Integer> max = Math::max;
+    final BiFunction<Integer, Integer, Integer> xor = (a, b) -> a ^ b;
+    final BiFunction<Integer, Integer, Integer> mul = (a, b) -> a * b;
+    sum_lambda = JavaFun.bind(sum).bindFirst(1);
+    max_lambda = JavaFun.bind(max).bindFirst(2);
+    xor_lambda = JavaFun.bind(xor).bindFirst(3);
+    mul_lambda = JavaFun.bind(mul).bindFirst(4);
+    sum_compiled = JavaFun.bind(sum).bindFirst(1).compile();
+    max_compiled = JavaFun.bind(max).bindFirst(2).compile();
+    xor_compiled = JavaFun.bind(xor).bindFirst(3).compile();
+    mul_compiled = JavaFun.bind(mul).bindFirst(4).compile();
+  }
+
+  @Benchmark
+  public int mixed_lambda() {
+    return sum_lambda.apply(x) + max_lambda.apply(x) + xor_lambda.apply(x) + mul_lambda.apply(x);
+  }
+
+  @Benchmark
+  public int mixed_compiled() {
+    return sum_compiled.apply(x) + max_compiled.apply(x) + xor_compiled.apply(x) + mul_compiled.apply(x);
+  }
+}
@@ -0,0 +1,65 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.binder.JavaBiFunctionHandle;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cost of invoking a bound and linked pipeline built with the method handle
+ * based binder, directly ({@code *_handle}) and compiled
+ * ({@code *_compiled}), compared to the lambda based binder
+ * ({@code *_binder}). Compiling requires Java 15 or later.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandleBinderBenchmark {
+
+  String s = "alpha";
+
+  BiFunction<String, Integer, Integer> target = (x, y) -> x.length() * 31 + y;
+  Function<String, String> trim = String::trim;
+  Function<Integer, Integer> twice = x -> 2 * x;
+
+  Function<String, Integer> pipeline_binder;
+  Function<String, Integer> pipeline_handle;
+  Function<String, Integer> pipeline_compiled;
+  BiFunction<Integer, String, Integer> flip_binder;
+  BiFunction<Integer, String, Integer> flip_handle;
+  BiFunction<Integer, String, Integer> flip_compiled;
+
+  @Setup
+  public void setup() {
+    pipeline_binder = JavaFun.bind(target).linkFirst(trim).bindSecond(7).andThen(twice);
+    pipeline_handle = new JavaBiFunctionHandle<>(target).linkFirst(trim).bindSecond(7).andThen(twice);
+    pipeline_compiled = new JavaBiFunctionHandle<>(target).linkFirst(trim).bindSecond(7).andThen(twice).compile();
+    flip_binder = JavaFun.bind(target).flip();
+    flip_handle = new JavaBiFunctionHandle<>(target).flip();
+    flip_compiled = new JavaBiFunctionHandle<>(target).flip().compile();
+  }
+
+  @Benchmark
+  public Integer pipeline_binder() { return pipeline_binder.apply(s); }
+
+  @Benchmark
+  public Integer pipeline_handle() { return pipeline_handle.apply(s); }
+
+  @Benchmark
+  public Integer pipeline_compiled() { return pipeline_compiled.apply(s); }
+
+  @Benchmark
+  public Integer flip_binder() { return flip_binder.apply(3, s); }
+
+  @Benchmark
+  public Integer flip_handle() { return flip_handle.apply(3, s); }
+
+  @Benchmark
+  public Integer flip_compiled() { return flip_compiled.apply(3, s); }
+}
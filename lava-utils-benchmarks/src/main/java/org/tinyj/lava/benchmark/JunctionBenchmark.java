@@ -0,0 +1,51 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Cost of testing {@code rules} predicates combined by a flat
+ * {@code JavaFun.allOf(...)} ({@code *_flat}) compared to chaining
+ * {@code Predicate.and(...)} ({@code *_chained}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JunctionBenchmark {
+
+  @Param({"4", "32", "256"})
+  int rules;
+
+  int x = 17;
+
+  Predicate<Integer> allOf_flat;
+  Predicate<Integer> allOf_chained;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    final Predicate<Integer>[] predicates = (Predicate<Integer>[]) new Predicate<?>[rules];
+    for (int i = 0; i < rules; i++) {
+      final int bound = -i;
+      predicates[i] = y -> y > bound;
+    }
+    allOf_flat = JavaFun.allOf(predicates);
+    Predicate<Integer> chained = predicates[0];
+    for (int i = 1; i < rules; i++) {
+      chained = chained.and(predicates[i]);
+    }
+    allOf_chained = chained;
+  }
+
+  @Benchmark
+  public boolean allOf_flat() { return allOf_flat.test(x); }
+
+  @Benchmark
+  public boolean allOf_chained() { return allOf_chained.test(x); }
+}
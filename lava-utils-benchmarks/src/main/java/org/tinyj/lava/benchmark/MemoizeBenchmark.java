@@ -0,0 +1,91 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lookup cost of {@code JavaFun.memoize(...)} compared to a plain, unbounded
+ * {@link ConcurrentHashMap#computeIfAbsent} wrapper at 1, 8 and 64 threads.
+ * Keys are drawn from {@code keys} distinct values, with {@code keys} larger
+ * than {@code maxSize} the memoized function has to evict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MemoizeBenchmark {
+
+  @Param({"1024"})
+  int maxSize;
+
+  @Param({"512", "4096"})
+  int keys;
+
+  Function<Integer, Integer> memoized;
+  Function<Integer, Integer> chm;
+
+  @Setup
+  public void setup() {
+    final Function<Integer, Integer> work = MemoizeBenchmark::work;
+    memoized = JavaFun.memoize(work, maxSize);
+    final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+    chm = x -> map.computeIfAbsent(x, work);
+  }
+
+  @State(Scope.Thread)
+  public static class Keys {
+
+    Integer[] keys;
+    int next;
+
+    @Setup
+    public void setup(MemoizeBenchmark benchmark) {
+      keys = new Integer[1 << 16];
+      long seed = System.nanoTime();
+      for (int i = 0; i < keys.length; i++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        keys[i] = (int) ((seed >>> 33) % benchmark.keys);
+      }
+    }
+
+    Integer next() { return keys[next++ & (keys.length - 1)]; }
+  }
+
+  static Integer work(Integer x) {
+    int h = x;
+    for (int i = 0; i < 100; i++) {
+      h = h * 31 + i;
+    }
+    return h;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Integer memoized_t1(Keys keys) { return memoized.apply(keys.next()); }
+
+  @Benchmark
+  @Threads(1)
+  public Integer chm_t1(Keys keys) { return chm.apply(keys.next()); }
+
+  @Benchmark
+  @Threads(8)
+  public Integer memoized_t8(Keys keys) { return memoized.apply(keys.next()); }
+
+  @Benchmark
+  @Threads(8)
+  public Integer chm_t8(Keys keys) { return chm.apply(keys.next()); }
+
+  @Benchmark
+  @Threads(64)
+  public Integer memoized_t64(Keys keys) { return memoized.apply(keys.next()); }
+
+  @Benchmark
+  @Threads(64)
+  public Integer chm_t64(Keys keys) { return chm.apply(keys.next()); }
+}
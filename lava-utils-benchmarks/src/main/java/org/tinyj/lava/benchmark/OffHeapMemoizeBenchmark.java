@@ -0,0 +1,74 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+import org.tinyj.lava.utils.OffHeapLongMemoized;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lookup cost of {@code JavaFun.memoizeOffHeap(...)} compared to
+ * {@code JavaFun.memoize(...)} on boxed keys. Keys are drawn from
+ * {@code keys} distinct values, with {@code keys} larger than {@code maxSize}
+ * both have to evict. Run with {@code -prof gc} to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OffHeapMemoizeBenchmark {
+
+  @Param({"1048576"})
+  int maxSize;
+
+  @Param({"65536", "4194304"})
+  int keys;
+
+  OffHeapLongMemoized offHeap;
+  Function<Long, Long> onHeap;
+
+  @Setup
+  public void setup() {
+    offHeap = JavaFun.memoizeOffHeap(OffHeapMemoizeBenchmark::work, maxSize);
+    onHeap = JavaFun.memoize((Function<Long, Long>) OffHeapMemoizeBenchmark::work, maxSize);
+  }
+
+  @TearDown
+  public void tearDown() { offHeap.close(); }
+
+  @State(Scope.Thread)
+  public static class Keys {
+
+    long[] keys;
+    int next;
+
+    @Setup
+    public void setup(OffHeapMemoizeBenchmark benchmark) {
+      keys = new long[1 << 16];
+      long seed = System.nanoTime();
+      for (int i = 0; i < keys.length; i++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        keys[i] = (seed >>> 33) % benchmark.keys;
+      }
+    }
+
+    long next() { return keys[next++ & (keys.length - 1)]; }
+  }
+
+  static long work(long x) {
+    long h = x;
+    for (int i = 0; i < 100; i++) {
+      h = h * 31 + i;
+    }
+    return h;
+  }
+
+  @Benchmark
+  public long offHeap(Keys keys) { return offHeap.applyAsLong(keys.next()); }
+
+  @Benchmark
+  public Long onHeap(Keys keys) { return onHeap.apply(keys.next()); }
+}
@@ -0,0 +1,81 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+
+/**
+ * Cost of invoking results of the primitive specialized binders compared to
+ * the reference typed binders ({@code *_boxed}). The gc profiler should
+ * report no allocation for the former.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveBinderBenchmark {
+
+  int i = 1000;
+  long l = 1_000_000L;
+  double d = 0.5;
+  String s = "alpha";
+
+  IntUnaryOperator intBindFirst;
+  Function<Integer, Integer> intBindFirst_boxed;
+  IntUnaryOperator intLinkTo;
+  Function<Integer, Integer> intLinkTo_boxed;
+  LongUnaryOperator longBindSecond;
+  Function<Long, Long> longBindSecond_boxed;
+  DoublePredicate doubleLinkTo;
+  Predicate<Double> doubleLinkTo_boxed;
+  ToLongFunction<String> toLongAndThen;
+  Function<String, Long> toLongAndThen_boxed;
+
+  @Setup
+  public void setup() {
+    intBindFirst = JavaFun.bindInt((IntBinaryOperator) (x, y) -> x * 31 + y).bindFirst(i);
+    intBindFirst_boxed = JavaFun.bind((BiFunction<Integer, Integer, Integer>) (x, y) -> x * 31 + y).bindFirst(i);
+    intLinkTo = JavaFun.bindInt((IntUnaryOperator) x -> x + 1).linkTo(x -> x * 3);
+    intLinkTo_boxed = JavaFun.bind((Function<Integer, Integer>) x -> x + 1).linkTo((Integer x) -> x * 3);
+    longBindSecond = JavaFun.bindLong((LongBinaryOperator) (x, y) -> x ^ y).bindSecond(l);
+    longBindSecond_boxed = JavaFun.bind((BiFunction<Long, Long, Long>) (x, y) -> x ^ y).bindSecond(l);
+    doubleLinkTo = JavaFun.bindDouble((DoublePredicate) x -> x > 0.25).linkTo(Math::sqrt);
+    doubleLinkTo_boxed = JavaFun.bind((Predicate<Double>) x -> x > 0.25).linkTo((Double x) -> Math.sqrt(x));
+    toLongAndThen = JavaFun.bindLong((ToLongFunction<String>) String::length).andThen(x -> x << 32);
+    toLongAndThen_boxed = JavaFun.bind((Function<String, Long>) x -> (long) x.length()).andThen(x -> x << 32);
+  }
+
+  @Benchmark
+  public int intBindFirst() { return intBindFirst.applyAsInt(i); }
+
+  @Benchmark
+  public Integer intBindFirst_boxed() { return intBindFirst_boxed.apply(i); }
+
+  @Benchmark
+  public int intLinkTo() { return intLinkTo.applyAsInt(i); }
+
+  @Benchmark
+  public Integer intLinkTo_boxed() { return intLinkTo_boxed.apply(i); }
+
+  @Benchmark
+  public long longBindSecond() { return longBindSecond.applyAsLong(l); }
+
+  @Benchmark
+  public Long longBindSecond_boxed() { return longBindSecond_boxed.apply(l); }
+
+  @Benchmark
+  public boolean doubleLinkTo() { return doubleLinkTo.test(d); }
+
+  @Benchmark
+  public boolean doubleLinkTo_boxed() { return doubleLinkTo_boxed.test(d); }
+
+  @Benchmark
+  public long toLongAndThen() { return toLongAndThen.applyAsLong(s); }
+
+  @Benchmark
+  public Long toLongAndThen_boxed() { return toLongAndThen_boxed.apply(s); }
+}
@@ -0,0 +1,99 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of the functor prototypes {@code True}, {@code False}, {@code Constant}
+ * and {@code Identity} compared to the equivalent hand written lambdas
+ * ({@code *_lambda}). {@code intFilter*} filters a primitive stream by
+ * {@code IntTrue} and maps it by {@code IntIdentity} without boxing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrototypeBenchmark {
+
+  String x = "alpha";
+  String y = "beta";
+
+  Predicate<String> isEmpty = String::isEmpty;
+
+  Predicate<String> True = JavaFun.True();
+  Predicate<String> True_lambda = s -> true;
+  BiPredicate<String, String> biFalse = JavaFun.False();
+  BiPredicate<String, String> biFalse_lambda = (s, t) -> false;
+  Predicate<String> trueAnd = JavaFun.<String, Object, RuntimeException>True().and(isEmpty);
+  Predicate<String> trueAnd_lambda = s -> true && isEmpty.test(s);
+  Predicate<String> falseOr = JavaFun.<String, Object, RuntimeException>False().or(isEmpty);
+  Predicate<String> falseOr_lambda = s -> false || isEmpty.test(s);
+  Supplier<String> constant;
+  Supplier<String> constant_lambda;
+  Function<String, String> identity = JavaFun.Identity();
+  Function<String, String> identity_lambda = s -> s;
+  IntPredicate intTrue = JavaFun.IntTrue();
+  IntPredicate intTrue_lambda = i -> true;
+  IntUnaryOperator intIdentity = JavaFun.IntIdentity();
+  IntUnaryOperator intIdentity_lambda = i -> i;
+
+  @Setup
+  public void setup() {
+    constant = JavaFun.Constant(x);
+    constant_lambda = () -> x;
+  }
+
+  @Benchmark
+  public boolean True() { return True.test(x); }
+
+  @Benchmark
+  public boolean True_lambda() { return True_lambda.test(x); }
+
+  @Benchmark
+  public boolean biFalse() { return biFalse.test(x, y); }
+
+  @Benchmark
+  public boolean biFalse_lambda() { return biFalse_lambda.test(x, y); }
+
+  @Benchmark
+  public boolean trueAnd() { return trueAnd.test(x); }
+
+  @Benchmark
+  public boolean trueAnd_lambda() { return trueAnd_lambda.test(x); }
+
+  @Benchmark
+  public boolean falseOr() { return falseOr.test(x); }
+
+  @Benchmark
+  public boolean falseOr_lambda() { return falseOr_lambda.test(x); }
+
+  @Benchmark
+  public String constant() { return constant.get(); }
+
+  @Benchmark
+  public String constant_lambda() { return constant_lambda.get(); }
+
+  @Benchmark
+  public String identity() { return identity.apply(x); }
+
+  @Benchmark
+  public String identity_lambda() { return identity_lambda.apply(x); }
+
+  @Benchmark
+  public long intFilter() { return IntStream.range(0, 100).filter(intTrue).map(intIdentity).count(); }
+
+  @Benchmark
+  public long intFilter_lambda() { return IntStream.range(0, 100).filter(intTrue_lambda).map(intIdentity_lambda).count(); }
+
+  @Benchmark
+  public Supplier<String> create_constant() { return JavaFun.Constant(x); }
+
+  @Benchmark
+  public Supplier<String> create_constant_lambda() { return () -> x; }
+}
@@ -0,0 +1,59 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.binder.JavaBiFunctionBinder;
+import org.tinyj.lava.binder.JavaFunctionSlot;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of rebinding the first argument of a {@code BiFunction} for each row of
+ * a table, by {@code bindFirst(row)} allocating a new function per row
+ * ({@code *_bind}) compared to rebinding a single {@code slotFirst()}
+ * ({@code *_slot}). Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SlotBinderBenchmark {
+
+  int[][] rows = new int[256][16];
+
+  JavaBiFunctionBinder<int[], Integer, Integer> cell = JavaFun.bind((int[] row, Integer column) -> row[column]);
+  JavaFunctionSlot<int[], Integer, Integer> slot;
+
+  @Setup
+  public void setup() {
+    slot = cell.slotFirst();
+    for (int i = 0; i < rows.length; i++) {
+      for (int j = 0; j < rows[i].length; j++) {
+        rows[i][j] = i * j;
+      }
+    }
+  }
+
+  @Benchmark
+  public long rows_bind() {
+    long sum = 0;
+    for (int[] row : rows) {
+      final Function<Integer, Integer> column = cell.bindFirst(row);
+      sum += column.apply(3) + column.apply(7);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long rows_slot() {
+    long sum = 0;
+    for (int[] row : rows) {
+      final Function<Integer, Integer> column = slot.set(row);
+      sum += column.apply(3) + column.apply(7);
+    }
+    return sum;
+  }
+}
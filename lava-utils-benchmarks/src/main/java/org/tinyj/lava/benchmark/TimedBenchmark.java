@@ -0,0 +1,49 @@
+package org.tinyj.lava.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyj.lava.utils.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.tinyj.lava.utils.JavaFun.timed;
+
+/**
+ * Overhead of recording latencies with {@code JavaFun.timed(...)} into a
+ * shared {@link LatencyHistogram} compared to adding them up in a shared
+ * {@link AtomicLong}, invoked from several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(2)
+public class TimedBenchmark {
+
+  String x = " alpha ";
+
+  Function<String, String> trim = String::trim;
+
+  AtomicLong total = new AtomicLong();
+  Function<String, String> atomic = x -> {
+    final long start = System.nanoTime();
+    try {
+      return trim.apply(x);
+    } finally {
+      total.addAndGet(System.nanoTime() - start);
+    }
+  };
+  Function<String, String> histogram = timed(trim, new LatencyHistogram());
+
+  @Benchmark
+  public String baseline() { return trim.apply(x); }
+
+  @Benchmark
+  public String atomic() { return atomic.apply(x); }
+
+  @Benchmark
+  public String histogram() { return histogram.apply(x); }
+}
@@ -5,6 +5,8 @@
 module org.tinyj.lava.utils {
 
   requires org.tinyj.lava.api;
+  requires java.management;
+  requires static jdk.jfr;
 
   exports org.tinyj.lava.utils;
   exports org.tinyj.lava.binder;
@@ -0,0 +1,23 @@
+package org.tinyj.lava.binder;
+
+/**
+ * Compiles bound functors into dedicated classes. This is the fallback for
+ * Java versions lacking hidden classes, it returns functors unchanged. The
+ * multi-release section for Java 15 and later replaces it.
+ */
+final class BinderCompiler {
+
+  private BinderCompiler() {}
+
+  /**
+   * @return {@code functor} unchanged
+   */
+  static <T> T
+  compile(String template, T functor) { return functor; }
+
+  /**
+   * @return {@code fallback}, {@code constant} is ignored
+   */
+  static <T> T
+  compile(String template, T fallback, Object constant) { return fallback; }
+}
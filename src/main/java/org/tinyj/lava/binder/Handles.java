@@ -0,0 +1,46 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaSupplier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * {@link MethodHandle}s invoking the functional interfaces, shared by the
+ * method handle based binders. All handles are of generic type, that is
+ * {@code Object} arguments and result.
+ */
+final class Handles {
+
+  static final MethodHandle GET = virtual(Supplier.class, "get");
+  static final MethodHandle APPLY = virtual(Function.class, "apply", Object.class);
+  static final MethodHandle BI_APPLY = virtual(BiFunction.class, "apply", Object.class, Object.class);
+  static final MethodHandle CHECKED_GET = virtual(LavaSupplier.class, "checkedGet");
+  static final MethodHandle CHECKED_APPLY = virtual(LavaFunction.class, "checkedApply", Object.class);
+  static final MethodHandle CHECKED_BI_APPLY = virtual(LavaBiFunction.class, "checkedApply", Object.class, Object.class);
+
+  private Handles() {}
+
+  /**
+   * Rethrow {@code t} as it is, checked or not.
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Throwable> RuntimeException
+  rethrow(Throwable t) throws T { throw (T) t; }
+
+  private static MethodHandle
+  virtual(Class<?> owner, String name, Class<?>... parameters) {
+    try {
+      return MethodHandles.publicLookup().findVirtual(owner, name, methodType(Object.class, parameters));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+}
@@ -27,14 +27,14 @@ public class JavaBiConsumerBinder<X, Y>
 
   public JavaBiConsumerBinder(BiConsumer<? super X, ? super Y> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public JavaBiConsumerBinder<Y, X>
-  flip() { return new JavaBiConsumerBinder<>((y, x) -> bound.accept(x, y)); }
+  flip() { return new JavaBiConsumerBinder<>(JavaFun.flipArguments(bound)); }
 
   /**
    * Curries both arguments.
@@ -54,6 +54,22 @@ public class JavaBiConsumerBinder<X, Y>
   public JavaConsumerBinder<X>
   bindSecond(Y y) { return new JavaConsumerBinder<>(x -> bound.accept(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaConsumerSlot<X, Y>
+  slotFirst() { return new JavaConsumerSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaConsumerSlot<Y, X>
+  slotSecond() { return new JavaConsumerSlot<>(JavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link Runnable} is invoked and the results are supplied as
@@ -75,7 +91,7 @@ public class JavaBiConsumerBinder<X, Y>
   link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new JavaBiConsumerBinder<>((u, v) -> bound.accept(x.apply(u), y.apply(v)));
+    return new JavaBiConsumerBinder<>(JavaLinkedBiConsumer.link(bound, x, y));
   }
 
   /**
@@ -97,7 +113,7 @@ public class JavaBiConsumerBinder<X, Y>
   public <U> JavaBiConsumerBinder<U, Y>
   linkFirst(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaBiConsumerBinder<>((u, y) -> bound.accept(x.apply(u), y));
+    return new JavaBiConsumerBinder<>(JavaLinkedBiConsumer.link(bound, x, null));
   }
 
   /**
@@ -119,9 +135,18 @@ public class JavaBiConsumerBinder<X, Y>
   public <V> JavaBiConsumerBinder<X, V>
   linkSecond(Function<? super V, ? extends Y> y) {
     requireNonNull(y);
-    return new JavaBiConsumerBinder<>((x, v) -> bound.accept(x, y.apply(v)));
+    return new JavaBiConsumerBinder<>(JavaLinkedBiConsumer.link(bound, null, y));
   }
 
+  /**
+   * Compile the bound {@link BiConsumer} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public BiConsumer<X, Y>
+  compile() { return BinderCompiler.compile("CompiledBiConsumer", unwrap(this)); }
+
   /**
    * @return the wrapped {@link BiConsumer}
    */
@@ -130,9 +155,22 @@ public class JavaBiConsumerBinder<X, Y>
 
   @Override
   public JavaBiConsumerBinder<X, Y> andThen(BiConsumer<? super X, ? super Y> after) {
-    return new JavaBiConsumerBinder<>(bound.andThen(after));
+    requireNonNull(after);
+    return new JavaBiConsumerBinder<>(JavaBiConsumerSequence.sequence(bound, after));
   }
 
   @Override
   public void accept(X x, Y y) { bound.accept(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaBiConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y> BiConsumer<X, Y>
+  unwrap(BiConsumer<X, Y> biConsumer) {
+    return biConsumer != null && biConsumer.getClass() == JavaBiConsumerBinder.class
+           ? ((JavaBiConsumerBinder<X, Y>) biConsumer).bound
+           : biConsumer;
+  }
 }
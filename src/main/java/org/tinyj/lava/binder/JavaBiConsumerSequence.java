@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.NoOp;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A flat sequence of {@link BiConsumer}s, each one accepting the same arguments
+ * in order. Sequencing a sequence splices its consumers instead of nesting
+ * it, so {@code andThen} chains are invoked in a loop rather than a stack of
+ * lambdas. {@link NoOp}s are dropped from the sequence.
+ */
+final class JavaBiConsumerSequence<X, Y>
+    implements BiConsumer<X, Y> {
+
+  private final BiConsumer<Object, Object>[] consumers;
+
+  private JavaBiConsumerSequence(BiConsumer<Object, Object>[] consumers) { this.consumers = consumers; }
+
+  /**
+   * Sequence {@code first} and {@code then}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y> BiConsumer<X, Y>
+  sequence(BiConsumer<? super X, ? super Y> first, BiConsumer<? super X, ? super Y> then) {
+    final BiConsumer<Object, Object>[] head = consumersOf(first);
+    final BiConsumer<Object, Object>[] tail = consumersOf(then);
+    if (head.length == 0) return (BiConsumer<X, Y>) then;
+    if (tail.length == 0) return (BiConsumer<X, Y>) first;
+    final BiConsumer<Object, Object>[] consumers = (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[head.length + tail.length];
+    System.arraycopy(head, 0, consumers, 0, head.length);
+    System.arraycopy(tail, 0, consumers, head.length, tail.length);
+    return new JavaBiConsumerSequence<>(consumers);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BiConsumer<Object, Object>[] consumersOf(BiConsumer<?, ?> consumer) {
+    consumer = JavaBiConsumerBinder.unwrap(consumer);
+    if (consumer instanceof NoOp) {
+      return (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[0];
+    }
+    return consumer instanceof JavaBiConsumerSequence
+           ? ((JavaBiConsumerSequence) consumer).consumers
+           : (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[]{consumer};
+  }
+
+  @Override
+  public void accept(X x, Y y) {
+    for (BiConsumer<Object, Object> consumer : consumers) {
+      consumer.accept(x, y);
+    }
+  }
+
+  /**
+   * @return the number of consumers
+   */
+  int size() { return consumers.length; }
+}
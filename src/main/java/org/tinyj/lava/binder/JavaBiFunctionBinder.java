@@ -27,14 +27,14 @@ public class JavaBiFunctionBinder<X, Y, R>
 
   public JavaBiFunctionBinder(BiFunction<? super X, ? super Y, ? extends R> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public BiFunction<Y, X, R>
-  flip() { return (y, x) -> bound.apply(x, y); }
+  flip() { return JavaFun.flipArguments(bound); }
 
   /**
    * Curries both arguments.
@@ -54,6 +54,22 @@ public class JavaBiFunctionBinder<X, Y, R>
   public JavaFunctionBinder<X, R>
   bindSecond(Y y) { return new JavaFunctionBinder<>(x -> bound.apply(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaFunctionSlot<X, Y, R>
+  slotFirst() { return new JavaFunctionSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaFunctionSlot<Y, X, R>
+  slotSecond() { return new JavaFunctionSlot<>(JavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link Supplier} is invoked and the results are supplied as
@@ -75,7 +91,7 @@ public class JavaBiFunctionBinder<X, Y, R>
   link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new JavaBiFunctionBinder<>((u, v) -> bound.apply(x.apply(u), y.apply(v)));
+    return new JavaBiFunctionBinder<>(JavaLinkedBiFunction.link(bound, x, y, null));
   }
 
   /**
@@ -97,7 +113,7 @@ public class JavaBiFunctionBinder<X, Y, R>
   public <U> JavaBiFunctionBinder<U, Y, R>
   linkFirst(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaBiFunctionBinder<>((u, y) -> bound.apply(x.apply(u), y));
+    return new JavaBiFunctionBinder<>(JavaLinkedBiFunction.link(bound, x, null, null));
   }
 
   /**
@@ -119,9 +135,18 @@ public class JavaBiFunctionBinder<X, Y, R>
   public <V> JavaBiFunctionBinder<X, V, R>
   linkSecond(Function<? super V, ? extends Y> y) {
     requireNonNull(y);
-    return new JavaBiFunctionBinder<>((x, v) -> bound.apply(x, y.apply(v)));
+    return new JavaBiFunctionBinder<>(JavaLinkedBiFunction.link(bound, null, y, null));
   }
 
+  /**
+   * Compile the bound {@link BiFunction} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public BiFunction<X, Y, R>
+  compile() { return BinderCompiler.compile("CompiledBiFunction", unwrap(this)); }
+
   /**
    * @return the wrapped {@link BiFunction}
    */
@@ -130,9 +155,24 @@ public class JavaBiFunctionBinder<X, Y, R>
 
   @Override
   public <V> JavaBiFunctionBinder<X, Y, V>
-  andThen(Function<? super R, ? extends V> after) { return new JavaBiFunctionBinder<>(bound.andThen(after)); }
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaBiFunctionBinder<>(JavaLinkedBiFunction.link(bound, null, null, after));
+  }
 
   @Override
   public R
   apply(X x, Y y) { return bound.apply(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaBiFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, R> BiFunction<X, Y, R>
+  unwrap(BiFunction<X, Y, R> biFunction) {
+    return biFunction != null && biFunction.getClass() == JavaBiFunctionBinder.class
+           ? ((JavaBiFunctionBinder<X, Y, R>) biFunction).bound
+           : biFunction;
+  }
 }
@@ -0,0 +1,170 @@
+package org.tinyj.lava.binder;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.*;
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.util.Objects.requireNonNull;
+import static org.tinyj.lava.binder.Handles.*;
+import static org.tinyj.lava.binder.JavaFunctionHandle.supplier;
+
+/**
+ * Enable various forms of currying on Java's {@link BiFunction}, backed by a
+ * {@link MethodHandle} tree instead of nested lambdas.
+ * <p>
+ * {@code bind*}, {@code link*}, {@code flip} and {@code andThen} map to
+ * {@code insertArguments}, {@code filterArguments}/{@code collectArguments},
+ * {@code permuteArguments} and {@code filterReturnValue}. Use
+ * {@link #compile()} to get a {@link BiFunction} holding the tree as
+ * constant, see {@link JavaFunctionHandle}.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ */
+public final class JavaBiFunctionHandle<X, Y, R>
+    implements BiFunction<X, Y, R> {
+
+  private final MethodHandle handle;
+
+  public JavaBiFunctionHandle(BiFunction<? super X, ? super Y, ? extends R> biFunction) {
+    this(handleOf(requireNonNull(biFunction)));
+  }
+
+  JavaBiFunctionHandle(MethodHandle handle) { this.handle = handle; }
+
+  /**
+   * Flip the arguments.
+   */
+  public JavaBiFunctionHandle<Y, X, R>
+  flip() { return new JavaBiFunctionHandle<>(permuteArguments(handle, genericMethodType(2), 1, 0)); }
+
+  /**
+   * Curries both arguments.
+   */
+  public Supplier<R>
+  bind(X x, Y y) { return supplier(insertArguments(handle, 0, x, y)); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaFunctionHandle<Y, R>
+  bindFirst(X x) { return new JavaFunctionHandle<>(insertArguments(handle, 0, x)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaFunctionHandle<X, R>
+  bindSecond(Y y) { return new JavaFunctionHandle<>(insertArguments(handle, 1, y)); }
+
+  /**
+   * Link both arguments to supplied values. {@code x} and {@code y} are
+   * invoked each time the resulting {@link Supplier} is invoked and the
+   * results are supplied as arguments to the bound {@link BiFunction}.
+   */
+  public Supplier<R>
+  link(Supplier<? extends X> x, Supplier<? extends Y> y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return supplier(collectArguments(collectArguments(handle, 1, GET.bindTo(y)), 0, GET.bindTo(x)));
+  }
+
+  /**
+   * Map both arguments. {@code x} and {@code y} are invoked each time the
+   * resulting {@link BiFunction} is invoked and the results are supplied as
+   * arguments to the bound {@link BiFunction}.
+   */
+  public <U, V> JavaBiFunctionHandle<U, V, R>
+  link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return new JavaBiFunctionHandle<>(filterArguments(handle, 0, JavaFunctionHandle.handleOf(x),
+                                                      JavaFunctionHandle.handleOf(y)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time
+   * the resulting {@link Function} is invoked and the results is supplied as
+   * first argument to the bound {@link BiFunction}.
+   */
+  public JavaFunctionHandle<Y, R>
+  linkFirst(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaFunctionHandle<>(collectArguments(handle, 0, GET.bindTo(x)));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link BiFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link BiFunction}.
+   */
+  public <U> JavaBiFunctionHandle<U, Y, R>
+  linkFirst(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaBiFunctionHandle<>(filterArguments(handle, 0, JavaFunctionHandle.handleOf(x)));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each
+   * time the resulting {@link Function} is invoked and the results is
+   * supplied as second argument to the bound {@link BiFunction}.
+   */
+  public JavaFunctionHandle<X, R>
+  linkSecond(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaFunctionHandle<>(collectArguments(handle, 1, GET.bindTo(y)));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link BiFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link BiFunction}.
+   */
+  public <V> JavaBiFunctionHandle<X, V, R>
+  linkSecond(Function<? super V, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaBiFunctionHandle<>(filterArguments(handle, 1, JavaFunctionHandle.handleOf(y)));
+  }
+
+  /**
+   * Compile into a {@link BiFunction} holding the method handle tree as
+   * constant. Requires Java 15 or later, on earlier versions the result
+   * invokes the tree like this {@code JavaBiFunctionHandle} does.
+   */
+  public BiFunction<X, Y, R>
+  compile() { return BinderCompiler.compile("CompiledBiFunctionHandle", this, handle); }
+
+  /**
+   * @return the wrapped {@link MethodHandle}, of type {@code (Object,Object)Object}
+   */
+  public MethodHandle
+  handle() { return handle; }
+
+  @Override
+  public <V> JavaBiFunctionHandle<X, Y, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaBiFunctionHandle<>(filterReturnValue(handle, JavaFunctionHandle.handleOf(after)));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R
+  apply(X x, Y y) {
+    try {
+      return (R) (Object) handle.invokeExact((Object) x, (Object) y);
+    } catch (Throwable t) {
+      throw Handles.<RuntimeException>rethrow(t);
+    }
+  }
+
+  static MethodHandle
+  handleOf(BiFunction<?, ?, ?> biFunction) {
+    return biFunction instanceof JavaBiFunctionHandle
+           ? ((JavaBiFunctionHandle) biFunction).handle
+           : BI_APPLY.bindTo(biFunction);
+  }
+}
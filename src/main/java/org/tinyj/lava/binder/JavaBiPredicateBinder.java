@@ -25,14 +25,14 @@ public class JavaBiPredicateBinder<X, Y>
 
   public JavaBiPredicateBinder(BiPredicate<? super X, ? super Y> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public BiPredicate<Y, X>
-  flip() { return (y, x) -> bound.test(x, y); }
+  flip() { return JavaFun.flipArguments(bound); }
 
   /**
    * Curries both arguments.
@@ -52,6 +52,22 @@ public class JavaBiPredicateBinder<X, Y>
   public JavaPredicateBinder<X>
   bindSecond(Y y) { return new JavaPredicateBinder<>(x -> bound.test(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaPredicateSlot<X, Y>
+  slotFirst() { return new JavaPredicateSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public JavaPredicateSlot<Y, X>
+  slotSecond() { return new JavaPredicateSlot<>(JavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link BooleanSupplier} is invoked and the results are
@@ -73,7 +89,7 @@ public class JavaBiPredicateBinder<X, Y>
   link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new JavaBiPredicateBinder<>((u, v) -> bound.test(x.apply(u), y.apply(v)));
+    return new JavaBiPredicateBinder<>(JavaLinkedBiPredicate.link(bound, x, y));
   }
 
   /**
@@ -95,7 +111,7 @@ public class JavaBiPredicateBinder<X, Y>
   public <U> JavaBiPredicateBinder<U, Y>
   linkFirst(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaBiPredicateBinder<>((u, y) -> bound.test(x.apply(u), y));
+    return new JavaBiPredicateBinder<>(JavaLinkedBiPredicate.link(bound, x, null));
   }
 
   /**
@@ -117,16 +133,53 @@ public class JavaBiPredicateBinder<X, Y>
   public <V> JavaBiPredicateBinder<X, V>
   linkSecond(Function<? super V, ? extends Y> y) {
     requireNonNull(y);
-    return new JavaBiPredicateBinder<>((x, v) -> bound.test(x, y.apply(v)));
+    return new JavaBiPredicateBinder<>(JavaLinkedBiPredicate.link(bound, null, y));
   }
 
+  /**
+   * Compile the bound {@link BiPredicate} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public BiPredicate<X, Y>
+  compile() { return BinderCompiler.compile("CompiledBiPredicate", unwrap(this)); }
+
   /**
    * @return the wrapped {@link BiPredicate}
    */
   public BiPredicate<X, Y>
   bound() { return bound; }
 
+  /**
+   * Combines into a flat {@link JavaFun#allOf(BiPredicate[])} instead of nesting
+   * a lambda per call.
+   */
+  @Override
+  public JavaBiPredicateBinder<X, Y>
+  and(BiPredicate<? super X, ? super Y> other) { return new JavaBiPredicateBinder<>(JavaFun.allOf(bound, other)); }
+
+  /**
+   * Combines into a flat {@link JavaFun#anyOf(BiPredicate[])} instead of nesting
+   * a lambda per call.
+   */
+  @Override
+  public JavaBiPredicateBinder<X, Y>
+  or(BiPredicate<? super X, ? super Y> other) { return new JavaBiPredicateBinder<>(JavaFun.anyOf(bound, other)); }
+
   @Override
   public boolean
   test(X x, Y y) { return bound.test(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaBiPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y> BiPredicate<X, Y>
+  unwrap(BiPredicate<X, Y> biPredicate) {
+    return biPredicate != null && biPredicate.getClass() == JavaBiPredicateBinder.class
+           ? ((JavaBiPredicateBinder<X, Y>) biPredicate).bound
+           : biPredicate;
+  }
 }
@@ -0,0 +1,41 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BooleanSupplier} invoking a bound {@link Predicate} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ */
+public final class JavaConditionSlot<S>
+    extends Slot<S>
+    implements BooleanSupplier {
+
+  private final Predicate<? super S> bound;
+
+  JavaConditionSlot(Predicate<? super S> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaConditionSlot<S>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean
+  getAsBoolean() {
+    assert confined();
+    return bound.test(value);
+  }
+}
@@ -23,7 +23,7 @@ public class JavaConsumerBinder<X>
 
   public JavaConsumerBinder(Consumer<? super X> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
@@ -32,6 +32,13 @@ public class JavaConsumerBinder<X>
   public Runnable
   bind(X x) { return () -> bound.accept(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public JavaRunnableSlot<X>
+  slot() { return new JavaRunnableSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link Runnable} is invoked and the results is supplied as argument
@@ -50,7 +57,7 @@ public class JavaConsumerBinder<X>
   public <U> JavaConsumerBinder<U>
   linkTo(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaConsumerBinder<>(u -> bound.accept(x.apply(u)));
+    return new JavaConsumerBinder<>(JavaLinkedConsumer.link(bound, x));
   }
 
   /**
@@ -63,6 +70,15 @@ public class JavaConsumerBinder<X>
     return new JavaBiConsumerBinder<>((u, v) -> bound.accept(x.apply(u, v)));
   }
 
+  /**
+   * Compile the bound {@link Consumer} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public Consumer<X>
+  compile() { return BinderCompiler.compile("CompiledConsumer", unwrap(this)); }
+
   /**
    * @return the wrapped {@link Consumer}
    */
@@ -76,8 +92,23 @@ public class JavaConsumerBinder<X>
   acceptSecond() { return ((u, v) -> bound.accept(v)); }
 
   @Override
-  public Consumer<X> andThen(Consumer<? super X> after) { return new JavaConsumerBinder<>(bound.andThen(after)); }
+  public Consumer<X> andThen(Consumer<? super X> after) {
+    requireNonNull(after);
+    return new JavaConsumerBinder<>(JavaConsumerSequence.sequence(bound, after));
+  }
 
   @Override
   public void accept(X x) { bound.accept(x); }
+
+  /**
+   * Unwrap a plain {@link JavaConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> Consumer<X>
+  unwrap(Consumer<X> consumer) {
+    return consumer != null && consumer.getClass() == JavaConsumerBinder.class
+           ? ((JavaConsumerBinder<X>) consumer).bound
+           : consumer;
+  }
 }
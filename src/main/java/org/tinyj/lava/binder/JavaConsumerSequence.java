@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.NoOp;
+
+import java.util.function.Consumer;
+
+/**
+ * A flat sequence of {@link Consumer}s, each one accepting the same argument
+ * in order. Sequencing a sequence splices its consumers instead of nesting
+ * it, so {@code andThen} chains are invoked in a loop rather than a stack of
+ * lambdas. {@link NoOp}s are dropped from the sequence.
+ */
+final class JavaConsumerSequence<X>
+    implements Consumer<X> {
+
+  private final Consumer<Object>[] consumers;
+
+  private JavaConsumerSequence(Consumer<Object>[] consumers) { this.consumers = consumers; }
+
+  /**
+   * Sequence {@code first} and {@code then}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> Consumer<X>
+  sequence(Consumer<? super X> first, Consumer<? super X> then) {
+    final Consumer<Object>[] head = consumersOf(first);
+    final Consumer<Object>[] tail = consumersOf(then);
+    if (head.length == 0) return (Consumer<X>) then;
+    if (tail.length == 0) return (Consumer<X>) first;
+    final Consumer<Object>[] consumers = (Consumer<Object>[]) new Consumer<?>[head.length + tail.length];
+    System.arraycopy(head, 0, consumers, 0, head.length);
+    System.arraycopy(tail, 0, consumers, head.length, tail.length);
+    return new JavaConsumerSequence<>(consumers);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Consumer<Object>[] consumersOf(Consumer<?> consumer) {
+    consumer = JavaConsumerBinder.unwrap(consumer);
+    if (consumer instanceof NoOp) {
+      return (Consumer<Object>[]) new Consumer<?>[0];
+    }
+    return consumer instanceof JavaConsumerSequence
+           ? ((JavaConsumerSequence) consumer).consumers
+           : (Consumer<Object>[]) new Consumer<?>[]{consumer};
+  }
+
+  @Override
+  public void accept(X x) {
+    for (Consumer<Object> consumer : consumers) {
+      consumer.accept(x);
+    }
+  }
+
+  /**
+   * @return the number of consumers
+   */
+  int size() { return consumers.length; }
+}
@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Consumer} on the second argument of a bound {@link BiConsumer},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ */
+public final class JavaConsumerSlot<S, X>
+    extends Slot<S>
+    implements Consumer<X> {
+
+  private final BiConsumer<? super S, ? super X> bound;
+
+  JavaConsumerSlot(BiConsumer<? super S, ? super X> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaConsumerSlot<S, X>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public void
+  accept(X x) {
+    assert confined();
+    bound.accept(value, x);
+  }
+}
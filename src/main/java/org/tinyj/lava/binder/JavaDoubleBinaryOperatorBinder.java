@@ -0,0 +1,148 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link DoubleBinaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaDoubleBinaryOperatorBinder
+    implements DoubleBinaryOperator {
+
+  protected final DoubleBinaryOperator bound;
+
+  public JavaDoubleBinaryOperatorBinder(DoubleBinaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Flip the arguments.
+   */
+  public DoubleBinaryOperator
+  flip() { return (y, x) -> bound.applyAsDouble(x, y); }
+
+  /**
+   * Curries both arguments.
+   */
+  public DoubleSupplier
+  bind(double x, double y) { return () -> bound.applyAsDouble(x, y); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaDoubleUnaryOperatorBinder
+  bindFirst(double x) { return new JavaDoubleUnaryOperatorBinder(y -> bound.applyAsDouble(x, y)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaDoubleUnaryOperatorBinder
+  bindSecond(double y) { return new JavaDoubleUnaryOperatorBinder(x -> bound.applyAsDouble(x, y)); }
+
+  /**
+   * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
+   * time the resulting {@link DoubleSupplier} is invoked and the results are supplied as
+   * arguments to the bound {@link DoubleBinaryOperator}.
+   */
+  public DoubleSupplier
+  link(DoubleSupplier x, DoubleSupplier y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return () -> bound.applyAsDouble(x.getAsDouble(), y.getAsDouble());
+  }
+
+  /**
+   * Map both arguments. {@code x} and {@code y} are invoked each time the resulting
+   * {@link DoubleBinaryOperator} is invoked and the results are supplied as arguments to the
+   * bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleBinaryOperatorBinder
+  link(DoubleUnaryOperator x, DoubleUnaryOperator y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return new JavaDoubleBinaryOperatorBinder(JavaLinkedDoubleBinaryOperator.link(bound, x, y, null));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link DoubleUnaryOperator} is invoked and the results is supplied as first
+   * argument to the bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleUnaryOperatorBinder
+  linkFirst(DoubleSupplier x) {
+    requireNonNull(x);
+    return new JavaDoubleUnaryOperatorBinder(y -> bound.applyAsDouble(x.getAsDouble(), y));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link DoubleBinaryOperator} is invoked and the result is supplied as first argument
+   * to the bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleBinaryOperatorBinder
+  linkFirst(DoubleUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaDoubleBinaryOperatorBinder(JavaLinkedDoubleBinaryOperator.link(bound, x, null, null));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link DoubleUnaryOperator} is invoked and the results is supplied as second
+   * argument to the bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleUnaryOperatorBinder
+  linkSecond(DoubleSupplier y) {
+    requireNonNull(y);
+    return new JavaDoubleUnaryOperatorBinder(x -> bound.applyAsDouble(x, y.getAsDouble()));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link DoubleBinaryOperator} is invoked and the result is supplied as second argument
+   * to the bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleBinaryOperatorBinder
+  linkSecond(DoubleUnaryOperator y) {
+    requireNonNull(y);
+    return new JavaDoubleBinaryOperatorBinder(JavaLinkedDoubleBinaryOperator.link(bound, null, y, null));
+  }
+
+  /**
+   * @return the wrapped {@link DoubleBinaryOperator}
+   */
+  public DoubleBinaryOperator
+  bound() { return bound; }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link DoubleBinaryOperator}.
+   */
+  public JavaDoubleBinaryOperatorBinder
+  andThen(DoubleUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaDoubleBinaryOperatorBinder(JavaLinkedDoubleBinaryOperator.link(bound, null, null, after));
+  }
+
+  @Override
+  public double
+  applyAsDouble(double x, double y) { return bound.applyAsDouble(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaDoubleBinaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static DoubleBinaryOperator
+  unwrap(DoubleBinaryOperator operator) {
+    return operator != null && operator.getClass() == JavaDoubleBinaryOperatorBinder.class
+           ? ((JavaDoubleBinaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
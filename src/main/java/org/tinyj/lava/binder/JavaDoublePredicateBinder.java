@@ -0,0 +1,73 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link DoublePredicate}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaDoublePredicateBinder
+    implements DoublePredicate {
+
+  protected final DoublePredicate bound;
+
+  public JavaDoublePredicateBinder(DoublePredicate bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public BooleanSupplier
+  bind(double x) { return () -> bound.test(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BooleanSupplier} is invoked and the results is supplied as
+   * argument to the curried {@link DoublePredicate}.
+   */
+  public BooleanSupplier
+  linkTo(DoubleSupplier x) {
+    requireNonNull(x);
+    return () -> bound.test(x.getAsDouble());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link DoublePredicate} is
+   * invoked and the result is supplied as argument to the curried {@link DoublePredicate}.
+   */
+  public JavaDoublePredicateBinder
+  linkTo(DoubleUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaDoublePredicateBinder(u -> bound.test(x.applyAsDouble(u)));
+  }
+
+  /**
+   * @return the wrapped {@link DoublePredicate}
+   */
+  public DoublePredicate
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  test(double x) { return bound.test(x); }
+
+  /**
+   * Unwrap a plain {@link JavaDoublePredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static DoublePredicate
+  unwrap(DoublePredicate predicate) {
+    return predicate != null && predicate.getClass() == JavaDoublePredicateBinder.class
+           ? ((JavaDoublePredicateBinder) predicate).bound
+           : predicate;
+  }
+}
@@ -0,0 +1,103 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link DoubleUnaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaDoubleUnaryOperatorBinder
+    implements DoubleUnaryOperator {
+
+  protected final DoubleUnaryOperator bound;
+
+  public JavaDoubleUnaryOperatorBinder(DoubleUnaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public DoubleSupplier
+  bind(double x) { return () -> bound.applyAsDouble(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link DoubleSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link DoubleUnaryOperator}.
+   */
+  public DoubleSupplier
+  linkTo(DoubleSupplier x) {
+    requireNonNull(x);
+    return () -> bound.applyAsDouble(x.getAsDouble());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link DoubleUnaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link DoubleUnaryOperator}.
+   */
+  public JavaDoubleUnaryOperatorBinder
+  linkTo(DoubleUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaDoubleUnaryOperatorBinder(JavaDoubleUnaryOperatorChain.chain(x, bound));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link DoubleBinaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link DoubleUnaryOperator}.
+   */
+  public JavaDoubleBinaryOperatorBinder
+  linkTo(DoubleBinaryOperator x) {
+    requireNonNull(x);
+    return new JavaDoubleBinaryOperatorBinder((u, v) -> bound.applyAsDouble(x.applyAsDouble(u, v)));
+  }
+
+  /**
+   * @return the wrapped {@link DoubleUnaryOperator}
+   */
+  public DoubleUnaryOperator
+  bound() { return bound; }
+
+  public DoubleBinaryOperator
+  applyFirst() { return ((u, v) -> bound.applyAsDouble(u)); }
+
+  public DoubleBinaryOperator
+  applySecond() { return ((u, v) -> bound.applyAsDouble(v)); }
+
+  @Override
+  public JavaDoubleUnaryOperatorBinder
+  compose(DoubleUnaryOperator before) {
+    requireNonNull(before);
+    return new JavaDoubleUnaryOperatorBinder(JavaDoubleUnaryOperatorChain.chain(before, bound));
+  }
+
+  @Override
+  public JavaDoubleUnaryOperatorBinder
+  andThen(DoubleUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaDoubleUnaryOperatorBinder(JavaDoubleUnaryOperatorChain.chain(bound, after));
+  }
+
+  @Override
+  public double
+  applyAsDouble(double x) { return bound.applyAsDouble(x); }
+
+  /**
+   * Unwrap a plain {@link JavaDoubleUnaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static DoubleUnaryOperator
+  unwrap(DoubleUnaryOperator operator) {
+    return operator != null && operator.getClass() == JavaDoubleUnaryOperatorBinder.class
+           ? ((JavaDoubleUnaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
@@ -0,0 +1,67 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A flat chain of {@link DoubleUnaryOperator}s, each stage is applied to the result of
+ * the previous one. Chaining a chain (or a plain binder wrapping one) splices
+ * its stages instead of nesting it, see {@link JavaFunctionChain}.
+ */
+final class JavaDoubleUnaryOperatorChain
+    implements DoubleUnaryOperator {
+
+  private final DoubleUnaryOperator[] stages;
+
+  private JavaDoubleUnaryOperatorChain(DoubleUnaryOperator[] stages) { this.stages = stages; }
+
+  /**
+   * Chain {@code first} and {@code then}. {@code null} stands for the identity.
+   */
+  static DoubleUnaryOperator
+  chain(DoubleUnaryOperator first, DoubleUnaryOperator then) {
+    if (isIdentity(first)) return then;
+    if (isIdentity(then)) return first;
+    final DoubleUnaryOperator[] head = stagesOf(first);
+    final DoubleUnaryOperator[] tail = stagesOf(then);
+    final DoubleUnaryOperator[] stages = new DoubleUnaryOperator[head.length + tail.length];
+    System.arraycopy(head, 0, stages, 0, head.length);
+    System.arraycopy(tail, 0, stages, head.length, tail.length);
+    return new JavaDoubleUnaryOperatorChain(stages);
+  }
+
+  /**
+   * @return {@code true} iff {@code operator} is {@code null} or {@link JavaFun#DoubleIdentity()}
+   */
+  static boolean
+  isIdentity(DoubleUnaryOperator operator) {
+    return operator == null || JavaDoubleUnaryOperatorBinder.unwrap(operator) == JavaFun.DoubleIdentity();
+  }
+
+  /**
+   * @return {@code null} if {@code operator} is an identity, {@code operator} otherwise
+   */
+  static DoubleUnaryOperator
+  orNull(DoubleUnaryOperator operator) { return isIdentity(operator) ? null : operator; }
+
+  private static DoubleUnaryOperator[] stagesOf(DoubleUnaryOperator operator) {
+    operator = JavaDoubleUnaryOperatorBinder.unwrap(operator);
+    return operator instanceof JavaDoubleUnaryOperatorChain
+           ? ((JavaDoubleUnaryOperatorChain) operator).stages
+           : new DoubleUnaryOperator[]{operator};
+  }
+
+  @Override
+  public double applyAsDouble(double x) {
+    for (DoubleUnaryOperator stage : stages) {
+      x = stage.applyAsDouble(x);
+    }
+    return x;
+  }
+
+  /**
+   * @return the number of stages
+   */
+  int size() { return stages.length; }
+}
@@ -26,7 +26,7 @@ public class JavaFunctionBinder<X, R>
 
   public JavaFunctionBinder(Function<? super X, ? extends R> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
@@ -35,6 +35,13 @@ public class JavaFunctionBinder<X, R>
   public Supplier<R>
   bind(X x) { return () -> bound.apply(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public JavaSupplierSlot<X, R>
+  slot() { return new JavaSupplierSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link Supplier} is invoked and the results is supplied as argument
@@ -53,7 +60,7 @@ public class JavaFunctionBinder<X, R>
   public <U> JavaFunctionBinder<U, R>
   linkTo(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaFunctionBinder<>(u -> bound.apply(x.apply(u)));
+    return new JavaFunctionBinder<>(JavaFunctionChain.chain(x, bound));
   }
 
   /**
@@ -63,9 +70,18 @@ public class JavaFunctionBinder<X, R>
   public <U, V> JavaBiFunctionBinder<U, V, R>
   linkTo(BiFunction<? super U, ? super V, ? extends X> x) {
     requireNonNull(x);
-    return new JavaBiFunctionBinder<>((u, v) -> bound.apply(x.apply(u, v)));
+    return new JavaBiFunctionBinder<>(JavaLinkedBiFunction.link(x, null, null, bound));
   }
 
+  /**
+   * Compile the bound {@link Function} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public Function<X, R>
+  compile() { return BinderCompiler.compile("CompiledFunction", unwrap(this)); }
+
   /**
    * @return the wrapped {@link Function}
    */
@@ -80,13 +96,31 @@ public class JavaFunctionBinder<X, R>
 
   @Override
   public <U> JavaFunctionBinder<U, R>
-  compose(Function<? super U, ? extends X> before) { return new JavaFunctionBinder<>(bound.compose(before)); }
+  compose(Function<? super U, ? extends X> before) {
+    requireNonNull(before);
+    return new JavaFunctionBinder<>(JavaFunctionChain.chain(before, bound));
+  }
 
   @Override
   public <V> JavaFunctionBinder<X, V>
-  andThen(Function<? super R, ? extends V> after) { return new JavaFunctionBinder<>(bound.andThen(after)); }
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaFunctionBinder<>(JavaFunctionChain.chain(bound, after));
+  }
 
   @Override
   public R
   apply(X x) { return bound.apply(x); }
+
+  /**
+   * Unwrap a plain {@link JavaFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, R> Function<X, R>
+  unwrap(Function<X, R> function) {
+    return function != null && function.getClass() == JavaFunctionBinder.class
+           ? ((JavaFunctionBinder<X, R>) function).bound
+           : function;
+  }
 }
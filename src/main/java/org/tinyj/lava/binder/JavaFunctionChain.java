@@ -0,0 +1,78 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.function.Function;
+
+/**
+ * A flat chain of {@link Function}s, each stage is applied to the result of
+ * the previous one. Chaining a chain (or a plain binder wrapping one) splices
+ * its stages instead of nesting it. Invoking a chain thus costs a single
+ * virtual call plus a loop over the stages, independent of how it was
+ * composed.
+ * <p>
+ * Identity stages are dropped while the chain is built.
+ */
+final class JavaFunctionChain<X, R>
+    implements Function<X, R> {
+
+  private final Function<Object, Object>[] stages;
+
+  private JavaFunctionChain(Function<Object, Object>[] stages) { this.stages = stages; }
+
+  /**
+   * Chain {@code first} and {@code then}. {@code null} stands for the
+   * identity, identities are skipped.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, R> Function<X, R>
+  chain(Function<? super X, ? extends Y> first, Function<? super Y, ? extends R> then) {
+    if (isIdentity(first)) return (Function<X, R>) then;
+    if (isIdentity(then)) return (Function<X, R>) first;
+    final Function<Object, Object>[] head = stagesOf(first);
+    final Function<Object, Object>[] tail = stagesOf(then);
+    final Function<Object, Object>[] stages = (Function<Object, Object>[]) new Function<?, ?>[head.length + tail.length];
+    System.arraycopy(head, 0, stages, 0, head.length);
+    System.arraycopy(tail, 0, stages, head.length, tail.length);
+    return new JavaFunctionChain<>(stages);
+  }
+
+  /**
+   * @return {@code true} if {@code function} is {@code null} or
+   * {@link JavaFun#IDENTITY}, possibly wrapped in a plain binder
+   */
+  static boolean
+  isIdentity(Function<?, ?> function) {
+    return function == null || JavaFunctionBinder.unwrap(function) == JavaFun.IDENTITY;
+  }
+
+  /**
+   * @return {@code null} if {@code function} is an identity, {@code function} otherwise
+   */
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object>
+  orNull(Function<?, ?> function) { return isIdentity(function) ? null : (Function<Object, Object>) function; }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object>[] stagesOf(Function<?, ?> function) {
+    function = JavaFunctionBinder.unwrap(function);
+    return function instanceof JavaFunctionChain
+           ? ((JavaFunctionChain) function).stages
+           : (Function<Object, Object>[]) new Function<?, ?>[]{function};
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x) {
+    Object value = x;
+    for (Function<Object, Object> stage : stages) {
+      value = stage.apply(value);
+    }
+    return (R) value;
+  }
+
+  /**
+   * @return the number of stages
+   */
+  int size() { return stages.length; }
+}
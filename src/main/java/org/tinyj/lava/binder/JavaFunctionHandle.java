@@ -0,0 +1,132 @@
+package org.tinyj.lava.binder;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.*;
+import static java.util.Objects.requireNonNull;
+import static org.tinyj.lava.binder.Handles.*;
+
+/**
+ * Enable various forms of currying on Java's {@link Function}, backed by a
+ * {@link MethodHandle} tree instead of nested lambdas.
+ * <p>
+ * Binding and linking combine method handles ({@code insertArguments},
+ * {@code filterArguments}, {@code collectArguments} and
+ * {@code filterReturnValue}), handles wrapped by other
+ * {@code JavaFunctionHandle}s and {@link JavaBiFunctionHandle}s are spliced
+ * into the tree. Invoking a {@code JavaFunctionHandle} directly goes through
+ * a non-constant handle and is not faster than {@link JavaFunctionBinder}.
+ * Use {@link #compile()} to get a {@link Function} holding the tree as
+ * constant, the JIT can then fold bound values and inline the whole tree.
+ *
+ * @param <X> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+public final class JavaFunctionHandle<X, R>
+    implements Function<X, R> {
+
+  private final MethodHandle handle;
+
+  public JavaFunctionHandle(Function<? super X, ? extends R> function) {
+    this(handleOf(requireNonNull(function)));
+  }
+
+  JavaFunctionHandle(MethodHandle handle) { this.handle = handle; }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public Supplier<R>
+  bind(X x) { return supplier(insertArguments(handle, 0, x)); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link Supplier} is invoked and the results is supplied as
+   * argument to the curried {@link Function}.
+   */
+  public Supplier<R>
+  linkTo(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return supplier(collectArguments(handle, 0, GET.bindTo(x)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting
+   * {@link Function} is invoked and the result is supplied as argument to the
+   * curried {@link Function}.
+   */
+  public <U> JavaFunctionHandle<U, R>
+  linkTo(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaFunctionHandle<>(filterArguments(handle, 0, handleOf(x)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting
+   * {@link BiFunction} is invoked and the result is supplied as argument to
+   * the curried {@link Function}.
+   */
+  public <U, V> JavaBiFunctionHandle<U, V, R>
+  linkTo(BiFunction<? super U, ? super V, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaBiFunctionHandle<>(collectArguments(handle, 0, JavaBiFunctionHandle.handleOf(x)));
+  }
+
+  /**
+   * Compile into a {@link Function} holding the method handle tree as
+   * constant. Requires Java 15 or later, on earlier versions the result
+   * invokes the tree like this {@code JavaFunctionHandle} does.
+   */
+  public Function<X, R>
+  compile() { return BinderCompiler.compile("CompiledFunctionHandle", this, handle); }
+
+  /**
+   * @return the wrapped {@link MethodHandle}, of type {@code (Object)Object}
+   */
+  public MethodHandle
+  handle() { return handle; }
+
+  @Override
+  public <U> JavaFunctionHandle<U, R>
+  compose(Function<? super U, ? extends X> before) { return linkTo(before); }
+
+  @Override
+  public <V> JavaFunctionHandle<X, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaFunctionHandle<>(filterReturnValue(handle, handleOf(after)));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R
+  apply(X x) {
+    try {
+      return (R) (Object) handle.invokeExact((Object) x);
+    } catch (Throwable t) {
+      throw Handles.<RuntimeException>rethrow(t);
+    }
+  }
+
+  static MethodHandle
+  handleOf(Function<?, ?> function) {
+    return function instanceof JavaFunctionHandle
+           ? ((JavaFunctionHandle) function).handle
+           : APPLY.bindTo(function);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <R> Supplier<R>
+  supplier(MethodHandle handle) {
+    return () -> {
+      try {
+        return (R) (Object) handle.invokeExact();
+      } catch (Throwable t) {
+        throw Handles.<RuntimeException>rethrow(t);
+      }
+    };
+  }
+}
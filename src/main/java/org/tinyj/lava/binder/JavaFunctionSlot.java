@@ -0,0 +1,43 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Function} on the second argument of a bound {@link BiFunction},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ * @param <R> the type of the result of the function
+ */
+public final class JavaFunctionSlot<S, X, R>
+    extends Slot<S>
+    implements Function<X, R> {
+
+  private final BiFunction<? super S, ? super X, ? extends R> bound;
+
+  JavaFunctionSlot(BiFunction<? super S, ? super X, ? extends R> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaFunctionSlot<S, X, R>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public R
+  apply(X x) {
+    assert confined();
+    return bound.apply(value, x);
+  }
+}
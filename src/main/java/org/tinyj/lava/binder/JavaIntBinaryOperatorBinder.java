@@ -0,0 +1,148 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link IntBinaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaIntBinaryOperatorBinder
+    implements IntBinaryOperator {
+
+  protected final IntBinaryOperator bound;
+
+  public JavaIntBinaryOperatorBinder(IntBinaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Flip the arguments.
+   */
+  public IntBinaryOperator
+  flip() { return (y, x) -> bound.applyAsInt(x, y); }
+
+  /**
+   * Curries both arguments.
+   */
+  public IntSupplier
+  bind(int x, int y) { return () -> bound.applyAsInt(x, y); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaIntUnaryOperatorBinder
+  bindFirst(int x) { return new JavaIntUnaryOperatorBinder(y -> bound.applyAsInt(x, y)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaIntUnaryOperatorBinder
+  bindSecond(int y) { return new JavaIntUnaryOperatorBinder(x -> bound.applyAsInt(x, y)); }
+
+  /**
+   * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
+   * time the resulting {@link IntSupplier} is invoked and the results are supplied as
+   * arguments to the bound {@link IntBinaryOperator}.
+   */
+  public IntSupplier
+  link(IntSupplier x, IntSupplier y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return () -> bound.applyAsInt(x.getAsInt(), y.getAsInt());
+  }
+
+  /**
+   * Map both arguments. {@code x} and {@code y} are invoked each time the resulting
+   * {@link IntBinaryOperator} is invoked and the results are supplied as arguments to the
+   * bound {@link IntBinaryOperator}.
+   */
+  public JavaIntBinaryOperatorBinder
+  link(IntUnaryOperator x, IntUnaryOperator y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return new JavaIntBinaryOperatorBinder(JavaLinkedIntBinaryOperator.link(bound, x, y, null));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link IntUnaryOperator} is invoked and the results is supplied as first
+   * argument to the bound {@link IntBinaryOperator}.
+   */
+  public JavaIntUnaryOperatorBinder
+  linkFirst(IntSupplier x) {
+    requireNonNull(x);
+    return new JavaIntUnaryOperatorBinder(y -> bound.applyAsInt(x.getAsInt(), y));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link IntBinaryOperator} is invoked and the result is supplied as first argument
+   * to the bound {@link IntBinaryOperator}.
+   */
+  public JavaIntBinaryOperatorBinder
+  linkFirst(IntUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaIntBinaryOperatorBinder(JavaLinkedIntBinaryOperator.link(bound, x, null, null));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link IntUnaryOperator} is invoked and the results is supplied as second
+   * argument to the bound {@link IntBinaryOperator}.
+   */
+  public JavaIntUnaryOperatorBinder
+  linkSecond(IntSupplier y) {
+    requireNonNull(y);
+    return new JavaIntUnaryOperatorBinder(x -> bound.applyAsInt(x, y.getAsInt()));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link IntBinaryOperator} is invoked and the result is supplied as second argument
+   * to the bound {@link IntBinaryOperator}.
+   */
+  public JavaIntBinaryOperatorBinder
+  linkSecond(IntUnaryOperator y) {
+    requireNonNull(y);
+    return new JavaIntBinaryOperatorBinder(JavaLinkedIntBinaryOperator.link(bound, null, y, null));
+  }
+
+  /**
+   * @return the wrapped {@link IntBinaryOperator}
+   */
+  public IntBinaryOperator
+  bound() { return bound; }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link IntBinaryOperator}.
+   */
+  public JavaIntBinaryOperatorBinder
+  andThen(IntUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaIntBinaryOperatorBinder(JavaLinkedIntBinaryOperator.link(bound, null, null, after));
+  }
+
+  @Override
+  public int
+  applyAsInt(int x, int y) { return bound.applyAsInt(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaIntBinaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static IntBinaryOperator
+  unwrap(IntBinaryOperator operator) {
+    return operator != null && operator.getClass() == JavaIntBinaryOperatorBinder.class
+           ? ((JavaIntBinaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
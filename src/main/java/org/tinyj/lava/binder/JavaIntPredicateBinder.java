@@ -0,0 +1,73 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link IntPredicate}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaIntPredicateBinder
+    implements IntPredicate {
+
+  protected final IntPredicate bound;
+
+  public JavaIntPredicateBinder(IntPredicate bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public BooleanSupplier
+  bind(int x) { return () -> bound.test(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BooleanSupplier} is invoked and the results is supplied as
+   * argument to the curried {@link IntPredicate}.
+   */
+  public BooleanSupplier
+  linkTo(IntSupplier x) {
+    requireNonNull(x);
+    return () -> bound.test(x.getAsInt());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link IntPredicate} is
+   * invoked and the result is supplied as argument to the curried {@link IntPredicate}.
+   */
+  public JavaIntPredicateBinder
+  linkTo(IntUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaIntPredicateBinder(u -> bound.test(x.applyAsInt(u)));
+  }
+
+  /**
+   * @return the wrapped {@link IntPredicate}
+   */
+  public IntPredicate
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  test(int x) { return bound.test(x); }
+
+  /**
+   * Unwrap a plain {@link JavaIntPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static IntPredicate
+  unwrap(IntPredicate predicate) {
+    return predicate != null && predicate.getClass() == JavaIntPredicateBinder.class
+           ? ((JavaIntPredicateBinder) predicate).bound
+           : predicate;
+  }
+}
@@ -0,0 +1,103 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link IntUnaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaIntUnaryOperatorBinder
+    implements IntUnaryOperator {
+
+  protected final IntUnaryOperator bound;
+
+  public JavaIntUnaryOperatorBinder(IntUnaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public IntSupplier
+  bind(int x) { return () -> bound.applyAsInt(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link IntSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link IntUnaryOperator}.
+   */
+  public IntSupplier
+  linkTo(IntSupplier x) {
+    requireNonNull(x);
+    return () -> bound.applyAsInt(x.getAsInt());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link IntUnaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link IntUnaryOperator}.
+   */
+  public JavaIntUnaryOperatorBinder
+  linkTo(IntUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaIntUnaryOperatorBinder(JavaIntUnaryOperatorChain.chain(x, bound));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link IntBinaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link IntUnaryOperator}.
+   */
+  public JavaIntBinaryOperatorBinder
+  linkTo(IntBinaryOperator x) {
+    requireNonNull(x);
+    return new JavaIntBinaryOperatorBinder((u, v) -> bound.applyAsInt(x.applyAsInt(u, v)));
+  }
+
+  /**
+   * @return the wrapped {@link IntUnaryOperator}
+   */
+  public IntUnaryOperator
+  bound() { return bound; }
+
+  public IntBinaryOperator
+  applyFirst() { return ((u, v) -> bound.applyAsInt(u)); }
+
+  public IntBinaryOperator
+  applySecond() { return ((u, v) -> bound.applyAsInt(v)); }
+
+  @Override
+  public JavaIntUnaryOperatorBinder
+  compose(IntUnaryOperator before) {
+    requireNonNull(before);
+    return new JavaIntUnaryOperatorBinder(JavaIntUnaryOperatorChain.chain(before, bound));
+  }
+
+  @Override
+  public JavaIntUnaryOperatorBinder
+  andThen(IntUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaIntUnaryOperatorBinder(JavaIntUnaryOperatorChain.chain(bound, after));
+  }
+
+  @Override
+  public int
+  applyAsInt(int x) { return bound.applyAsInt(x); }
+
+  /**
+   * Unwrap a plain {@link JavaIntUnaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static IntUnaryOperator
+  unwrap(IntUnaryOperator operator) {
+    return operator != null && operator.getClass() == JavaIntUnaryOperatorBinder.class
+           ? ((JavaIntUnaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
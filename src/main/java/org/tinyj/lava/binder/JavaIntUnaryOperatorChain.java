@@ -0,0 +1,67 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A flat chain of {@link IntUnaryOperator}s, each stage is applied to the result of
+ * the previous one. Chaining a chain (or a plain binder wrapping one) splices
+ * its stages instead of nesting it, see {@link JavaFunctionChain}.
+ */
+final class JavaIntUnaryOperatorChain
+    implements IntUnaryOperator {
+
+  private final IntUnaryOperator[] stages;
+
+  private JavaIntUnaryOperatorChain(IntUnaryOperator[] stages) { this.stages = stages; }
+
+  /**
+   * Chain {@code first} and {@code then}. {@code null} stands for the identity.
+   */
+  static IntUnaryOperator
+  chain(IntUnaryOperator first, IntUnaryOperator then) {
+    if (isIdentity(first)) return then;
+    if (isIdentity(then)) return first;
+    final IntUnaryOperator[] head = stagesOf(first);
+    final IntUnaryOperator[] tail = stagesOf(then);
+    final IntUnaryOperator[] stages = new IntUnaryOperator[head.length + tail.length];
+    System.arraycopy(head, 0, stages, 0, head.length);
+    System.arraycopy(tail, 0, stages, head.length, tail.length);
+    return new JavaIntUnaryOperatorChain(stages);
+  }
+
+  /**
+   * @return {@code true} iff {@code operator} is {@code null} or {@link JavaFun#IntIdentity()}
+   */
+  static boolean
+  isIdentity(IntUnaryOperator operator) {
+    return operator == null || JavaIntUnaryOperatorBinder.unwrap(operator) == JavaFun.IntIdentity();
+  }
+
+  /**
+   * @return {@code null} if {@code operator} is an identity, {@code operator} otherwise
+   */
+  static IntUnaryOperator
+  orNull(IntUnaryOperator operator) { return isIdentity(operator) ? null : operator; }
+
+  private static IntUnaryOperator[] stagesOf(IntUnaryOperator operator) {
+    operator = JavaIntUnaryOperatorBinder.unwrap(operator);
+    return operator instanceof JavaIntUnaryOperatorChain
+           ? ((JavaIntUnaryOperatorChain) operator).stages
+           : new IntUnaryOperator[]{operator};
+  }
+
+  @Override
+  public int applyAsInt(int x) {
+    for (IntUnaryOperator stage : stages) {
+      x = stage.applyAsInt(x);
+    }
+    return x;
+  }
+
+  /**
+   * @return the number of stages
+   */
+  int size() { return stages.length; }
+}
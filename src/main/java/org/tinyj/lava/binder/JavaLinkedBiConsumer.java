@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.tinyj.lava.binder.JavaFunctionChain.chain;
+import static org.tinyj.lava.binder.JavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.JavaFunctionChain.orNull;
+
+/**
+ * A {@link BiConsumer} with its arguments mapped by flat
+ * {@link JavaFunctionChain}s. Linking a linked bi-consumer merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} steps.
+ */
+final class JavaLinkedBiConsumer<X, Y>
+    implements BiConsumer<X, Y> {
+
+  private final BiConsumer<Object, Object> head;
+  private final Function<Object, Object> first;
+  private final Function<Object, Object> second;
+
+  private JavaLinkedBiConsumer(BiConsumer<Object, Object> head,
+                               Function<Object, Object> first,
+                               Function<Object, Object> second) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second}.
+   * {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y> BiConsumer<U, V>
+  link(BiConsumer<? super X, ? super Y> bound,
+       Function<? super U, ? extends X> first,
+       Function<? super V, ? extends Y> second) {
+    bound = JavaBiConsumerBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second)) {
+      return (BiConsumer) bound;
+    }
+    if (bound instanceof JavaLinkedBiConsumer) {
+      final JavaLinkedBiConsumer<X, Y> linked = (JavaLinkedBiConsumer<X, Y>) bound;
+      return new JavaLinkedBiConsumer<>(linked.head,
+                                        orNull(chain((Function) first, linked.first)),
+                                        orNull(chain((Function) second, linked.second)));
+    }
+    return new JavaLinkedBiConsumer<>((BiConsumer) bound, orNull(first), orNull(second));
+  }
+
+  @Override
+  public void accept(X x, Y y) {
+    head.accept(first == null ? x : first.apply(x),
+                second == null ? y : second.apply(y));
+  }
+}
@@ -0,0 +1,65 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.tinyj.lava.binder.JavaFunctionChain.chain;
+import static org.tinyj.lava.binder.JavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.JavaFunctionChain.orNull;
+
+/**
+ * A {@link BiFunction} with its arguments and its result mapped by flat
+ * {@link JavaFunctionChain}s. Linking a linked bi-function merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} and {@code andThen} steps.
+ */
+final class JavaLinkedBiFunction<X, Y, R>
+    implements BiFunction<X, Y, R> {
+
+  private final BiFunction<Object, Object, Object> head;
+  private final Function<Object, Object> first;
+  private final Function<Object, Object> second;
+  private final Function<Object, Object> after;
+
+  private JavaLinkedBiFunction(BiFunction<Object, Object, Object> head,
+                               Function<Object, Object> first,
+                               Function<Object, Object> second,
+                               Function<Object, Object> after) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+    this.after = after;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second} and
+   * its result to {@code after}. {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y, R, S> BiFunction<U, V, S>
+  link(BiFunction<? super X, ? super Y, ? extends R> bound,
+       Function<? super U, ? extends X> first,
+       Function<? super V, ? extends Y> second,
+       Function<? super R, ? extends S> after) {
+    bound = JavaBiFunctionBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second) && isIdentity(after)) {
+      return (BiFunction) bound;
+    }
+    if (bound instanceof JavaLinkedBiFunction) {
+      final JavaLinkedBiFunction<X, Y, R> linked = (JavaLinkedBiFunction<X, Y, R>) bound;
+      return new JavaLinkedBiFunction<>(linked.head,
+                                        orNull(chain((Function) first, linked.first)),
+                                        orNull(chain((Function) second, linked.second)),
+                                        orNull(chain(linked.after, (Function) after)));
+    }
+    return new JavaLinkedBiFunction<>((BiFunction) bound, orNull(first), orNull(second), orNull(after));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x, Y y) {
+    final Object result = head.apply(first == null ? x : first.apply(x),
+                                     second == null ? y : second.apply(y));
+    return (R) (after == null ? result : after.apply(result));
+  }
+}
@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static org.tinyj.lava.binder.JavaFunctionChain.chain;
+import static org.tinyj.lava.binder.JavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.JavaFunctionChain.orNull;
+
+/**
+ * A {@link BiPredicate} with its arguments mapped by flat
+ * {@link JavaFunctionChain}s. Linking a linked bi-predicate merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} steps.
+ */
+final class JavaLinkedBiPredicate<X, Y>
+    implements BiPredicate<X, Y> {
+
+  private final BiPredicate<Object, Object> head;
+  private final Function<Object, Object> first;
+  private final Function<Object, Object> second;
+
+  private JavaLinkedBiPredicate(BiPredicate<Object, Object> head,
+                                Function<Object, Object> first,
+                                Function<Object, Object> second) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second}.
+   * {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y> BiPredicate<U, V>
+  link(BiPredicate<? super X, ? super Y> bound,
+       Function<? super U, ? extends X> first,
+       Function<? super V, ? extends Y> second) {
+    bound = JavaBiPredicateBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second)) {
+      return (BiPredicate) bound;
+    }
+    if (bound instanceof JavaLinkedBiPredicate) {
+      final JavaLinkedBiPredicate<X, Y> linked = (JavaLinkedBiPredicate<X, Y>) bound;
+      return new JavaLinkedBiPredicate<>(linked.head,
+                                         orNull(chain((Function) first, linked.first)),
+                                         orNull(chain((Function) second, linked.second)));
+    }
+    return new JavaLinkedBiPredicate<>((BiPredicate) bound, orNull(first), orNull(second));
+  }
+
+  @Override
+  public boolean test(X x, Y y) {
+    return head.test(first == null ? x : first.apply(x),
+                     second == null ? y : second.apply(y));
+  }
+}
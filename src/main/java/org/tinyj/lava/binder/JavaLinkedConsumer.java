@@ -0,0 +1,45 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.tinyj.lava.binder.JavaFunctionChain.chain;
+import static org.tinyj.lava.binder.JavaFunctionChain.isIdentity;
+
+/**
+ * A {@link Consumer} with its argument mapped by a flat
+ * {@link JavaFunctionChain}. Linking a linked consumer merges the mappers
+ * instead of nesting it, so the call depth does not grow with the number of
+ * {@code linkTo} steps.
+ */
+final class JavaLinkedConsumer<X>
+    implements Consumer<X> {
+
+  private final Consumer<Object> head;
+  private final Function<Object, Object> mapper;
+
+  private JavaLinkedConsumer(Consumer<Object> head, Function<Object, Object> mapper) {
+    this.head = head;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Link {@code bound}'s argument to {@code mapper}.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, X> Consumer<U>
+  link(Consumer<? super X> bound, Function<? super U, ? extends X> mapper) {
+    bound = JavaConsumerBinder.unwrap(bound);
+    if (isIdentity(mapper)) {
+      return (Consumer) bound;
+    }
+    if (bound instanceof JavaLinkedConsumer) {
+      final JavaLinkedConsumer<X> linked = (JavaLinkedConsumer<X>) bound;
+      return new JavaLinkedConsumer<>(linked.head, chain((Function) mapper, linked.mapper));
+    }
+    return new JavaLinkedConsumer<>((Consumer) bound, (Function) mapper);
+  }
+
+  @Override
+  public void accept(X x) { head.accept(mapper.apply(x)); }
+}
@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.tinyj.lava.binder.JavaDoubleUnaryOperatorChain.chain;
+import static org.tinyj.lava.binder.JavaDoubleUnaryOperatorChain.isIdentity;
+import static org.tinyj.lava.binder.JavaDoubleUnaryOperatorChain.orNull;
+
+/**
+ * A {@link DoubleBinaryOperator} with its arguments and its result mapped by flat
+ * {@link JavaDoubleUnaryOperatorChain}s, see {@link JavaLinkedBiFunction}.
+ */
+final class JavaLinkedDoubleBinaryOperator
+    implements DoubleBinaryOperator {
+
+  private final DoubleBinaryOperator head;
+  private final DoubleUnaryOperator first;
+  private final DoubleUnaryOperator second;
+  private final DoubleUnaryOperator after;
+
+  private JavaLinkedDoubleBinaryOperator(DoubleBinaryOperator head,
+                                         DoubleUnaryOperator first,
+                                         DoubleUnaryOperator second,
+                                         DoubleUnaryOperator after) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+    this.after = after;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second} and
+   * its result to {@code after}. {@code null} mappers stand for the identity.
+   */
+  static DoubleBinaryOperator
+  link(DoubleBinaryOperator bound, DoubleUnaryOperator first, DoubleUnaryOperator second, DoubleUnaryOperator after) {
+    bound = JavaDoubleBinaryOperatorBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second) && isIdentity(after)) {
+      return bound;
+    }
+    if (bound instanceof JavaLinkedDoubleBinaryOperator) {
+      final JavaLinkedDoubleBinaryOperator linked = (JavaLinkedDoubleBinaryOperator) bound;
+      return new JavaLinkedDoubleBinaryOperator(linked.head,
+                                                orNull(chain(first, linked.first)),
+                                                orNull(chain(second, linked.second)),
+                                                orNull(chain(linked.after, after)));
+    }
+    return new JavaLinkedDoubleBinaryOperator(bound, orNull(first), orNull(second), orNull(after));
+  }
+
+  @Override
+  public double applyAsDouble(double x, double y) {
+    final double result = head.applyAsDouble(first == null ? x : first.applyAsDouble(x),
+                                             second == null ? y : second.applyAsDouble(y));
+    return after == null ? result : after.applyAsDouble(result);
+  }
+}
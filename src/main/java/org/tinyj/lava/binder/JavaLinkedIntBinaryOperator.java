@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+import static org.tinyj.lava.binder.JavaIntUnaryOperatorChain.chain;
+import static org.tinyj.lava.binder.JavaIntUnaryOperatorChain.isIdentity;
+import static org.tinyj.lava.binder.JavaIntUnaryOperatorChain.orNull;
+
+/**
+ * An {@link IntBinaryOperator} with its arguments and its result mapped by flat
+ * {@link JavaIntUnaryOperatorChain}s, see {@link JavaLinkedBiFunction}.
+ */
+final class JavaLinkedIntBinaryOperator
+    implements IntBinaryOperator {
+
+  private final IntBinaryOperator head;
+  private final IntUnaryOperator first;
+  private final IntUnaryOperator second;
+  private final IntUnaryOperator after;
+
+  private JavaLinkedIntBinaryOperator(IntBinaryOperator head,
+                                      IntUnaryOperator first,
+                                      IntUnaryOperator second,
+                                      IntUnaryOperator after) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+    this.after = after;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second} and
+   * its result to {@code after}. {@code null} mappers stand for the identity.
+   */
+  static IntBinaryOperator
+  link(IntBinaryOperator bound, IntUnaryOperator first, IntUnaryOperator second, IntUnaryOperator after) {
+    bound = JavaIntBinaryOperatorBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second) && isIdentity(after)) {
+      return bound;
+    }
+    if (bound instanceof JavaLinkedIntBinaryOperator) {
+      final JavaLinkedIntBinaryOperator linked = (JavaLinkedIntBinaryOperator) bound;
+      return new JavaLinkedIntBinaryOperator(linked.head,
+                                             orNull(chain(first, linked.first)),
+                                             orNull(chain(second, linked.second)),
+                                             orNull(chain(linked.after, after)));
+    }
+    return new JavaLinkedIntBinaryOperator(bound, orNull(first), orNull(second), orNull(after));
+  }
+
+  @Override
+  public int applyAsInt(int x, int y) {
+    final int result = head.applyAsInt(first == null ? x : first.applyAsInt(x),
+                                       second == null ? y : second.applyAsInt(y));
+    return after == null ? result : after.applyAsInt(result);
+  }
+}
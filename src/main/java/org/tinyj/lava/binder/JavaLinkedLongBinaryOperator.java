@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static org.tinyj.lava.binder.JavaLongUnaryOperatorChain.chain;
+import static org.tinyj.lava.binder.JavaLongUnaryOperatorChain.isIdentity;
+import static org.tinyj.lava.binder.JavaLongUnaryOperatorChain.orNull;
+
+/**
+ * A {@link LongBinaryOperator} with its arguments and its result mapped by flat
+ * {@link JavaLongUnaryOperatorChain}s, see {@link JavaLinkedBiFunction}.
+ */
+final class JavaLinkedLongBinaryOperator
+    implements LongBinaryOperator {
+
+  private final LongBinaryOperator head;
+  private final LongUnaryOperator first;
+  private final LongUnaryOperator second;
+  private final LongUnaryOperator after;
+
+  private JavaLinkedLongBinaryOperator(LongBinaryOperator head,
+                                       LongUnaryOperator first,
+                                       LongUnaryOperator second,
+                                       LongUnaryOperator after) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+    this.after = after;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second} and
+   * its result to {@code after}. {@code null} mappers stand for the identity.
+   */
+  static LongBinaryOperator
+  link(LongBinaryOperator bound, LongUnaryOperator first, LongUnaryOperator second, LongUnaryOperator after) {
+    bound = JavaLongBinaryOperatorBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second) && isIdentity(after)) {
+      return bound;
+    }
+    if (bound instanceof JavaLinkedLongBinaryOperator) {
+      final JavaLinkedLongBinaryOperator linked = (JavaLinkedLongBinaryOperator) bound;
+      return new JavaLinkedLongBinaryOperator(linked.head,
+                                              orNull(chain(first, linked.first)),
+                                              orNull(chain(second, linked.second)),
+                                              orNull(chain(linked.after, after)));
+    }
+    return new JavaLinkedLongBinaryOperator(bound, orNull(first), orNull(second), orNull(after));
+  }
+
+  @Override
+  public long applyAsLong(long x, long y) {
+    final long result = head.applyAsLong(first == null ? x : first.applyAsLong(x),
+                                         second == null ? y : second.applyAsLong(y));
+    return after == null ? result : after.applyAsLong(result);
+  }
+}
@@ -0,0 +1,45 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.tinyj.lava.binder.JavaFunctionChain.chain;
+import static org.tinyj.lava.binder.JavaFunctionChain.isIdentity;
+
+/**
+ * A {@link Predicate} with its argument mapped by a flat
+ * {@link JavaFunctionChain}. Linking a linked predicate merges the mappers
+ * instead of nesting it, so the call depth does not grow with the number of
+ * {@code linkTo} steps.
+ */
+final class JavaLinkedPredicate<X>
+    implements Predicate<X> {
+
+  private final Predicate<Object> head;
+  private final Function<Object, Object> mapper;
+
+  private JavaLinkedPredicate(Predicate<Object> head, Function<Object, Object> mapper) {
+    this.head = head;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Link {@code bound}'s argument to {@code mapper}.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, X> Predicate<U>
+  link(Predicate<? super X> bound, Function<? super U, ? extends X> mapper) {
+    bound = JavaPredicateBinder.unwrap(bound);
+    if (isIdentity(mapper)) {
+      return (Predicate) bound;
+    }
+    if (bound instanceof JavaLinkedPredicate) {
+      final JavaLinkedPredicate<X> linked = (JavaLinkedPredicate<X>) bound;
+      return new JavaLinkedPredicate<>(linked.head, chain((Function) mapper, linked.mapper));
+    }
+    return new JavaLinkedPredicate<>((Predicate) bound, (Function) mapper);
+  }
+
+  @Override
+  public boolean test(X x) { return head.test(mapper.apply(x)); }
+}
@@ -0,0 +1,148 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link LongBinaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaLongBinaryOperatorBinder
+    implements LongBinaryOperator {
+
+  protected final LongBinaryOperator bound;
+
+  public JavaLongBinaryOperatorBinder(LongBinaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Flip the arguments.
+   */
+  public LongBinaryOperator
+  flip() { return (y, x) -> bound.applyAsLong(x, y); }
+
+  /**
+   * Curries both arguments.
+   */
+  public LongSupplier
+  bind(long x, long y) { return () -> bound.applyAsLong(x, y); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaLongUnaryOperatorBinder
+  bindFirst(long x) { return new JavaLongUnaryOperatorBinder(y -> bound.applyAsLong(x, y)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaLongUnaryOperatorBinder
+  bindSecond(long y) { return new JavaLongUnaryOperatorBinder(x -> bound.applyAsLong(x, y)); }
+
+  /**
+   * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
+   * time the resulting {@link LongSupplier} is invoked and the results are supplied as
+   * arguments to the bound {@link LongBinaryOperator}.
+   */
+  public LongSupplier
+  link(LongSupplier x, LongSupplier y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return () -> bound.applyAsLong(x.getAsLong(), y.getAsLong());
+  }
+
+  /**
+   * Map both arguments. {@code x} and {@code y} are invoked each time the resulting
+   * {@link LongBinaryOperator} is invoked and the results are supplied as arguments to the
+   * bound {@link LongBinaryOperator}.
+   */
+  public JavaLongBinaryOperatorBinder
+  link(LongUnaryOperator x, LongUnaryOperator y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return new JavaLongBinaryOperatorBinder(JavaLinkedLongBinaryOperator.link(bound, x, y, null));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LongUnaryOperator} is invoked and the results is supplied as first
+   * argument to the bound {@link LongBinaryOperator}.
+   */
+  public JavaLongUnaryOperatorBinder
+  linkFirst(LongSupplier x) {
+    requireNonNull(x);
+    return new JavaLongUnaryOperatorBinder(y -> bound.applyAsLong(x.getAsLong(), y));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link LongBinaryOperator} is invoked and the result is supplied as first argument
+   * to the bound {@link LongBinaryOperator}.
+   */
+  public JavaLongBinaryOperatorBinder
+  linkFirst(LongUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaLongBinaryOperatorBinder(JavaLinkedLongBinaryOperator.link(bound, x, null, null));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LongUnaryOperator} is invoked and the results is supplied as second
+   * argument to the bound {@link LongBinaryOperator}.
+   */
+  public JavaLongUnaryOperatorBinder
+  linkSecond(LongSupplier y) {
+    requireNonNull(y);
+    return new JavaLongUnaryOperatorBinder(x -> bound.applyAsLong(x, y.getAsLong()));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link LongBinaryOperator} is invoked and the result is supplied as second argument
+   * to the bound {@link LongBinaryOperator}.
+   */
+  public JavaLongBinaryOperatorBinder
+  linkSecond(LongUnaryOperator y) {
+    requireNonNull(y);
+    return new JavaLongBinaryOperatorBinder(JavaLinkedLongBinaryOperator.link(bound, null, y, null));
+  }
+
+  /**
+   * @return the wrapped {@link LongBinaryOperator}
+   */
+  public LongBinaryOperator
+  bound() { return bound; }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link LongBinaryOperator}.
+   */
+  public JavaLongBinaryOperatorBinder
+  andThen(LongUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaLongBinaryOperatorBinder(JavaLinkedLongBinaryOperator.link(bound, null, null, after));
+  }
+
+  @Override
+  public long
+  applyAsLong(long x, long y) { return bound.applyAsLong(x, y); }
+
+  /**
+   * Unwrap a plain {@link JavaLongBinaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static LongBinaryOperator
+  unwrap(LongBinaryOperator operator) {
+    return operator != null && operator.getClass() == JavaLongBinaryOperatorBinder.class
+           ? ((JavaLongBinaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
@@ -0,0 +1,73 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link LongPredicate}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaLongPredicateBinder
+    implements LongPredicate {
+
+  protected final LongPredicate bound;
+
+  public JavaLongPredicateBinder(LongPredicate bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public BooleanSupplier
+  bind(long x) { return () -> bound.test(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BooleanSupplier} is invoked and the results is supplied as
+   * argument to the curried {@link LongPredicate}.
+   */
+  public BooleanSupplier
+  linkTo(LongSupplier x) {
+    requireNonNull(x);
+    return () -> bound.test(x.getAsLong());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link LongPredicate} is
+   * invoked and the result is supplied as argument to the curried {@link LongPredicate}.
+   */
+  public JavaLongPredicateBinder
+  linkTo(LongUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaLongPredicateBinder(u -> bound.test(x.applyAsLong(u)));
+  }
+
+  /**
+   * @return the wrapped {@link LongPredicate}
+   */
+  public LongPredicate
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  test(long x) { return bound.test(x); }
+
+  /**
+   * Unwrap a plain {@link JavaLongPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static LongPredicate
+  unwrap(LongPredicate predicate) {
+    return predicate != null && predicate.getClass() == JavaLongPredicateBinder.class
+           ? ((JavaLongPredicateBinder) predicate).bound
+           : predicate;
+  }
+}
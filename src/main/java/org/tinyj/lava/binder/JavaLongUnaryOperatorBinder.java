@@ -0,0 +1,103 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link LongUnaryOperator}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ */
+public class JavaLongUnaryOperatorBinder
+    implements LongUnaryOperator {
+
+  protected final LongUnaryOperator bound;
+
+  public JavaLongUnaryOperatorBinder(LongUnaryOperator bound) {
+    requireNonNull(bound);
+    this.bound = unwrap(bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public LongSupplier
+  bind(long x) { return () -> bound.applyAsLong(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LongSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link LongUnaryOperator}.
+   */
+  public LongSupplier
+  linkTo(LongSupplier x) {
+    requireNonNull(x);
+    return () -> bound.applyAsLong(x.getAsLong());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link LongUnaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link LongUnaryOperator}.
+   */
+  public JavaLongUnaryOperatorBinder
+  linkTo(LongUnaryOperator x) {
+    requireNonNull(x);
+    return new JavaLongUnaryOperatorBinder(JavaLongUnaryOperatorChain.chain(x, bound));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link LongBinaryOperator} is
+   * invoked and the result is supplied as argument to the curried {@link LongUnaryOperator}.
+   */
+  public JavaLongBinaryOperatorBinder
+  linkTo(LongBinaryOperator x) {
+    requireNonNull(x);
+    return new JavaLongBinaryOperatorBinder((u, v) -> bound.applyAsLong(x.applyAsLong(u, v)));
+  }
+
+  /**
+   * @return the wrapped {@link LongUnaryOperator}
+   */
+  public LongUnaryOperator
+  bound() { return bound; }
+
+  public LongBinaryOperator
+  applyFirst() { return ((u, v) -> bound.applyAsLong(u)); }
+
+  public LongBinaryOperator
+  applySecond() { return ((u, v) -> bound.applyAsLong(v)); }
+
+  @Override
+  public JavaLongUnaryOperatorBinder
+  compose(LongUnaryOperator before) {
+    requireNonNull(before);
+    return new JavaLongUnaryOperatorBinder(JavaLongUnaryOperatorChain.chain(before, bound));
+  }
+
+  @Override
+  public JavaLongUnaryOperatorBinder
+  andThen(LongUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaLongUnaryOperatorBinder(JavaLongUnaryOperatorChain.chain(bound, after));
+  }
+
+  @Override
+  public long
+  applyAsLong(long x) { return bound.applyAsLong(x); }
+
+  /**
+   * Unwrap a plain {@link JavaLongUnaryOperatorBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  static LongUnaryOperator
+  unwrap(LongUnaryOperator operator) {
+    return operator != null && operator.getClass() == JavaLongUnaryOperatorBinder.class
+           ? ((JavaLongUnaryOperatorBinder) operator).bound
+           : operator;
+  }
+}
@@ -0,0 +1,67 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A flat chain of {@link LongUnaryOperator}s, each stage is applied to the result of
+ * the previous one. Chaining a chain (or a plain binder wrapping one) splices
+ * its stages instead of nesting it, see {@link JavaFunctionChain}.
+ */
+final class JavaLongUnaryOperatorChain
+    implements LongUnaryOperator {
+
+  private final LongUnaryOperator[] stages;
+
+  private JavaLongUnaryOperatorChain(LongUnaryOperator[] stages) { this.stages = stages; }
+
+  /**
+   * Chain {@code first} and {@code then}. {@code null} stands for the identity.
+   */
+  static LongUnaryOperator
+  chain(LongUnaryOperator first, LongUnaryOperator then) {
+    if (isIdentity(first)) return then;
+    if (isIdentity(then)) return first;
+    final LongUnaryOperator[] head = stagesOf(first);
+    final LongUnaryOperator[] tail = stagesOf(then);
+    final LongUnaryOperator[] stages = new LongUnaryOperator[head.length + tail.length];
+    System.arraycopy(head, 0, stages, 0, head.length);
+    System.arraycopy(tail, 0, stages, head.length, tail.length);
+    return new JavaLongUnaryOperatorChain(stages);
+  }
+
+  /**
+   * @return {@code true} iff {@code operator} is {@code null} or {@link JavaFun#LongIdentity()}
+   */
+  static boolean
+  isIdentity(LongUnaryOperator operator) {
+    return operator == null || JavaLongUnaryOperatorBinder.unwrap(operator) == JavaFun.LongIdentity();
+  }
+
+  /**
+   * @return {@code null} if {@code operator} is an identity, {@code operator} otherwise
+   */
+  static LongUnaryOperator
+  orNull(LongUnaryOperator operator) { return isIdentity(operator) ? null : operator; }
+
+  private static LongUnaryOperator[] stagesOf(LongUnaryOperator operator) {
+    operator = JavaLongUnaryOperatorBinder.unwrap(operator);
+    return operator instanceof JavaLongUnaryOperatorChain
+           ? ((JavaLongUnaryOperatorChain) operator).stages
+           : new LongUnaryOperator[]{operator};
+  }
+
+  @Override
+  public long applyAsLong(long x) {
+    for (LongUnaryOperator stage : stages) {
+      x = stage.applyAsLong(x);
+    }
+    return x;
+  }
+
+  /**
+   * @return the number of stages
+   */
+  int size() { return stages.length; }
+}
@@ -23,7 +23,7 @@ public class JavaPredicateBinder<X>
 
   public JavaPredicateBinder(Predicate<? super X> bound) {
     requireNonNull(bound);
-    this.bound = JavaFun.castDown(bound);
+    this.bound = JavaFun.castDown(unwrap(bound));
   }
 
   /**
@@ -32,6 +32,13 @@ public class JavaPredicateBinder<X>
   public BooleanSupplier
   bind(X x) { return () -> bound.test(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public JavaConditionSlot<X>
+  slot() { return new JavaConditionSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link BooleanSupplier} is invoked and the results is supplied as
@@ -50,7 +57,7 @@ public class JavaPredicateBinder<X>
   public <U> JavaPredicateBinder<U>
   linkTo(Function<? super U, ? extends X> x) {
     requireNonNull(x);
-    return new JavaPredicateBinder<>(u -> bound.test(x.apply(u)));
+    return new JavaPredicateBinder<>(JavaLinkedPredicate.link(bound, x));
   }
 
   /**
@@ -63,6 +70,15 @@ public class JavaPredicateBinder<X>
     return new JavaBiPredicateBinder<>((u, v) -> bound.test(x.apply(u, v)));
   }
 
+  /**
+   * Compile the bound {@link Predicate} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public Predicate<X>
+  compile() { return BinderCompiler.compile("CompiledPredicate", unwrap(this)); }
+
   /**
    * @return the wrapped {@link Predicate}
    */
@@ -75,7 +91,35 @@ public class JavaPredicateBinder<X>
   public <U, V extends X> BiPredicate<U, V>
   testSecond() { return ((u, v) -> bound.test(v)); }
 
+  /**
+   * Combines into a flat {@link JavaFun#allOf(Predicate[])} instead of nesting
+   * a lambda per call.
+   */
+  @Override
+  public JavaPredicateBinder<X>
+  and(Predicate<? super X> other) { return new JavaPredicateBinder<>(JavaFun.allOf(bound, other)); }
+
+  /**
+   * Combines into a flat {@link JavaFun#anyOf(Predicate[])} instead of nesting
+   * a lambda per call.
+   */
+  @Override
+  public JavaPredicateBinder<X>
+  or(Predicate<? super X> other) { return new JavaPredicateBinder<>(JavaFun.anyOf(bound, other)); }
+
   @Override
   public boolean
   test(X x) { return bound.test(x); }
+
+  /**
+   * Unwrap a plain {@link JavaPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> Predicate<X>
+  unwrap(Predicate<X> predicate) {
+    return predicate != null && predicate.getClass() == JavaPredicateBinder.class
+           ? ((JavaPredicateBinder<X>) predicate).bound
+           : predicate;
+  }
 }
@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Predicate} on the second argument of a bound {@link BiPredicate},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ */
+public final class JavaPredicateSlot<S, X>
+    extends Slot<S>
+    implements Predicate<X> {
+
+  private final BiPredicate<? super S, ? super X> bound;
+
+  JavaPredicateSlot(BiPredicate<? super S, ? super X> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaPredicateSlot<S, X>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean
+  test(X x) {
+    assert confined();
+    return bound.test(value, x);
+  }
+}
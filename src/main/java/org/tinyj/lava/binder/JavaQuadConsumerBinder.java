@@ -0,0 +1,242 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link QuadConsumer}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaTriConsumerBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried operation are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the operation
+ * @param <X> the type of the second argument to the operation
+ * @param <Y> the type of the third argument to the operation
+ * @param <Z> the type of the fourth argument to the operation
+ */
+public class JavaQuadConsumerBinder<W, X, Y, Z>
+    implements QuadConsumer<W, X, Y, Z> {
+
+  protected final QuadConsumer<W, X, Y, Z> bound;
+
+  public JavaQuadConsumerBinder(QuadConsumer<? super W, ? super X, ? super Y, ? super Z> bound) {
+    requireNonNull(bound);
+    this.bound = QuadConsumer.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaQuadConsumerBinder<X, W, Y, Z>
+  flipFirst() { return new JavaQuadConsumerBinder<>((x, w, y, z) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public JavaQuadConsumerBinder<W, X, Z, Y>
+  flipLast() { return new JavaQuadConsumerBinder<>((w, x, z, y) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaQuadConsumerBinder<X, Y, Z, W>
+  rotateLeft() { return new JavaQuadConsumerBinder<>((x, y, z, w) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaQuadConsumerBinder<Z, W, X, Y>
+  rotateRight() { return new JavaQuadConsumerBinder<>((z, w, x, y) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaQuadConsumerBinder<Z, Y, X, W>
+  reverse() { return new JavaQuadConsumerBinder<>((z, y, x, w) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public Runnable
+  bind(W w, X x, Y y, Z z) { return () -> bound.accept(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaTriConsumerBinder<X, Y, Z>
+  bindFirst(W w) { return new JavaTriConsumerBinder<>((x, y, z) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaTriConsumerBinder<W, Y, Z>
+  bindSecond(X x) { return new JavaTriConsumerBinder<>((w, y, z) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaTriConsumerBinder<W, X, Z>
+  bindThird(Y y) { return new JavaTriConsumerBinder<>((w, x, z) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public JavaTriConsumerBinder<W, X, Y>
+  bindFourth(Z z) { return new JavaTriConsumerBinder<>((w, x, y) -> bound.accept(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link Runnable} is invoked and the results are
+   * supplied as arguments to the bound {@link QuadConsumer}.
+   */
+  public Runnable
+  link(Supplier<? extends W> w, Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.accept(w.get(), x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link QuadConsumer} is invoked and the results are supplied as arguments to
+   * the bound {@link QuadConsumer}.
+   */
+  public <S, T, U, V> JavaQuadConsumerBinder<S, T, U, V>
+  link(Function<? super S, ? extends W> w, Function<? super T, ? extends X> x, Function<? super U, ? extends Y> y, Function<? super V, ? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaQuadConsumerBinder<>((s, t, u, v) -> bound.accept(w.apply(s), x.apply(t), y.apply(u), z.apply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link TriConsumer} is invoked and the result is supplied as first
+   * argument to the bound {@link QuadConsumer}.
+   */
+  public JavaTriConsumerBinder<X, Y, Z>
+  linkFirst(Supplier<? extends W> w) {
+    requireNonNull(w);
+    return new JavaTriConsumerBinder<>((x, y, z) -> bound.accept(w.get(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link QuadConsumer} is invoked and the result is supplied as first argument
+   * to the bound {@link QuadConsumer}.
+   */
+  public <S> JavaQuadConsumerBinder<S, X, Y, Z>
+  linkFirst(Function<? super S, ? extends W> w) {
+    requireNonNull(w);
+    return new JavaQuadConsumerBinder<>((s, x, y, z) -> bound.accept(w.apply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link TriConsumer} is invoked and the result is supplied as second
+   * argument to the bound {@link QuadConsumer}.
+   */
+  public JavaTriConsumerBinder<W, Y, Z>
+  linkSecond(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriConsumerBinder<>((w, y, z) -> bound.accept(w, x.get(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link QuadConsumer} is invoked and the result is supplied as second argument
+   * to the bound {@link QuadConsumer}.
+   */
+  public <T> JavaQuadConsumerBinder<W, T, Y, Z>
+  linkSecond(Function<? super T, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaQuadConsumerBinder<>((w, t, y, z) -> bound.accept(w, x.apply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link TriConsumer} is invoked and the result is supplied as third
+   * argument to the bound {@link QuadConsumer}.
+   */
+  public JavaTriConsumerBinder<W, X, Z>
+  linkThird(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriConsumerBinder<>((w, x, z) -> bound.accept(w, x, y.get(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link QuadConsumer} is invoked and the result is supplied as third argument
+   * to the bound {@link QuadConsumer}.
+   */
+  public <U> JavaQuadConsumerBinder<W, X, U, Z>
+  linkThird(Function<? super U, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaQuadConsumerBinder<>((w, x, u, z) -> bound.accept(w, x, y.apply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link TriConsumer} is invoked and the result is supplied as fourth
+   * argument to the bound {@link QuadConsumer}.
+   */
+  public JavaTriConsumerBinder<W, X, Y>
+  linkFourth(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriConsumerBinder<>((w, x, y) -> bound.accept(w, x, y, z.get()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link QuadConsumer} is invoked and the result is supplied as fourth argument
+   * to the bound {@link QuadConsumer}.
+   */
+  public <V> JavaQuadConsumerBinder<W, X, Y, V>
+  linkFourth(Function<? super V, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaQuadConsumerBinder<>((w, x, y, v) -> bound.accept(w, x, y, z.apply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link QuadConsumer}
+   */
+  public QuadConsumer<W, X, Y, Z>
+  bound() { return bound; }
+
+  @Override
+  public JavaQuadConsumerBinder<W, X, Y, Z>
+  andThen(QuadConsumer<? super W, ? super X, ? super Y, ? super Z> after) {
+    requireNonNull(after);
+    return new JavaQuadConsumerBinder<>((w, x, y, z) -> {
+      bound.accept(w, x, y, z);
+      after.accept(w, x, y, z);
+    });
+  }
+
+  @Override
+  public void
+  accept(W w, X x, Y y, Z z) { bound.accept(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaQuadConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z> QuadConsumer<W, X, Y, Z>
+  unwrap(QuadConsumer<W, X, Y, Z> consumer) {
+    return consumer != null && consumer.getClass() == JavaQuadConsumerBinder.class
+           ? ((JavaQuadConsumerBinder<W, X, Y, Z>) consumer).bound
+           : consumer;
+  }
+}
@@ -0,0 +1,240 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link QuadFunction}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaTriFunctionBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried function are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the function
+ * @param <X> the type of the second argument to the function
+ * @param <Y> the type of the third argument to the function
+ * @param <Z> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ */
+public class JavaQuadFunctionBinder<W, X, Y, Z, R>
+    implements QuadFunction<W, X, Y, Z, R> {
+
+  protected final QuadFunction<W, X, Y, Z, R> bound;
+
+  public JavaQuadFunctionBinder(QuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R> bound) {
+    requireNonNull(bound);
+    this.bound = QuadFunction.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaQuadFunctionBinder<X, W, Y, Z, R>
+  flipFirst() { return new JavaQuadFunctionBinder<>((x, w, y, z) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public JavaQuadFunctionBinder<W, X, Z, Y, R>
+  flipLast() { return new JavaQuadFunctionBinder<>((w, x, z, y) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaQuadFunctionBinder<X, Y, Z, W, R>
+  rotateLeft() { return new JavaQuadFunctionBinder<>((x, y, z, w) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaQuadFunctionBinder<Z, W, X, Y, R>
+  rotateRight() { return new JavaQuadFunctionBinder<>((z, w, x, y) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaQuadFunctionBinder<Z, Y, X, W, R>
+  reverse() { return new JavaQuadFunctionBinder<>((z, y, x, w) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public Supplier<R>
+  bind(W w, X x, Y y, Z z) { return () -> bound.apply(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaTriFunctionBinder<X, Y, Z, R>
+  bindFirst(W w) { return new JavaTriFunctionBinder<>((x, y, z) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaTriFunctionBinder<W, Y, Z, R>
+  bindSecond(X x) { return new JavaTriFunctionBinder<>((w, y, z) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaTriFunctionBinder<W, X, Z, R>
+  bindThird(Y y) { return new JavaTriFunctionBinder<>((w, x, z) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public JavaTriFunctionBinder<W, X, Y, R>
+  bindFourth(Z z) { return new JavaTriFunctionBinder<>((w, x, y) -> bound.apply(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link Supplier} is invoked and the results are
+   * supplied as arguments to the bound {@link QuadFunction}.
+   */
+  public Supplier<R>
+  link(Supplier<? extends W> w, Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.apply(w.get(), x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link QuadFunction} is invoked and the results are supplied as arguments to
+   * the bound {@link QuadFunction}.
+   */
+  public <S, T, U, V> JavaQuadFunctionBinder<S, T, U, V, R>
+  link(Function<? super S, ? extends W> w, Function<? super T, ? extends X> x, Function<? super U, ? extends Y> y, Function<? super V, ? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaQuadFunctionBinder<>((s, t, u, v) -> bound.apply(w.apply(s), x.apply(t), y.apply(u), z.apply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link TriFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link QuadFunction}.
+   */
+  public JavaTriFunctionBinder<X, Y, Z, R>
+  linkFirst(Supplier<? extends W> w) {
+    requireNonNull(w);
+    return new JavaTriFunctionBinder<>((x, y, z) -> bound.apply(w.get(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link QuadFunction} is invoked and the result is supplied as first argument
+   * to the bound {@link QuadFunction}.
+   */
+  public <S> JavaQuadFunctionBinder<S, X, Y, Z, R>
+  linkFirst(Function<? super S, ? extends W> w) {
+    requireNonNull(w);
+    return new JavaQuadFunctionBinder<>((s, x, y, z) -> bound.apply(w.apply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link TriFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link QuadFunction}.
+   */
+  public JavaTriFunctionBinder<W, Y, Z, R>
+  linkSecond(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriFunctionBinder<>((w, y, z) -> bound.apply(w, x.get(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link QuadFunction} is invoked and the result is supplied as second argument
+   * to the bound {@link QuadFunction}.
+   */
+  public <T> JavaQuadFunctionBinder<W, T, Y, Z, R>
+  linkSecond(Function<? super T, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaQuadFunctionBinder<>((w, t, y, z) -> bound.apply(w, x.apply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link TriFunction} is invoked and the result is supplied as third
+   * argument to the bound {@link QuadFunction}.
+   */
+  public JavaTriFunctionBinder<W, X, Z, R>
+  linkThird(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriFunctionBinder<>((w, x, z) -> bound.apply(w, x, y.get(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link QuadFunction} is invoked and the result is supplied as third argument
+   * to the bound {@link QuadFunction}.
+   */
+  public <U> JavaQuadFunctionBinder<W, X, U, Z, R>
+  linkThird(Function<? super U, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaQuadFunctionBinder<>((w, x, u, z) -> bound.apply(w, x, y.apply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link TriFunction} is invoked and the result is supplied as fourth
+   * argument to the bound {@link QuadFunction}.
+   */
+  public JavaTriFunctionBinder<W, X, Y, R>
+  linkFourth(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriFunctionBinder<>((w, x, y) -> bound.apply(w, x, y, z.get()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link QuadFunction} is invoked and the result is supplied as fourth argument
+   * to the bound {@link QuadFunction}.
+   */
+  public <V> JavaQuadFunctionBinder<W, X, Y, V, R>
+  linkFourth(Function<? super V, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaQuadFunctionBinder<>((w, x, y, v) -> bound.apply(w, x, y, z.apply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link QuadFunction}
+   */
+  public QuadFunction<W, X, Y, Z, R>
+  bound() { return bound; }
+
+  @Override
+  public <V> JavaQuadFunctionBinder<W, X, Y, Z, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaQuadFunctionBinder<>((w, x, y, z) -> after.apply(bound.apply(w, x, y, z)));
+  }
+
+  @Override
+  public R
+  apply(W w, X x, Y y, Z z) { return bound.apply(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaQuadFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, R> QuadFunction<W, X, Y, Z, R>
+  unwrap(QuadFunction<W, X, Y, Z, R> function) {
+    return function != null && function.getClass() == JavaQuadFunctionBinder.class
+           ? ((JavaQuadFunctionBinder<W, X, Y, Z, R>) function).bound
+           : function;
+  }
+}
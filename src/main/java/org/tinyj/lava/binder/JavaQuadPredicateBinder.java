@@ -0,0 +1,233 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link QuadPredicate}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaTriPredicateBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried predicate are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the predicate
+ * @param <X> the type of the second argument to the predicate
+ * @param <Y> the type of the third argument to the predicate
+ * @param <Z> the type of the fourth argument to the predicate
+ */
+public class JavaQuadPredicateBinder<W, X, Y, Z>
+    implements QuadPredicate<W, X, Y, Z> {
+
+  protected final QuadPredicate<W, X, Y, Z> bound;
+
+  public JavaQuadPredicateBinder(QuadPredicate<? super W, ? super X, ? super Y, ? super Z> bound) {
+    requireNonNull(bound);
+    this.bound = QuadPredicate.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaQuadPredicateBinder<X, W, Y, Z>
+  flipFirst() { return new JavaQuadPredicateBinder<>((x, w, y, z) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public JavaQuadPredicateBinder<W, X, Z, Y>
+  flipLast() { return new JavaQuadPredicateBinder<>((w, x, z, y) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaQuadPredicateBinder<X, Y, Z, W>
+  rotateLeft() { return new JavaQuadPredicateBinder<>((x, y, z, w) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaQuadPredicateBinder<Z, W, X, Y>
+  rotateRight() { return new JavaQuadPredicateBinder<>((z, w, x, y) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaQuadPredicateBinder<Z, Y, X, W>
+  reverse() { return new JavaQuadPredicateBinder<>((z, y, x, w) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public BooleanSupplier
+  bind(W w, X x, Y y, Z z) { return () -> bound.test(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaTriPredicateBinder<X, Y, Z>
+  bindFirst(W w) { return new JavaTriPredicateBinder<>((x, y, z) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaTriPredicateBinder<W, Y, Z>
+  bindSecond(X x) { return new JavaTriPredicateBinder<>((w, y, z) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaTriPredicateBinder<W, X, Z>
+  bindThird(Y y) { return new JavaTriPredicateBinder<>((w, x, z) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public JavaTriPredicateBinder<W, X, Y>
+  bindFourth(Z z) { return new JavaTriPredicateBinder<>((w, x, y) -> bound.test(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link BooleanSupplier} is invoked and the results are
+   * supplied as arguments to the bound {@link QuadPredicate}.
+   */
+  public BooleanSupplier
+  link(Supplier<? extends W> w, Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.test(w.get(), x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link QuadPredicate} is invoked and the results are supplied as arguments to
+   * the bound {@link QuadPredicate}.
+   */
+  public <S, T, U, V> JavaQuadPredicateBinder<S, T, U, V>
+  link(Function<? super S, ? extends W> w, Function<? super T, ? extends X> x, Function<? super U, ? extends Y> y, Function<? super V, ? extends Z> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaQuadPredicateBinder<>((s, t, u, v) -> bound.test(w.apply(s), x.apply(t), y.apply(u), z.apply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link TriPredicate} is invoked and the result is supplied as first
+   * argument to the bound {@link QuadPredicate}.
+   */
+  public JavaTriPredicateBinder<X, Y, Z>
+  linkFirst(Supplier<? extends W> w) {
+    requireNonNull(w);
+    return new JavaTriPredicateBinder<>((x, y, z) -> bound.test(w.get(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link QuadPredicate} is invoked and the result is supplied as first argument
+   * to the bound {@link QuadPredicate}.
+   */
+  public <S> JavaQuadPredicateBinder<S, X, Y, Z>
+  linkFirst(Function<? super S, ? extends W> w) {
+    requireNonNull(w);
+    return new JavaQuadPredicateBinder<>((s, x, y, z) -> bound.test(w.apply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link TriPredicate} is invoked and the result is supplied as second
+   * argument to the bound {@link QuadPredicate}.
+   */
+  public JavaTriPredicateBinder<W, Y, Z>
+  linkSecond(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriPredicateBinder<>((w, y, z) -> bound.test(w, x.get(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link QuadPredicate} is invoked and the result is supplied as second argument
+   * to the bound {@link QuadPredicate}.
+   */
+  public <T> JavaQuadPredicateBinder<W, T, Y, Z>
+  linkSecond(Function<? super T, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaQuadPredicateBinder<>((w, t, y, z) -> bound.test(w, x.apply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link TriPredicate} is invoked and the result is supplied as third
+   * argument to the bound {@link QuadPredicate}.
+   */
+  public JavaTriPredicateBinder<W, X, Z>
+  linkThird(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriPredicateBinder<>((w, x, z) -> bound.test(w, x, y.get(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link QuadPredicate} is invoked and the result is supplied as third argument
+   * to the bound {@link QuadPredicate}.
+   */
+  public <U> JavaQuadPredicateBinder<W, X, U, Z>
+  linkThird(Function<? super U, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaQuadPredicateBinder<>((w, x, u, z) -> bound.test(w, x, y.apply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link TriPredicate} is invoked and the result is supplied as fourth
+   * argument to the bound {@link QuadPredicate}.
+   */
+  public JavaTriPredicateBinder<W, X, Y>
+  linkFourth(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriPredicateBinder<>((w, x, y) -> bound.test(w, x, y, z.get()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link QuadPredicate} is invoked and the result is supplied as fourth argument
+   * to the bound {@link QuadPredicate}.
+   */
+  public <V> JavaQuadPredicateBinder<W, X, Y, V>
+  linkFourth(Function<? super V, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaQuadPredicateBinder<>((w, x, y, v) -> bound.test(w, x, y, z.apply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link QuadPredicate}
+   */
+  public QuadPredicate<W, X, Y, Z>
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  test(W w, X x, Y y, Z z) { return bound.test(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaQuadPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z> QuadPredicate<W, X, Y, Z>
+  unwrap(QuadPredicate<W, X, Y, Z> predicate) {
+    return predicate != null && predicate.getClass() == JavaQuadPredicateBinder.class
+           ? ((JavaQuadPredicateBinder<W, X, Y, Z>) predicate).bound
+           : predicate;
+  }
+}
@@ -0,0 +1,40 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Runnable} invoking a bound {@link Consumer} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ */
+public final class JavaRunnableSlot<S>
+    extends Slot<S>
+    implements Runnable {
+
+  private final Consumer<? super S> bound;
+
+  JavaRunnableSlot(Consumer<? super S> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaRunnableSlot<S>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public void
+  run() {
+    assert confined();
+    bound.accept(value);
+  }
+}
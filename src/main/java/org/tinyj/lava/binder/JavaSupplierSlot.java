@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Supplier} invoking a bound {@link Function} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <R> the type of the result of the function
+ */
+public final class JavaSupplierSlot<S, R>
+    extends Slot<S>
+    implements Supplier<R> {
+
+  private final Function<? super S, ? extends R> bound;
+
+  JavaSupplierSlot(Function<? super S, ? extends R> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public JavaSupplierSlot<S, R>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public R
+  get() {
+    assert confined();
+    return bound.apply(value);
+  }
+}
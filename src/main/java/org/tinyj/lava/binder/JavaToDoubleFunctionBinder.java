@@ -0,0 +1,97 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link ToDoubleFunction}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the input to the function
+ */
+public class JavaToDoubleFunctionBinder<X>
+    implements ToDoubleFunction<X> {
+
+  protected final ToDoubleFunction<X> bound;
+
+  @SuppressWarnings("unchecked")
+  public JavaToDoubleFunctionBinder(ToDoubleFunction<? super X> bound) {
+    requireNonNull(bound);
+    this.bound = unwrap((ToDoubleFunction<X>) bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public DoubleSupplier
+  bind(X x) { return () -> bound.applyAsDouble(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link DoubleSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link ToDoubleFunction}.
+   */
+  public DoubleSupplier
+  linkTo(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return () -> bound.applyAsDouble(x.get());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToDoubleFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToDoubleFunction}.
+   */
+  public <U> JavaToDoubleFunctionBinder<U>
+  linkTo(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaToDoubleFunctionBinder<>(u -> bound.applyAsDouble(x.apply(u)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToDoubleBiFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToDoubleFunction}.
+   */
+  public <U, V> ToDoubleBiFunction<U, V>
+  linkTo(BiFunction<? super U, ? super V, ? extends X> x) {
+    requireNonNull(x);
+    return (u, v) -> bound.applyAsDouble(x.apply(u, v));
+  }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link ToDoubleFunction}.
+   */
+  public JavaToDoubleFunctionBinder<X>
+  andThen(DoubleUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaToDoubleFunctionBinder<>(x -> after.applyAsDouble(bound.applyAsDouble(x)));
+  }
+
+  /**
+   * @return the wrapped {@link ToDoubleFunction}
+   */
+  public ToDoubleFunction<X>
+  bound() { return bound; }
+
+  @Override
+  public double
+  applyAsDouble(X x) { return bound.applyAsDouble(x); }
+
+  /**
+   * Unwrap a plain {@link JavaToDoubleFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> ToDoubleFunction<X>
+  unwrap(ToDoubleFunction<X> function) {
+    return function != null && function.getClass() == JavaToDoubleFunctionBinder.class
+           ? ((JavaToDoubleFunctionBinder<X>) function).bound
+           : function;
+  }
+}
@@ -0,0 +1,97 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link ToIntFunction}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the input to the function
+ */
+public class JavaToIntFunctionBinder<X>
+    implements ToIntFunction<X> {
+
+  protected final ToIntFunction<X> bound;
+
+  @SuppressWarnings("unchecked")
+  public JavaToIntFunctionBinder(ToIntFunction<? super X> bound) {
+    requireNonNull(bound);
+    this.bound = unwrap((ToIntFunction<X>) bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public IntSupplier
+  bind(X x) { return () -> bound.applyAsInt(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link IntSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link ToIntFunction}.
+   */
+  public IntSupplier
+  linkTo(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return () -> bound.applyAsInt(x.get());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToIntFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToIntFunction}.
+   */
+  public <U> JavaToIntFunctionBinder<U>
+  linkTo(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaToIntFunctionBinder<>(u -> bound.applyAsInt(x.apply(u)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToIntBiFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToIntFunction}.
+   */
+  public <U, V> ToIntBiFunction<U, V>
+  linkTo(BiFunction<? super U, ? super V, ? extends X> x) {
+    requireNonNull(x);
+    return (u, v) -> bound.applyAsInt(x.apply(u, v));
+  }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link ToIntFunction}.
+   */
+  public JavaToIntFunctionBinder<X>
+  andThen(IntUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaToIntFunctionBinder<>(x -> after.applyAsInt(bound.applyAsInt(x)));
+  }
+
+  /**
+   * @return the wrapped {@link ToIntFunction}
+   */
+  public ToIntFunction<X>
+  bound() { return bound; }
+
+  @Override
+  public int
+  applyAsInt(X x) { return bound.applyAsInt(x); }
+
+  /**
+   * Unwrap a plain {@link JavaToIntFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> ToIntFunction<X>
+  unwrap(ToIntFunction<X> function) {
+    return function != null && function.getClass() == JavaToIntFunctionBinder.class
+           ? ((JavaToIntFunctionBinder<X>) function).bound
+           : function;
+  }
+}
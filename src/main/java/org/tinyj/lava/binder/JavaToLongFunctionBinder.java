@@ -0,0 +1,97 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on Java's {@link ToLongFunction}.
+ * <p>
+ * Arguments and results are passed unboxed, invoking a bound result does not
+ * allocate. To enable a fluent syntax binders wrapping the curried function
+ * are returned where applicable. This introduces some overhead that might be
+ * an issue if either the result is invoked many times or many results are
+ * produced. Use {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the input to the function
+ */
+public class JavaToLongFunctionBinder<X>
+    implements ToLongFunction<X> {
+
+  protected final ToLongFunction<X> bound;
+
+  @SuppressWarnings("unchecked")
+  public JavaToLongFunctionBinder(ToLongFunction<? super X> bound) {
+    requireNonNull(bound);
+    this.bound = unwrap((ToLongFunction<X>) bound);
+  }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public LongSupplier
+  bind(X x) { return () -> bound.applyAsLong(x); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LongSupplier} is invoked and the results is supplied as argument
+   * to the curried {@link ToLongFunction}.
+   */
+  public LongSupplier
+  linkTo(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return () -> bound.applyAsLong(x.get());
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToLongFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToLongFunction}.
+   */
+  public <U> JavaToLongFunctionBinder<U>
+  linkTo(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaToLongFunctionBinder<>(u -> bound.applyAsLong(x.apply(u)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting {@link ToLongBiFunction} is
+   * invoked and the result is supplied as argument to the curried {@link ToLongFunction}.
+   */
+  public <U, V> ToLongBiFunction<U, V>
+  linkTo(BiFunction<? super U, ? super V, ? extends X> x) {
+    requireNonNull(x);
+    return (u, v) -> bound.applyAsLong(x.apply(u, v));
+  }
+
+  /**
+   * Map the result. {@code after} is invoked with the result of each invocation
+   * of the bound {@link ToLongFunction}.
+   */
+  public JavaToLongFunctionBinder<X>
+  andThen(LongUnaryOperator after) {
+    requireNonNull(after);
+    return new JavaToLongFunctionBinder<>(x -> after.applyAsLong(bound.applyAsLong(x)));
+  }
+
+  /**
+   * @return the wrapped {@link ToLongFunction}
+   */
+  public ToLongFunction<X>
+  bound() { return bound; }
+
+  @Override
+  public long
+  applyAsLong(X x) { return bound.applyAsLong(x); }
+
+  /**
+   * Unwrap a plain {@link JavaToLongFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X> ToLongFunction<X>
+  unwrap(ToLongFunction<X> function) {
+    return function != null && function.getClass() == JavaToLongFunctionBinder.class
+           ? ((JavaToLongFunctionBinder<X>) function).bound
+           : function;
+  }
+}
@@ -0,0 +1,212 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link TriConsumer}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaBiConsumerBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried operation are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the operation
+ * @param <Y> the type of the second argument to the operation
+ * @param <Z> the type of the third argument to the operation
+ */
+public class JavaTriConsumerBinder<X, Y, Z>
+    implements TriConsumer<X, Y, Z> {
+
+  protected final TriConsumer<X, Y, Z> bound;
+
+  public JavaTriConsumerBinder(TriConsumer<? super X, ? super Y, ? super Z> bound) {
+    requireNonNull(bound);
+    this.bound = TriConsumer.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaTriConsumerBinder<Y, X, Z>
+  flipFirst() { return new JavaTriConsumerBinder<>((y, x, z) -> bound.accept(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public JavaTriConsumerBinder<X, Z, Y>
+  flipLast() { return new JavaTriConsumerBinder<>((x, z, y) -> bound.accept(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaTriConsumerBinder<Y, Z, X>
+  rotateLeft() { return new JavaTriConsumerBinder<>((y, z, x) -> bound.accept(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaTriConsumerBinder<Z, X, Y>
+  rotateRight() { return new JavaTriConsumerBinder<>((z, x, y) -> bound.accept(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaTriConsumerBinder<Z, Y, X>
+  reverse() { return new JavaTriConsumerBinder<>((z, y, x) -> bound.accept(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public Runnable
+  bind(X x, Y y, Z z) { return () -> bound.accept(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaBiConsumerBinder<Y, Z>
+  bindFirst(X x) { return new JavaBiConsumerBinder<>((y, z) -> bound.accept(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaBiConsumerBinder<X, Z>
+  bindSecond(Y y) { return new JavaBiConsumerBinder<>((x, z) -> bound.accept(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaBiConsumerBinder<X, Y>
+  bindThird(Z z) { return new JavaBiConsumerBinder<>((x, y) -> bound.accept(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link Runnable} is invoked and the results are
+   * supplied as arguments to the bound {@link TriConsumer}.
+   */
+  public Runnable
+  link(Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.accept(x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link TriConsumer} is invoked and the results are supplied as arguments to
+   * the bound {@link TriConsumer}.
+   */
+  public <U, V, W> JavaTriConsumerBinder<U, V, W>
+  link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y, Function<? super W, ? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaTriConsumerBinder<>((u, v, w) -> bound.accept(x.apply(u), y.apply(v), z.apply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BiConsumer} is invoked and the result is supplied as first
+   * argument to the bound {@link TriConsumer}.
+   */
+  public JavaBiConsumerBinder<Y, Z>
+  linkFirst(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaBiConsumerBinder<>((y, z) -> bound.accept(x.get(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link TriConsumer} is invoked and the result is supplied as first argument
+   * to the bound {@link TriConsumer}.
+   */
+  public <U> JavaTriConsumerBinder<U, Y, Z>
+  linkFirst(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriConsumerBinder<>((u, y, z) -> bound.accept(x.apply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link BiConsumer} is invoked and the result is supplied as second
+   * argument to the bound {@link TriConsumer}.
+   */
+  public JavaBiConsumerBinder<X, Z>
+  linkSecond(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaBiConsumerBinder<>((x, z) -> bound.accept(x, y.get(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link TriConsumer} is invoked and the result is supplied as second argument
+   * to the bound {@link TriConsumer}.
+   */
+  public <V> JavaTriConsumerBinder<X, V, Z>
+  linkSecond(Function<? super V, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriConsumerBinder<>((x, v, z) -> bound.accept(x, y.apply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link BiConsumer} is invoked and the result is supplied as third
+   * argument to the bound {@link TriConsumer}.
+   */
+  public JavaBiConsumerBinder<X, Y>
+  linkThird(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaBiConsumerBinder<>((x, y) -> bound.accept(x, y, z.get()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link TriConsumer} is invoked and the result is supplied as third argument
+   * to the bound {@link TriConsumer}.
+   */
+  public <W> JavaTriConsumerBinder<X, Y, W>
+  linkThird(Function<? super W, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriConsumerBinder<>((x, y, w) -> bound.accept(x, y, z.apply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link TriConsumer}
+   */
+  public TriConsumer<X, Y, Z>
+  bound() { return bound; }
+
+  @Override
+  public JavaTriConsumerBinder<X, Y, Z>
+  andThen(TriConsumer<? super X, ? super Y, ? super Z> after) {
+    requireNonNull(after);
+    return new JavaTriConsumerBinder<>((x, y, z) -> {
+      bound.accept(x, y, z);
+      after.accept(x, y, z);
+    });
+  }
+
+  @Override
+  public void
+  accept(X x, Y y, Z z) { bound.accept(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaTriConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z> TriConsumer<X, Y, Z>
+  unwrap(TriConsumer<X, Y, Z> consumer) {
+    return consumer != null && consumer.getClass() == JavaTriConsumerBinder.class
+           ? ((JavaTriConsumerBinder<X, Y, Z>) consumer).bound
+           : consumer;
+  }
+}
@@ -0,0 +1,210 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link TriFunction}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaBiFunctionBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried function are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <Z> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ */
+public class JavaTriFunctionBinder<X, Y, Z, R>
+    implements TriFunction<X, Y, Z, R> {
+
+  protected final TriFunction<X, Y, Z, R> bound;
+
+  public JavaTriFunctionBinder(TriFunction<? super X, ? super Y, ? super Z, ? extends R> bound) {
+    requireNonNull(bound);
+    this.bound = TriFunction.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaTriFunctionBinder<Y, X, Z, R>
+  flipFirst() { return new JavaTriFunctionBinder<>((y, x, z) -> bound.apply(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public JavaTriFunctionBinder<X, Z, Y, R>
+  flipLast() { return new JavaTriFunctionBinder<>((x, z, y) -> bound.apply(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaTriFunctionBinder<Y, Z, X, R>
+  rotateLeft() { return new JavaTriFunctionBinder<>((y, z, x) -> bound.apply(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaTriFunctionBinder<Z, X, Y, R>
+  rotateRight() { return new JavaTriFunctionBinder<>((z, x, y) -> bound.apply(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaTriFunctionBinder<Z, Y, X, R>
+  reverse() { return new JavaTriFunctionBinder<>((z, y, x) -> bound.apply(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public Supplier<R>
+  bind(X x, Y y, Z z) { return () -> bound.apply(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaBiFunctionBinder<Y, Z, R>
+  bindFirst(X x) { return new JavaBiFunctionBinder<>((y, z) -> bound.apply(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaBiFunctionBinder<X, Z, R>
+  bindSecond(Y y) { return new JavaBiFunctionBinder<>((x, z) -> bound.apply(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaBiFunctionBinder<X, Y, R>
+  bindThird(Z z) { return new JavaBiFunctionBinder<>((x, y) -> bound.apply(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link Supplier} is invoked and the results are
+   * supplied as arguments to the bound {@link TriFunction}.
+   */
+  public Supplier<R>
+  link(Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.apply(x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link TriFunction} is invoked and the results are supplied as arguments to
+   * the bound {@link TriFunction}.
+   */
+  public <U, V, W> JavaTriFunctionBinder<U, V, W, R>
+  link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y, Function<? super W, ? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaTriFunctionBinder<>((u, v, w) -> bound.apply(x.apply(u), y.apply(v), z.apply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BiFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link TriFunction}.
+   */
+  public JavaBiFunctionBinder<Y, Z, R>
+  linkFirst(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaBiFunctionBinder<>((y, z) -> bound.apply(x.get(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link TriFunction} is invoked and the result is supplied as first argument
+   * to the bound {@link TriFunction}.
+   */
+  public <U> JavaTriFunctionBinder<U, Y, Z, R>
+  linkFirst(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriFunctionBinder<>((u, y, z) -> bound.apply(x.apply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link BiFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link TriFunction}.
+   */
+  public JavaBiFunctionBinder<X, Z, R>
+  linkSecond(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaBiFunctionBinder<>((x, z) -> bound.apply(x, y.get(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link TriFunction} is invoked and the result is supplied as second argument
+   * to the bound {@link TriFunction}.
+   */
+  public <V> JavaTriFunctionBinder<X, V, Z, R>
+  linkSecond(Function<? super V, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriFunctionBinder<>((x, v, z) -> bound.apply(x, y.apply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link BiFunction} is invoked and the result is supplied as third
+   * argument to the bound {@link TriFunction}.
+   */
+  public JavaBiFunctionBinder<X, Y, R>
+  linkThird(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaBiFunctionBinder<>((x, y) -> bound.apply(x, y, z.get()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link TriFunction} is invoked and the result is supplied as third argument
+   * to the bound {@link TriFunction}.
+   */
+  public <W> JavaTriFunctionBinder<X, Y, W, R>
+  linkThird(Function<? super W, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriFunctionBinder<>((x, y, w) -> bound.apply(x, y, z.apply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link TriFunction}
+   */
+  public TriFunction<X, Y, Z, R>
+  bound() { return bound; }
+
+  @Override
+  public <V> JavaTriFunctionBinder<X, Y, Z, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return new JavaTriFunctionBinder<>((x, y, z) -> after.apply(bound.apply(x, y, z)));
+  }
+
+  @Override
+  public R
+  apply(X x, Y y, Z z) { return bound.apply(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaTriFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, R> TriFunction<X, Y, Z, R>
+  unwrap(TriFunction<X, Y, Z, R> function) {
+    return function != null && function.getClass() == JavaTriFunctionBinder.class
+           ? ((JavaTriFunctionBinder<X, Y, Z, R>) function).bound
+           : function;
+  }
+}
@@ -0,0 +1,203 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link TriPredicate}.
+ * <p>
+ * Binding or linking a single argument returns a {@link JavaBiPredicateBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried predicate are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the predicate
+ * @param <Y> the type of the second argument to the predicate
+ * @param <Z> the type of the third argument to the predicate
+ */
+public class JavaTriPredicateBinder<X, Y, Z>
+    implements TriPredicate<X, Y, Z> {
+
+  protected final TriPredicate<X, Y, Z> bound;
+
+  public JavaTriPredicateBinder(TriPredicate<? super X, ? super Y, ? super Z> bound) {
+    requireNonNull(bound);
+    this.bound = TriPredicate.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public JavaTriPredicateBinder<Y, X, Z>
+  flipFirst() { return new JavaTriPredicateBinder<>((y, x, z) -> bound.test(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public JavaTriPredicateBinder<X, Z, Y>
+  flipLast() { return new JavaTriPredicateBinder<>((x, z, y) -> bound.test(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public JavaTriPredicateBinder<Y, Z, X>
+  rotateLeft() { return new JavaTriPredicateBinder<>((y, z, x) -> bound.test(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public JavaTriPredicateBinder<Z, X, Y>
+  rotateRight() { return new JavaTriPredicateBinder<>((z, x, y) -> bound.test(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public JavaTriPredicateBinder<Z, Y, X>
+  reverse() { return new JavaTriPredicateBinder<>((z, y, x) -> bound.test(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public BooleanSupplier
+  bind(X x, Y y, Z z) { return () -> bound.test(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public JavaBiPredicateBinder<Y, Z>
+  bindFirst(X x) { return new JavaBiPredicateBinder<>((y, z) -> bound.test(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public JavaBiPredicateBinder<X, Z>
+  bindSecond(Y y) { return new JavaBiPredicateBinder<>((x, z) -> bound.test(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public JavaBiPredicateBinder<X, Y>
+  bindThird(Z z) { return new JavaBiPredicateBinder<>((x, y) -> bound.test(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link BooleanSupplier} is invoked and the results are
+   * supplied as arguments to the bound {@link TriPredicate}.
+   */
+  public BooleanSupplier
+  link(Supplier<? extends X> x, Supplier<? extends Y> y, Supplier<? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.test(x.get(), y.get(), z.get());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link TriPredicate} is invoked and the results are supplied as arguments to
+   * the bound {@link TriPredicate}.
+   */
+  public <U, V, W> JavaTriPredicateBinder<U, V, W>
+  link(Function<? super U, ? extends X> x, Function<? super V, ? extends Y> y, Function<? super W, ? extends Z> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new JavaTriPredicateBinder<>((u, v, w) -> bound.test(x.apply(u), y.apply(v), z.apply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link BiPredicate} is invoked and the result is supplied as first
+   * argument to the bound {@link TriPredicate}.
+   */
+  public JavaBiPredicateBinder<Y, Z>
+  linkFirst(Supplier<? extends X> x) {
+    requireNonNull(x);
+    return new JavaBiPredicateBinder<>((y, z) -> bound.test(x.get(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link TriPredicate} is invoked and the result is supplied as first argument
+   * to the bound {@link TriPredicate}.
+   */
+  public <U> JavaTriPredicateBinder<U, Y, Z>
+  linkFirst(Function<? super U, ? extends X> x) {
+    requireNonNull(x);
+    return new JavaTriPredicateBinder<>((u, y, z) -> bound.test(x.apply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link BiPredicate} is invoked and the result is supplied as second
+   * argument to the bound {@link TriPredicate}.
+   */
+  public JavaBiPredicateBinder<X, Z>
+  linkSecond(Supplier<? extends Y> y) {
+    requireNonNull(y);
+    return new JavaBiPredicateBinder<>((x, z) -> bound.test(x, y.get(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link TriPredicate} is invoked and the result is supplied as second argument
+   * to the bound {@link TriPredicate}.
+   */
+  public <V> JavaTriPredicateBinder<X, V, Z>
+  linkSecond(Function<? super V, ? extends Y> y) {
+    requireNonNull(y);
+    return new JavaTriPredicateBinder<>((x, v, z) -> bound.test(x, y.apply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link BiPredicate} is invoked and the result is supplied as third
+   * argument to the bound {@link TriPredicate}.
+   */
+  public JavaBiPredicateBinder<X, Y>
+  linkThird(Supplier<? extends Z> z) {
+    requireNonNull(z);
+    return new JavaBiPredicateBinder<>((x, y) -> bound.test(x, y, z.get()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link TriPredicate} is invoked and the result is supplied as third argument
+   * to the bound {@link TriPredicate}.
+   */
+  public <W> JavaTriPredicateBinder<X, Y, W>
+  linkThird(Function<? super W, ? extends Z> z) {
+    requireNonNull(z);
+    return new JavaTriPredicateBinder<>((x, y, w) -> bound.test(x, y, z.apply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link TriPredicate}
+   */
+  public TriPredicate<X, Y, Z>
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  test(X x, Y y, Z z) { return bound.test(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link JavaTriPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z> TriPredicate<X, Y, Z>
+  unwrap(TriPredicate<X, Y, Z> predicate) {
+    return predicate != null && predicate.getClass() == JavaTriPredicateBinder.class
+           ? ((JavaTriPredicateBinder<X, Y, Z>) predicate).bound
+           : predicate;
+  }
+}
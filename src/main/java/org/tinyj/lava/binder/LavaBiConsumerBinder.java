@@ -1,6 +1,7 @@
 package org.tinyj.lava.binder;
 
 import org.tinyj.lava.*;
+import org.tinyj.lava.utils.LavaFun;
 
 import static java.util.Objects.requireNonNull;
 
@@ -22,14 +23,14 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
 
   public LavaBiConsumerBinder(LavaBiConsumer<? super X, ? super Y, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaBiConsumer.castDown(bound);
+    this.bound = LavaBiConsumer.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public LavaBiConsumerBinder<Y, X, E>
-  flip() { return new LavaBiConsumerBinder<>((y, x) -> bound.checkedAccept(x, y)); }
+  flip() { return new LavaBiConsumerBinder<>(LavaFun.flipArguments(bound)); }
 
   /**
    * Curries both arguments.
@@ -49,6 +50,22 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
   public LavaConsumerBinder<X, E>
   bindSecond(Y y) { return new LavaConsumerBinder<>(x -> bound.checkedAccept(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaConsumerSlot<X, Y, E>
+  slotFirst() { return new LavaConsumerSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaConsumerSlot<Y, X, E>
+  slotSecond() { return new LavaConsumerSlot<>(LavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link LavaRunnable} is invoked and the results are supplied as
@@ -70,7 +87,7 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
   link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new LavaBiConsumerBinder<>((u, v) -> bound.checkedAccept(x.checkedApply(u), y.checkedApply(v)));
+    return new LavaBiConsumerBinder<>(LavaLinkedBiConsumer.link(bound, x, y));
   }
 
   /**
@@ -92,7 +109,7 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
   public <U> LavaBiConsumerBinder<U, Y, ?>
   linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaBiConsumerBinder<>((u, y) -> bound.checkedAccept(x.checkedApply(u), y));
+    return new LavaBiConsumerBinder<>(LavaLinkedBiConsumer.link(bound, x, null));
   }
 
   /**
@@ -114,9 +131,18 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
   public <V> LavaBiConsumerBinder<X, V, ?>
   linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(y);
-    return new LavaBiConsumerBinder<>((x, v) -> bound.checkedAccept(x, y.checkedApply(v)));
+    return new LavaBiConsumerBinder<>(LavaLinkedBiConsumer.link(bound, null, y));
   }
 
+  /**
+   * Compile the bound {@link LavaBiConsumer} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaBiConsumer<X, Y, E>
+  compile() { return BinderCompiler.compile("CompiledLavaBiConsumer", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaBiConsumer}
    */
@@ -127,4 +153,16 @@ public class LavaBiConsumerBinder<X, Y, E extends Exception>
 
   @Override
   public void checkedAccept(X x, Y y) throws E { bound.checkedAccept(x, y); }
+
+  /**
+   * Unwrap a plain {@link LavaBiConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, E extends Exception> LavaBiConsumer<X, Y, E>
+  unwrap(LavaBiConsumer<X, Y, E> biConsumer) {
+    return biConsumer != null && biConsumer.getClass() == LavaBiConsumerBinder.class
+           ? ((LavaBiConsumerBinder<X, Y, E>) biConsumer).bound
+           : biConsumer;
+  }
 }
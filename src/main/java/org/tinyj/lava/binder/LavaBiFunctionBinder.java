@@ -3,6 +3,7 @@ package org.tinyj.lava.binder;
 import org.tinyj.lava.LavaBiFunction;
 import org.tinyj.lava.LavaFunction;
 import org.tinyj.lava.LavaSupplier;
+import org.tinyj.lava.utils.LavaFun;
 
 import static java.util.Objects.requireNonNull;
 
@@ -25,14 +26,14 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
 
   public LavaBiFunctionBinder(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaBiFunction.castDown(bound);
+    this.bound = LavaBiFunction.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public LavaBiFunction<Y, X, R, E>
-  flip() { return (y, x) -> bound.checkedApply(x, y); }
+  flip() { return LavaFun.flipArguments(bound); }
 
   /**
    * Curries both arguments.
@@ -52,6 +53,22 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
   public LavaFunctionBinder<X, R, E>
   bindSecond(Y y) { return new LavaFunctionBinder<>(x -> bound.checkedApply(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaFunctionSlot<X, Y, R, E>
+  slotFirst() { return new LavaFunctionSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaFunctionSlot<Y, X, R, E>
+  slotSecond() { return new LavaFunctionSlot<>(LavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link LavaSupplier} is invoked and the results are supplied as
@@ -73,7 +90,7 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
   link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new LavaBiFunctionBinder<>((u, v) -> bound.checkedApply(x.checkedApply(u), y.checkedApply(v)));
+    return new LavaBiFunctionBinder<>(LavaLinkedBiFunction.link(bound, x, y, null));
   }
 
   /**
@@ -95,7 +112,7 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
   public <U> LavaBiFunctionBinder<U, Y, R, ?>
   linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaBiFunctionBinder<>((u, y) -> bound.checkedApply(x.checkedApply(u), y));
+    return new LavaBiFunctionBinder<>(LavaLinkedBiFunction.link(bound, x, null, null));
   }
 
   /**
@@ -117,9 +134,18 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
   public <V> LavaBiFunctionBinder<X, V, R, ?>
   linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(y);
-    return new LavaBiFunctionBinder<>((x, v) -> bound.checkedApply(x, y.checkedApply(v)));
+    return new LavaBiFunctionBinder<>(LavaLinkedBiFunction.link(bound, null, y, null));
   }
 
+  /**
+   * Compile the bound {@link LavaBiFunction} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaBiFunction<X, Y, R, E>
+  compile() { return BinderCompiler.compile("CompiledLavaBiFunction", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaBiFunction}
    */
@@ -129,4 +155,16 @@ public class LavaBiFunctionBinder<X, Y, R, E extends Exception>
   @Override
   public R
   checkedApply(X x, Y y) throws E { return bound.checkedApply(x, y); }
+
+  /**
+   * Unwrap a plain {@link LavaBiFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  unwrap(LavaBiFunction<X, Y, R, E> biFunction) {
+    return biFunction != null && biFunction.getClass() == LavaBiFunctionBinder.class
+           ? ((LavaBiFunctionBinder<X, Y, R, E>) biFunction).bound
+           : biFunction;
+  }
 }
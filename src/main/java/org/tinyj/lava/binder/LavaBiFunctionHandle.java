@@ -0,0 +1,172 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaSupplier;
+
+import java.lang.invoke.MethodHandle;
+
+import static java.lang.invoke.MethodHandles.*;
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.util.Objects.requireNonNull;
+import static org.tinyj.lava.binder.Handles.*;
+import static org.tinyj.lava.binder.LavaFunctionHandle.supplier;
+
+/**
+ * Enable various forms of currying on {@link LavaBiFunction}, backed by a
+ * {@link MethodHandle} tree instead of nested lambdas. Use
+ * {@link #compile()} to get a {@link LavaBiFunction} holding the tree as
+ * constant, see {@link JavaBiFunctionHandle}.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ * @param <E> upper limit of the exceptions thrown by the function
+ */
+public final class LavaBiFunctionHandle<X, Y, R, E extends Exception>
+    implements LavaBiFunction<X, Y, R, E> {
+
+  private final MethodHandle handle;
+
+  public LavaBiFunctionHandle(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) {
+    this(handleOf(requireNonNull(biFunction)));
+  }
+
+  LavaBiFunctionHandle(MethodHandle handle) { this.handle = handle; }
+
+  /**
+   * Flip the arguments.
+   */
+  public LavaBiFunctionHandle<Y, X, R, E>
+  flip() { return new LavaBiFunctionHandle<>(permuteArguments(handle, genericMethodType(2), 1, 0)); }
+
+  /**
+   * Curries both arguments.
+   */
+  public LavaSupplier<R, E>
+  bind(X x, Y y) { return supplier(insertArguments(handle, 0, x, y)); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaFunctionHandle<Y, R, E>
+  bindFirst(X x) { return new LavaFunctionHandle<>(insertArguments(handle, 0, x)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaFunctionHandle<X, R, E>
+  bindSecond(Y y) { return new LavaFunctionHandle<>(insertArguments(handle, 1, y)); }
+
+  /**
+   * Link both arguments to supplied values. {@code x} and {@code y} are
+   * invoked each time the resulting {@link LavaSupplier} is invoked and the
+   * results are supplied as arguments to the bound {@link LavaBiFunction}.
+   */
+  public LavaSupplier<R, E>
+  link(LavaSupplier<? extends X, ? extends E> x, LavaSupplier<? extends Y, ? extends E> y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return supplier(collectArguments(collectArguments(handle, 1, CHECKED_GET.bindTo(y)), 0, CHECKED_GET.bindTo(x)));
+  }
+
+  /**
+   * Map both arguments. {@code x} and {@code y} are invoked each time the
+   * resulting {@link LavaBiFunction} is invoked and the results are supplied
+   * as arguments to the bound {@link LavaBiFunction}.
+   */
+  public <U, V> LavaBiFunctionHandle<U, V, R, E>
+  link(LavaFunction<? super U, ? extends X, ? extends E> x, LavaFunction<? super V, ? extends Y, ? extends E> y) {
+    requireNonNull(x);
+    requireNonNull(y);
+    return new LavaBiFunctionHandle<>(filterArguments(handle, 0, LavaFunctionHandle.handleOf(x),
+                                                      LavaFunctionHandle.handleOf(y)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time
+   * the resulting {@link LavaFunction} is invoked and the results is supplied
+   * as first argument to the bound {@link LavaBiFunction}.
+   */
+  public LavaFunctionHandle<Y, R, E>
+  linkFirst(LavaSupplier<? extends X, ? extends E> x) {
+    requireNonNull(x);
+    return new LavaFunctionHandle<>(collectArguments(handle, 0, CHECKED_GET.bindTo(x)));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link LavaBiFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaBiFunction}.
+   */
+  public <U> LavaBiFunctionHandle<U, Y, R, E>
+  linkFirst(LavaFunction<? super U, ? extends X, ? extends E> x) {
+    requireNonNull(x);
+    return new LavaBiFunctionHandle<>(filterArguments(handle, 0, LavaFunctionHandle.handleOf(x)));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each
+   * time the resulting {@link LavaFunction} is invoked and the results is
+   * supplied as second argument to the bound {@link LavaBiFunction}.
+   */
+  public LavaFunctionHandle<X, R, E>
+  linkSecond(LavaSupplier<? extends Y, ? extends E> y) {
+    requireNonNull(y);
+    return new LavaFunctionHandle<>(collectArguments(handle, 1, CHECKED_GET.bindTo(y)));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link LavaBiFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaBiFunction}.
+   */
+  public <V> LavaBiFunctionHandle<X, V, R, E>
+  linkSecond(LavaFunction<? super V, ? extends Y, ? extends E> y) {
+    requireNonNull(y);
+    return new LavaBiFunctionHandle<>(filterArguments(handle, 1, LavaFunctionHandle.handleOf(y)));
+  }
+
+  /**
+   * Map the result. {@code after} is invoked each time the resulting
+   * {@link LavaBiFunction} is invoked and is supplied the result of the bound
+   * {@link LavaBiFunction}.
+   */
+  public <S> LavaBiFunctionHandle<X, Y, S, E>
+  andThen(LavaFunction<? super R, ? extends S, ? extends E> after) {
+    requireNonNull(after);
+    return new LavaBiFunctionHandle<>(filterReturnValue(handle, LavaFunctionHandle.handleOf(after)));
+  }
+
+  /**
+   * Compile into a {@link LavaBiFunction} holding the method handle tree as
+   * constant. Requires Java 15 or later, on earlier versions the result
+   * invokes the tree like this {@code LavaBiFunctionHandle} does.
+   */
+  public LavaBiFunction<X, Y, R, E>
+  compile() { return BinderCompiler.compile("CompiledLavaBiFunctionHandle", this, handle); }
+
+  /**
+   * @return the wrapped {@link MethodHandle}, of type {@code (Object,Object)Object}
+   */
+  public MethodHandle
+  handle() { return handle; }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R
+  checkedApply(X x, Y y) throws E {
+    try {
+      return (R) (Object) handle.invokeExact((Object) x, (Object) y);
+    } catch (Throwable t) {
+      throw Handles.<E>rethrow(t);
+    }
+  }
+
+  static MethodHandle
+  handleOf(LavaBiFunction<?, ?, ?, ?> biFunction) {
+    return biFunction instanceof LavaBiFunctionHandle
+           ? ((LavaBiFunctionHandle) biFunction).handle
+           : CHECKED_BI_APPLY.bindTo(biFunction);
+  }
+}
@@ -1,6 +1,7 @@
 package org.tinyj.lava.binder;
 
 import org.tinyj.lava.*;
+import org.tinyj.lava.utils.LavaFun;
 
 import static java.util.Objects.requireNonNull;
 
@@ -22,14 +23,14 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
 
   public LavaBiPredicateBinder(LavaBiPredicate<? super X, ? super Y, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaBiPredicate.castDown(bound);
+    this.bound = LavaBiPredicate.castDown(unwrap(bound));
   }
 
   /**
    * Flip the arguments.
    */
   public LavaBiPredicate<Y, X, E>
-  flip() { return (y, x) -> bound.checkedTest(x, y); }
+  flip() { return LavaFun.flipArguments(bound); }
 
   /**
    * Curries both arguments.
@@ -49,6 +50,22 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
   public LavaPredicateBinder<X, E>
   bindSecond(Y y) { return new LavaPredicateBinder<>(x -> bound.checkedTest(x, y)); }
 
+  /**
+   * Curry the first argument through a {@link Slot}, rebinding it by
+   * {@code set(x)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaPredicateSlot<X, Y, E>
+  slotFirst() { return new LavaPredicateSlot<>(bound); }
+
+  /**
+   * Curry the second argument through a {@link Slot}, rebinding it by
+   * {@code set(y)} does not allocate. The result is confined to the calling
+   * thread.
+   */
+  public LavaPredicateSlot<Y, X, E>
+  slotSecond() { return new LavaPredicateSlot<>(LavaFun.flipArguments(bound)); }
+
   /**
    * Link both arguments to supplied values. {@code x} and {@code y} are invoked each
    * time the resulting {@link LavaCondition} is invoked and the results are
@@ -70,7 +87,7 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
   link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(x);
     requireNonNull(y);
-    return new LavaBiPredicateBinder<>((u, v) -> bound.checkedTest(x.checkedApply(u), y.checkedApply(v)));
+    return new LavaBiPredicateBinder<>(LavaLinkedBiPredicate.link(bound, x, y));
   }
 
   /**
@@ -92,7 +109,7 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
   public <U> LavaBiPredicateBinder<U, Y, ?>
   linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaBiPredicateBinder<>((u, y) -> bound.checkedTest(x.checkedApply(u), y));
+    return new LavaBiPredicateBinder<>(LavaLinkedBiPredicate.link(bound, x, null));
   }
 
   /**
@@ -114,9 +131,18 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
   public <V> LavaBiPredicateBinder<X, V, ?>
   linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
     requireNonNull(y);
-    return new LavaBiPredicateBinder<>((x, v) -> bound.checkedTest(x, y.checkedApply(v)));
+    return new LavaBiPredicateBinder<>(LavaLinkedBiPredicate.link(bound, null, y));
   }
 
+  /**
+   * Compile the bound {@link LavaBiPredicate} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaBiPredicate<X, Y, E>
+  compile() { return BinderCompiler.compile("CompiledLavaBiPredicate", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaBiPredicate}
    */
@@ -126,4 +152,16 @@ public class LavaBiPredicateBinder<X, Y, E extends Exception>
   @Override
   public boolean
   checkedTest(X x, Y y) throws E { return bound.checkedTest(x, y); }
+
+  /**
+   * Unwrap a plain {@link LavaBiPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  unwrap(LavaBiPredicate<X, Y, E> biPredicate) {
+    return biPredicate != null && biPredicate.getClass() == LavaBiPredicateBinder.class
+           ? ((LavaBiPredicateBinder<X, Y, E>) biPredicate).bound
+           : biPredicate;
+  }
 }
@@ -0,0 +1,41 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaCondition;
+import org.tinyj.lava.LavaPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaCondition} invoking a bound {@link LavaPredicate} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ */
+public final class LavaConditionSlot<S, E extends Exception>
+    extends Slot<S>
+    implements LavaCondition<E> {
+
+  private final LavaPredicate<? super S, ? extends E> bound;
+
+  LavaConditionSlot(LavaPredicate<? super S, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaConditionSlot<S, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean
+  checkedTest() throws E {
+    assert confined();
+    return bound.checkedTest(value);
+  }
+}
@@ -21,7 +21,7 @@ public class LavaConsumerBinder<X, E extends Exception>
 
   public LavaConsumerBinder(LavaConsumer<? super X, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaConsumer.castDown(bound);
+    this.bound = LavaConsumer.castDown(unwrap(bound));
   }
 
   /**
@@ -30,6 +30,13 @@ public class LavaConsumerBinder<X, E extends Exception>
   public LavaRunnable<E>
   bind(X x) { return () -> bound.checkedAccept(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public LavaRunnableSlot<X, E>
+  slot() { return new LavaRunnableSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link LavaRunnable} is invoked and the results is supplied as argument
@@ -48,7 +55,7 @@ public class LavaConsumerBinder<X, E extends Exception>
   public <U> LavaConsumerBinder<U, ?>
   linkTo(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaConsumerBinder<>(u -> bound.checkedAccept(x.checkedApply(u)));
+    return new LavaConsumerBinder<>(LavaLinkedConsumer.link(bound, x));
   }
 
   /**
@@ -61,6 +68,15 @@ public class LavaConsumerBinder<X, E extends Exception>
     return new LavaBiConsumerBinder<>((u, v) -> bound.checkedAccept(x.checkedApply(u, v)));
   }
 
+  /**
+   * Compile the bound {@link LavaConsumer} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaConsumer<X, E>
+  compile() { return BinderCompiler.compile("CompiledLavaConsumer", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaConsumer}
    */
@@ -75,4 +91,16 @@ public class LavaConsumerBinder<X, E extends Exception>
 
   @Override
   public void checkedAccept(X x) throws E { bound.checkedAccept(x); }
+
+  /**
+   * Unwrap a plain {@link LavaConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, E extends Exception> LavaConsumer<X, E>
+  unwrap(LavaConsumer<X, E> consumer) {
+    return consumer != null && consumer.getClass() == LavaConsumerBinder.class
+           ? ((LavaConsumerBinder<X, E>) consumer).bound
+           : consumer;
+  }
 }
@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiConsumer;
+import org.tinyj.lava.LavaConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaConsumer} on the second argument of a bound {@link LavaBiConsumer},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ */
+public final class LavaConsumerSlot<S, X, E extends Exception>
+    extends Slot<S>
+    implements LavaConsumer<X, E> {
+
+  private final LavaBiConsumer<? super S, ? super X, ? extends E> bound;
+
+  LavaConsumerSlot(LavaBiConsumer<? super S, ? super X, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaConsumerSlot<S, X, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public void
+  checkedAccept(X x) throws E {
+    assert confined();
+    bound.checkedAccept(value, x);
+  }
+}
@@ -24,7 +24,7 @@ public class LavaFunctionBinder<X, R, E extends Exception>
 
   public LavaFunctionBinder(LavaFunction<? super X, ? extends R, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaFunction.castDown(bound);
+    this.bound = LavaFunction.castDown(unwrap(bound));
   }
 
   /**
@@ -33,6 +33,13 @@ public class LavaFunctionBinder<X, R, E extends Exception>
   public LavaSupplier<R, E>
   bind(X x) { return () -> bound.checkedApply(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public LavaSupplierSlot<X, R, E>
+  slot() { return new LavaSupplierSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link LavaSupplier} is invoked and the results is supplied as argument
@@ -51,7 +58,7 @@ public class LavaFunctionBinder<X, R, E extends Exception>
   public <U> LavaFunctionBinder<U, R, ?>
   linkTo(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaFunctionBinder<>(u -> bound.checkedApply(x.checkedApply(u)));
+    return new LavaFunctionBinder<>(LavaFunctionChain.chain(x, bound));
   }
 
   /**
@@ -61,9 +68,18 @@ public class LavaFunctionBinder<X, R, E extends Exception>
   public <U, V> LavaBiFunctionBinder<U, V, R, ?>
   linkTo(LavaBiFunction<? super U, ? super V, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaBiFunctionBinder<>((u, v) -> bound.checkedApply(x.checkedApply(u, v)));
+    return new LavaBiFunctionBinder<>(LavaLinkedBiFunction.link(x, null, null, bound));
   }
 
+  /**
+   * Compile the bound {@link LavaFunction} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaFunction<X, R, E>
+  compile() { return BinderCompiler.compile("CompiledLavaFunction", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaFunction}
    */
@@ -79,4 +95,16 @@ public class LavaFunctionBinder<X, R, E extends Exception>
   @Override
   public R
   checkedApply(X x) throws E { return bound.checkedApply(x); }
+
+  /**
+   * Unwrap a plain {@link LavaFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, R, E extends Exception> LavaFunction<X, R, E>
+  unwrap(LavaFunction<X, R, E> function) {
+    return function != null && function.getClass() == LavaFunctionBinder.class
+           ? ((LavaFunctionBinder<X, R, E>) function).bound
+           : function;
+  }
 }
@@ -0,0 +1,80 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.utils.LavaFun;
+
+/**
+ * A flat chain of {@link LavaFunction}s, each stage is applied to the result
+ * of the previous one. Chaining a chain (or a plain binder wrapping one)
+ * splices its stages instead of nesting it. Invoking a chain thus costs a
+ * single virtual call plus a loop over the stages, independent of how it was
+ * composed.
+ * <p>
+ * Identity stages are dropped while the chain is built.
+ */
+final class LavaFunctionChain<X, R, E extends Exception>
+    implements LavaFunction<X, R, E> {
+
+  private final LavaFunction<Object, Object, E>[] stages;
+
+  private LavaFunctionChain(LavaFunction<Object, Object, E>[] stages) { this.stages = stages; }
+
+  /**
+   * Chain {@code first} and {@code then}. {@code null} stands for the
+   * identity, identities are skipped.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, R, E extends Exception> LavaFunction<X, R, E>
+  chain(LavaFunction<? super X, ? extends Y, ? extends E> first,
+        LavaFunction<? super Y, ? extends R, ? extends E> then) {
+    if (isIdentity(first)) return (LavaFunction<X, R, E>) then;
+    if (isIdentity(then)) return (LavaFunction<X, R, E>) first;
+    final LavaFunction<Object, Object, E>[] head = stagesOf(first);
+    final LavaFunction<Object, Object, E>[] tail = stagesOf(then);
+    final LavaFunction<Object, Object, E>[] stages = (LavaFunction<Object, Object, E>[]) new LavaFunction<?, ?, ?>[head.length + tail.length];
+    System.arraycopy(head, 0, stages, 0, head.length);
+    System.arraycopy(tail, 0, stages, head.length, tail.length);
+    return new LavaFunctionChain<>(stages);
+  }
+
+  /**
+   * @return {@code true} if {@code function} is {@code null} or
+   * {@link LavaFun#IDENTITY}, possibly wrapped in a plain binder
+   */
+  static boolean
+  isIdentity(LavaFunction<?, ?, ?> function) {
+    return function == null || LavaFunctionBinder.unwrap(function) == LavaFun.IDENTITY;
+  }
+
+  /**
+   * @return {@code null} if {@code function} is an identity, {@code function} otherwise
+   */
+  @SuppressWarnings("unchecked")
+  static <E extends Exception> LavaFunction<Object, Object, E>
+  orNull(LavaFunction<?, ?, ?> function) {
+    return isIdentity(function) ? null : (LavaFunction<Object, Object, E>) function;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Exception> LavaFunction<Object, Object, E>[] stagesOf(LavaFunction<?, ?, ?> function) {
+    function = LavaFunctionBinder.unwrap(function);
+    return function instanceof LavaFunctionChain
+           ? ((LavaFunctionChain) function).stages
+           : (LavaFunction<Object, Object, E>[]) new LavaFunction<?, ?, ?>[]{function};
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x) throws E {
+    Object value = x;
+    for (LavaFunction<Object, Object, E> stage : stages) {
+      value = stage.checkedApply(value);
+    }
+    return (R) value;
+  }
+
+  /**
+   * @return the number of stages
+   */
+  int size() { return stages.length; }
+}
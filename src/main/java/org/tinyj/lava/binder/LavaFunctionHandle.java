@@ -0,0 +1,127 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaSupplier;
+
+import java.lang.invoke.MethodHandle;
+
+import static java.lang.invoke.MethodHandles.*;
+import static java.util.Objects.requireNonNull;
+import static org.tinyj.lava.binder.Handles.*;
+
+/**
+ * Enable various forms of currying on {@link LavaFunction}, backed by a
+ * {@link MethodHandle} tree instead of nested lambdas. Use
+ * {@link #compile()} to get a {@link LavaFunction} holding the tree as
+ * constant, see {@link JavaFunctionHandle}.
+ *
+ * @param <X> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @param <E> upper limit of the exceptions thrown by the function
+ */
+public final class LavaFunctionHandle<X, R, E extends Exception>
+    implements LavaFunction<X, R, E> {
+
+  private final MethodHandle handle;
+
+  public LavaFunctionHandle(LavaFunction<? super X, ? extends R, ? extends E> function) {
+    this(handleOf(requireNonNull(function)));
+  }
+
+  LavaFunctionHandle(MethodHandle handle) { this.handle = handle; }
+
+  /**
+   * Curry argument with {@code x}.
+   */
+  public LavaSupplier<R, E>
+  bind(X x) { return supplier(insertArguments(handle, 0, x)); }
+
+  /**
+   * Link the argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaSupplier} is invoked and the results is supplied as
+   * argument to the curried {@link LavaFunction}.
+   */
+  public LavaSupplier<R, E>
+  linkTo(LavaSupplier<? extends X, ? extends E> x) {
+    requireNonNull(x);
+    return supplier(collectArguments(handle, 0, CHECKED_GET.bindTo(x)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting
+   * {@link LavaFunction} is invoked and the result is supplied as argument to
+   * the curried {@link LavaFunction}.
+   */
+  public <U> LavaFunctionHandle<U, R, E>
+  linkTo(LavaFunction<? super U, ? extends X, ? extends E> x) {
+    requireNonNull(x);
+    return new LavaFunctionHandle<>(filterArguments(handle, 0, handleOf(x)));
+  }
+
+  /**
+   * Map the argument. {@code x} is invoked each time the resulting
+   * {@link LavaBiFunction} is invoked and the result is supplied as argument
+   * to the curried {@link LavaFunction}.
+   */
+  public <U, V> LavaBiFunctionHandle<U, V, R, E>
+  linkTo(LavaBiFunction<? super U, ? super V, ? extends X, ? extends E> x) {
+    requireNonNull(x);
+    return new LavaBiFunctionHandle<>(collectArguments(handle, 0, LavaBiFunctionHandle.handleOf(x)));
+  }
+
+  /**
+   * Map the result. {@code after} is invoked each time the resulting
+   * {@link LavaFunction} is invoked and is supplied the result of the curried
+   * {@link LavaFunction}.
+   */
+  public <S> LavaFunctionHandle<X, S, E>
+  andThen(LavaFunction<? super R, ? extends S, ? extends E> after) {
+    requireNonNull(after);
+    return new LavaFunctionHandle<>(filterReturnValue(handle, handleOf(after)));
+  }
+
+  /**
+   * Compile into a {@link LavaFunction} holding the method handle tree as
+   * constant. Requires Java 15 or later, on earlier versions the result
+   * invokes the tree like this {@code LavaFunctionHandle} does.
+   */
+  public LavaFunction<X, R, E>
+  compile() { return BinderCompiler.compile("CompiledLavaFunctionHandle", this, handle); }
+
+  /**
+   * @return the wrapped {@link MethodHandle}, of type {@code (Object)Object}
+   */
+  public MethodHandle
+  handle() { return handle; }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R
+  checkedApply(X x) throws E {
+    try {
+      return (R) (Object) handle.invokeExact((Object) x);
+    } catch (Throwable t) {
+      throw Handles.<E>rethrow(t);
+    }
+  }
+
+  static MethodHandle
+  handleOf(LavaFunction<?, ?, ?> function) {
+    return function instanceof LavaFunctionHandle
+           ? ((LavaFunctionHandle) function).handle
+           : CHECKED_APPLY.bindTo(function);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <R, E extends Exception> LavaSupplier<R, E>
+  supplier(MethodHandle handle) {
+    return () -> {
+      try {
+        return (R) (Object) handle.invokeExact();
+      } catch (Throwable t) {
+        throw Handles.<E>rethrow(t);
+      }
+    };
+  }
+}
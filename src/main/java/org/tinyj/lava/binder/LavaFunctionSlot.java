@@ -0,0 +1,43 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaFunction} on the second argument of a bound {@link LavaBiFunction},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ * @param <R> the type of the result of the function
+ */
+public final class LavaFunctionSlot<S, X, R, E extends Exception>
+    extends Slot<S>
+    implements LavaFunction<X, R, E> {
+
+  private final LavaBiFunction<? super S, ? super X, ? extends R, ? extends E> bound;
+
+  LavaFunctionSlot(LavaBiFunction<? super S, ? super X, ? extends R, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaFunctionSlot<S, X, R, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public R
+  checkedApply(X x) throws E {
+    assert confined();
+    return bound.checkedApply(value, x);
+  }
+}
@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiConsumer;
+import org.tinyj.lava.LavaFunction;
+
+import static org.tinyj.lava.binder.LavaFunctionChain.chain;
+import static org.tinyj.lava.binder.LavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.LavaFunctionChain.orNull;
+
+/**
+ * A {@link LavaBiConsumer} with its arguments mapped by flat
+ * {@link LavaFunctionChain}s. Linking a linked bi-consumer merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} steps.
+ */
+final class LavaLinkedBiConsumer<X, Y, E extends Exception>
+    implements LavaBiConsumer<X, Y, E> {
+
+  private final LavaBiConsumer<Object, Object, E> head;
+  private final LavaFunction<Object, Object, E> first;
+  private final LavaFunction<Object, Object, E> second;
+
+  private LavaLinkedBiConsumer(LavaBiConsumer<Object, Object, E> head,
+                               LavaFunction<Object, Object, E> first,
+                               LavaFunction<Object, Object, E> second) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second}.
+   * {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y, E extends Exception> LavaBiConsumer<U, V, E>
+  link(LavaBiConsumer<? super X, ? super Y, ? extends E> bound,
+       LavaFunction<? super U, ? extends X, ? extends E> first,
+       LavaFunction<? super V, ? extends Y, ? extends E> second) {
+    bound = LavaBiConsumerBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second)) {
+      return (LavaBiConsumer) bound;
+    }
+    if (bound instanceof LavaLinkedBiConsumer) {
+      final LavaLinkedBiConsumer<X, Y, E> linked = (LavaLinkedBiConsumer<X, Y, E>) bound;
+      return new LavaLinkedBiConsumer<>(linked.head,
+                                        orNull(chain((LavaFunction) first, linked.first)),
+                                        orNull(chain((LavaFunction) second, linked.second)));
+    }
+    return new LavaLinkedBiConsumer<>((LavaBiConsumer) bound, orNull(first), orNull(second));
+  }
+
+  @Override
+  public void checkedAccept(X x, Y y) throws E {
+    head.checkedAccept(first == null ? x : first.checkedApply(x),
+                       second == null ? y : second.checkedApply(y));
+  }
+}
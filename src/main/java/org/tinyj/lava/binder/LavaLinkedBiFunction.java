@@ -0,0 +1,66 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+
+import static org.tinyj.lava.binder.LavaFunctionChain.chain;
+import static org.tinyj.lava.binder.LavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.LavaFunctionChain.orNull;
+
+/**
+ * A {@link LavaBiFunction} with its arguments and its result mapped by flat
+ * {@link LavaFunctionChain}s. Linking a linked bi-function merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} steps.
+ */
+final class LavaLinkedBiFunction<X, Y, R, E extends Exception>
+    implements LavaBiFunction<X, Y, R, E> {
+
+  private final LavaBiFunction<Object, Object, Object, E> head;
+  private final LavaFunction<Object, Object, E> first;
+  private final LavaFunction<Object, Object, E> second;
+  private final LavaFunction<Object, Object, E> after;
+
+  private LavaLinkedBiFunction(LavaBiFunction<Object, Object, Object, E> head,
+                               LavaFunction<Object, Object, E> first,
+                               LavaFunction<Object, Object, E> second,
+                               LavaFunction<Object, Object, E> after) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+    this.after = after;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second} and
+   * its result to {@code after}. {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y, R, S, E extends Exception> LavaBiFunction<U, V, S, E>
+  link(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> bound,
+       LavaFunction<? super U, ? extends X, ? extends E> first,
+       LavaFunction<? super V, ? extends Y, ? extends E> second,
+       LavaFunction<? super R, ? extends S, ? extends E> after) {
+    bound = LavaBiFunctionBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second) && isIdentity(after)) {
+      return (LavaBiFunction) bound;
+    }
+    if (bound instanceof LavaLinkedBiFunction) {
+      final LavaLinkedBiFunction<X, Y, R, E> linked = (LavaLinkedBiFunction<X, Y, R, E>) bound;
+      return new LavaLinkedBiFunction<>(linked.head,
+                                        orNull(chain((LavaFunction) first, linked.first)),
+                                        orNull(chain((LavaFunction) second, linked.second)),
+                                        orNull(chain(linked.after, (LavaFunction) after)));
+    }
+    return new LavaLinkedBiFunction<>((LavaBiFunction) bound,
+                                      orNull(first), orNull(second), orNull(after));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x, Y y) throws E {
+    final Object result = head.checkedApply(first == null ? x : first.checkedApply(x),
+                                            second == null ? y : second.checkedApply(y));
+    return (R) (after == null ? result : after.checkedApply(result));
+  }
+}
@@ -0,0 +1,58 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiPredicate;
+import org.tinyj.lava.LavaFunction;
+
+import static org.tinyj.lava.binder.LavaFunctionChain.chain;
+import static org.tinyj.lava.binder.LavaFunctionChain.isIdentity;
+import static org.tinyj.lava.binder.LavaFunctionChain.orNull;
+
+/**
+ * A {@link LavaBiPredicate} with its arguments mapped by flat
+ * {@link LavaFunctionChain}s. Linking a linked bi-predicate merges the
+ * mappers instead of nesting it, so the call depth does not grow with the
+ * number of {@code link*} steps.
+ */
+final class LavaLinkedBiPredicate<X, Y, E extends Exception>
+    implements LavaBiPredicate<X, Y, E> {
+
+  private final LavaBiPredicate<Object, Object, E> head;
+  private final LavaFunction<Object, Object, E> first;
+  private final LavaFunction<Object, Object, E> second;
+
+  private LavaLinkedBiPredicate(LavaBiPredicate<Object, Object, E> head,
+                                LavaFunction<Object, Object, E> first,
+                                LavaFunction<Object, Object, E> second) {
+    this.head = head;
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Link {@code bound}'s arguments to {@code first} and {@code second}.
+   * {@code null} mappers stand for the identity.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, V, X, Y, E extends Exception> LavaBiPredicate<U, V, E>
+  link(LavaBiPredicate<? super X, ? super Y, ? extends E> bound,
+       LavaFunction<? super U, ? extends X, ? extends E> first,
+       LavaFunction<? super V, ? extends Y, ? extends E> second) {
+    bound = LavaBiPredicateBinder.unwrap(bound);
+    if (isIdentity(first) && isIdentity(second)) {
+      return (LavaBiPredicate) bound;
+    }
+    if (bound instanceof LavaLinkedBiPredicate) {
+      final LavaLinkedBiPredicate<X, Y, E> linked = (LavaLinkedBiPredicate<X, Y, E>) bound;
+      return new LavaLinkedBiPredicate<>(linked.head,
+                                         orNull(chain((LavaFunction) first, linked.first)),
+                                         orNull(chain((LavaFunction) second, linked.second)));
+    }
+    return new LavaLinkedBiPredicate<>((LavaBiPredicate) bound, orNull(first), orNull(second));
+  }
+
+  @Override
+  public boolean checkedTest(X x, Y y) throws E {
+    return head.checkedTest(first == null ? x : first.checkedApply(x),
+                            second == null ? y : second.checkedApply(y));
+  }
+}
@@ -0,0 +1,45 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaConsumer;
+import org.tinyj.lava.LavaFunction;
+
+import static org.tinyj.lava.binder.LavaFunctionChain.chain;
+import static org.tinyj.lava.binder.LavaFunctionChain.isIdentity;
+
+/**
+ * A {@link LavaConsumer} with its argument mapped by a flat
+ * {@link LavaFunctionChain}. Linking a linked consumer merges the mappers
+ * instead of nesting it, so the call depth does not grow with the number of
+ * {@code linkTo} steps.
+ */
+final class LavaLinkedConsumer<X, E extends Exception>
+    implements LavaConsumer<X, E> {
+
+  private final LavaConsumer<Object, E> head;
+  private final LavaFunction<Object, Object, E> mapper;
+
+  private LavaLinkedConsumer(LavaConsumer<Object, E> head, LavaFunction<Object, Object, E> mapper) {
+    this.head = head;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Link {@code bound}'s argument to {@code mapper}.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, X, E extends Exception> LavaConsumer<U, E>
+  link(LavaConsumer<? super X, ? extends E> bound, LavaFunction<? super U, ? extends X, ? extends E> mapper) {
+    bound = LavaConsumerBinder.unwrap(bound);
+    if (isIdentity(mapper)) {
+      return (LavaConsumer) bound;
+    }
+    if (bound instanceof LavaLinkedConsumer) {
+      final LavaLinkedConsumer<X, E> linked = (LavaLinkedConsumer<X, E>) bound;
+      return new LavaLinkedConsumer<>(linked.head, chain((LavaFunction) mapper, linked.mapper));
+    }
+    return new LavaLinkedConsumer<>((LavaConsumer) bound, (LavaFunction) mapper);
+  }
+
+  @Override
+  public void checkedAccept(X x) throws E { head.checkedAccept(mapper.checkedApply(x)); }
+}
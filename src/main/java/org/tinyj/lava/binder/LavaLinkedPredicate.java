@@ -0,0 +1,45 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaPredicate;
+
+import static org.tinyj.lava.binder.LavaFunctionChain.chain;
+import static org.tinyj.lava.binder.LavaFunctionChain.isIdentity;
+
+/**
+ * A {@link LavaPredicate} with its argument mapped by a flat
+ * {@link LavaFunctionChain}. Linking a linked predicate merges the mappers
+ * instead of nesting it, so the call depth does not grow with the number of
+ * {@code linkTo} steps.
+ */
+final class LavaLinkedPredicate<X, E extends Exception>
+    implements LavaPredicate<X, E> {
+
+  private final LavaPredicate<Object, E> head;
+  private final LavaFunction<Object, Object, E> mapper;
+
+  private LavaLinkedPredicate(LavaPredicate<Object, E> head, LavaFunction<Object, Object, E> mapper) {
+    this.head = head;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Link {@code bound}'s argument to {@code mapper}.
+   */
+  @SuppressWarnings("unchecked")
+  static <U, X, E extends Exception> LavaPredicate<U, E>
+  link(LavaPredicate<? super X, ? extends E> bound, LavaFunction<? super U, ? extends X, ? extends E> mapper) {
+    bound = LavaPredicateBinder.unwrap(bound);
+    if (isIdentity(mapper)) {
+      return (LavaPredicate) bound;
+    }
+    if (bound instanceof LavaLinkedPredicate) {
+      final LavaLinkedPredicate<X, E> linked = (LavaLinkedPredicate<X, E>) bound;
+      return new LavaLinkedPredicate<>(linked.head, chain((LavaFunction) mapper, linked.mapper));
+    }
+    return new LavaLinkedPredicate<>((LavaPredicate) bound, (LavaFunction) mapper);
+  }
+
+  @Override
+  public boolean checkedTest(X x) throws E { return head.checkedTest(mapper.checkedApply(x)); }
+}
@@ -23,7 +23,7 @@ public class LavaPredicateBinder<X, E extends Exception>
 
   public LavaPredicateBinder(LavaPredicate<? super X, ? extends E> bound) {
     requireNonNull(bound);
-    this.bound = LavaPredicate.castDown(bound);
+    this.bound = LavaPredicate.castDown(unwrap(bound));
   }
 
   /**
@@ -32,6 +32,13 @@ public class LavaPredicateBinder<X, E extends Exception>
   public LavaCondition<E>
   bind(X x) { return () -> bound.checkedTest(x); }
 
+  /**
+   * Curry the argument through a {@link Slot}, rebinding it by {@code set(x)}
+   * does not allocate. The result is confined to the calling thread.
+   */
+  public LavaConditionSlot<X, E>
+  slot() { return new LavaConditionSlot<>(bound); }
+
   /**
    * Link the argument to supplied value. {@code x} is invoked each time the
    * resulting {@link LavaCondition} is invoked and the results is supplied as
@@ -50,7 +57,7 @@ public class LavaPredicateBinder<X, E extends Exception>
   public <U> LavaPredicateBinder<U, ?>
   linkTo(LavaFunction<? super U, ? extends X, ?> x) {
     requireNonNull(x);
-    return new LavaPredicateBinder<>(u -> bound.checkedTest(x.checkedApply(u)));
+    return new LavaPredicateBinder<>(LavaLinkedPredicate.link(bound, x));
   }
 
   /**
@@ -63,6 +70,15 @@ public class LavaPredicateBinder<X, E extends Exception>
     return new LavaBiPredicateBinder<>((u, v) -> bound.checkedTest(x.checkedApply(u, v)));
   }
 
+  /**
+   * Compile the bound {@link LavaPredicate} into a dedicated class holding it as a
+   * constant. The result gets its own call site profile and the JIT can fold
+   * the bound functor into it. Requires Java 15 or later, on earlier versions
+   * the result is equivalent to {@code bound()}.
+   */
+  public LavaPredicate<X, E>
+  compile() { return BinderCompiler.compile("CompiledLavaPredicate", unwrap(this)); }
+
   /**
    * @return the wrapped {@link LavaPredicate}
    */
@@ -78,4 +94,16 @@ public class LavaPredicateBinder<X, E extends Exception>
   @Override
   public boolean
   checkedTest(X x) throws E { return bound.checkedTest(x); }
+
+  /**
+   * Unwrap a plain {@link LavaPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, E extends Exception> LavaPredicate<X, E>
+  unwrap(LavaPredicate<X, E> predicate) {
+    return predicate != null && predicate.getClass() == LavaPredicateBinder.class
+           ? ((LavaPredicateBinder<X, E>) predicate).bound
+           : predicate;
+  }
 }
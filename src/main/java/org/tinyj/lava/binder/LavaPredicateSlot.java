@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiPredicate;
+import org.tinyj.lava.LavaPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaPredicate} on the second argument of a bound {@link LavaBiPredicate},
+ * its first argument is held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <X> the type of the argument passed on invocation
+ */
+public final class LavaPredicateSlot<S, X, E extends Exception>
+    extends Slot<S>
+    implements LavaPredicate<X, E> {
+
+  private final LavaBiPredicate<? super S, ? super X, ? extends E> bound;
+
+  LavaPredicateSlot(LavaBiPredicate<? super S, ? super X, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaPredicateSlot<S, X, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean
+  checkedTest(X x) throws E {
+    assert confined();
+    return bound.checkedTest(value, x);
+  }
+}
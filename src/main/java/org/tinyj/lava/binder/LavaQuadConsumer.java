@@ -0,0 +1,24 @@
+package org.tinyj.lava.binder;
+
+/**
+ * An operation accepting four arguments, possibly throwing {@code E}. The four-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiConsumer}.
+ *
+ * @param <W> the type of the first argument to the operation
+ * @param <X> the type of the second argument to the operation
+ * @param <Y> the type of the third argument to the operation
+ * @param <Z> the type of the fourth argument to the operation
+ * @param <E> the type of exception thrown by the operation
+ */
+@FunctionalInterface
+public interface LavaQuadConsumer<W, X, Y, Z, E extends Exception> {
+
+  void checkedAccept(W w, X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code consumer}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, E extends Exception> LavaQuadConsumer<W, X, Y, Z, E>
+  castDown(LavaQuadConsumer<? super W, ? super X, ? super Y, ? super Z, ? extends E> consumer) { return (LavaQuadConsumer<W, X, Y, Z, E>) consumer; }
+}
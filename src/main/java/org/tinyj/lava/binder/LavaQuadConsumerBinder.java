@@ -0,0 +1,231 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaQuadConsumer}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaTriConsumerBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried operation are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the operation
+ * @param <X> the type of the second argument to the operation
+ * @param <Y> the type of the third argument to the operation
+ * @param <Z> the type of the fourth argument to the operation
+ */
+public class LavaQuadConsumerBinder<W, X, Y, Z, E extends Exception>
+    implements LavaQuadConsumer<W, X, Y, Z, E> {
+
+  protected final LavaQuadConsumer<W, X, Y, Z, E> bound;
+
+  public LavaQuadConsumerBinder(LavaQuadConsumer<? super W, ? super X, ? super Y, ? super Z, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaQuadConsumer.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaQuadConsumerBinder<X, W, Y, Z, E>
+  flipFirst() { return new LavaQuadConsumerBinder<>((x, w, y, z) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public LavaQuadConsumerBinder<W, X, Z, Y, E>
+  flipLast() { return new LavaQuadConsumerBinder<>((w, x, z, y) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaQuadConsumerBinder<X, Y, Z, W, E>
+  rotateLeft() { return new LavaQuadConsumerBinder<>((x, y, z, w) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaQuadConsumerBinder<Z, W, X, Y, E>
+  rotateRight() { return new LavaQuadConsumerBinder<>((z, w, x, y) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaQuadConsumerBinder<Z, Y, X, W, E>
+  reverse() { return new LavaQuadConsumerBinder<>((z, y, x, w) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public LavaRunnable<E>
+  bind(W w, X x, Y y, Z z) { return () -> bound.checkedAccept(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaTriConsumerBinder<X, Y, Z, E>
+  bindFirst(W w) { return new LavaTriConsumerBinder<>((x, y, z) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaTriConsumerBinder<W, Y, Z, E>
+  bindSecond(X x) { return new LavaTriConsumerBinder<>((w, y, z) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaTriConsumerBinder<W, X, Z, E>
+  bindThird(Y y) { return new LavaTriConsumerBinder<>((w, x, z) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public LavaTriConsumerBinder<W, X, Y, E>
+  bindFourth(Z z) { return new LavaTriConsumerBinder<>((w, x, y) -> bound.checkedAccept(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaRunnable} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaQuadConsumer}.
+   */
+  public LavaRunnable<?>
+  link(LavaSupplier<? extends W, ?> w, LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedAccept(w.checkedGet(), x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaQuadConsumer} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaQuadConsumer}.
+   */
+  public <S, T, U, V> LavaQuadConsumerBinder<S, T, U, V, ?>
+  link(LavaFunction<? super S, ? extends W, ?> w, LavaFunction<? super T, ? extends X, ?> x, LavaFunction<? super U, ? extends Y, ?> y, LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaQuadConsumerBinder<>((s, t, u, v) -> bound.checkedAccept(w.checkedApply(s), x.checkedApply(t), y.checkedApply(u), z.checkedApply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link LavaTriConsumer} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaQuadConsumer}.
+   */
+  public LavaTriConsumerBinder<X, Y, Z, ?>
+  linkFirst(LavaSupplier<? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaTriConsumerBinder<>((x, y, z) -> bound.checkedAccept(w.checkedGet(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link LavaQuadConsumer} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaQuadConsumer}.
+   */
+  public <S> LavaQuadConsumerBinder<S, X, Y, Z, ?>
+  linkFirst(LavaFunction<? super S, ? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaQuadConsumerBinder<>((s, x, y, z) -> bound.checkedAccept(w.checkedApply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaTriConsumer} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaQuadConsumer}.
+   */
+  public LavaTriConsumerBinder<W, Y, Z, ?>
+  linkSecond(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriConsumerBinder<>((w, y, z) -> bound.checkedAccept(w, x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link LavaQuadConsumer} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaQuadConsumer}.
+   */
+  public <T> LavaQuadConsumerBinder<W, T, Y, Z, ?>
+  linkSecond(LavaFunction<? super T, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaQuadConsumerBinder<>((w, t, y, z) -> bound.checkedAccept(w, x.checkedApply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaTriConsumer} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaQuadConsumer}.
+   */
+  public LavaTriConsumerBinder<W, X, Z, ?>
+  linkThird(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriConsumerBinder<>((w, x, z) -> bound.checkedAccept(w, x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link LavaQuadConsumer} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaQuadConsumer}.
+   */
+  public <U> LavaQuadConsumerBinder<W, X, U, Z, ?>
+  linkThird(LavaFunction<? super U, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaQuadConsumerBinder<>((w, x, u, z) -> bound.checkedAccept(w, x, y.checkedApply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaTriConsumer} is invoked and the result is supplied as fourth
+   * argument to the bound {@link LavaQuadConsumer}.
+   */
+  public LavaTriConsumerBinder<W, X, Y, ?>
+  linkFourth(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriConsumerBinder<>((w, x, y) -> bound.checkedAccept(w, x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link LavaQuadConsumer} is invoked and the result is supplied as fourth argument
+   * to the bound {@link LavaQuadConsumer}.
+   */
+  public <V> LavaQuadConsumerBinder<W, X, Y, V, ?>
+  linkFourth(LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaQuadConsumerBinder<>((w, x, y, v) -> bound.checkedAccept(w, x, y, z.checkedApply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaQuadConsumer}
+   */
+  public LavaQuadConsumer<W, X, Y, Z, E>
+  bound() { return bound; }
+
+  @Override
+  public void
+  checkedAccept(W w, X x, Y y, Z z) throws E { bound.checkedAccept(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaQuadConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, E extends Exception> LavaQuadConsumer<W, X, Y, Z, E>
+  unwrap(LavaQuadConsumer<W, X, Y, Z, E> consumer) {
+    return consumer != null && consumer.getClass() == LavaQuadConsumerBinder.class
+           ? ((LavaQuadConsumerBinder<W, X, Y, Z, E>) consumer).bound
+           : consumer;
+  }
+}
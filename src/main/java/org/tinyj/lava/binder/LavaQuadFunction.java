@@ -0,0 +1,25 @@
+package org.tinyj.lava.binder;
+
+/**
+ * A function accepting four arguments, possibly throwing {@code E}. The four-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiFunction}.
+ *
+ * @param <W> the type of the first argument to the function
+ * @param <X> the type of the second argument to the function
+ * @param <Y> the type of the third argument to the function
+ * @param <Z> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ * @param <E> the type of exception thrown by the function
+ */
+@FunctionalInterface
+public interface LavaQuadFunction<W, X, Y, Z, R, E extends Exception> {
+
+  R checkedApply(W w, X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code function}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, R, E extends Exception> LavaQuadFunction<W, X, Y, Z, R, E>
+  castDown(LavaQuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R, ? extends E> function) { return (LavaQuadFunction<W, X, Y, Z, R, E>) function; }
+}
@@ -0,0 +1,232 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaQuadFunction}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaTriFunctionBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried function are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the function
+ * @param <X> the type of the second argument to the function
+ * @param <Y> the type of the third argument to the function
+ * @param <Z> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ */
+public class LavaQuadFunctionBinder<W, X, Y, Z, R, E extends Exception>
+    implements LavaQuadFunction<W, X, Y, Z, R, E> {
+
+  protected final LavaQuadFunction<W, X, Y, Z, R, E> bound;
+
+  public LavaQuadFunctionBinder(LavaQuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaQuadFunction.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaQuadFunctionBinder<X, W, Y, Z, R, E>
+  flipFirst() { return new LavaQuadFunctionBinder<>((x, w, y, z) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public LavaQuadFunctionBinder<W, X, Z, Y, R, E>
+  flipLast() { return new LavaQuadFunctionBinder<>((w, x, z, y) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaQuadFunctionBinder<X, Y, Z, W, R, E>
+  rotateLeft() { return new LavaQuadFunctionBinder<>((x, y, z, w) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaQuadFunctionBinder<Z, W, X, Y, R, E>
+  rotateRight() { return new LavaQuadFunctionBinder<>((z, w, x, y) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaQuadFunctionBinder<Z, Y, X, W, R, E>
+  reverse() { return new LavaQuadFunctionBinder<>((z, y, x, w) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public LavaSupplier<R, E>
+  bind(W w, X x, Y y, Z z) { return () -> bound.checkedApply(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaTriFunctionBinder<X, Y, Z, R, E>
+  bindFirst(W w) { return new LavaTriFunctionBinder<>((x, y, z) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaTriFunctionBinder<W, Y, Z, R, E>
+  bindSecond(X x) { return new LavaTriFunctionBinder<>((w, y, z) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaTriFunctionBinder<W, X, Z, R, E>
+  bindThird(Y y) { return new LavaTriFunctionBinder<>((w, x, z) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public LavaTriFunctionBinder<W, X, Y, R, E>
+  bindFourth(Z z) { return new LavaTriFunctionBinder<>((w, x, y) -> bound.checkedApply(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaSupplier} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaQuadFunction}.
+   */
+  public LavaSupplier<R, ?>
+  link(LavaSupplier<? extends W, ?> w, LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedApply(w.checkedGet(), x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaQuadFunction} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaQuadFunction}.
+   */
+  public <S, T, U, V> LavaQuadFunctionBinder<S, T, U, V, R, ?>
+  link(LavaFunction<? super S, ? extends W, ?> w, LavaFunction<? super T, ? extends X, ?> x, LavaFunction<? super U, ? extends Y, ?> y, LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaQuadFunctionBinder<>((s, t, u, v) -> bound.checkedApply(w.checkedApply(s), x.checkedApply(t), y.checkedApply(u), z.checkedApply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link LavaTriFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaQuadFunction}.
+   */
+  public LavaTriFunctionBinder<X, Y, Z, R, ?>
+  linkFirst(LavaSupplier<? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaTriFunctionBinder<>((x, y, z) -> bound.checkedApply(w.checkedGet(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link LavaQuadFunction} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaQuadFunction}.
+   */
+  public <S> LavaQuadFunctionBinder<S, X, Y, Z, R, ?>
+  linkFirst(LavaFunction<? super S, ? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaQuadFunctionBinder<>((s, x, y, z) -> bound.checkedApply(w.checkedApply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaTriFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaQuadFunction}.
+   */
+  public LavaTriFunctionBinder<W, Y, Z, R, ?>
+  linkSecond(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriFunctionBinder<>((w, y, z) -> bound.checkedApply(w, x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link LavaQuadFunction} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaQuadFunction}.
+   */
+  public <T> LavaQuadFunctionBinder<W, T, Y, Z, R, ?>
+  linkSecond(LavaFunction<? super T, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaQuadFunctionBinder<>((w, t, y, z) -> bound.checkedApply(w, x.checkedApply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaTriFunction} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaQuadFunction}.
+   */
+  public LavaTriFunctionBinder<W, X, Z, R, ?>
+  linkThird(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriFunctionBinder<>((w, x, z) -> bound.checkedApply(w, x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link LavaQuadFunction} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaQuadFunction}.
+   */
+  public <U> LavaQuadFunctionBinder<W, X, U, Z, R, ?>
+  linkThird(LavaFunction<? super U, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaQuadFunctionBinder<>((w, x, u, z) -> bound.checkedApply(w, x, y.checkedApply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaTriFunction} is invoked and the result is supplied as fourth
+   * argument to the bound {@link LavaQuadFunction}.
+   */
+  public LavaTriFunctionBinder<W, X, Y, R, ?>
+  linkFourth(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriFunctionBinder<>((w, x, y) -> bound.checkedApply(w, x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link LavaQuadFunction} is invoked and the result is supplied as fourth argument
+   * to the bound {@link LavaQuadFunction}.
+   */
+  public <V> LavaQuadFunctionBinder<W, X, Y, V, R, ?>
+  linkFourth(LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaQuadFunctionBinder<>((w, x, y, v) -> bound.checkedApply(w, x, y, z.checkedApply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaQuadFunction}
+   */
+  public LavaQuadFunction<W, X, Y, Z, R, E>
+  bound() { return bound; }
+
+  @Override
+  public R
+  checkedApply(W w, X x, Y y, Z z) throws E { return bound.checkedApply(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaQuadFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, R, E extends Exception> LavaQuadFunction<W, X, Y, Z, R, E>
+  unwrap(LavaQuadFunction<W, X, Y, Z, R, E> function) {
+    return function != null && function.getClass() == LavaQuadFunctionBinder.class
+           ? ((LavaQuadFunctionBinder<W, X, Y, Z, R, E>) function).bound
+           : function;
+  }
+}
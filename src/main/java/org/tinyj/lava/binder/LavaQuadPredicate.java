@@ -0,0 +1,24 @@
+package org.tinyj.lava.binder;
+
+/**
+ * A predicate accepting four arguments, possibly throwing {@code E}. The four-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiPredicate}.
+ *
+ * @param <W> the type of the first argument to the predicate
+ * @param <X> the type of the second argument to the predicate
+ * @param <Y> the type of the third argument to the predicate
+ * @param <Z> the type of the fourth argument to the predicate
+ * @param <E> the type of exception thrown by the predicate
+ */
+@FunctionalInterface
+public interface LavaQuadPredicate<W, X, Y, Z, E extends Exception> {
+
+  boolean checkedTest(W w, X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code predicate}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, E extends Exception> LavaQuadPredicate<W, X, Y, Z, E>
+  castDown(LavaQuadPredicate<? super W, ? super X, ? super Y, ? super Z, ? extends E> predicate) { return (LavaQuadPredicate<W, X, Y, Z, E>) predicate; }
+}
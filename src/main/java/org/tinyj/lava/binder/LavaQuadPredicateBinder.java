@@ -0,0 +1,231 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaQuadPredicate}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaTriPredicateBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried predicate are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <W> the type of the first argument to the predicate
+ * @param <X> the type of the second argument to the predicate
+ * @param <Y> the type of the third argument to the predicate
+ * @param <Z> the type of the fourth argument to the predicate
+ */
+public class LavaQuadPredicateBinder<W, X, Y, Z, E extends Exception>
+    implements LavaQuadPredicate<W, X, Y, Z, E> {
+
+  protected final LavaQuadPredicate<W, X, Y, Z, E> bound;
+
+  public LavaQuadPredicateBinder(LavaQuadPredicate<? super W, ? super X, ? super Y, ? super Z, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaQuadPredicate.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaQuadPredicateBinder<X, W, Y, Z, E>
+  flipFirst() { return new LavaQuadPredicateBinder<>((x, w, y, z) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Swap the third and the fourth argument.
+   */
+  public LavaQuadPredicateBinder<W, X, Z, Y, E>
+  flipLast() { return new LavaQuadPredicateBinder<>((w, x, z, y) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaQuadPredicateBinder<X, Y, Z, W, E>
+  rotateLeft() { return new LavaQuadPredicateBinder<>((x, y, z, w) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaQuadPredicateBinder<Z, W, X, Y, E>
+  rotateRight() { return new LavaQuadPredicateBinder<>((z, w, x, y) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaQuadPredicateBinder<Z, Y, X, W, E>
+  reverse() { return new LavaQuadPredicateBinder<>((z, y, x, w) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Curries all four arguments.
+   */
+  public LavaCondition<E>
+  bind(W w, X x, Y y, Z z) { return () -> bound.checkedTest(w, x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaTriPredicateBinder<X, Y, Z, E>
+  bindFirst(W w) { return new LavaTriPredicateBinder<>((x, y, z) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaTriPredicateBinder<W, Y, Z, E>
+  bindSecond(X x) { return new LavaTriPredicateBinder<>((w, y, z) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaTriPredicateBinder<W, X, Z, E>
+  bindThird(Y y) { return new LavaTriPredicateBinder<>((w, x, z) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Curry the fourth argument.
+   */
+  public LavaTriPredicateBinder<W, X, Y, E>
+  bindFourth(Z z) { return new LavaTriPredicateBinder<>((w, x, y) -> bound.checkedTest(w, x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code w}, {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaCondition} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaQuadPredicate}.
+   */
+  public LavaCondition<?>
+  link(LavaSupplier<? extends W, ?> w, LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedTest(w.checkedGet(), x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code w}, {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaQuadPredicate} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaQuadPredicate}.
+   */
+  public <S, T, U, V> LavaQuadPredicateBinder<S, T, U, V, ?>
+  link(LavaFunction<? super S, ? extends W, ?> w, LavaFunction<? super T, ? extends X, ?> x, LavaFunction<? super U, ? extends Y, ?> y, LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(w);
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaQuadPredicateBinder<>((s, t, u, v) -> bound.checkedTest(w.checkedApply(s), x.checkedApply(t), y.checkedApply(u), z.checkedApply(v)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code w} is invoked each time the
+   * resulting {@link LavaTriPredicate} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaQuadPredicate}.
+   */
+  public LavaTriPredicateBinder<X, Y, Z, ?>
+  linkFirst(LavaSupplier<? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaTriPredicateBinder<>((x, y, z) -> bound.checkedTest(w.checkedGet(), x, y, z));
+  }
+
+  /**
+   * Map the first argument. {@code w} is invoked each time the resulting
+   * {@link LavaQuadPredicate} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaQuadPredicate}.
+   */
+  public <S> LavaQuadPredicateBinder<S, X, Y, Z, ?>
+  linkFirst(LavaFunction<? super S, ? extends W, ?> w) {
+    requireNonNull(w);
+    return new LavaQuadPredicateBinder<>((s, x, y, z) -> bound.checkedTest(w.checkedApply(s), x, y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaTriPredicate} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaQuadPredicate}.
+   */
+  public LavaTriPredicateBinder<W, Y, Z, ?>
+  linkSecond(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriPredicateBinder<>((w, y, z) -> bound.checkedTest(w, x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the second argument. {@code x} is invoked each time the resulting
+   * {@link LavaQuadPredicate} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaQuadPredicate}.
+   */
+  public <T> LavaQuadPredicateBinder<W, T, Y, Z, ?>
+  linkSecond(LavaFunction<? super T, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaQuadPredicateBinder<>((w, t, y, z) -> bound.checkedTest(w, x.checkedApply(t), y, z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaTriPredicate} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaQuadPredicate}.
+   */
+  public LavaTriPredicateBinder<W, X, Z, ?>
+  linkThird(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriPredicateBinder<>((w, x, z) -> bound.checkedTest(w, x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the third argument. {@code y} is invoked each time the resulting
+   * {@link LavaQuadPredicate} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaQuadPredicate}.
+   */
+  public <U> LavaQuadPredicateBinder<W, X, U, Z, ?>
+  linkThird(LavaFunction<? super U, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaQuadPredicateBinder<>((w, x, u, z) -> bound.checkedTest(w, x, y.checkedApply(u), z));
+  }
+
+  /**
+   * Link the fourth argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaTriPredicate} is invoked and the result is supplied as fourth
+   * argument to the bound {@link LavaQuadPredicate}.
+   */
+  public LavaTriPredicateBinder<W, X, Y, ?>
+  linkFourth(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriPredicateBinder<>((w, x, y) -> bound.checkedTest(w, x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the fourth argument. {@code z} is invoked each time the resulting
+   * {@link LavaQuadPredicate} is invoked and the result is supplied as fourth argument
+   * to the bound {@link LavaQuadPredicate}.
+   */
+  public <V> LavaQuadPredicateBinder<W, X, Y, V, ?>
+  linkFourth(LavaFunction<? super V, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaQuadPredicateBinder<>((w, x, y, v) -> bound.checkedTest(w, x, y, z.checkedApply(v)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaQuadPredicate}
+   */
+  public LavaQuadPredicate<W, X, Y, Z, E>
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  checkedTest(W w, X x, Y y, Z z) throws E { return bound.checkedTest(w, x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaQuadPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, E extends Exception> LavaQuadPredicate<W, X, Y, Z, E>
+  unwrap(LavaQuadPredicate<W, X, Y, Z, E> predicate) {
+    return predicate != null && predicate.getClass() == LavaQuadPredicateBinder.class
+           ? ((LavaQuadPredicateBinder<W, X, Y, Z, E>) predicate).bound
+           : predicate;
+  }
+}
@@ -0,0 +1,41 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaConsumer;
+import org.tinyj.lava.LavaRunnable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaRunnable} invoking a bound {@link LavaConsumer} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ */
+public final class LavaRunnableSlot<S, E extends Exception>
+    extends Slot<S>
+    implements LavaRunnable<E> {
+
+  private final LavaConsumer<? super S, ? extends E> bound;
+
+  LavaRunnableSlot(LavaConsumer<? super S, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaRunnableSlot<S, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public void
+  checkedRun() throws E {
+    assert confined();
+    bound.checkedAccept(value);
+  }
+}
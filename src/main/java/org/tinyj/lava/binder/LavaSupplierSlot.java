@@ -0,0 +1,42 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LavaSupplier} invoking a bound {@link LavaFunction} on the argument
+ * held by this {@link Slot}.
+ *
+ * @param <S> the type of the argument held by the slot
+ * @param <R> the type of the result of the function
+ */
+public final class LavaSupplierSlot<S, R, E extends Exception>
+    extends Slot<S>
+    implements LavaSupplier<R, E> {
+
+  private final LavaFunction<? super S, ? extends R, ? extends E> bound;
+
+  LavaSupplierSlot(LavaFunction<? super S, ? extends R, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = bound;
+  }
+
+  /**
+   * Rebind the argument held to {@code value}.
+   */
+  public LavaSupplierSlot<S, R, E>
+  set(S value) {
+    assert confined();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public R
+  checkedGet() throws E {
+    assert confined();
+    return bound.checkedApply(value);
+  }
+}
@@ -0,0 +1,23 @@
+package org.tinyj.lava.binder;
+
+/**
+ * An operation accepting three arguments, possibly throwing {@code E}. The three-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiConsumer}.
+ *
+ * @param <X> the type of the first argument to the operation
+ * @param <Y> the type of the second argument to the operation
+ * @param <Z> the type of the third argument to the operation
+ * @param <E> the type of exception thrown by the operation
+ */
+@FunctionalInterface
+public interface LavaTriConsumer<X, Y, Z, E extends Exception> {
+
+  void checkedAccept(X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code consumer}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, E extends Exception> LavaTriConsumer<X, Y, Z, E>
+  castDown(LavaTriConsumer<? super X, ? super Y, ? super Z, ? extends E> consumer) { return (LavaTriConsumer<X, Y, Z, E>) consumer; }
+}
@@ -0,0 +1,200 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaTriConsumer}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaBiConsumerBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried operation are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the operation
+ * @param <Y> the type of the second argument to the operation
+ * @param <Z> the type of the third argument to the operation
+ */
+public class LavaTriConsumerBinder<X, Y, Z, E extends Exception>
+    implements LavaTriConsumer<X, Y, Z, E> {
+
+  protected final LavaTriConsumer<X, Y, Z, E> bound;
+
+  public LavaTriConsumerBinder(LavaTriConsumer<? super X, ? super Y, ? super Z, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaTriConsumer.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaTriConsumerBinder<Y, X, Z, E>
+  flipFirst() { return new LavaTriConsumerBinder<>((y, x, z) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public LavaTriConsumerBinder<X, Z, Y, E>
+  flipLast() { return new LavaTriConsumerBinder<>((x, z, y) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaTriConsumerBinder<Y, Z, X, E>
+  rotateLeft() { return new LavaTriConsumerBinder<>((y, z, x) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaTriConsumerBinder<Z, X, Y, E>
+  rotateRight() { return new LavaTriConsumerBinder<>((z, x, y) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaTriConsumerBinder<Z, Y, X, E>
+  reverse() { return new LavaTriConsumerBinder<>((z, y, x) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public LavaRunnable<E>
+  bind(X x, Y y, Z z) { return () -> bound.checkedAccept(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaBiConsumerBinder<Y, Z, E>
+  bindFirst(X x) { return new LavaBiConsumerBinder<>((y, z) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaBiConsumerBinder<X, Z, E>
+  bindSecond(Y y) { return new LavaBiConsumerBinder<>((x, z) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaBiConsumerBinder<X, Y, E>
+  bindThird(Z z) { return new LavaBiConsumerBinder<>((x, y) -> bound.checkedAccept(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaRunnable} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaTriConsumer}.
+   */
+  public LavaRunnable<?>
+  link(LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedAccept(x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaTriConsumer} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaTriConsumer}.
+   */
+  public <U, V, W> LavaTriConsumerBinder<U, V, W, ?>
+  link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y, LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaTriConsumerBinder<>((u, v, w) -> bound.checkedAccept(x.checkedApply(u), y.checkedApply(v), z.checkedApply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaBiConsumer} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaTriConsumer}.
+   */
+  public LavaBiConsumerBinder<Y, Z, ?>
+  linkFirst(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaBiConsumerBinder<>((y, z) -> bound.checkedAccept(x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link LavaTriConsumer} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaTriConsumer}.
+   */
+  public <U> LavaTriConsumerBinder<U, Y, Z, ?>
+  linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriConsumerBinder<>((u, y, z) -> bound.checkedAccept(x.checkedApply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaBiConsumer} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaTriConsumer}.
+   */
+  public LavaBiConsumerBinder<X, Z, ?>
+  linkSecond(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaBiConsumerBinder<>((x, z) -> bound.checkedAccept(x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link LavaTriConsumer} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaTriConsumer}.
+   */
+  public <V> LavaTriConsumerBinder<X, V, Z, ?>
+  linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriConsumerBinder<>((x, v, z) -> bound.checkedAccept(x, y.checkedApply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaBiConsumer} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaTriConsumer}.
+   */
+  public LavaBiConsumerBinder<X, Y, ?>
+  linkThird(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaBiConsumerBinder<>((x, y) -> bound.checkedAccept(x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link LavaTriConsumer} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaTriConsumer}.
+   */
+  public <W> LavaTriConsumerBinder<X, Y, W, ?>
+  linkThird(LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriConsumerBinder<>((x, y, w) -> bound.checkedAccept(x, y, z.checkedApply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaTriConsumer}
+   */
+  public LavaTriConsumer<X, Y, Z, E>
+  bound() { return bound; }
+
+  @Override
+  public void
+  checkedAccept(X x, Y y, Z z) throws E { bound.checkedAccept(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaTriConsumerBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, E extends Exception> LavaTriConsumer<X, Y, Z, E>
+  unwrap(LavaTriConsumer<X, Y, Z, E> consumer) {
+    return consumer != null && consumer.getClass() == LavaTriConsumerBinder.class
+           ? ((LavaTriConsumerBinder<X, Y, Z, E>) consumer).bound
+           : consumer;
+  }
+}
@@ -0,0 +1,24 @@
+package org.tinyj.lava.binder;
+
+/**
+ * A function accepting three arguments, possibly throwing {@code E}. The three-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiFunction}.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <Z> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ * @param <E> the type of exception thrown by the function
+ */
+@FunctionalInterface
+public interface LavaTriFunction<X, Y, Z, R, E extends Exception> {
+
+  R checkedApply(X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code function}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, R, E extends Exception> LavaTriFunction<X, Y, Z, R, E>
+  castDown(LavaTriFunction<? super X, ? super Y, ? super Z, ? extends R, ? extends E> function) { return (LavaTriFunction<X, Y, Z, R, E>) function; }
+}
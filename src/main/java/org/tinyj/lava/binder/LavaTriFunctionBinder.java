@@ -0,0 +1,201 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaTriFunction}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaBiFunctionBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried function are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <Z> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ */
+public class LavaTriFunctionBinder<X, Y, Z, R, E extends Exception>
+    implements LavaTriFunction<X, Y, Z, R, E> {
+
+  protected final LavaTriFunction<X, Y, Z, R, E> bound;
+
+  public LavaTriFunctionBinder(LavaTriFunction<? super X, ? super Y, ? super Z, ? extends R, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaTriFunction.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaTriFunctionBinder<Y, X, Z, R, E>
+  flipFirst() { return new LavaTriFunctionBinder<>((y, x, z) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public LavaTriFunctionBinder<X, Z, Y, R, E>
+  flipLast() { return new LavaTriFunctionBinder<>((x, z, y) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaTriFunctionBinder<Y, Z, X, R, E>
+  rotateLeft() { return new LavaTriFunctionBinder<>((y, z, x) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaTriFunctionBinder<Z, X, Y, R, E>
+  rotateRight() { return new LavaTriFunctionBinder<>((z, x, y) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaTriFunctionBinder<Z, Y, X, R, E>
+  reverse() { return new LavaTriFunctionBinder<>((z, y, x) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public LavaSupplier<R, E>
+  bind(X x, Y y, Z z) { return () -> bound.checkedApply(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaBiFunctionBinder<Y, Z, R, E>
+  bindFirst(X x) { return new LavaBiFunctionBinder<>((y, z) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaBiFunctionBinder<X, Z, R, E>
+  bindSecond(Y y) { return new LavaBiFunctionBinder<>((x, z) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaBiFunctionBinder<X, Y, R, E>
+  bindThird(Z z) { return new LavaBiFunctionBinder<>((x, y) -> bound.checkedApply(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaSupplier} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaTriFunction}.
+   */
+  public LavaSupplier<R, ?>
+  link(LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedApply(x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaTriFunction} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaTriFunction}.
+   */
+  public <U, V, W> LavaTriFunctionBinder<U, V, W, R, ?>
+  link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y, LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaTriFunctionBinder<>((u, v, w) -> bound.checkedApply(x.checkedApply(u), y.checkedApply(v), z.checkedApply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaBiFunction} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaTriFunction}.
+   */
+  public LavaBiFunctionBinder<Y, Z, R, ?>
+  linkFirst(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaBiFunctionBinder<>((y, z) -> bound.checkedApply(x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link LavaTriFunction} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaTriFunction}.
+   */
+  public <U> LavaTriFunctionBinder<U, Y, Z, R, ?>
+  linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriFunctionBinder<>((u, y, z) -> bound.checkedApply(x.checkedApply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaBiFunction} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaTriFunction}.
+   */
+  public LavaBiFunctionBinder<X, Z, R, ?>
+  linkSecond(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaBiFunctionBinder<>((x, z) -> bound.checkedApply(x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link LavaTriFunction} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaTriFunction}.
+   */
+  public <V> LavaTriFunctionBinder<X, V, Z, R, ?>
+  linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriFunctionBinder<>((x, v, z) -> bound.checkedApply(x, y.checkedApply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaBiFunction} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaTriFunction}.
+   */
+  public LavaBiFunctionBinder<X, Y, R, ?>
+  linkThird(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaBiFunctionBinder<>((x, y) -> bound.checkedApply(x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link LavaTriFunction} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaTriFunction}.
+   */
+  public <W> LavaTriFunctionBinder<X, Y, W, R, ?>
+  linkThird(LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriFunctionBinder<>((x, y, w) -> bound.checkedApply(x, y, z.checkedApply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaTriFunction}
+   */
+  public LavaTriFunction<X, Y, Z, R, E>
+  bound() { return bound; }
+
+  @Override
+  public R
+  checkedApply(X x, Y y, Z z) throws E { return bound.checkedApply(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaTriFunctionBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, R, E extends Exception> LavaTriFunction<X, Y, Z, R, E>
+  unwrap(LavaTriFunction<X, Y, Z, R, E> function) {
+    return function != null && function.getClass() == LavaTriFunctionBinder.class
+           ? ((LavaTriFunctionBinder<X, Y, Z, R, E>) function).bound
+           : function;
+  }
+}
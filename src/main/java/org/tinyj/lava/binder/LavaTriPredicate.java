@@ -0,0 +1,23 @@
+package org.tinyj.lava.binder;
+
+/**
+ * A predicate accepting three arguments, possibly throwing {@code E}. The three-arity
+ * counterpart of {@link org.tinyj.lava.LavaBiPredicate}.
+ *
+ * @param <X> the type of the first argument to the predicate
+ * @param <Y> the type of the second argument to the predicate
+ * @param <Z> the type of the third argument to the predicate
+ * @param <E> the type of exception thrown by the predicate
+ */
+@FunctionalInterface
+public interface LavaTriPredicate<X, Y, Z, E extends Exception> {
+
+  boolean checkedTest(X x, Y y, Z z) throws E;
+
+  /**
+   * Safely narrow the type parameters of {@code predicate}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, E extends Exception> LavaTriPredicate<X, Y, Z, E>
+  castDown(LavaTriPredicate<? super X, ? super Y, ? super Z, ? extends E> predicate) { return (LavaTriPredicate<X, Y, Z, E>) predicate; }
+}
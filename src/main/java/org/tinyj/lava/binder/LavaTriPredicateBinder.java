@@ -0,0 +1,200 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enable various forms of currying on {@link LavaTriPredicate}.
+ * <p>
+ * Binding or linking a single argument returns a {@link LavaBiPredicateBinder} on the
+ * remaining arguments. Arguments are handed on as they are, there is no
+ * intermediate tuple allocated per invocation.
+ * <p>
+ * To enable a fluent syntax binders wrapping the curried predicate are returned
+ * where applicable. This introduces some overhead that might be an issue if
+ * either the result is invoked many times or many results are produced. Use
+ * {@code bound()} to unwrap results.
+ *
+ * @param <X> the type of the first argument to the predicate
+ * @param <Y> the type of the second argument to the predicate
+ * @param <Z> the type of the third argument to the predicate
+ */
+public class LavaTriPredicateBinder<X, Y, Z, E extends Exception>
+    implements LavaTriPredicate<X, Y, Z, E> {
+
+  protected final LavaTriPredicate<X, Y, Z, E> bound;
+
+  public LavaTriPredicateBinder(LavaTriPredicate<? super X, ? super Y, ? super Z, ? extends E> bound) {
+    requireNonNull(bound);
+    this.bound = LavaTriPredicate.castDown(unwrap(bound));
+  }
+
+  /**
+   * Swap the first and the second argument.
+   */
+  public LavaTriPredicateBinder<Y, X, Z, E>
+  flipFirst() { return new LavaTriPredicateBinder<>((y, x, z) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Swap the second and the third argument.
+   */
+  public LavaTriPredicateBinder<X, Z, Y, E>
+  flipLast() { return new LavaTriPredicateBinder<>((x, z, y) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Rotate the arguments left, the first argument becomes the last one.
+   */
+  public LavaTriPredicateBinder<Y, Z, X, E>
+  rotateLeft() { return new LavaTriPredicateBinder<>((y, z, x) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Rotate the arguments right, the last argument becomes the first one.
+   */
+  public LavaTriPredicateBinder<Z, X, Y, E>
+  rotateRight() { return new LavaTriPredicateBinder<>((z, x, y) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Reverse the order of the arguments.
+   */
+  public LavaTriPredicateBinder<Z, Y, X, E>
+  reverse() { return new LavaTriPredicateBinder<>((z, y, x) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Curries all three arguments.
+   */
+  public LavaCondition<E>
+  bind(X x, Y y, Z z) { return () -> bound.checkedTest(x, y, z); }
+
+  /**
+   * Curry the first argument.
+   */
+  public LavaBiPredicateBinder<Y, Z, E>
+  bindFirst(X x) { return new LavaBiPredicateBinder<>((y, z) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Curry the second argument.
+   */
+  public LavaBiPredicateBinder<X, Z, E>
+  bindSecond(Y y) { return new LavaBiPredicateBinder<>((x, z) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Curry the third argument.
+   */
+  public LavaBiPredicateBinder<X, Y, E>
+  bindThird(Z z) { return new LavaBiPredicateBinder<>((x, y) -> bound.checkedTest(x, y, z)); }
+
+  /**
+   * Link all arguments to supplied values. {@code x}, {@code y} and {@code z} are
+   * invoked each time the resulting {@link LavaCondition} is invoked and the results are
+   * supplied as arguments to the bound {@link LavaTriPredicate}.
+   */
+  public LavaCondition<?>
+  link(LavaSupplier<? extends X, ?> x, LavaSupplier<? extends Y, ?> y, LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return () -> bound.checkedTest(x.checkedGet(), y.checkedGet(), z.checkedGet());
+  }
+
+  /**
+   * Map all arguments. {@code x}, {@code y} and {@code z} are invoked each time the
+   * resulting {@link LavaTriPredicate} is invoked and the results are supplied as arguments to
+   * the bound {@link LavaTriPredicate}.
+   */
+  public <U, V, W> LavaTriPredicateBinder<U, V, W, ?>
+  link(LavaFunction<? super U, ? extends X, ?> x, LavaFunction<? super V, ? extends Y, ?> y, LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    return new LavaTriPredicateBinder<>((u, v, w) -> bound.checkedTest(x.checkedApply(u), y.checkedApply(v), z.checkedApply(w)));
+  }
+
+  /**
+   * Link the first argument to supplied value. {@code x} is invoked each time the
+   * resulting {@link LavaBiPredicate} is invoked and the result is supplied as first
+   * argument to the bound {@link LavaTriPredicate}.
+   */
+  public LavaBiPredicateBinder<Y, Z, ?>
+  linkFirst(LavaSupplier<? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaBiPredicateBinder<>((y, z) -> bound.checkedTest(x.checkedGet(), y, z));
+  }
+
+  /**
+   * Map the first argument. {@code x} is invoked each time the resulting
+   * {@link LavaTriPredicate} is invoked and the result is supplied as first argument
+   * to the bound {@link LavaTriPredicate}.
+   */
+  public <U> LavaTriPredicateBinder<U, Y, Z, ?>
+  linkFirst(LavaFunction<? super U, ? extends X, ?> x) {
+    requireNonNull(x);
+    return new LavaTriPredicateBinder<>((u, y, z) -> bound.checkedTest(x.checkedApply(u), y, z));
+  }
+
+  /**
+   * Link the second argument to supplied value. {@code y} is invoked each time the
+   * resulting {@link LavaBiPredicate} is invoked and the result is supplied as second
+   * argument to the bound {@link LavaTriPredicate}.
+   */
+  public LavaBiPredicateBinder<X, Z, ?>
+  linkSecond(LavaSupplier<? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaBiPredicateBinder<>((x, z) -> bound.checkedTest(x, y.checkedGet(), z));
+  }
+
+  /**
+   * Map the second argument. {@code y} is invoked each time the resulting
+   * {@link LavaTriPredicate} is invoked and the result is supplied as second argument
+   * to the bound {@link LavaTriPredicate}.
+   */
+  public <V> LavaTriPredicateBinder<X, V, Z, ?>
+  linkSecond(LavaFunction<? super V, ? extends Y, ?> y) {
+    requireNonNull(y);
+    return new LavaTriPredicateBinder<>((x, v, z) -> bound.checkedTest(x, y.checkedApply(v), z));
+  }
+
+  /**
+   * Link the third argument to supplied value. {@code z} is invoked each time the
+   * resulting {@link LavaBiPredicate} is invoked and the result is supplied as third
+   * argument to the bound {@link LavaTriPredicate}.
+   */
+  public LavaBiPredicateBinder<X, Y, ?>
+  linkThird(LavaSupplier<? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaBiPredicateBinder<>((x, y) -> bound.checkedTest(x, y, z.checkedGet()));
+  }
+
+  /**
+   * Map the third argument. {@code z} is invoked each time the resulting
+   * {@link LavaTriPredicate} is invoked and the result is supplied as third argument
+   * to the bound {@link LavaTriPredicate}.
+   */
+  public <W> LavaTriPredicateBinder<X, Y, W, ?>
+  linkThird(LavaFunction<? super W, ? extends Z, ?> z) {
+    requireNonNull(z);
+    return new LavaTriPredicateBinder<>((x, y, w) -> bound.checkedTest(x, y, z.checkedApply(w)));
+  }
+
+  /**
+   * @return the wrapped {@link LavaTriPredicate}
+   */
+  public LavaTriPredicate<X, Y, Z, E>
+  bound() { return bound; }
+
+  @Override
+  public boolean
+  checkedTest(X x, Y y, Z z) throws E { return bound.checkedTest(x, y, z); }
+
+  /**
+   * Unwrap a plain {@link LavaTriPredicateBinder}. Subclasses are kept as they are,
+   * they may override its behavior.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, E extends Exception> LavaTriPredicate<X, Y, Z, E>
+  unwrap(LavaTriPredicate<X, Y, Z, E> predicate) {
+    return predicate != null && predicate.getClass() == LavaTriPredicateBinder.class
+           ? ((LavaTriPredicateBinder<X, Y, Z, E>) predicate).bound
+           : predicate;
+  }
+}
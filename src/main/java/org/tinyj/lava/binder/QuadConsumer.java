@@ -0,0 +1,37 @@
+package org.tinyj.lava.binder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An operation accepting four arguments. The four-arity counterpart of
+ * {@link java.util.function.BiConsumer}.
+ *
+ * @param <W> the type of the first argument to the operation
+ * @param <X> the type of the second argument to the operation
+ * @param <Y> the type of the third argument to the operation
+ * @param <Z> the type of the fourth argument to the operation
+ */
+@FunctionalInterface
+public interface QuadConsumer<W, X, Y, Z> {
+
+  void accept(W w, X x, Y y, Z z);
+
+  /**
+   * @return a composed operation that performs this operation and then {@code after}
+   */
+  default QuadConsumer<W, X, Y, Z>
+  andThen(QuadConsumer<? super W, ? super X, ? super Y, ? super Z> after) {
+    requireNonNull(after);
+    return (w, x, y, z) -> {
+      accept(w, x, y, z);
+      after.accept(w, x, y, z);
+    };
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code consumer}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z> QuadConsumer<W, X, Y, Z>
+  castDown(QuadConsumer<? super W, ? super X, ? super Y, ? super Z> consumer) { return (QuadConsumer<W, X, Y, Z>) consumer; }
+}
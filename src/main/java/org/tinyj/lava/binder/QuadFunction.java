@@ -0,0 +1,38 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function accepting four arguments. The four-arity counterpart of
+ * {@link java.util.function.BiFunction}.
+ *
+ * @param <W> the type of the first argument to the function
+ * @param <X> the type of the second argument to the function
+ * @param <Y> the type of the third argument to the function
+ * @param <Z> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface QuadFunction<W, X, Y, Z, R> {
+
+  R apply(W w, X x, Y y, Z z);
+
+  /**
+   * @return a composed function that applies this function and then {@code after}
+   * to its result
+   */
+  default <V> QuadFunction<W, X, Y, Z, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return (w, x, y, z) -> after.apply(apply(w, x, y, z));
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code function}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z, R> QuadFunction<W, X, Y, Z, R>
+  castDown(QuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R> function) { return (QuadFunction<W, X, Y, Z, R>) function; }
+}
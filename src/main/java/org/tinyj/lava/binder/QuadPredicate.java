@@ -0,0 +1,49 @@
+package org.tinyj.lava.binder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate accepting four arguments. The four-arity counterpart of
+ * {@link java.util.function.BiPredicate}.
+ *
+ * @param <W> the type of the first argument to the predicate
+ * @param <X> the type of the second argument to the predicate
+ * @param <Y> the type of the third argument to the predicate
+ * @param <Z> the type of the fourth argument to the predicate
+ */
+@FunctionalInterface
+public interface QuadPredicate<W, X, Y, Z> {
+
+  boolean test(W w, X x, Y y, Z z);
+
+  /**
+   * @return the logical negation of this predicate
+   */
+  default QuadPredicate<W, X, Y, Z>
+  negate() { return (w, x, y, z) -> !test(w, x, y, z); }
+
+  /**
+   * @return a short-circuiting logical AND of this predicate and {@code other}
+   */
+  default QuadPredicate<W, X, Y, Z>
+  and(QuadPredicate<? super W, ? super X, ? super Y, ? super Z> other) {
+    requireNonNull(other);
+    return (w, x, y, z) -> test(w, x, y, z) && other.test(w, x, y, z);
+  }
+
+  /**
+   * @return a short-circuiting logical OR of this predicate and {@code other}
+   */
+  default QuadPredicate<W, X, Y, Z>
+  or(QuadPredicate<? super W, ? super X, ? super Y, ? super Z> other) {
+    requireNonNull(other);
+    return (w, x, y, z) -> test(w, x, y, z) || other.test(w, x, y, z);
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code predicate}.
+   */
+  @SuppressWarnings("unchecked")
+  static <W, X, Y, Z> QuadPredicate<W, X, Y, Z>
+  castDown(QuadPredicate<? super W, ? super X, ? super Y, ? super Z> predicate) { return (QuadPredicate<W, X, Y, Z>) predicate; }
+}
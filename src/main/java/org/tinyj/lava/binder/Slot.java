@@ -0,0 +1,45 @@
+package org.tinyj.lava.binder;
+
+/**
+ * The mutable argument of a functor curried by {@code slot()},
+ * {@code slotFirst()} or {@code slotSecond()} of a binder. Rebinding the
+ * argument by {@code set(...)} does not allocate, a single slot can thus be
+ * reused for each element of a loop.
+ * <p>
+ * A slot is confined to the thread that created it. The argument is held in a
+ * plain field, neither {@code set(...)} nor invoking the functor may happen on
+ * any other thread. With assertions enabled ({@code -ea}) this is verified on
+ * each access.
+ *
+ * @param <S> the type of the argument held
+ */
+public abstract class Slot<S> {
+
+  private final Thread owner = Thread.currentThread();
+  S value;
+
+  Slot() {}
+
+  /**
+   * @return the argument currently held
+   */
+  public S
+  value() {
+    assert confined();
+    return value;
+  }
+
+  /**
+   * @return the thread this slot is confined to
+   */
+  public Thread
+  owner() { return owner; }
+
+  final boolean confined() {
+    final Thread current = Thread.currentThread();
+    if (current != owner) {
+      throw new AssertionError("slot confined to " + owner.getName() + " accessed from " + current.getName());
+    }
+    return true;
+  }
+}
@@ -0,0 +1,36 @@
+package org.tinyj.lava.binder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An operation accepting three arguments. The three-arity counterpart of
+ * {@link java.util.function.BiConsumer}.
+ *
+ * @param <X> the type of the first argument to the operation
+ * @param <Y> the type of the second argument to the operation
+ * @param <Z> the type of the third argument to the operation
+ */
+@FunctionalInterface
+public interface TriConsumer<X, Y, Z> {
+
+  void accept(X x, Y y, Z z);
+
+  /**
+   * @return a composed operation that performs this operation and then {@code after}
+   */
+  default TriConsumer<X, Y, Z>
+  andThen(TriConsumer<? super X, ? super Y, ? super Z> after) {
+    requireNonNull(after);
+    return (x, y, z) -> {
+      accept(x, y, z);
+      after.accept(x, y, z);
+    };
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code consumer}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z> TriConsumer<X, Y, Z>
+  castDown(TriConsumer<? super X, ? super Y, ? super Z> consumer) { return (TriConsumer<X, Y, Z>) consumer; }
+}
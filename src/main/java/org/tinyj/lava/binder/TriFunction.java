@@ -0,0 +1,37 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function accepting three arguments. The three-arity counterpart of
+ * {@link java.util.function.BiFunction}.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <Z> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface TriFunction<X, Y, Z, R> {
+
+  R apply(X x, Y y, Z z);
+
+  /**
+   * @return a composed function that applies this function and then {@code after}
+   * to its result
+   */
+  default <V> TriFunction<X, Y, Z, V>
+  andThen(Function<? super R, ? extends V> after) {
+    requireNonNull(after);
+    return (x, y, z) -> after.apply(apply(x, y, z));
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code function}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z, R> TriFunction<X, Y, Z, R>
+  castDown(TriFunction<? super X, ? super Y, ? super Z, ? extends R> function) { return (TriFunction<X, Y, Z, R>) function; }
+}
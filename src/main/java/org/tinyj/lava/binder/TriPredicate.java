@@ -0,0 +1,48 @@
+package org.tinyj.lava.binder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate accepting three arguments. The three-arity counterpart of
+ * {@link java.util.function.BiPredicate}.
+ *
+ * @param <X> the type of the first argument to the predicate
+ * @param <Y> the type of the second argument to the predicate
+ * @param <Z> the type of the third argument to the predicate
+ */
+@FunctionalInterface
+public interface TriPredicate<X, Y, Z> {
+
+  boolean test(X x, Y y, Z z);
+
+  /**
+   * @return the logical negation of this predicate
+   */
+  default TriPredicate<X, Y, Z>
+  negate() { return (x, y, z) -> !test(x, y, z); }
+
+  /**
+   * @return a short-circuiting logical AND of this predicate and {@code other}
+   */
+  default TriPredicate<X, Y, Z>
+  and(TriPredicate<? super X, ? super Y, ? super Z> other) {
+    requireNonNull(other);
+    return (x, y, z) -> test(x, y, z) && other.test(x, y, z);
+  }
+
+  /**
+   * @return a short-circuiting logical OR of this predicate and {@code other}
+   */
+  default TriPredicate<X, Y, Z>
+  or(TriPredicate<? super X, ? super Y, ? super Z> other) {
+    requireNonNull(other);
+    return (x, y, z) -> test(x, y, z) || other.test(x, y, z);
+  }
+
+  /**
+   * Safely narrow the type parameters of {@code predicate}.
+   */
+  @SuppressWarnings("unchecked")
+  static <X, Y, Z> TriPredicate<X, Y, Z>
+  castDown(TriPredicate<? super X, ? super Y, ? super Z> predicate) { return (TriPredicate<X, Y, Z>) predicate; }
+}
@@ -0,0 +1,166 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaFunction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batching function, gathers concurrent invocations into a single
+ * invocation of a bulk function. Can be used where ever a {@link Function}
+ * or {@link LavaFunction} is required, {@link #submit(Object)} offers a
+ * non-blocking variant.
+ * <p>
+ * A batch is opened by the first invocation and dispatched to the
+ * {@code executor} once it holds {@code maxBatchSize} distinct keys or
+ * {@code window} has passed, whatever comes first. Equal keys within a batch
+ * are passed to the bulk function only once. Each invocation receives the
+ * value mapped to its key, {@code null} if the bulk function did not map it,
+ * or the exception thrown by the bulk function.
+ *
+ * @param <K> the type of the input to the function
+ * @param <V> the type of the result of the function
+ */
+public final class Batched<K, V, E extends Exception>
+    implements Function<K, V>, LavaFunction<K, V, E> {
+
+  private final LavaFunction<List<K>, Map<K, ? extends V>, E> bulk;
+  private final int maxBatchSize;
+  private final long windowNanos;
+  private final Executor executor;
+  private Batch pending;
+
+  public Batched(LavaFunction<? super List<K>, ? extends Map<K, ? extends V>, ? extends E> bulk,
+                 int maxBatchSize, Duration window, Executor executor) {
+    requireNonNull(bulk);
+    requireNonNull(window);
+    requireNonNull(executor);
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+    }
+    this.bulk = LavaFunction.castDown(bulk);
+    this.maxBatchSize = maxBatchSize;
+    this.windowNanos = window.toNanos();
+    this.executor = executor;
+  }
+
+  /**
+   * Add {@code key} to the current batch.
+   *
+   * @return a future completed with the result for {@code key} once the batch
+   * has been processed. Cancelling it does not affect the batch.
+   */
+  public CompletableFuture<V> submit(K key) { return enqueue(key).copy(); }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V checkedApply(K key) throws E {
+    try {
+      return enqueue(key).join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (E) cause;
+    }
+  }
+
+  @Override
+  public V apply(K key) {
+    try {
+      return checkedApply(key);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  private CompletableFuture<V> enqueue(K key) {
+    final Batch full;
+    final CompletableFuture<V> future;
+    synchronized (this) {
+      if (pending == null) {
+        final Batch batch = new Batch();
+        batch.timeout = Timer.TIMER.schedule(() -> expire(batch), windowNanos, TimeUnit.NANOSECONDS);
+        pending = batch;
+      }
+      future = pending.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+      if (pending.futures.size() < maxBatchSize) {
+        return future;
+      }
+      full = pending;
+      pending = null;
+    }
+    full.timeout.cancel(false);
+    dispatch(full);
+    return future;
+  }
+
+  private void expire(Batch batch) {
+    synchronized (this) {
+      if (pending != batch) {
+        return;
+      }
+      pending = null;
+    }
+    dispatch(batch);
+  }
+
+  private void dispatch(Batch batch) {
+    try {
+      executor.execute(batch);
+    } catch (RejectedExecutionException e) {
+      batch.fail(e);
+    }
+  }
+
+  private final class Batch
+      implements Runnable {
+
+    final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+    ScheduledFuture<?> timeout;
+
+    @Override
+    public void run() {
+      final Map<K, ? extends V> results;
+      try {
+        results = bulk.checkedApply(new ArrayList<>(futures.keySet()));
+      } catch (Throwable t) {
+        fail(t);
+        return;
+      }
+      futures.forEach((key, future) -> future.complete(results == null ? null : results.get(key)));
+    }
+
+    void fail(Throwable failure) {
+      futures.values().forEach(future -> future.completeExceptionally(failure));
+    }
+  }
+
+  /** Holder of the timer shared by all batching functions, started on first use. */
+  private static final class Timer {
+
+    static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "lava-batch-timer");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    static {
+      TIMER.setRemoveOnCancelPolicy(true);
+    }
+  }
+}
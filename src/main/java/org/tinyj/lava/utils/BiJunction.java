@@ -0,0 +1,110 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiPredicate;
+import org.tinyj.lava.utils.Junction.Kind;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+
+/**
+ * A binary predicate combining a flat array of binary predicates, as returned
+ * by {@code allOf(...)}, {@code anyOf(...)} and {@code noneOf(...)}. The
+ * two argument counterpart of {@link Junction}. Can be used where ever a
+ * {@link BiPredicate} or {@link LavaBiPredicate} is required.
+ *
+ * @param <X> the type of the first tested value
+ * @param <Y> the type of the second tested value
+ */
+public final class BiJunction<X, Y, E extends Exception>
+    implements BiPredicate<X, Y>, LavaBiPredicate<X, Y, E> {
+
+  final Kind kind;
+  final LavaBiPredicate<? super X, ? super Y, ? extends E>[] predicates;
+  private final boolean decisive;
+  private final boolean decided;
+
+  private BiJunction(Kind kind, LavaBiPredicate<? super X, ? super Y, ? extends E>[] predicates) {
+    this.kind = kind;
+    this.predicates = predicates;
+    this.decisive = kind.decisive;
+    this.decided = kind.decided;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  of(Kind kind, LavaBiPredicate<? super X, ? super Y, ? extends E>[] operands) {
+    final Object[] flat = Junction.flatten(kind, operands);
+    if (flat == null || flat.length == 0) {
+      return (flat == null) == kind.decided ? LavaFun.True() : LavaFun.False();
+    }
+    if (flat.length == 1 && kind != Kind.NONE) {
+      return LavaBiPredicate.castDown((LavaBiPredicate<? super X, ? super Y, ? extends E>) flat[0]);
+    }
+    return new BiJunction<>(kind, Arrays.copyOf(flat, flat.length, LavaBiPredicate[].class));
+  }
+
+  @SuppressWarnings("unchecked")
+  static <X, Y> BiPredicate<X, Y>
+  of(Kind kind, BiPredicate<? super X, ? super Y>[] operands) {
+    final Object[] flat = Junction.flatten(kind, operands);
+    if (flat == null || flat.length == 0) {
+      return (flat == null) == kind.decided ? JavaFun.True() : JavaFun.False();
+    }
+    if (flat.length == 1 && kind != Kind.NONE) {
+      return JavaFun.castDown((BiPredicate<? super X, ? super Y>) flat[0]);
+    }
+    final LavaBiPredicate<? super X, ? super Y, RuntimeException>[] predicates =
+        (LavaBiPredicate<? super X, ? super Y, RuntimeException>[]) new LavaBiPredicate<?, ?, ?>[flat.length];
+    for (int i = 0; i < flat.length; i++) {
+      predicates[i] = flat[i] instanceof LavaBiPredicate
+                      ? (LavaBiPredicate<? super X, ? super Y, RuntimeException>) flat[i]
+                      : ((BiPredicate<? super X, ? super Y>) flat[i])::test;
+    }
+    return new BiJunction<>(kind, predicates);
+  }
+
+  @Override
+  public boolean checkedTest(X x, Y y) throws E {
+    for (LavaBiPredicate<? super X, ? super Y, ? extends E> predicate : predicates) {
+      if (predicate.checkedTest(x, y) == decisive) {
+        return decided;
+      }
+    }
+    return !decided;
+  }
+
+  @Override
+  public boolean test(X x, Y y) {
+    try {
+      return checkedTest(x, y);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public BiPredicate<X, Y> and(BiPredicate<? super X, ? super Y> other) { return of(Kind.ALL, (BiPredicate<? super X, ? super Y>[]) new BiPredicate<?, ?>[] {this, other}); }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public BiPredicate<X, Y> or(BiPredicate<? super X, ? super Y> other) { return of(Kind.ANY, (BiPredicate<? super X, ? super Y>[]) new BiPredicate<?, ?>[] {this, other}); }
+
+  @Override
+  public BiPredicate<X, Y>
+  negate() {
+    switch (kind) {
+      case ANY: return new BiJunction<>(Kind.NONE, predicates);
+      case NONE: return new BiJunction<>(Kind.ANY, predicates);
+      default: return BiPredicate.super.negate();
+    }
+  }
+
+  /**
+   * @return the number of predicates combined
+   */
+  public int size() { return predicates.length; }
+}
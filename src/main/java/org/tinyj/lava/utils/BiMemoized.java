@@ -0,0 +1,207 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiFunction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A memoized bi-function, caches up to {@code maxSize} results of the wrapped
+ * function, rounded up to the next power of two. Can be used where ever a
+ * {@link BiFunction} or {@link LavaBiFunction} is required.
+ * <p>
+ * Results are kept in an open addressing table hashing and comparing both
+ * arguments directly, lookups neither lock nor allocate. Misses compute the
+ * result without holding a lock, concurrent misses on the same arguments may
+ * thus invoke the wrapped function more than once. Each pair of arguments is
+ * kept within a few slots of its hash, once these are taken the first of them
+ * not referenced since the last sweep is evicted.
+ * <p>
+ * Exceptions thrown by the wrapped function are only cached if
+ * {@code cacheFailures} is set, the cached exception instance is then rethrown
+ * on each lookup of the same arguments. {@link Error}s are never cached.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ */
+public final class BiMemoized<X, Y, R, E extends Exception>
+    implements BiFunction<X, Y, R>, LavaBiFunction<X, Y, R, E>, CacheStats {
+
+  private static final int MAX_PROBES = 8;
+
+  private final LavaBiFunction<X, Y, R, E> function;
+  private final boolean cacheFailures;
+  private final AtomicReferenceArray<Entry<R, E>> table;
+  private final int mask;
+  private final int probes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public BiMemoized(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> function, int maxSize,
+                    boolean cacheFailures) {
+    requireNonNull(function);
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    this.function = LavaBiFunction.castDown(function);
+    this.cacheFailures = cacheFailures;
+    final int capacity = Integer.highestOneBit(Math.min(maxSize, 1 << 30) * 2 - 1);
+    this.table = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+    this.probes = Math.min(capacity, MAX_PROBES);
+  }
+
+  @Override
+  public R checkedApply(X x, Y y) throws E {
+    final int hash = hash(x, y);
+    final Entry<R, E> cached = find(hash, x, y);
+    if (cached != null) {
+      hits.increment();
+      cached.touch();
+      return cached.get();
+    }
+    misses.increment();
+    final R result;
+    try {
+      result = function.checkedApply(x, y);
+    } catch (Exception e) {
+      if (cacheFailures) {
+        admit(new Entry<>(hash, x, y, null, e));
+      }
+      throw e;
+    }
+    return admit(new Entry<>(hash, x, y, result, null)).get();
+  }
+
+  @Override
+  public R apply(X x, Y y) {
+    try {
+      return checkedApply(x, y);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  @Override
+  public long hitCount() { return hits.sum(); }
+
+  @Override
+  public long missCount() { return misses.sum(); }
+
+  @Override
+  public long evictionCount() { return evictions.sum(); }
+
+  /**
+   * @return the number of entries the cache can hold
+   */
+  public int capacity() { return table.length(); }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < table.length(); i++) {
+      if (table.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Slots are never cleared once taken, a lookup may thus stop at the first
+   * empty slot.
+   */
+  private Entry<R, E> find(int hash, Object x, Object y) {
+    for (int i = 0, index = hash & mask; i < probes; i++, index = (index + 1) & mask) {
+      final Entry<R, E> entry = table.get(index);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.matches(hash, x, y)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private Entry<R, E> admit(Entry<R, E> entry) {
+    int victim = -1;
+    for (int i = 0, index = entry.hash & mask; i < probes; i++, index = (index + 1) & mask) {
+      Entry<R, E> current = table.get(index);
+      while (current == null) {
+        if (table.compareAndSet(index, null, entry)) {
+          return entry;
+        }
+        current = table.get(index);
+      }
+      if (current.matches(entry.hash, entry.x, entry.y)) {
+        return current;
+      }
+      if (victim < 0) {
+        if (current.referenced) {
+          current.referenced = false;
+        } else {
+          victim = index;
+        }
+      }
+    }
+    table.set(victim < 0 ? entry.hash & mask : victim, entry);
+    evictions.increment();
+    return entry;
+  }
+
+  private static int hash(Object x, Object y) {
+    final int hash = (31 * Objects.hashCode(x) + Objects.hashCode(y)) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Entry<R, E extends Exception> {
+
+    final int hash;
+    final Object x;
+    final Object y;
+    final R value;
+    final Exception failure;
+    /**
+     * CLOCK reference bit, races are benign. Set initially, sweeps start at
+     * the same slot for equal hashes and would otherwise evict the entry
+     * just admitted over and over.
+     */
+    boolean referenced = true;
+
+    Entry(int hash, Object x, Object y, R value, Exception failure) {
+      this.hash = hash;
+      this.x = x;
+      this.y = y;
+      this.value = value;
+      this.failure = failure;
+    }
+
+    boolean matches(int hash, Object x, Object y) {
+      return this.hash == hash && Objects.equals(this.x, x) && Objects.equals(this.y, y);
+    }
+
+    void touch() {
+      if (!referenced) {
+        referenced = true;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    R get() throws E {
+      if (failure != null) {
+        throw (E) failure;
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiFunction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A coalescing bi-function, concurrent invocations with equal pairs of
+ * arguments share a single invocation of the wrapped function. Can be used
+ * where ever a {@link BiFunction} or {@link LavaBiFunction} is required.
+ *
+ * @param <X> the type of the first argument to the function
+ * @param <Y> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ * @see SingleFlight
+ */
+public final class BiSingleFlight<X, Y, R, E extends Exception>
+    implements BiFunction<X, Y, R>, LavaBiFunction<X, Y, R, E> {
+
+  private final SingleFlight<Key<X, Y>, R, E> coalesced;
+
+  public BiSingleFlight(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> function) {
+    requireNonNull(function);
+    this.coalesced = new SingleFlight<>(key -> function.checkedApply(key.x, key.y));
+  }
+
+  @Override
+  public R checkedApply(X x, Y y) throws E { return coalesced.checkedApply(new Key<>(x, y)); }
+
+  @Override
+  public R apply(X x, Y y) {
+    try {
+      return checkedApply(x, y);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * @return the number of distinct pairs of arguments currently being computed
+   */
+  public int inFlightCount() { return coalesced.inFlightCount(); }
+
+  private static final class Key<X, Y> {
+
+    final X x;
+    final Y y;
+
+    Key(X x, Y y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key<?, ?> that = (Key<?, ?>) o;
+      return Objects.equals(x, that.x) && Objects.equals(y, that.y);
+    }
+
+    @Override
+    public int hashCode() { return 31 * Objects.hashCode(x) + Objects.hashCode(y); }
+  }
+}
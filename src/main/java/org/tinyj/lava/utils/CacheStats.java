@@ -0,0 +1,27 @@
+package org.tinyj.lava.utils;
+
+/**
+ * Statistics of a memoizing functor.
+ */
+interface CacheStats {
+
+  /**
+   * @return the number of lookups answered from the cache
+   */
+  long hitCount();
+
+  /**
+   * @return the number of lookups that invoked the wrapped function
+   */
+  long missCount();
+
+  /**
+   * @return the number of entries evicted to make room for new ones
+   */
+  long evictionCount();
+
+  /**
+   * @return the current number of cached entries
+   */
+  int size();
+}
@@ -0,0 +1,34 @@
+package org.tinyj.lava.utils;
+
+/**
+ * Unchecked exception carrying a checked one through Java functors, see
+ * {@code LavaFun.toJavaFunCarrying(...)}. Carriers are stackless, creating
+ * one does not walk the stack, and are unwrapped at the boundary with
+ * {@link LavaFun#unwrapCarried(Class, org.tinyj.lava.LavaSupplier)} or
+ * {@link #carried()}.
+ */
+public final class CheckedCarrier
+    extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private CheckedCarrier(Exception carried) { super(null, carried, false, false); }
+
+  /**
+   * @return {@code e} if unchecked, {@code e} wrapped in a {@code CheckedCarrier} otherwise
+   */
+  static RuntimeException
+  carry(Exception e) {
+    return e instanceof RuntimeException ? (RuntimeException) e : new CheckedCarrier(e);
+  }
+
+  /**
+   * @return the carried exception
+   */
+  public Exception
+  carried() { return (Exception) getCause(); }
+
+  @Override
+  public String
+  getMessage() { return getCause().toString(); }
+}
@@ -8,10 +8,17 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A constant, always returns {@code value}. This is equivalent to
  * {@code (...) -> value}. Can be used where ever a {@link Supplier},
  * {@link Function}, or {@link BiFunction} is required.
+ * <p>
+ * {@link #andThen(Function)} applies the given function once, right away, and
+ * returns the result as a new {@code Constant}. Its side effects and
+ * exceptions thus happen on that call. Binders linking a {@code Constant}
+ * evaluate their stages on each invocation as usual.
  */
 public final class Constant<X, Y, R, E extends Exception>
     implements Supplier<R>, FunctionOrBiFunction<X, Y, R>,
@@ -38,4 +45,10 @@ public final class Constant<X, Y, R, E extends Exception>
 
   @Override
   public R checkedGet() throws E { return value; }
+
+  @Override
+  public <S> Constant<X, Y, S, E> andThen(Function<? super R, ? extends S> after) {
+    requireNonNull(after);
+    return new Constant<>(after.apply(value));
+  }
 }
@@ -0,0 +1,40 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.*;
+
+/**
+ * A {@code double} constant, always returns {@code value}. This is equivalent to
+ * {@code (...) -> value}. Can be used where ever a {@link DoubleSupplier},
+ * {@link DoubleUnaryOperator}, {@link DoubleBinaryOperator}, {@link ToDoubleFunction},
+ * {@link ToDoubleBiFunction}, {@link IntToDoubleFunction}, or
+ * {@link LongToDoubleFunction} is required, without boxing {@code value}.
+ */
+public final class DoubleConstant<X, Y>
+    implements DoubleSupplier, DoubleUnaryOperator, DoubleBinaryOperator, ToDoubleFunction<X>, ToDoubleBiFunction<X, Y>,
+    IntToDoubleFunction, LongToDoubleFunction {
+
+  private final double value;
+
+  public DoubleConstant(double value) { this.value = value; }
+
+  @Override
+  public double getAsDouble() { return value; }
+
+  @Override
+  public double applyAsDouble(double x) { return value; }
+
+  @Override
+  public double applyAsDouble(double x, double y) { return value; }
+
+  @Override
+  public double applyAsDouble(X x) { return value; }
+
+  @Override
+  public double applyAsDouble(X x, Y y) { return value; }
+
+  @Override
+  public double applyAsDouble(int x) { return value; }
+
+  @Override
+  public double applyAsDouble(long x) { return value; }
+}
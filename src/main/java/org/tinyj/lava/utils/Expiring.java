@@ -0,0 +1,145 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaSupplier;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An expiring supplier, supplies the result of the wrapped supplier until it
+ * is older than {@code ttl}. Can be used where ever a {@link Supplier} or
+ * {@link LavaSupplier} is required.
+ * <p>
+ * A result younger than {@code ttl} is returned without locking. Once it is
+ * older than {@code refreshAhead} a single refresh is started on the
+ * {@code executor}, the current result is still supplied meanwhile. A refresh
+ * only replaces the result it started from, never a newer one loaded in the
+ * meantime. A failed refresh is recorded, see {@link #lastRefreshFailure()},
+ * and the next invocation starts another one. Only an expired
+ * result, or none at all, is loaded synchronously, invocations then wait for
+ * that load. A failed load is passed on and retried by the next invocation.
+ * <p>
+ * Ages are measured by {@code nanoClock}, {@link System#nanoTime()} unless
+ * given otherwise.
+ *
+ * @param <R> the type of the result of the supplier
+ */
+public final class Expiring<R, E extends Exception>
+    implements Supplier<R>, LavaSupplier<R, E> {
+
+  private final LavaSupplier<R, E> supplier;
+  private final long ttlNanos;
+  private final long refreshAheadNanos;
+  private final Executor executor;
+  private final LongSupplier nanoClock;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile Loaded<R> current;
+  private volatile Exception refreshFailure;
+
+  public Expiring(LavaSupplier<? extends R, ? extends E> supplier, Duration ttl, Duration refreshAhead,
+                  Executor executor, LongSupplier nanoClock) {
+    requireNonNull(supplier);
+    requireNonNull(executor);
+    requireNonNull(nanoClock);
+    this.ttlNanos = ttl.toNanos();
+    this.refreshAheadNanos = refreshAhead.toNanos();
+    if (ttlNanos <= 0) {
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+    }
+    if (refreshAheadNanos < 0 || refreshAheadNanos > ttlNanos) {
+      throw new IllegalArgumentException("refreshAhead must be within [0, ttl]: " + refreshAhead);
+    }
+    this.supplier = LavaSupplier.castDown(supplier);
+    this.executor = executor;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public R checkedGet() throws E {
+    final Loaded<R> loaded = current;
+    if (loaded != null) {
+      final long age = nanoClock.getAsLong() - loaded.at;
+      if (age < ttlNanos) {
+        if (age >= refreshAheadNanos) {
+          refresh(loaded);
+        }
+        return loaded.value;
+      }
+    }
+    return load(loaded);
+  }
+
+  @Override
+  public R get() {
+    try {
+      return checkedGet();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * @return the exception thrown by the last refresh, {@code null} if it
+   * succeeded or no refresh failed yet
+   */
+  public Exception lastRefreshFailure() { return refreshFailure; }
+
+  private synchronized R load(Loaded<R> expired) throws E {
+    final Loaded<R> loaded = current;
+    if (loaded != expired) {
+      return loaded.value;
+    }
+    final long at = nanoClock.getAsLong();
+    final R value = supplier.checkedGet();
+    current = new Loaded<>(value, at);
+    return value;
+  }
+
+  private void refresh(Loaded<R> stale) {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          final long at = nanoClock.getAsLong();
+          final R value = supplier.checkedGet();
+          replace(stale, new Loaded<>(value, at));
+          refreshFailure = null;
+        } catch (Exception e) {
+          refreshFailure = e;
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      refreshing.set(false);
+    }
+  }
+
+  private synchronized void replace(Loaded<R> stale, Loaded<R> refreshed) {
+    if (current == stale) {
+      current = refreshed;
+    }
+  }
+
+  private static final class Loaded<R> {
+
+    final R value;
+    final long at;
+
+    Loaded(R value, long at) {
+      this.value = value;
+      this.at = at;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link BiConsumer} with flipped arguments. Flipping it again yields the
+ * original {@link BiConsumer} instead of wrapping it a second time.
+ */
+final class FlippedBiConsumer<Y, X>
+    implements BiConsumer<Y, X> {
+
+  final BiConsumer<X, Y> flipped;
+
+  FlippedBiConsumer(BiConsumer<X, Y> flipped) { this.flipped = flipped; }
+
+  @Override
+  public void accept(Y y, X x) { flipped.accept(x, y); }
+}
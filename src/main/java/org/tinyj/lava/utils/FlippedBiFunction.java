@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BiFunction} with flipped arguments. Flipping it again yields the
+ * original {@link BiFunction} instead of wrapping it a second time.
+ */
+final class FlippedBiFunction<Y, X, R>
+    implements BiFunction<Y, X, R> {
+
+  final BiFunction<X, Y, R> flipped;
+
+  FlippedBiFunction(BiFunction<X, Y, R> flipped) { this.flipped = flipped; }
+
+  @Override
+  public R apply(Y y, X x) { return flipped.apply(x, y); }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link BiPredicate} with flipped arguments. Flipping it again yields the
+ * original {@link BiPredicate} instead of wrapping it a second time.
+ */
+final class FlippedBiPredicate<Y, X>
+    implements BiPredicate<Y, X> {
+
+  final BiPredicate<X, Y> flipped;
+
+  FlippedBiPredicate(BiPredicate<X, Y> flipped) { this.flipped = flipped; }
+
+  @Override
+  public boolean test(Y y, X x) { return flipped.test(x, y); }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiConsumer;
+
+/**
+ * A {@link LavaBiConsumer} with flipped arguments. Flipping it again yields the
+ * original {@link LavaBiConsumer} instead of wrapping it a second time.
+ */
+final class FlippedLavaBiConsumer<Y, X, E extends Exception>
+    implements LavaBiConsumer<Y, X, E> {
+
+  final LavaBiConsumer<X, Y, E> flipped;
+
+  FlippedLavaBiConsumer(LavaBiConsumer<X, Y, E> flipped) { this.flipped = flipped; }
+
+  @Override
+  public void checkedAccept(Y y, X x) throws E { flipped.checkedAccept(x, y); }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiFunction;
+
+/**
+ * A {@link LavaBiFunction} with flipped arguments. Flipping it again yields the
+ * original {@link LavaBiFunction} instead of wrapping it a second time.
+ */
+final class FlippedLavaBiFunction<Y, X, R, E extends Exception>
+    implements LavaBiFunction<Y, X, R, E> {
+
+  final LavaBiFunction<X, Y, R, E> flipped;
+
+  FlippedLavaBiFunction(LavaBiFunction<X, Y, R, E> flipped) { this.flipped = flipped; }
+
+  @Override
+  public R checkedApply(Y y, X x) throws E { return flipped.checkedApply(x, y); }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiPredicate;
+
+/**
+ * A {@link LavaBiPredicate} with flipped arguments. Flipping it again yields the
+ * original {@link LavaBiPredicate} instead of wrapping it a second time.
+ */
+final class FlippedLavaBiPredicate<Y, X, E extends Exception>
+    implements LavaBiPredicate<Y, X, E> {
+
+  final LavaBiPredicate<X, Y, E> flipped;
+
+  FlippedLavaBiPredicate(LavaBiPredicate<X, Y, E> flipped) { this.flipped = flipped; }
+
+  @Override
+  public boolean checkedTest(Y y, X x) throws E { return flipped.checkedTest(x, y); }
+}
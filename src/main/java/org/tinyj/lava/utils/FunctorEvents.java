@@ -0,0 +1,70 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.*;
+
+import java.util.function.*;
+
+/**
+ * Emits JDK Flight Recorder events around functor invocations. JFR is not
+ * available to this release, functors are thus returned as they are. See the
+ * multi-release variant of this class for the actual implementation.
+ */
+@SuppressWarnings("overloads")
+final class FunctorEvents {
+
+  private FunctorEvents() {}
+
+  static <E extends Exception> LavaRunnable<E>
+  instrument(String label, LavaRunnable<? extends E> runnable) { return LavaRunnable.castDown(runnable); }
+
+  static <R, E extends Exception> LavaSupplier<R, E>
+  instrument(String label, LavaSupplier<? extends R, ? extends E> supplier) { return LavaSupplier.castDown(supplier); }
+
+  static <E extends Exception> LavaCondition<E>
+  instrument(String label, LavaCondition<? extends E> condition) { return LavaCondition.castDown(condition); }
+
+  static <X, E extends Exception> LavaConsumer<X, E>
+  instrument(String label, LavaConsumer<? super X, ? extends E> consumer) { return LavaConsumer.castDown(consumer); }
+
+  static <X, Y, E extends Exception> LavaBiConsumer<X, Y, E>
+  instrument(String label, LavaBiConsumer<? super X, ? super Y, ? extends E> biConsumer) { return LavaBiConsumer.castDown(biConsumer); }
+
+  static <X, R, E extends Exception> LavaFunction<X, R, E>
+  instrument(String label, LavaFunction<? super X, ? extends R, ? extends E> function) { return LavaFunction.castDown(function); }
+
+  static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  instrument(String label, LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) { return LavaBiFunction.castDown(biFunction); }
+
+  static <X, E extends Exception> LavaPredicate<X, E>
+  instrument(String label, LavaPredicate<? super X, ? extends E> predicate) { return LavaPredicate.castDown(predicate); }
+
+  static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  instrument(String label, LavaBiPredicate<? super X, ? super Y, ? extends E> biPredicate) { return LavaBiPredicate.castDown(biPredicate); }
+
+  static Runnable
+  instrument(String label, Runnable runnable) { return runnable; }
+
+  static <R> Supplier<R>
+  instrument(String label, Supplier<? extends R> supplier) { return JavaFun.castDown(supplier); }
+
+  static BooleanSupplier
+  instrument(String label, BooleanSupplier condition) { return condition; }
+
+  static <X> Consumer<X>
+  instrument(String label, Consumer<? super X> consumer) { return JavaFun.castDown(consumer); }
+
+  static <X, Y> BiConsumer<X, Y>
+  instrument(String label, BiConsumer<? super X, ? super Y> biConsumer) { return JavaFun.castDown(biConsumer); }
+
+  static <X, R> Function<X, R>
+  instrument(String label, Function<? super X, ? extends R> function) { return JavaFun.castDown(function); }
+
+  static <X, Y, R> BiFunction<X, Y, R>
+  instrument(String label, BiFunction<? super X, ? super Y, ? extends R> biFunction) { return JavaFun.castDown(biFunction); }
+
+  static <X> Predicate<X>
+  instrument(String label, Predicate<? super X> predicate) { return JavaFun.castDown(predicate); }
+
+  static <X, Y> BiPredicate<X, Y>
+  instrument(String label, BiPredicate<? super X, ? super Y> biPredicate) { return JavaFun.castDown(biPredicate); }
+}
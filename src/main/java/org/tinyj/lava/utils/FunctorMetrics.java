@@ -0,0 +1,137 @@
+package org.tinyj.lava.utils;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Metrics of a functor registered with {@code LavaFun.register(...)} or
+ * {@code JavaFun.register(...)}, exposed on the platform MBean server as
+ * {@code org.tinyj.lava:type=Functor,name="<name>"}.
+ * <p>
+ * Invocations are counted in {@link LongAdder}s and their latencies recorded
+ * into a {@link LatencyHistogram}, neither locks on the invocation path.
+ * Statistics are computed when read.
+ */
+public final class FunctorMetrics
+    implements FunctorMetricsMXBean {
+
+  private static final ConcurrentHashMap<String, FunctorMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final ObjectName objectName;
+  private final CacheStats cache;
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  private FunctorMetrics(String name, Object functor) {
+    this.name = name;
+    this.objectName = objectName(name);
+    this.cache = functor instanceof CacheStats ? (CacheStats) functor : null;
+  }
+
+  /**
+   * Create metrics for {@code functor} and register them under {@code name}.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   */
+  static FunctorMetrics
+  register(String name, Object functor) {
+    requireNonNull(name);
+    requireNonNull(functor);
+    final FunctorMetrics metrics = new FunctorMetrics(name, functor);
+    if (REGISTRY.putIfAbsent(name, metrics) != null) {
+      throw new IllegalArgumentException("functor already registered: " + name);
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+    } catch (JMException e) {
+      REGISTRY.remove(name, metrics);
+      throw new IllegalStateException("cannot register functor " + name, e);
+    }
+    return metrics;
+  }
+
+  /**
+   * Remove the metrics registered under {@code name}. Invocations of the
+   * registered functor are still counted, but no longer exposed.
+   *
+   * @return {@code true} iff metrics were registered under {@code name}
+   */
+  static boolean
+  unregister(String name) {
+    final FunctorMetrics metrics = REGISTRY.remove(requireNonNull(name));
+    if (metrics == null) {
+      return false;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(metrics.objectName);
+    } catch (JMException e) {
+      throw new IllegalStateException("cannot unregister functor " + name, e);
+    }
+    return true;
+  }
+
+  /**
+   * @return the metrics registered under {@code name}, {@code null} if there are none
+   */
+  public static FunctorMetrics
+  lookup(String name) { return REGISTRY.get(requireNonNull(name)); }
+
+  void record(long nanos) {
+    invocations.increment();
+    latency.accept(nanos);
+  }
+
+  void failed() { errors.increment(); }
+
+  /**
+   * @return the latencies recorded so far
+   */
+  public LatencyHistogram.Snapshot
+  latency() { return latency.snapshot(); }
+
+  @Override
+  public String getName() { return name; }
+
+  @Override
+  public long getInvocationCount() { return invocations.sum(); }
+
+  @Override
+  public long getErrorCount() { return errors.sum(); }
+
+  @Override
+  public double getMeanLatencyNanos() { return latency.snapshot().mean(); }
+
+  @Override
+  public long getP99LatencyNanos() { return latency.snapshot().percentile(99); }
+
+  @Override
+  public Long getCacheHitCount() { return cache == null ? null : cache.hitCount(); }
+
+  @Override
+  public Long getCacheMissCount() { return cache == null ? null : cache.missCount(); }
+
+  @Override
+  public Long getCacheEvictionCount() { return cache == null ? null : cache.evictionCount(); }
+
+  @Override
+  public Integer getCacheSize() { return cache == null ? null : cache.size(); }
+
+  private static ObjectName objectName(String name) {
+    final Hashtable<String, String> properties = new Hashtable<>();
+    properties.put("type", "Functor");
+    properties.put("name", ObjectName.quote(name));
+    try {
+      return new ObjectName("org.tinyj.lava", properties);
+    } catch (JMException e) {
+      throw new IllegalArgumentException("invalid functor name: " + name, e);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.tinyj.lava.utils;
+
+/**
+ * Management interface of {@link FunctorMetrics}. Cache statistics are
+ * {@code null} unless the registered functor is {@link Memoized} or
+ * {@link BiMemoized}.
+ */
+public interface FunctorMetricsMXBean {
+
+  String getName();
+
+  long getInvocationCount();
+
+  long getErrorCount();
+
+  double getMeanLatencyNanos();
+
+  long getP99LatencyNanos();
+
+  Long getCacheHitCount();
+
+  Long getCacheMissCount();
+
+  Long getCacheEvictionCount();
+
+  Integer getCacheSize();
+}
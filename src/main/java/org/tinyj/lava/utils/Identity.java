@@ -0,0 +1,32 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The identity function, see {@link JavaFun#Identity()}. Composing it with
+ * another function yields that other function.
+ */
+final class Identity
+    implements Function<Object, Object> {
+
+  static final Identity IDENTITY = new Identity();
+
+  private Identity() {}
+
+  @Override
+  public Object apply(Object x) { return x; }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> Function<Object, V> andThen(Function<? super Object, ? extends V> after) {
+    return (Function<Object, V>) requireNonNull(after);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> Function<V, Object> compose(Function<? super V, ?> before) {
+    return (Function<V, Object>) requireNonNull(before);
+  }
+}
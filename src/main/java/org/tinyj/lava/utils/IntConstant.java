@@ -0,0 +1,40 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.*;
+
+/**
+ * A {@code int} constant, always returns {@code value}. This is equivalent to
+ * {@code (...) -> value}. Can be used where ever a {@link IntSupplier},
+ * {@link IntUnaryOperator}, {@link IntBinaryOperator}, {@link ToIntFunction},
+ * {@link ToIntBiFunction}, {@link LongToIntFunction}, or
+ * {@link DoubleToIntFunction} is required, without boxing {@code value}.
+ */
+public final class IntConstant<X, Y>
+    implements IntSupplier, IntUnaryOperator, IntBinaryOperator, ToIntFunction<X>, ToIntBiFunction<X, Y>,
+    LongToIntFunction, DoubleToIntFunction {
+
+  private final int value;
+
+  public IntConstant(int value) { this.value = value; }
+
+  @Override
+  public int getAsInt() { return value; }
+
+  @Override
+  public int applyAsInt(int x) { return value; }
+
+  @Override
+  public int applyAsInt(int x, int y) { return value; }
+
+  @Override
+  public int applyAsInt(X x) { return value; }
+
+  @Override
+  public int applyAsInt(X x, Y y) { return value; }
+
+  @Override
+  public int applyAsInt(long x) { return value; }
+
+  @Override
+  public int applyAsInt(double x) { return value; }
+}
@@ -0,0 +1,103 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.*;
+
+import java.util.function.*;
+
+/**
+ * Java functors adapting Lava functors, see {@code LavaFun.toJavaFun(...)}.
+ * Each adapter keeps the adapted functor, {@code JavaFun.toLavaFun(...)}
+ * returns it instead of wrapping the adapter.
+ */
+final class JavaAdapter {
+
+  private JavaAdapter() {}
+
+  static final class OfRunnable
+      implements Runnable {
+
+    final LavaRunnable<? extends RuntimeException> adapted;
+
+    OfRunnable(LavaRunnable<? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public void run() { adapted.checkedRun(); }
+  }
+
+  static final class OfConsumer<X>
+      implements Consumer<X> {
+
+    final LavaConsumer<? super X, ? extends RuntimeException> adapted;
+
+    OfConsumer(LavaConsumer<? super X, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public void accept(X x) { adapted.checkedAccept(x); }
+  }
+
+  static final class OfBiConsumer<X, Y>
+      implements BiConsumer<X, Y> {
+
+    final LavaBiConsumer<? super X, ? super Y, ? extends RuntimeException> adapted;
+
+    OfBiConsumer(LavaBiConsumer<? super X, ? super Y, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public void accept(X x, Y y) { adapted.checkedAccept(x, y); }
+  }
+
+  static final class OfSupplier<R>
+      implements Supplier<R> {
+
+    final LavaSupplier<? extends R, ? extends RuntimeException> adapted;
+
+    OfSupplier(LavaSupplier<? extends R, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R get() { return adapted.checkedGet(); }
+  }
+
+  static final class OfFunction<X, R>
+      implements Function<X, R> {
+
+    final LavaFunction<? super X, ? extends R, ? extends RuntimeException> adapted;
+
+    OfFunction(LavaFunction<? super X, ? extends R, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R apply(X x) { return adapted.checkedApply(x); }
+  }
+
+  static final class OfBiFunction<X, Y, R>
+      implements BiFunction<X, Y, R> {
+
+    final LavaBiFunction<? super X, ? super Y, ? extends R, ? extends RuntimeException> adapted;
+
+    OfBiFunction(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R apply(X x, Y y) { return adapted.checkedApply(x, y); }
+  }
+
+  static final class OfPredicate<X>
+      implements Predicate<X> {
+
+    final LavaPredicate<? super X, ? extends RuntimeException> adapted;
+
+    OfPredicate(LavaPredicate<? super X, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public boolean test(X x) { return adapted.checkedTest(x); }
+  }
+
+  static final class OfBiPredicate<X, Y>
+      implements BiPredicate<X, Y> {
+
+    final LavaBiPredicate<? super X, ? super Y, ? extends RuntimeException> adapted;
+
+    OfBiPredicate(LavaBiPredicate<? super X, ? super Y, ? extends RuntimeException> adapted) { this.adapted = adapted; }
+
+    @Override
+    public boolean test(X x, Y y) { return adapted.checkedTest(x, y); }
+  }
+}
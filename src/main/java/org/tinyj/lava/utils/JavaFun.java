@@ -3,7 +3,11 @@ package org.tinyj.lava.utils;
 import org.tinyj.lava.*;
 import org.tinyj.lava.binder.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 import static java.util.Objects.requireNonNull;
@@ -17,7 +21,7 @@ public class JavaFun {
   protected JavaFun() { assert false : "JavaFun is a utility class, static use only."; }
 
   public final static
-  Function<Object, ?> IDENTITY = x -> x;
+  Function<Object, ?> IDENTITY = Identity.IDENTITY;
   public final static
   BiFunction<Object, Object, ?> FIRST = (x, y) -> y;
   public final static
@@ -40,6 +44,27 @@ public class JavaFun {
   public static <X, Y, E extends Exception> NoOp<X, Y, E>
   NoOp() { return NoOp.NO_OP; }
 
+  /**
+   * The no-operation on {@code int} values. Sequencing it with another
+   * operation yields that other operation.
+   */
+  public static IntConsumer
+  IntNoOp() { return PrimitiveNoOp.NO_OP; }
+
+  /**
+   * The no-operation on {@code long} values. Sequencing it with another
+   * operation yields that other operation.
+   */
+  public static LongConsumer
+  LongNoOp() { return PrimitiveNoOp.NO_OP; }
+
+  /**
+   * The no-operation on {@code double} values. Sequencing it with another
+   * operation yields that other operation.
+   */
+  public static DoubleConsumer
+  DoubleNoOp() { return PrimitiveNoOp.NO_OP; }
+
   /**
    * A constant, always returns {@code value}. This is equivalent to
    * {@code (...) -> value}. Can be used where ever a {@link Supplier},
@@ -48,6 +73,30 @@ public class JavaFun {
   public static <X, Y, R, E extends Exception> Constant<X, Y, R, E>
   Constant(R value) { return new Constant<>(value); }
 
+  /**
+   * An {@code int} constant, always returns {@code value}. Can be used where
+   * ever a primitive functional interface returning {@code int} is required.
+   */
+  @SuppressWarnings("MethodNameSameAsClassName")
+  public static <X, Y> IntConstant<X, Y>
+  IntConstant(int value) { return new IntConstant<>(value); }
+
+  /**
+   * A {@code long} constant, always returns {@code value}. Can be used where
+   * ever a primitive functional interface returning {@code long} is required.
+   */
+  @SuppressWarnings("MethodNameSameAsClassName")
+  public static <X, Y> LongConstant<X, Y>
+  LongConstant(long value) { return new LongConstant<>(value); }
+
+  /**
+   * A {@code double} constant, always returns {@code value}. Can be used where
+   * ever a primitive functional interface returning {@code double} is required.
+   */
+  @SuppressWarnings("MethodNameSameAsClassName")
+  public static <X, Y> DoubleConstant<X, Y>
+  DoubleConstant(double value) { return new DoubleConstant<>(value); }
+
   /**
    * The {@code null} supplier, always returns {@code null}. This is equivalent
    * to {@code (...) -> null}. Can be used where ever a {@link Supplier},
@@ -59,12 +108,35 @@ public class JavaFun {
 
   /**
    * The identity function, returns it's argument. This is equivalent to
-   * {@code x -> x}.
+   * {@code x -> x}. {@code Identity().andThen(f)} and
+   * {@code Identity().compose(f)} return {@code f}. {@code f.andThen(Identity())}
+   * is up to {@code f}, only binders drop the identity there.
    */
   @SuppressWarnings("unchecked")
   public static <X extends R, R> Function<X, R>
   Identity() { return (Function) IDENTITY; }
 
+  /**
+   * The identity on {@code int} values, returns its argument without boxing it.
+   * Composing it with another operator yields that other operator.
+   */
+  public static IntUnaryOperator
+  IntIdentity() { return PrimitiveIdentity.IDENTITY; }
+
+  /**
+   * The identity on {@code long} values, returns its argument without boxing it.
+   * Composing it with another operator yields that other operator.
+   */
+  public static LongUnaryOperator
+  LongIdentity() { return PrimitiveIdentity.IDENTITY; }
+
+  /**
+   * The identity on {@code double} values, returns its argument without boxing it.
+   * Composing it with another operator yields that other operator.
+   */
+  public static DoubleUnaryOperator
+  DoubleIdentity() { return PrimitiveIdentity.IDENTITY; }
+
   /**
    * The stringify function, returns the string representation of its argument.
    * This is equivalent to {@code x -> Objects.toString(x)}.
@@ -109,6 +181,48 @@ public class JavaFun {
   False() {
     return False.FALSE;
   }
+  /**
+   * The {@literal true}-predicate on {@code int} values, returns {@code true} without
+   * boxing the tested value.
+   */
+  public static IntPredicate
+  IntTrue() { return PrimitiveTrue.TRUE; }
+
+  /**
+   * The {@literal true}-predicate on {@code long} values, returns {@code true} without
+   * boxing the tested value.
+   */
+  public static LongPredicate
+  LongTrue() { return PrimitiveTrue.TRUE; }
+
+  /**
+   * The {@literal true}-predicate on {@code double} values, returns {@code true} without
+   * boxing the tested value.
+   */
+  public static DoublePredicate
+  DoubleTrue() { return PrimitiveTrue.TRUE; }
+
+  /**
+   * The {@literal false}-predicate on {@code int} values, returns {@code false} without
+   * boxing the tested value.
+   */
+  public static IntPredicate
+  IntFalse() { return PrimitiveFalse.FALSE; }
+
+  /**
+   * The {@literal false}-predicate on {@code long} values, returns {@code false} without
+   * boxing the tested value.
+   */
+  public static LongPredicate
+  LongFalse() { return PrimitiveFalse.FALSE; }
+
+  /**
+   * The {@literal false}-predicate on {@code double} values, returns {@code false} without
+   * boxing the tested value.
+   */
+  public static DoublePredicate
+  DoubleFalse() { return PrimitiveFalse.FALSE; }
+
 
   /**
    * The "is {@code null}?"-predicate, returns true iff the tested value is
@@ -287,6 +401,717 @@ public class JavaFun {
   public static <X, Y> JavaBiPredicateBinder<X, Y>
   bind(BiPredicate<? super X, ? super Y> bound) { return new JavaBiPredicateBinder<>(bound); }
 
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaTriFunctionBinder
+   */
+  public static <X, Y, Z, R> JavaTriFunctionBinder<X, Y, Z, R>
+  bind(TriFunction<? super X, ? super Y, ? super Z, ? extends R> bound) { return new JavaTriFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaQuadFunctionBinder
+   */
+  public static <W, X, Y, Z, R> JavaQuadFunctionBinder<W, X, Y, Z, R>
+  bind(QuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R> bound) { return new JavaQuadFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaTriConsumerBinder
+   */
+  public static <X, Y, Z> JavaTriConsumerBinder<X, Y, Z>
+  bind(TriConsumer<? super X, ? super Y, ? super Z> bound) { return new JavaTriConsumerBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaQuadConsumerBinder
+   */
+  public static <W, X, Y, Z> JavaQuadConsumerBinder<W, X, Y, Z>
+  bind(QuadConsumer<? super W, ? super X, ? super Y, ? super Z> bound) { return new JavaQuadConsumerBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaTriPredicateBinder
+   */
+  public static <X, Y, Z> JavaTriPredicateBinder<X, Y, Z>
+  bind(TriPredicate<? super X, ? super Y, ? super Z> bound) { return new JavaTriPredicateBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaQuadPredicateBinder
+   */
+  public static <W, X, Y, Z> JavaQuadPredicateBinder<W, X, Y, Z>
+  bind(QuadPredicate<? super W, ? super X, ? super Y, ? super Z> bound) { return new JavaQuadPredicateBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaIntUnaryOperatorBinder
+   */
+  public static JavaIntUnaryOperatorBinder
+  bindInt(IntUnaryOperator bound) { return new JavaIntUnaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaIntBinaryOperatorBinder
+   */
+  public static JavaIntBinaryOperatorBinder
+  bindInt(IntBinaryOperator bound) { return new JavaIntBinaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaIntPredicateBinder
+   */
+  public static JavaIntPredicateBinder
+  bindInt(IntPredicate bound) { return new JavaIntPredicateBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaToIntFunctionBinder
+   */
+  public static <X> JavaToIntFunctionBinder<X>
+  bindInt(ToIntFunction<? super X> bound) { return new JavaToIntFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaLongUnaryOperatorBinder
+   */
+  public static JavaLongUnaryOperatorBinder
+  bindLong(LongUnaryOperator bound) { return new JavaLongUnaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaLongBinaryOperatorBinder
+   */
+  public static JavaLongBinaryOperatorBinder
+  bindLong(LongBinaryOperator bound) { return new JavaLongBinaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaLongPredicateBinder
+   */
+  public static JavaLongPredicateBinder
+  bindLong(LongPredicate bound) { return new JavaLongPredicateBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaToLongFunctionBinder
+   */
+  public static <X> JavaToLongFunctionBinder<X>
+  bindLong(ToLongFunction<? super X> bound) { return new JavaToLongFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaDoubleUnaryOperatorBinder
+   */
+  public static JavaDoubleUnaryOperatorBinder
+  bindDouble(DoubleUnaryOperator bound) { return new JavaDoubleUnaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaDoubleBinaryOperatorBinder
+   */
+  public static JavaDoubleBinaryOperatorBinder
+  bindDouble(DoubleBinaryOperator bound) { return new JavaDoubleBinaryOperatorBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaDoublePredicateBinder
+   */
+  public static JavaDoublePredicateBinder
+  bindDouble(DoublePredicate bound) { return new JavaDoublePredicateBinder(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see JavaToDoubleFunctionBinder
+   */
+  public static <X> JavaToDoubleFunctionBinder<X>
+  bindDouble(ToDoubleFunction<? super X> bound) { return new JavaToDoubleFunctionBinder<>(bound); }
+
+  /**
+   * Memoize {@code function}, caching up to about {@code maxSize} results.
+   * Exceptions thrown by {@code function} are not cached.
+   *
+   * @see Memoized
+   */
+  public static <X, R> Memoized<X, R, RuntimeException>
+  memoize(Function<? super X, ? extends R> function, int maxSize) {
+    return memoize(function, maxSize, false);
+  }
+
+  /**
+   * Memoize {@code function}, caching up to about {@code maxSize} results.
+   * Exceptions thrown by {@code function} are cached as well iff
+   * {@code cacheFailures} is set.
+   *
+   * @see Memoized
+   */
+  public static <X, R> Memoized<X, R, RuntimeException>
+  memoize(Function<? super X, ? extends R> function, int maxSize, boolean cacheFailures) {
+    requireNonNull(function);
+    return new Memoized<X, R, RuntimeException>(function::apply, maxSize, cacheFailures);
+  }
+
+  /**
+   * Memoize {@code biFunction}, caching up to {@code maxSize} results rounded
+   * up to the next power of two.
+   * Exceptions thrown by {@code biFunction} are not cached.
+   *
+   * @see BiMemoized
+   */
+  public static <X, Y, R> BiMemoized<X, Y, R, RuntimeException>
+  memoize(BiFunction<? super X, ? super Y, ? extends R> biFunction, int maxSize) {
+    return memoize(biFunction, maxSize, false);
+  }
+
+  /**
+   * Memoize {@code biFunction}, caching up to {@code maxSize} results rounded
+   * up to the next power of two.
+   * Exceptions thrown by {@code biFunction} are cached as well iff
+   * {@code cacheFailures} is set.
+   *
+   * @see BiMemoized
+   */
+  public static <X, Y, R> BiMemoized<X, Y, R, RuntimeException>
+  memoize(BiFunction<? super X, ? super Y, ? extends R> biFunction, int maxSize, boolean cacheFailures) {
+    requireNonNull(biFunction);
+    return new BiMemoized<X, Y, R, RuntimeException>(biFunction::apply, maxSize, cacheFailures);
+  }
+
+  /**
+   * Memoize {@code operator} in an off-heap table, caching up to
+   * {@code capacity} results. The table has to be released with
+   * {@link OffHeapLongMemoized#close()}.
+   *
+   * @see OffHeapLongMemoized
+   */
+  public static OffHeapLongMemoized
+  memoizeOffHeap(LongUnaryOperator operator, int capacity) { return new OffHeapLongMemoized(operator, capacity); }
+
+  /**
+   * Evaluate {@code function} for each constant of the enum {@code type} up
+   * front, the result looks up these results by ordinal.
+   *
+   * @see Tabulated
+   */
+  public static <K extends Enum<K>, R> Tabulated<K, R, RuntimeException>
+  tabulate(Class<K> type, Function<? super K, ? extends R> function) {
+    requireNonNull(function);
+    return Tabulated.<K, R, RuntimeException>of(type, function::apply);
+  }
+
+  /**
+   * Evaluate {@code predicate} for each constant of the enum {@code type} up
+   * front, the result looks up these results in a bitset.
+   *
+   * @see TabulatedPredicate
+   */
+  public static <K extends Enum<K>> TabulatedPredicate<K, RuntimeException>
+  tabulatePredicate(Class<K> type, Predicate<? super K> predicate) {
+    requireNonNull(predicate);
+    return TabulatedPredicate.<K, RuntimeException>of(type, predicate::test);
+  }
+
+  /**
+   * Evaluate {@code predicate} for each value in {@code [from, to)} up front,
+   * the result looks up these results in a bitset.
+   *
+   * @see TabulatedIntPredicate
+   */
+  public static TabulatedIntPredicate
+  tabulate(int from, int to, IntPredicate predicate) {
+    requireNonNull(predicate);
+    return TabulatedIntPredicate.<RuntimeException>of(from, to, predicate::test);
+  }
+
+  /**
+   * Memoize the recursive function {@code body}, caching up to about
+   * {@code maxSize} results. {@code body} receives the memoized function to
+   * recurse on.
+   *
+   * @see RecursiveMemoized
+   */
+  public static <X, R> RecursiveMemoized<X, R, RuntimeException>
+  memoizeRecursive(BiFunction<? super Function<X, R>, ? super X, ? extends R> body, int maxSize) {
+    return memoizeRecursive(body, maxSize, 0);
+  }
+
+  /**
+   * Memoize the recursive function {@code body}, caching up to about
+   * {@code maxSize} results. {@code body} receives the memoized function to
+   * recurse on. Recursion deeper than {@code maxDepth} is trampolined, the
+   * stack depth is bounded independent of the depth of the recursion.
+   *
+   * @see RecursiveMemoized
+   */
+  public static <X, R> RecursiveMemoized<X, R, RuntimeException>
+  memoizeRecursive(BiFunction<? super Function<X, R>, ? super X, ? extends R> body, int maxSize, int maxDepth) {
+    requireNonNull(body);
+    return new RecursiveMemoized<X, R, RuntimeException>(body::apply, maxSize, maxDepth);
+  }
+
+  /**
+   * Evaluate {@code supplier} once on first use and supply that result from
+   * there on. A failed evaluation is retried on the next use.
+   *
+   * @see Lazy
+   */
+  public static <R> Lazy<R, RuntimeException>
+  lazy(Supplier<? extends R> supplier) {
+    requireNonNull(supplier);
+    return new Lazy<R, RuntimeException>(supplier::get);
+  }
+
+  /**
+   * Supply the result of {@code supplier} until it is older than {@code ttl}.
+   * Once older than {@code refreshAhead} it is refreshed on {@code executor},
+   * the current result is supplied meanwhile.
+   *
+   * @see Expiring
+   */
+  public static <R> Expiring<R, RuntimeException>
+  expiring(Supplier<? extends R> supplier, Duration ttl, Duration refreshAhead, Executor executor) {
+    requireNonNull(supplier);
+    return new Expiring<R, RuntimeException>(supplier::get, ttl, refreshAhead, executor, System::nanoTime);
+  }
+
+  /**
+   * Turn a {@code bulk} function into a function on single keys. Concurrent
+   * invocations are gathered into batches of up to {@code maxBatchSize}
+   * distinct keys or {@code window}, whatever is reached first. Batches are
+   * processed on {@code executor}. A {@code bulk} function blocking on I/O
+   * needs an executor sized for that, not the common fork join pool.
+   *
+   * @see Batched
+   */
+  public static <K, V> Batched<K, V, RuntimeException>
+  batch(Function<? super List<K>, ? extends Map<K, ? extends V>> bulk,
+        int maxBatchSize, Duration window, Executor executor) {
+    requireNonNull(bulk);
+    return new Batched<K, V, RuntimeException>(bulk::apply, maxBatchSize, window, executor);
+  }
+
+  /**
+   * Coalesce concurrent invocations of {@code function} on equal arguments
+   * into a single invocation, sharing its result or exception.
+   *
+   * @see SingleFlight
+   */
+  public static <X, R> SingleFlight<X, R, RuntimeException>
+  singleFlight(Function<? super X, ? extends R> function) {
+    requireNonNull(function);
+    return new SingleFlight<X, R, RuntimeException>(function::apply);
+  }
+
+  /**
+   * Coalesce concurrent invocations of {@code biFunction} on equal pairs of
+   * arguments into a single invocation, sharing its result or exception.
+   *
+   * @see BiSingleFlight
+   */
+  public static <X, Y, R> BiSingleFlight<X, Y, R, RuntimeException>
+  singleFlight(BiFunction<? super X, ? super Y, ? extends R> biFunction) {
+    requireNonNull(biFunction);
+    return new BiSingleFlight<X, Y, R, RuntimeException>(biFunction::apply);
+  }
+
+  /**
+   * Record the latency of each invocation of {@code runnable} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static Runnable
+  timed(Runnable runnable, LongConsumer recorder) {
+    requireNonNull(runnable);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        runnable.run();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code supplier} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <R> Supplier<R>
+  timed(Supplier<? extends R> supplier, LongConsumer recorder) {
+    requireNonNull(supplier);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return supplier.get();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code condition} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static BooleanSupplier
+  timed(BooleanSupplier condition, LongConsumer recorder) {
+    requireNonNull(condition);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return condition.getAsBoolean();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code consumer} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X> Consumer<X>
+  timed(Consumer<? super X> consumer, LongConsumer recorder) {
+    requireNonNull(consumer);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        consumer.accept(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biConsumer} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y> BiConsumer<X, Y>
+  timed(BiConsumer<? super X, ? super Y> biConsumer, LongConsumer recorder) {
+    requireNonNull(biConsumer);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        biConsumer.accept(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code function} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, R> Function<X, R>
+  timed(Function<? super X, ? extends R> function, LongConsumer recorder) {
+    requireNonNull(function);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return function.apply(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biFunction} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y, R> BiFunction<X, Y, R>
+  timed(BiFunction<? super X, ? super Y, ? extends R> biFunction, LongConsumer recorder) {
+    requireNonNull(biFunction);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biFunction.apply(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code predicate} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X> Predicate<X>
+  timed(Predicate<? super X> predicate, LongConsumer recorder) {
+    requireNonNull(predicate);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return predicate.test(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biPredicate} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y> BiPredicate<X, Y>
+  timed(BiPredicate<? super X, ? super Y> biPredicate, LongConsumer recorder) {
+    requireNonNull(biPredicate);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biPredicate.test(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code runnable} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code runnable} is returned as is otherwise.
+   */
+  public static Runnable
+  instrumented(String label, Runnable runnable) {
+    requireNonNull(label);
+    requireNonNull(runnable);
+    return FunctorEvents.instrument(label, runnable);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code supplier} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code supplier} is returned as is otherwise.
+   */
+  public static <R> Supplier<R>
+  instrumented(String label, Supplier<? extends R> supplier) {
+    requireNonNull(label);
+    requireNonNull(supplier);
+    return FunctorEvents.instrument(label, supplier);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code condition} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code condition} is returned as is otherwise.
+   */
+  public static BooleanSupplier
+  instrumented(String label, BooleanSupplier condition) {
+    requireNonNull(label);
+    requireNonNull(condition);
+    return FunctorEvents.instrument(label, condition);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code consumer} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code consumer} is returned as is otherwise.
+   */
+  public static <X> Consumer<X>
+  instrumented(String label, Consumer<? super X> consumer) {
+    requireNonNull(label);
+    requireNonNull(consumer);
+    return FunctorEvents.instrument(label, consumer);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biConsumer} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biConsumer} is returned as is otherwise.
+   */
+  public static <X, Y> BiConsumer<X, Y>
+  instrumented(String label, BiConsumer<? super X, ? super Y> biConsumer) {
+    requireNonNull(label);
+    requireNonNull(biConsumer);
+    return FunctorEvents.instrument(label, biConsumer);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code function} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code function} is returned as is otherwise.
+   */
+  public static <X, R> Function<X, R>
+  instrumented(String label, Function<? super X, ? extends R> function) {
+    requireNonNull(label);
+    requireNonNull(function);
+    return FunctorEvents.instrument(label, function);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biFunction} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biFunction} is returned as is otherwise.
+   */
+  public static <X, Y, R> BiFunction<X, Y, R>
+  instrumented(String label, BiFunction<? super X, ? super Y, ? extends R> biFunction) {
+    requireNonNull(label);
+    requireNonNull(biFunction);
+    return FunctorEvents.instrument(label, biFunction);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code predicate} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code predicate} is returned as is otherwise.
+   */
+  public static <X> Predicate<X>
+  instrumented(String label, Predicate<? super X> predicate) {
+    requireNonNull(label);
+    requireNonNull(predicate);
+    return FunctorEvents.instrument(label, predicate);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biPredicate} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biPredicate} is returned as is otherwise.
+   */
+  public static <X, Y> BiPredicate<X, Y>
+  instrumented(String label, BiPredicate<? super X, ? super Y> biPredicate) {
+    requireNonNull(label);
+    requireNonNull(biPredicate);
+    return FunctorEvents.instrument(label, biPredicate);
+  }
+
+  /**
+   * Register {@code supplier} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <R> Supplier<R>
+  register(String name, Supplier<? extends R> supplier) {
+    requireNonNull(supplier);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, supplier);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return supplier.get();
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Register {@code function} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <X, R> Function<X, R>
+  register(String name, Function<? super X, ? extends R> function) {
+    requireNonNull(function);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, function);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return function.apply(x);
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Register {@code biFunction} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <X, Y, R> BiFunction<X, Y, R>
+  register(String name, BiFunction<? super X, ? super Y, ? extends R> biFunction) {
+    requireNonNull(biFunction);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, biFunction);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biFunction.apply(x, y);
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Stop exposing the functor registered under {@code name} over JMX.
+   *
+   * @return {@code true} iff a functor was registered under {@code name}
+   */
+  public static boolean
+  unregister(String name) { return FunctorMetrics.unregister(name); }
+
   /**
    * Extend a given {@link Runnable} to a {@link Consumer} ignoring its argument.
    */
@@ -369,102 +1194,294 @@ public class JavaFun {
   }
 
   /**
-   * Flip arguments of a {@link BiConsumer}
+   * Flip arguments of a {@link BiConsumer}. Flipping a flipped
+   * {@link BiConsumer} returns the original one, {@link #NoOp()} is returned
+   * as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y> BiConsumer<Y, X>
   flipArguments(BiConsumer<X, Y> biConsumer) {
     requireNonNull(biConsumer);
-    return (y, x) -> biConsumer.accept(x, y);
+    if (biConsumer instanceof NoOp) {
+      return (BiConsumer) biConsumer;
+    }
+    return biConsumer instanceof FlippedBiConsumer
+           ? ((FlippedBiConsumer<X, Y>) biConsumer).flipped
+           : new FlippedBiConsumer<>(biConsumer);
   }
 
   /**
-   * Flip arguments of a {@link BiFunction}
+   * Flip arguments of a {@link BiFunction}. Flipping a flipped
+   * {@link BiFunction} returns the original one, a {@link Constant} is
+   * returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, R> BiFunction<Y, X, R>
   flipArguments(BiFunction<X, Y, R> biFunction) {
     requireNonNull(biFunction);
-    return (y, x) -> biFunction.apply(x, y);
+    if (biFunction instanceof Constant) {
+      return (BiFunction) biFunction;
+    }
+    return biFunction instanceof FlippedBiFunction
+           ? ((FlippedBiFunction<X, Y, R>) biFunction).flipped
+           : new FlippedBiFunction<>(biFunction);
   }
 
   /**
-   * Flip arguments of a {@link BiPredicate}
+   * A {@link Predicate} testing true iff all of {@code predicates} test true. The
+   * predicates are tested in order in a single loop until one tests false.
+   * Nested {@code allOf(...)} are flattened, {@link #True()} operands are dropped
+   * and a {@link #False()} operand turns the result into {@code False()}.
+   *
+   * @see Junction
    */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X> Predicate<X>
+  allOf(Predicate<? super X>... predicates) { return Junction.of(Junction.Kind.ALL, predicates); }
+
+  /**
+   * A {@link BiPredicate} testing true iff all of {@code predicates} test true. The
+   * predicates are tested in order in a single loop until one tests false.
+   * Nested {@code allOf(...)} are flattened, {@link #True()} operands are dropped
+   * and a {@link #False()} operand turns the result into {@code False()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y> BiPredicate<X, Y>
+  allOf(BiPredicate<? super X, ? super Y>... predicates) { return BiJunction.of(Junction.Kind.ALL, predicates); }
+
+  /**
+   * A {@link Predicate} testing true iff any of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code True()}.
+   *
+   * @see Junction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X> Predicate<X>
+  anyOf(Predicate<? super X>... predicates) { return Junction.of(Junction.Kind.ANY, predicates); }
+
+  /**
+   * A {@link BiPredicate} testing true iff any of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code True()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y> BiPredicate<X, Y>
+  anyOf(BiPredicate<? super X, ? super Y>... predicates) { return BiJunction.of(Junction.Kind.ANY, predicates); }
+
+  /**
+   * A {@link Predicate} testing true iff none of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code False()}.
+   *
+   * @see Junction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X> Predicate<X>
+  noneOf(Predicate<? super X>... predicates) { return Junction.of(Junction.Kind.NONE, predicates); }
+
+  /**
+   * A {@link BiPredicate} testing true iff none of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code False()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y> BiPredicate<X, Y>
+  noneOf(BiPredicate<? super X, ? super Y>... predicates) { return BiJunction.of(Junction.Kind.NONE, predicates); }
+
+  /**
+   * Flip arguments of a {@link BiPredicate}. Flipping a flipped
+   * {@link BiPredicate} returns the original one, {@link #True()} and
+   * {@link #False()} are returned as is.
+   */
+  @SuppressWarnings("unchecked")
   public static <X, Y, R> BiPredicate<Y, X>
   flipArguments(BiPredicate<X, Y> biPredicate) {
     requireNonNull(biPredicate);
-    return (y, x) -> biPredicate.test(x, y);
+    if (biPredicate instanceof True || biPredicate instanceof False) {
+      return (BiPredicate) biPredicate;
+    }
+    return biPredicate instanceof FlippedBiPredicate
+           ? ((FlippedBiPredicate<X, Y>) biPredicate).flipped
+           : new FlippedBiPredicate<>(biPredicate);
   }
 
   /**
    * Turn a {@link Runnable} into a {@link LavaRunnable} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static LavaRunnable<RuntimeException>
   toLavaFun(Runnable runnable) {
     requireNonNull(runnable);
-    return runnable::run;
+    if (runnable instanceof JavaAdapter.OfRunnable) {
+      return (LavaRunnable<RuntimeException>) ((JavaAdapter.OfRunnable) runnable).adapted;
+    }
+    if (runnable instanceof NoOp) {
+      return (LavaRunnable) runnable;
+    }
+    return new LavaAdapter.OfRunnable(runnable);
   }
 
   /**
    * Turn a {@link Consumer} into a {@link LavaConsumer} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X> LavaConsumer<X, RuntimeException>
   toLavaFun(Consumer<? super X> consumer) {
     requireNonNull(consumer);
-    return consumer::accept;
+    if (consumer.getClass() == JavaConsumerBinder.class) {
+      consumer = ((JavaConsumerBinder<? super X>) consumer).bound();
+    }
+    if (consumer instanceof JavaAdapter.OfConsumer) {
+      return (LavaConsumer<X, RuntimeException>) ((JavaAdapter.OfConsumer) consumer).adapted;
+    }
+    if (consumer instanceof NoOp) {
+      return (LavaConsumer) consumer;
+    }
+    return new LavaAdapter.OfConsumer<>(consumer);
   }
 
   /**
    * Turn a {@link BiConsumer} into a {@link LavaBiConsumer} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y> LavaBiConsumer<X, Y, RuntimeException>
   toLavaFun(BiConsumer<? super X, ? super Y> biConsumer) {
     requireNonNull(biConsumer);
-    return biConsumer::accept;
+    if (biConsumer.getClass() == JavaBiConsumerBinder.class) {
+      biConsumer = ((JavaBiConsumerBinder<? super X, ? super Y>) biConsumer).bound();
+    }
+    if (biConsumer instanceof JavaAdapter.OfBiConsumer) {
+      return (LavaBiConsumer<X, Y, RuntimeException>) ((JavaAdapter.OfBiConsumer) biConsumer).adapted;
+    }
+    if (biConsumer instanceof NoOp) {
+      return (LavaBiConsumer) biConsumer;
+    }
+    return new LavaAdapter.OfBiConsumer<>(biConsumer);
   }
 
   /**
    * Turn a {@link Supplier} into a {@link LavaSupplier} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <R> LavaSupplier<R, RuntimeException>
   toLavaFun(Supplier<? extends R> supplier) {
     requireNonNull(supplier);
-    return supplier::get;
+    if (supplier instanceof JavaAdapter.OfSupplier) {
+      return (LavaSupplier<R, RuntimeException>) ((JavaAdapter.OfSupplier) supplier).adapted;
+    }
+    if (supplier instanceof Constant) {
+      return (LavaSupplier) supplier;
+    }
+    return new LavaAdapter.OfSupplier<>(supplier);
   }
 
   /**
    * Turn a {@link Function} into a {@link LavaFunction} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, R> LavaFunction<X, R, RuntimeException>
   toLavaFun(Function<? super X, ? extends R> function) {
     requireNonNull(function);
-    return function::apply;
+    if (function.getClass() == JavaFunctionBinder.class) {
+      function = ((JavaFunctionBinder<? super X, ? extends R>) function).bound();
+    }
+    if (function instanceof JavaAdapter.OfFunction) {
+      return (LavaFunction<X, R, RuntimeException>) ((JavaAdapter.OfFunction) function).adapted;
+    }
+    if (function instanceof Constant) {
+      return (LavaFunction) function;
+    }
+    return new LavaAdapter.OfFunction<>(function);
   }
 
   /**
    * Turn a {@link BiFunction} into a {@link LavaBiFunction} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, R> LavaBiFunction<X, Y, R, RuntimeException>
   toLavaFun(BiFunction<? super X, ? super Y, ? extends R> biFunction) {
     requireNonNull(biFunction);
-    return biFunction::apply;
+    if (biFunction.getClass() == JavaBiFunctionBinder.class) {
+      biFunction = ((JavaBiFunctionBinder<? super X, ? super Y, ? extends R>) biFunction).bound();
+    }
+    if (biFunction instanceof JavaAdapter.OfBiFunction) {
+      return (LavaBiFunction<X, Y, R, RuntimeException>) ((JavaAdapter.OfBiFunction) biFunction).adapted;
+    }
+    if (biFunction instanceof Constant) {
+      return (LavaBiFunction) biFunction;
+    }
+    return new LavaAdapter.OfBiFunction<>(biFunction);
   }
 
   /**
    * Turn a {@link Predicate} into a {@link LavaPredicate} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link True} and {@link False} are returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X> LavaPredicate<X, RuntimeException>
   toLavaFun(Predicate<? super X> predicate) {
     requireNonNull(predicate);
-    return predicate::test;
+    if (predicate.getClass() == JavaPredicateBinder.class) {
+      predicate = ((JavaPredicateBinder<? super X>) predicate).bound();
+    }
+    if (predicate instanceof JavaAdapter.OfPredicate) {
+      return (LavaPredicate<X, RuntimeException>) ((JavaAdapter.OfPredicate) predicate).adapted;
+    }
+    if (predicate instanceof True || predicate instanceof False) {
+      return (LavaPredicate) predicate;
+    }
+    return new LavaAdapter.OfPredicate<>(predicate);
   }
 
   /**
    * Turn a {@link BiPredicate} into a {@link LavaBiPredicate} declaring {@link RuntimeException} as exception limit.
+   * Adapters created by {@code LavaFun.toJavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link True} and {@link False} are returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y> LavaBiPredicate<X, Y, RuntimeException>
   toLavaFun(BiPredicate<? super X, ? super Y> biPredicate) {
     requireNonNull(biPredicate);
-    return biPredicate::test;
+    if (biPredicate.getClass() == JavaBiPredicateBinder.class) {
+      biPredicate = ((JavaBiPredicateBinder<? super X, ? super Y>) biPredicate).bound();
+    }
+    if (biPredicate instanceof JavaAdapter.OfBiPredicate) {
+      return (LavaBiPredicate<X, Y, RuntimeException>) ((JavaAdapter.OfBiPredicate) biPredicate).adapted;
+    }
+    if (biPredicate instanceof True || biPredicate instanceof False) {
+      return (LavaBiPredicate) biPredicate;
+    }
+    return new LavaAdapter.OfBiPredicate<>(biPredicate);
   }
 
   /**
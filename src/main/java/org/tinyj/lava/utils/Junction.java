@@ -0,0 +1,173 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaPredicate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate combining a flat array of predicates, as returned by
+ * {@code allOf(...)}, {@code anyOf(...)} and {@code noneOf(...)}. The
+ * predicates are tested in order in a single loop, which stops as soon as the
+ * result is decided. Can be used where ever a {@link Predicate} or
+ * {@link LavaPredicate} is required.
+ * <p>
+ * Nested junctions are flattened into the enclosing one where the result
+ * stays the same, {@link True} and {@link False} operands are folded on
+ * construction. Composing with {@code and} and {@code or} thus extends the
+ * array instead of nesting a lambda per call.
+ *
+ * @param <X> the type of the tested values
+ */
+public final class Junction<X, E extends Exception>
+    implements Predicate<X>, LavaPredicate<X, E> {
+
+  /**
+   * How a junction combines its operands.
+   */
+  enum Kind {
+    ALL(false, false),
+    ANY(true, true),
+    NONE(true, false);
+
+    /** The operand result deciding the junction. */
+    final boolean decisive;
+    /** The result of the junction once decided. */
+    final boolean decided;
+
+    Kind(boolean decisive, boolean decided) {
+      this.decisive = decisive;
+      this.decided = decided;
+    }
+
+    /**
+     * @return {@code true} iff the operands of {@code inner} can be merged into
+     * this kind, i.e. {@code ALL} into {@code ALL}, {@code ANY} into {@code ANY}
+     * and {@code ANY} into {@code NONE}
+     */
+    boolean flattens(Kind inner) { return inner == (this == NONE ? ANY : this); }
+  }
+
+  final Kind kind;
+  final LavaPredicate<? super X, ? extends E>[] predicates;
+  private final boolean decisive;
+  private final boolean decided;
+
+  private Junction(Kind kind, LavaPredicate<? super X, ? extends E>[] predicates) {
+    this.kind = kind;
+    this.predicates = predicates;
+    this.decisive = kind.decisive;
+    this.decided = kind.decided;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <X, E extends Exception> LavaPredicate<X, E>
+  of(Kind kind, LavaPredicate<? super X, ? extends E>[] operands) {
+    final Object[] flat = flatten(kind, operands);
+    if (flat == null || flat.length == 0) {
+      return (flat == null) == kind.decided ? LavaFun.True() : LavaFun.False();
+    }
+    if (flat.length == 1 && kind != Kind.NONE) {
+      return LavaPredicate.castDown((LavaPredicate<? super X, ? extends E>) flat[0]);
+    }
+    return new Junction<>(kind, Arrays.copyOf(flat, flat.length, LavaPredicate[].class));
+  }
+
+  @SuppressWarnings("unchecked")
+  static <X> Predicate<X>
+  of(Kind kind, Predicate<? super X>[] operands) {
+    final Object[] flat = flatten(kind, operands);
+    if (flat == null || flat.length == 0) {
+      return (flat == null) == kind.decided ? JavaFun.True() : JavaFun.False();
+    }
+    if (flat.length == 1 && kind != Kind.NONE) {
+      return JavaFun.castDown((Predicate<? super X>) flat[0]);
+    }
+    final LavaPredicate<? super X, RuntimeException>[] predicates =
+        (LavaPredicate<? super X, RuntimeException>[]) new LavaPredicate<?, ?>[flat.length];
+    for (int i = 0; i < flat.length; i++) {
+      predicates[i] = flat[i] instanceof LavaPredicate
+                      ? (LavaPredicate<? super X, RuntimeException>) flat[i]
+                      : ((Predicate<? super X>) flat[i])::test;
+    }
+    return new Junction<>(kind, predicates);
+  }
+
+  /**
+   * Flatten {@code operands} into the operands of a junction of {@code kind},
+   * dropping neutral operands and merging nested junctions.
+   *
+   * @return the flattened operands, {@code null} if an operand decides the
+   * junction regardless of the tested values
+   */
+  static Object[]
+  flatten(Kind kind, Object[] operands) {
+    requireNonNull(operands);
+    final Object absorbing = kind.decisive ? True.TRUE : False.FALSE;
+    final Object neutral = kind.decisive ? False.FALSE : True.TRUE;
+    final ArrayList<Object> flat = new ArrayList<>(operands.length);
+    for (Object operand : operands) {
+      requireNonNull(operand);
+      if (operand == absorbing) {
+        return null;
+      }
+      if (operand instanceof Junction && kind.flattens(((Junction<?, ?>) operand).kind)) {
+        Collections.addAll(flat, ((Junction<?, ?>) operand).predicates);
+      } else if (operand instanceof BiJunction && kind.flattens(((BiJunction<?, ?, ?>) operand).kind)) {
+        Collections.addAll(flat, ((BiJunction<?, ?, ?>) operand).predicates);
+      } else if (operand != neutral) {
+        flat.add(operand);
+      }
+    }
+    return flat.toArray();
+  }
+
+  @Override
+  public boolean checkedTest(X x) throws E {
+    for (LavaPredicate<? super X, ? extends E> predicate : predicates) {
+      if (predicate.checkedTest(x) == decisive) {
+        return decided;
+      }
+    }
+    return !decided;
+  }
+
+  @Override
+  public boolean test(X x) {
+    try {
+      return checkedTest(x);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Predicate<X> and(Predicate<? super X> other) { return of(Kind.ALL, (Predicate<? super X>[]) new Predicate<?>[] {this, other}); }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Predicate<X> or(Predicate<? super X> other) { return of(Kind.ANY, (Predicate<? super X>[]) new Predicate<?>[] {this, other}); }
+
+  @Override
+  public Predicate<X>
+  negate() {
+    switch (kind) {
+      case ANY: return new Junction<>(Kind.NONE, predicates);
+      case NONE: return new Junction<>(Kind.ANY, predicates);
+      default: return Predicate.super.negate();
+    }
+  }
+
+  /**
+   * @return the number of predicates combined
+   */
+  public int size() { return predicates.length; }
+}
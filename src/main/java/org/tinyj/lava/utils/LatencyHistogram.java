@@ -0,0 +1,163 @@
+package org.tinyj.lava.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * A log-linear histogram of latencies in nanoseconds, as recorded by
+ * {@code LavaFun.timed(...)} and {@code JavaFun.timed(...)}.
+ * <p>
+ * Each power of two is split into 32 linear buckets, values are thus tracked
+ * with a relative error of at most about 3%. Values from {@code 2^44}ns
+ * (about 4.9 hours) on end up in the topmost bucket, percentiles falling
+ * into it are reported as the largest value recorded. Recording neither locks nor
+ * allocates: counts are kept in stripes picked by the recording thread, a
+ * {@link #snapshot()} sums them up.
+ */
+public final class LatencyHistogram
+    implements LongConsumer {
+
+  private static final int SUB_BITS = 5;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  private static final int MAX_SHIFT = 43 - SUB_BITS;
+  private static final int BUCKETS = (MAX_SHIFT + 2) * SUB_COUNT;
+  private static final int SUM = BUCKETS;
+  private static final int MAX = BUCKETS + 1;
+  private static final int MAX_STRIPES = 16;
+
+  private final AtomicLongArray[] stripes;
+
+  public LatencyHistogram() {
+    final int stripeCount = Integer.highestOneBit(
+        Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+    this.stripes = new AtomicLongArray[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new AtomicLongArray(BUCKETS + 2);
+    }
+  }
+
+  /**
+   * Record a latency of {@code nanos}, negative values are recorded as {@code 0}.
+   */
+  @Override
+  public void accept(long nanos) {
+    final long value = Math.max(nanos, 0);
+    final AtomicLongArray stripe = stripes[stripe(Thread.currentThread().getId()) & (stripes.length - 1)];
+    stripe.getAndIncrement(indexOf(value));
+    stripe.getAndAdd(SUM, value);
+    long max = stripe.get(MAX);
+    while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+      max = stripe.get(MAX);
+    }
+  }
+
+  /**
+   * @return the values recorded so far. Values recorded concurrently may or
+   * may not be included.
+   */
+  public Snapshot
+  snapshot() {
+    final long[] counts = new long[BUCKETS];
+    long sum = 0;
+    long max = 0;
+    for (AtomicLongArray stripe : stripes) {
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] += stripe.get(i);
+      }
+      sum += stripe.get(SUM);
+      max = Math.max(max, stripe.get(MAX));
+    }
+    return new Snapshot(counts, sum, max);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+    if (shift > MAX_SHIFT) {
+      return BUCKETS - 1;
+    }
+    return ((shift + 1) << SUB_BITS) + (int) (value >>> shift) - SUB_COUNT;
+  }
+
+  /** @return the highest value recorded into the bucket at {@code index} */
+  static long highestValueAt(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    if (index == BUCKETS - 1) {
+      return Long.MAX_VALUE;
+    }
+    final int shift = (index >>> SUB_BITS) - 1;
+    return ((long) (SUB_COUNT + (index & (SUB_COUNT - 1)) + 1) << shift) - 1;
+  }
+
+  private static int stripe(long threadId) {
+    final long hash = threadId * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32);
+  }
+
+  /**
+   * An immutable view of the values recorded by a {@link LatencyHistogram}.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    Snapshot(long[] counts, long sum, long max) {
+      long count = 0;
+      for (long c : counts) {
+        count += c;
+      }
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long count() { return count; }
+
+    /**
+     * @return the largest value recorded, {@code 0} if there was none
+     */
+    public long max() { return max; }
+
+    /**
+     * @return the mean of the values recorded, {@code 0} if there was none
+     */
+    public double mean() { return count == 0 ? 0 : (double) sum / count; }
+
+    /**
+     * @return a value at least as large as {@code percentile} percent of the
+     * values recorded, {@code 0} if there was none
+     */
+    public long
+    percentile(double percentile) {
+      if (!(percentile >= 0 && percentile <= 100)) {
+        throw new IllegalArgumentException("percentile must be within [0, 100]: " + percentile);
+      }
+      final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(highestValueAt(i), max);
+        }
+      }
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "count=" + count + ", mean=" + (long) mean() + "ns, p50=" + percentile(50) + "ns, p99="
+             + percentile(99) + "ns, p99.9=" + percentile(99.9) + "ns, max=" + max + "ns";
+    }
+  }
+}
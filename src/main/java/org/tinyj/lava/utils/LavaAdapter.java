@@ -0,0 +1,103 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.*;
+
+import java.util.function.*;
+
+/**
+ * Lava functors adapting Java functors, see {@code JavaFun.toLavaFun(...)}.
+ * Each adapter keeps the adapted functor, {@code LavaFun.toJavaFun(...)}
+ * returns it instead of wrapping the adapter.
+ */
+final class LavaAdapter {
+
+  private LavaAdapter() {}
+
+  static final class OfRunnable
+      implements LavaRunnable<RuntimeException> {
+
+    final Runnable adapted;
+
+    OfRunnable(Runnable adapted) { this.adapted = adapted; }
+
+    @Override
+    public void checkedRun() { adapted.run(); }
+  }
+
+  static final class OfConsumer<X>
+      implements LavaConsumer<X, RuntimeException> {
+
+    final Consumer<? super X> adapted;
+
+    OfConsumer(Consumer<? super X> adapted) { this.adapted = adapted; }
+
+    @Override
+    public void checkedAccept(X x) { adapted.accept(x); }
+  }
+
+  static final class OfBiConsumer<X, Y>
+      implements LavaBiConsumer<X, Y, RuntimeException> {
+
+    final BiConsumer<? super X, ? super Y> adapted;
+
+    OfBiConsumer(BiConsumer<? super X, ? super Y> adapted) { this.adapted = adapted; }
+
+    @Override
+    public void checkedAccept(X x, Y y) { adapted.accept(x, y); }
+  }
+
+  static final class OfSupplier<R>
+      implements LavaSupplier<R, RuntimeException> {
+
+    final Supplier<? extends R> adapted;
+
+    OfSupplier(Supplier<? extends R> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R checkedGet() { return adapted.get(); }
+  }
+
+  static final class OfFunction<X, R>
+      implements LavaFunction<X, R, RuntimeException> {
+
+    final Function<? super X, ? extends R> adapted;
+
+    OfFunction(Function<? super X, ? extends R> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R checkedApply(X x) { return adapted.apply(x); }
+  }
+
+  static final class OfBiFunction<X, Y, R>
+      implements LavaBiFunction<X, Y, R, RuntimeException> {
+
+    final BiFunction<? super X, ? super Y, ? extends R> adapted;
+
+    OfBiFunction(BiFunction<? super X, ? super Y, ? extends R> adapted) { this.adapted = adapted; }
+
+    @Override
+    public R checkedApply(X x, Y y) { return adapted.apply(x, y); }
+  }
+
+  static final class OfPredicate<X>
+      implements LavaPredicate<X, RuntimeException> {
+
+    final Predicate<? super X> adapted;
+
+    OfPredicate(Predicate<? super X> adapted) { this.adapted = adapted; }
+
+    @Override
+    public boolean checkedTest(X x) { return adapted.test(x); }
+  }
+
+  static final class OfBiPredicate<X, Y>
+      implements LavaBiPredicate<X, Y, RuntimeException> {
+
+    final BiPredicate<? super X, ? super Y> adapted;
+
+    OfBiPredicate(BiPredicate<? super X, ? super Y> adapted) { this.adapted = adapted; }
+
+    @Override
+    public boolean checkedTest(X x, Y y) { return adapted.test(x, y); }
+  }
+}
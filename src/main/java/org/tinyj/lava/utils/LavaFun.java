@@ -3,7 +3,11 @@ package org.tinyj.lava.utils;
 import org.tinyj.lava.*;
 import org.tinyj.lava.binder.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 import static java.util.Objects.requireNonNull;
@@ -305,6 +309,616 @@ public class LavaFun {
   public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
   bind(LavaBiPredicate<? super X, ? super Y, ? extends E> bound) { return new LavaBiPredicateBinder<>(bound); }
 
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaTriFunctionBinder
+   */
+  public static <X, Y, Z, R, E extends Exception> LavaTriFunctionBinder<X, Y, Z, R, E>
+  bind(LavaTriFunction<? super X, ? super Y, ? super Z, ? extends R, ? extends E> bound) { return new LavaTriFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaQuadFunctionBinder
+   */
+  public static <W, X, Y, Z, R, E extends Exception> LavaQuadFunctionBinder<W, X, Y, Z, R, E>
+  bind(LavaQuadFunction<? super W, ? super X, ? super Y, ? super Z, ? extends R, ? extends E> bound) { return new LavaQuadFunctionBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaTriConsumerBinder
+   */
+  public static <X, Y, Z, E extends Exception> LavaTriConsumerBinder<X, Y, Z, E>
+  bind(LavaTriConsumer<? super X, ? super Y, ? super Z, ? extends E> bound) { return new LavaTriConsumerBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaQuadConsumerBinder
+   */
+  public static <W, X, Y, Z, E extends Exception> LavaQuadConsumerBinder<W, X, Y, Z, E>
+  bind(LavaQuadConsumer<? super W, ? super X, ? super Y, ? super Z, ? extends E> bound) { return new LavaQuadConsumerBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaTriPredicateBinder
+   */
+  public static <X, Y, Z, E extends Exception> LavaTriPredicateBinder<X, Y, Z, E>
+  bind(LavaTriPredicate<? super X, ? super Y, ? super Z, ? extends E> bound) { return new LavaTriPredicateBinder<>(bound); }
+
+  /**
+   * Start currying {@code bound}.
+   *
+   * @see LavaQuadPredicateBinder
+   */
+  public static <W, X, Y, Z, E extends Exception> LavaQuadPredicateBinder<W, X, Y, Z, E>
+  bind(LavaQuadPredicate<? super W, ? super X, ? super Y, ? super Z, ? extends E> bound) { return new LavaQuadPredicateBinder<>(bound); }
+
+  /**
+   * Memoize {@code function}, caching up to about {@code maxSize} results.
+   * Exceptions thrown by {@code function} are not cached.
+   *
+   * @see Memoized
+   */
+  public static <X, R, E extends Exception> Memoized<X, R, E>
+  memoize(LavaFunction<? super X, ? extends R, ? extends E> function, int maxSize) {
+    return new Memoized<>(function, maxSize, false);
+  }
+
+  /**
+   * Memoize {@code function}, caching up to about {@code maxSize} results.
+   * Exceptions thrown by {@code function} are cached as well iff
+   * {@code cacheFailures} is set.
+   *
+   * @see Memoized
+   */
+  public static <X, R, E extends Exception> Memoized<X, R, E>
+  memoize(LavaFunction<? super X, ? extends R, ? extends E> function, int maxSize, boolean cacheFailures) {
+    return new Memoized<>(function, maxSize, cacheFailures);
+  }
+
+  /**
+   * Memoize {@code biFunction}, caching up to {@code maxSize} results rounded
+   * up to the next power of two.
+   * Exceptions thrown by {@code biFunction} are not cached.
+   *
+   * @see BiMemoized
+   */
+  public static <X, Y, R, E extends Exception> BiMemoized<X, Y, R, E>
+  memoize(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction, int maxSize) {
+    return new BiMemoized<>(biFunction, maxSize, false);
+  }
+
+  /**
+   * Memoize {@code biFunction}, caching up to {@code maxSize} results rounded
+   * up to the next power of two.
+   * Exceptions thrown by {@code biFunction} are cached as well iff
+   * {@code cacheFailures} is set.
+   *
+   * @see BiMemoized
+   */
+  public static <X, Y, R, E extends Exception> BiMemoized<X, Y, R, E>
+  memoize(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction, int maxSize,
+          boolean cacheFailures) {
+    return new BiMemoized<>(biFunction, maxSize, cacheFailures);
+  }
+
+  /**
+   * Evaluate {@code function} for each constant of the enum {@code type} up
+   * front, the result looks up these results by ordinal. Exceptions thrown by
+   * {@code function} are passed on.
+   *
+   * @see Tabulated
+   */
+  public static <K extends Enum<K>, R, E extends Exception> Tabulated<K, R, E>
+  tabulate(Class<K> type, LavaFunction<? super K, ? extends R, ? extends E> function) throws E {
+    return Tabulated.of(type, function);
+  }
+
+  /**
+   * Evaluate {@code predicate} for each constant of the enum {@code type} up
+   * front, the result looks up these results in a bitset. Exceptions thrown by
+   * {@code predicate} are passed on.
+   *
+   * @see TabulatedPredicate
+   */
+  public static <K extends Enum<K>, E extends Exception> TabulatedPredicate<K, E>
+  tabulatePredicate(Class<K> type, LavaPredicate<? super K, ? extends E> predicate) throws E {
+    return TabulatedPredicate.of(type, predicate);
+  }
+
+  /**
+   * Evaluate {@code predicate} for each value in {@code [from, to)} up front,
+   * the result looks up these results in a bitset. Exceptions thrown by
+   * {@code predicate} are passed on.
+   *
+   * @see TabulatedIntPredicate
+   */
+  public static <E extends Exception> TabulatedIntPredicate
+  tabulate(int from, int to, LavaPredicate<? super Integer, ? extends E> predicate) throws E {
+    return TabulatedIntPredicate.of(from, to, predicate);
+  }
+
+  /**
+   * Memoize the recursive function {@code body}, caching up to about
+   * {@code maxSize} results. {@code body} receives the memoized function to
+   * recurse on.
+   *
+   * @see RecursiveMemoized
+   */
+  public static <X, R, E extends Exception> RecursiveMemoized<X, R, E>
+  memoizeRecursive(LavaBiFunction<? super LavaFunction<X, R, E>, ? super X, ? extends R, ? extends E> body,
+                   int maxSize) {
+    return new RecursiveMemoized<>(body, maxSize, 0);
+  }
+
+  /**
+   * Memoize the recursive function {@code body}, caching up to about
+   * {@code maxSize} results. {@code body} receives the memoized function to
+   * recurse on. Recursion deeper than {@code maxDepth} is trampolined, the
+   * stack depth is bounded independent of the depth of the recursion.
+   *
+   * @see RecursiveMemoized
+   */
+  public static <X, R, E extends Exception> RecursiveMemoized<X, R, E>
+  memoizeRecursive(LavaBiFunction<? super LavaFunction<X, R, E>, ? super X, ? extends R, ? extends E> body,
+                   int maxSize, int maxDepth) {
+    return new RecursiveMemoized<>(body, maxSize, maxDepth);
+  }
+
+  /**
+   * Evaluate {@code supplier} once on first use and supply that result from
+   * there on. A failed evaluation is retried on the next use.
+   *
+   * @see Lazy
+   */
+  public static <R, E extends Exception> Lazy<R, E>
+  lazy(LavaSupplier<? extends R, ? extends E> supplier) { return new Lazy<>(supplier); }
+
+  /**
+   * Supply the result of {@code supplier} until it is older than {@code ttl}.
+   * Once older than {@code refreshAhead} it is refreshed on {@code executor},
+   * the current result is supplied meanwhile.
+   *
+   * @see Expiring
+   */
+  public static <R, E extends Exception> Expiring<R, E>
+  expiring(LavaSupplier<? extends R, ? extends E> supplier, Duration ttl, Duration refreshAhead, Executor executor) {
+    return new Expiring<>(supplier, ttl, refreshAhead, executor, System::nanoTime);
+  }
+
+  /**
+   * Supply the result of {@code supplier} until it is older than {@code ttl}.
+   * Once older than {@code refreshAhead} it is refreshed on {@code executor},
+   * the current result is supplied meanwhile. Ages are measured in
+   * nanoseconds by {@code nanoClock}.
+   *
+   * @see Expiring
+   */
+  public static <R, E extends Exception> Expiring<R, E>
+  expiring(LavaSupplier<? extends R, ? extends E> supplier, Duration ttl, Duration refreshAhead, Executor executor,
+           LongSupplier nanoClock) {
+    return new Expiring<>(supplier, ttl, refreshAhead, executor, nanoClock);
+  }
+
+  /**
+   * Turn a {@code bulk} function into a function on single keys. Concurrent
+   * invocations are gathered into batches of up to {@code maxBatchSize}
+   * distinct keys or {@code window}, whatever is reached first. Batches are
+   * processed on {@code executor}. A {@code bulk} function blocking on I/O
+   * needs an executor sized for that, not the common fork join pool.
+   *
+   * @see Batched
+   */
+  public static <K, V, E extends Exception> Batched<K, V, E>
+  batch(LavaFunction<? super List<K>, ? extends Map<K, ? extends V>, ? extends E> bulk,
+        int maxBatchSize, Duration window, Executor executor) {
+    return new Batched<>(bulk, maxBatchSize, window, executor);
+  }
+
+  /**
+   * Coalesce concurrent invocations of {@code function} on equal arguments
+   * into a single invocation, sharing its result or exception.
+   *
+   * @see SingleFlight
+   */
+  public static <X, R, E extends Exception> SingleFlight<X, R, E>
+  singleFlight(LavaFunction<? super X, ? extends R, ? extends E> function) { return new SingleFlight<>(function); }
+
+  /**
+   * Coalesce concurrent invocations of {@code biFunction} on equal pairs of
+   * arguments into a single invocation, sharing its result or exception.
+   *
+   * @see BiSingleFlight
+   */
+  public static <X, Y, R, E extends Exception> BiSingleFlight<X, Y, R, E>
+  singleFlight(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) {
+    return new BiSingleFlight<>(biFunction);
+  }
+
+  /**
+   * Record the latency of each invocation of {@code runnable} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <E extends Exception> LavaRunnable<E>
+  timed(LavaRunnable<? extends E> runnable, LongConsumer recorder) {
+    requireNonNull(runnable);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        runnable.checkedRun();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code supplier} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <R, E extends Exception> LavaSupplier<R, E>
+  timed(LavaSupplier<? extends R, ? extends E> supplier, LongConsumer recorder) {
+    requireNonNull(supplier);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return supplier.checkedGet();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code condition} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <E extends Exception> LavaCondition<E>
+  timed(LavaCondition<? extends E> condition, LongConsumer recorder) {
+    requireNonNull(condition);
+    requireNonNull(recorder);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return condition.checkedTest();
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code consumer} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, E extends Exception> LavaConsumer<X, E>
+  timed(LavaConsumer<? super X, ? extends E> consumer, LongConsumer recorder) {
+    requireNonNull(consumer);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        consumer.checkedAccept(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biConsumer} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y, E extends Exception> LavaBiConsumer<X, Y, E>
+  timed(LavaBiConsumer<? super X, ? super Y, ? extends E> biConsumer, LongConsumer recorder) {
+    requireNonNull(biConsumer);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        biConsumer.checkedAccept(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code function} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, R, E extends Exception> LavaFunction<X, R, E>
+  timed(LavaFunction<? super X, ? extends R, ? extends E> function, LongConsumer recorder) {
+    requireNonNull(function);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return function.checkedApply(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biFunction} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  timed(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction, LongConsumer recorder) {
+    requireNonNull(biFunction);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biFunction.checkedApply(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code predicate} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, E extends Exception> LavaPredicate<X, E>
+  timed(LavaPredicate<? super X, ? extends E> predicate, LongConsumer recorder) {
+    requireNonNull(predicate);
+    requireNonNull(recorder);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return predicate.checkedTest(x);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Record the latency of each invocation of {@code biPredicate} into
+   * {@code recorder} in nanoseconds, including failed ones.
+   *
+   * @see LatencyHistogram
+   */
+  public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  timed(LavaBiPredicate<? super X, ? super Y, ? extends E> biPredicate, LongConsumer recorder) {
+    requireNonNull(biPredicate);
+    requireNonNull(recorder);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biPredicate.checkedTest(x, y);
+      } finally {
+        recorder.accept(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code runnable} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code runnable} is returned as is otherwise.
+   */
+  public static <E extends Exception> LavaRunnable<E>
+  instrumented(String label, LavaRunnable<? extends E> runnable) {
+    requireNonNull(label);
+    requireNonNull(runnable);
+    return FunctorEvents.instrument(label, runnable);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code supplier} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code supplier} is returned as is otherwise.
+   */
+  public static <R, E extends Exception> LavaSupplier<R, E>
+  instrumented(String label, LavaSupplier<? extends R, ? extends E> supplier) {
+    requireNonNull(label);
+    requireNonNull(supplier);
+    return FunctorEvents.instrument(label, supplier);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code condition} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code condition} is returned as is otherwise.
+   */
+  public static <E extends Exception> LavaCondition<E>
+  instrumented(String label, LavaCondition<? extends E> condition) {
+    requireNonNull(label);
+    requireNonNull(condition);
+    return FunctorEvents.instrument(label, condition);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code consumer} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code consumer} is returned as is otherwise.
+   */
+  public static <X, E extends Exception> LavaConsumer<X, E>
+  instrumented(String label, LavaConsumer<? super X, ? extends E> consumer) {
+    requireNonNull(label);
+    requireNonNull(consumer);
+    return FunctorEvents.instrument(label, consumer);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biConsumer} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biConsumer} is returned as is otherwise.
+   */
+  public static <X, Y, E extends Exception> LavaBiConsumer<X, Y, E>
+  instrumented(String label, LavaBiConsumer<? super X, ? super Y, ? extends E> biConsumer) {
+    requireNonNull(label);
+    requireNonNull(biConsumer);
+    return FunctorEvents.instrument(label, biConsumer);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code function} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code function} is returned as is otherwise.
+   */
+  public static <X, R, E extends Exception> LavaFunction<X, R, E>
+  instrumented(String label, LavaFunction<? super X, ? extends R, ? extends E> function) {
+    requireNonNull(label);
+    requireNonNull(function);
+    return FunctorEvents.instrument(label, function);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biFunction} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biFunction} is returned as is otherwise.
+   */
+  public static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  instrumented(String label, LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) {
+    requireNonNull(label);
+    requireNonNull(biFunction);
+    return FunctorEvents.instrument(label, biFunction);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code predicate} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code predicate} is returned as is otherwise.
+   */
+  public static <X, E extends Exception> LavaPredicate<X, E>
+  instrumented(String label, LavaPredicate<? super X, ? extends E> predicate) {
+    requireNonNull(label);
+    requireNonNull(predicate);
+    return FunctorEvents.instrument(label, predicate);
+  }
+
+  /**
+   * Emit a JDK Flight Recorder event {@code org.tinyj.lava.Invocation}
+   * labeled {@code label} for each invocation of {@code biPredicate} exceeding
+   * the event's threshold, 10 ms unless configured otherwise. Only effective
+   * on Java 11 and later, {@code biPredicate} is returned as is otherwise.
+   */
+  public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  instrumented(String label, LavaBiPredicate<? super X, ? super Y, ? extends E> biPredicate) {
+    requireNonNull(label);
+    requireNonNull(biPredicate);
+    return FunctorEvents.instrument(label, biPredicate);
+  }
+
+  /**
+   * Register {@code supplier} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <R, E extends Exception> LavaSupplier<R, E>
+  register(String name, LavaSupplier<? extends R, ? extends E> supplier) {
+    requireNonNull(supplier);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, supplier);
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        return supplier.checkedGet();
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Register {@code function} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <X, R, E extends Exception> LavaFunction<X, R, E>
+  register(String name, LavaFunction<? super X, ? extends R, ? extends E> function) {
+    requireNonNull(function);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, function);
+    return x -> {
+      final long start = System.nanoTime();
+      try {
+        return function.checkedApply(x);
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Register {@code biFunction} under {@code name}, exposing its invocation
+   * count, error count, latency and, if memoized, cache statistics over
+   * JMX.
+   *
+   * @throws IllegalArgumentException if {@code name} is already registered
+   * @see FunctorMetrics
+   */
+  public static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  register(String name, LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) {
+    requireNonNull(biFunction);
+    final FunctorMetrics metrics = FunctorMetrics.register(name, biFunction);
+    return (x, y) -> {
+      final long start = System.nanoTime();
+      try {
+        return biFunction.checkedApply(x, y);
+      } catch (Throwable t) {
+        metrics.failed();
+        throw t;
+      } finally {
+        metrics.record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * Stop exposing the functor registered under {@code name} over JMX.
+   *
+   * @return {@code true} iff a functor was registered under {@code name}
+   */
+  public static boolean
+  unregister(String name) { return FunctorMetrics.unregister(name); }
+
   /**
    * Extend a given {@link LavaRunnable} to a {@link LavaConsumer} ignoring its argument.
    */
@@ -387,101 +1001,551 @@ public class LavaFun {
   }
 
   /**
-   * Flip arguments of a {@link LavaBiConsumer}
+   * Flip arguments of a {@link LavaBiConsumer}. Flipping a flipped
+   * {@link LavaBiConsumer} returns the original one, {@link #NoOp()} is
+   * returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, E extends Exception> LavaBiConsumer<Y, X, E>
   flipArguments(LavaBiConsumer<X, Y, E> biConsumer) {
     requireNonNull(biConsumer);
-    return (y, x) -> biConsumer.checkedAccept(x, y);
+    if (biConsumer instanceof NoOp) {
+      return (LavaBiConsumer) biConsumer;
+    }
+    return biConsumer instanceof FlippedLavaBiConsumer
+           ? ((FlippedLavaBiConsumer<X, Y, E>) biConsumer).flipped
+           : new FlippedLavaBiConsumer<>(biConsumer);
   }
 
   /**
-   * Flip arguments of a {@link LavaBiFunction}
+   * Flip arguments of a {@link LavaBiFunction}. Flipping a flipped
+   * {@link LavaBiFunction} returns the original one, a {@link Constant} is
+   * returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, R, E extends Exception> LavaBiFunction<Y, X, R, E>
   flipArguments(LavaBiFunction<X, Y, R, E> biFunction) {
     requireNonNull(biFunction);
-    return (y, x) -> biFunction.checkedApply(x, y);
+    if (biFunction instanceof Constant) {
+      return (LavaBiFunction) biFunction;
+    }
+    return biFunction instanceof FlippedLavaBiFunction
+           ? ((FlippedLavaBiFunction<X, Y, R, E>) biFunction).flipped
+           : new FlippedLavaBiFunction<>(biFunction);
   }
 
   /**
-   * Flip arguments of a {@link LavaBiPredicate}
+   * A {@link LavaPredicate} testing true iff all of {@code predicates} test true. The
+   * predicates are tested in order in a single loop until one tests false.
+   * Nested {@code allOf(...)} are flattened, {@link #True()} operands are dropped
+   * and a {@link #False()} operand turns the result into {@code False()}.
+   *
+   * @see Junction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, E extends Exception> LavaPredicate<X, E>
+  allOf(LavaPredicate<? super X, ? extends E>... predicates) { return Junction.of(Junction.Kind.ALL, predicates); }
+
+  /**
+   * A {@link LavaBiPredicate} testing true iff all of {@code predicates} test true. The
+   * predicates are tested in order in a single loop until one tests false.
+   * Nested {@code allOf(...)} are flattened, {@link #True()} operands are dropped
+   * and a {@link #False()} operand turns the result into {@code False()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  allOf(LavaBiPredicate<? super X, ? super Y, ? extends E>... predicates) { return BiJunction.of(Junction.Kind.ALL, predicates); }
+
+  /**
+   * A {@link LavaPredicate} testing true iff any of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code True()}.
+   *
+   * @see Junction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, E extends Exception> LavaPredicate<X, E>
+  anyOf(LavaPredicate<? super X, ? extends E>... predicates) { return Junction.of(Junction.Kind.ANY, predicates); }
+
+  /**
+   * A {@link LavaBiPredicate} testing true iff any of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code True()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  anyOf(LavaBiPredicate<? super X, ? super Y, ? extends E>... predicates) { return BiJunction.of(Junction.Kind.ANY, predicates); }
+
+  /**
+   * A {@link LavaPredicate} testing true iff none of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code False()}.
+   *
+   * @see Junction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, E extends Exception> LavaPredicate<X, E>
+  noneOf(LavaPredicate<? super X, ? extends E>... predicates) { return Junction.of(Junction.Kind.NONE, predicates); }
+
+  /**
+   * A {@link LavaBiPredicate} testing true iff none of {@code predicates} tests true. The
+   * predicates are tested in order in a single loop until one tests true.
+   * Nested {@code anyOf(...)} are flattened, {@link #False()} operands are dropped
+   * and a {@link #True()} operand turns the result into {@code False()}.
+   *
+   * @see BiJunction
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  noneOf(LavaBiPredicate<? super X, ? super Y, ? extends E>... predicates) { return BiJunction.of(Junction.Kind.NONE, predicates); }
+
+  /**
+   * Flip arguments of a {@link LavaBiPredicate}. Flipping a flipped
+   * {@link LavaBiPredicate} returns the original one, {@link #True()} and
+   * {@link #False()} are returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, E extends Exception> LavaBiPredicate<Y, X, E>
   flipArguments(LavaBiPredicate<X, Y, E> biPredicate) {
     requireNonNull(biPredicate);
-    return (y, x) -> biPredicate.checkedTest(x, y);
+    if (biPredicate instanceof True || biPredicate instanceof False) {
+      return (LavaBiPredicate) biPredicate;
+    }
+    return biPredicate instanceof FlippedLavaBiPredicate
+           ? ((FlippedLavaBiPredicate<X, Y, E>) biPredicate).flipped
+           : new FlippedLavaBiPredicate<>(biPredicate);
   }
 
   /**
    * Turn a {@link LavaRunnable} declaring {@link RuntimeException} as exception limit into a {@link Runnable}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static Runnable
   toJavaFun(LavaRunnable<? extends RuntimeException> runnable) {
     requireNonNull(runnable);
-    return runnable::checkedRun;
+    if (runnable instanceof LavaAdapter.OfRunnable) {
+      return ((LavaAdapter.OfRunnable) runnable).adapted;
+    }
+    if (runnable instanceof NoOp) {
+      return (Runnable) runnable;
+    }
+    return new JavaAdapter.OfRunnable(runnable);
   }
 
   /**
    * Turn a {@link LavaConsumer} declaring {@link RuntimeException} as exception limit into a {@link Consumer}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X> Consumer<X>
   toJavaFun(LavaConsumer<? super X, ? extends RuntimeException> consumer) {
     requireNonNull(consumer);
-    return consumer::checkedAccept;
+    if (consumer.getClass() == LavaConsumerBinder.class) {
+      consumer = ((LavaConsumerBinder<? super X, ? extends RuntimeException>) consumer).bound();
+    }
+    if (consumer instanceof LavaAdapter.OfConsumer) {
+      return (Consumer<X>) ((LavaAdapter.OfConsumer) consumer).adapted;
+    }
+    if (consumer instanceof NoOp) {
+      return (Consumer) consumer;
+    }
+    return new JavaAdapter.OfConsumer<>(consumer);
   }
 
   /**
    * Turn a {@link LavaBiConsumer} declaring {@link RuntimeException} as exception limit into a {@link BiConsumer}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link NoOp} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y> BiConsumer<X, Y>
   toJavaFun(LavaBiConsumer<? super X, ? super Y, ? extends RuntimeException> biConsumer) {
     requireNonNull(biConsumer);
-    return biConsumer::checkedAccept;
+    if (biConsumer.getClass() == LavaBiConsumerBinder.class) {
+      biConsumer = ((LavaBiConsumerBinder<? super X, ? super Y, ? extends RuntimeException>) biConsumer).bound();
+    }
+    if (biConsumer instanceof LavaAdapter.OfBiConsumer) {
+      return (BiConsumer<X, Y>) ((LavaAdapter.OfBiConsumer) biConsumer).adapted;
+    }
+    if (biConsumer instanceof NoOp) {
+      return (BiConsumer) biConsumer;
+    }
+    return new JavaAdapter.OfBiConsumer<>(biConsumer);
   }
 
   /**
    * Turn a {@link LavaSupplier} declaring {@link RuntimeException} as exception limit into a {@link Supplier}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <R> Supplier<R>
   toJavaFun(LavaSupplier<? extends R, ? extends RuntimeException> supplier) {
     requireNonNull(supplier);
-    return supplier::checkedGet;
+    if (supplier instanceof LavaAdapter.OfSupplier) {
+      return (Supplier<R>) ((LavaAdapter.OfSupplier) supplier).adapted;
+    }
+    if (supplier instanceof Constant) {
+      return (Supplier) supplier;
+    }
+    return new JavaAdapter.OfSupplier<>(supplier);
   }
 
   /**
    * Turn a {@link LavaFunction} declaring {@link RuntimeException} as exception limit into a {@link Function}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, R> Function<X, R>
   toJavaFun(LavaFunction<? super X, ? extends R, ? extends RuntimeException> function) {
     requireNonNull(function);
-    return function::checkedApply;
+    if (function.getClass() == LavaFunctionBinder.class) {
+      function = ((LavaFunctionBinder<? super X, ? extends R, ? extends RuntimeException>) function).bound();
+    }
+    if (function instanceof LavaAdapter.OfFunction) {
+      return (Function<X, R>) ((LavaAdapter.OfFunction) function).adapted;
+    }
+    if (function instanceof Constant) {
+      return (Function) function;
+    }
+    return new JavaAdapter.OfFunction<>(function);
   }
 
   /**
    * Turn a {@link LavaBiFunction} declaring {@link RuntimeException} as exception limit into a {@link BiFunction}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, a {@link Constant} is returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y, R> BiFunction<X, Y, R>
   toJavaFun(LavaBiFunction<? super X, ? super Y, ? extends R, ? extends RuntimeException> biFunction) {
     requireNonNull(biFunction);
-    return biFunction::checkedApply;
+    if (biFunction.getClass() == LavaBiFunctionBinder.class) {
+      biFunction = ((LavaBiFunctionBinder<? super X, ? super Y, ? extends R, ? extends RuntimeException>) biFunction).bound();
+    }
+    if (biFunction instanceof LavaAdapter.OfBiFunction) {
+      return (BiFunction<X, Y, R>) ((LavaAdapter.OfBiFunction) biFunction).adapted;
+    }
+    if (biFunction instanceof Constant) {
+      return (BiFunction) biFunction;
+    }
+    return new JavaAdapter.OfBiFunction<>(biFunction);
   }
 
   /**
    * Turn a {@link LavaPredicate} declaring {@link RuntimeException} as exception limit into a {@link Predicate}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link True} and {@link False} are returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X> Predicate<X>
   toJavaFun(LavaPredicate<? super X, ? extends RuntimeException> predicate) {
     requireNonNull(predicate);
-    return predicate::checkedTest;
+    if (predicate.getClass() == LavaPredicateBinder.class) {
+      predicate = ((LavaPredicateBinder<? super X, ? extends RuntimeException>) predicate).bound();
+    }
+    if (predicate instanceof LavaAdapter.OfPredicate) {
+      return (Predicate<X>) ((LavaAdapter.OfPredicate) predicate).adapted;
+    }
+    if (predicate instanceof True || predicate instanceof False) {
+      return (Predicate) predicate;
+    }
+    return new JavaAdapter.OfPredicate<>(predicate);
   }
 
   /**
    * Turn a {@link LavaBiPredicate} declaring {@link RuntimeException} as exception limit into a {@link BiPredicate}.
+   * Adapters created by {@code JavaFun.toLavaFun(...)} are unwrapped instead of
+   * wrapped again, {@link True} and {@link False} are returned as is.
    */
+  @SuppressWarnings("unchecked")
   public static <X, Y> BiPredicate<X, Y>
   toJavaFun(LavaBiPredicate<? super X, ? super Y, ? extends RuntimeException> biPredicate) {
     requireNonNull(biPredicate);
-    return biPredicate::checkedTest;
+    if (biPredicate.getClass() == LavaBiPredicateBinder.class) {
+      biPredicate = ((LavaBiPredicateBinder<? super X, ? super Y, ? extends RuntimeException>) biPredicate).bound();
+    }
+    if (biPredicate instanceof LavaAdapter.OfBiPredicate) {
+      return (BiPredicate<X, Y>) ((LavaAdapter.OfBiPredicate) biPredicate).adapted;
+    }
+    if (biPredicate instanceof True || biPredicate instanceof False) {
+      return (BiPredicate) biPredicate;
+    }
+    return new JavaAdapter.OfBiPredicate<>(biPredicate);
+  }
+
+  /**
+   * Turn a {@link LavaRunnable} into a {@link Runnable}, checked exceptions are
+   * rethrown unchanged even though {@link Runnable} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static Runnable
+  toJavaFunSneaky(LavaRunnable<?> runnable) {
+    requireNonNull(runnable);
+    return toJavaFun((LavaRunnable<RuntimeException>) (LavaRunnable) runnable);
+  }
+
+  /**
+   * Turn a {@link LavaConsumer} into a {@link Consumer}, checked exceptions are
+   * rethrown unchanged even though {@link Consumer} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X> Consumer<X>
+  toJavaFunSneaky(LavaConsumer<? super X, ?> consumer) {
+    requireNonNull(consumer);
+    return toJavaFun((LavaConsumer<? super X, RuntimeException>) (LavaConsumer) consumer);
+  }
+
+  /**
+   * Turn a {@link LavaBiConsumer} into a {@link BiConsumer}, checked exceptions are
+   * rethrown unchanged even though {@link BiConsumer} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X, Y> BiConsumer<X, Y>
+  toJavaFunSneaky(LavaBiConsumer<? super X, ? super Y, ?> biConsumer) {
+    requireNonNull(biConsumer);
+    return toJavaFun((LavaBiConsumer<? super X, ? super Y, RuntimeException>) (LavaBiConsumer) biConsumer);
+  }
+
+  /**
+   * Turn a {@link LavaSupplier} into a {@link Supplier}, checked exceptions are
+   * rethrown unchanged even though {@link Supplier} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <R> Supplier<R>
+  toJavaFunSneaky(LavaSupplier<? extends R, ?> supplier) {
+    requireNonNull(supplier);
+    return toJavaFun((LavaSupplier<? extends R, RuntimeException>) (LavaSupplier) supplier);
+  }
+
+  /**
+   * Turn a {@link LavaFunction} into a {@link Function}, checked exceptions are
+   * rethrown unchanged even though {@link Function} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X, R> Function<X, R>
+  toJavaFunSneaky(LavaFunction<? super X, ? extends R, ?> function) {
+    requireNonNull(function);
+    return toJavaFun((LavaFunction<? super X, ? extends R, RuntimeException>) (LavaFunction) function);
+  }
+
+  /**
+   * Turn a {@link LavaBiFunction} into a {@link BiFunction}, checked exceptions are
+   * rethrown unchanged even though {@link BiFunction} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X, Y, R> BiFunction<X, Y, R>
+  toJavaFunSneaky(LavaBiFunction<? super X, ? super Y, ? extends R, ?> biFunction) {
+    requireNonNull(biFunction);
+    return toJavaFun((LavaBiFunction<? super X, ? super Y, ? extends R, RuntimeException>) (LavaBiFunction) biFunction);
+  }
+
+  /**
+   * Turn a {@link LavaPredicate} into a {@link Predicate}, checked exceptions are
+   * rethrown unchanged even though {@link Predicate} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X> Predicate<X>
+  toJavaFunSneaky(LavaPredicate<? super X, ?> predicate) {
+    requireNonNull(predicate);
+    return toJavaFun((LavaPredicate<? super X, RuntimeException>) (LavaPredicate) predicate);
+  }
+
+  /**
+   * Turn a {@link LavaBiPredicate} into a {@link BiPredicate}, checked exceptions are
+   * rethrown unchanged even though {@link BiPredicate} does not declare them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <X, Y> BiPredicate<X, Y>
+  toJavaFunSneaky(LavaBiPredicate<? super X, ? super Y, ?> biPredicate) {
+    requireNonNull(biPredicate);
+    return toJavaFun((LavaBiPredicate<? super X, ? super Y, RuntimeException>) (LavaBiPredicate) biPredicate);
+  }
+
+  /**
+   * Turn a {@link LavaRunnable} into a {@link Runnable}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static Runnable
+  toJavaFunCarrying(LavaRunnable<?> runnable) {
+    requireNonNull(runnable);
+    return () -> {
+      try {
+        runnable.checkedRun();
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaConsumer} into a {@link Consumer}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X> Consumer<X>
+  toJavaFunCarrying(LavaConsumer<? super X, ?> consumer) {
+    requireNonNull(consumer);
+    return x -> {
+      try {
+        consumer.checkedAccept(x);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaBiConsumer} into a {@link BiConsumer}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X, Y> BiConsumer<X, Y>
+  toJavaFunCarrying(LavaBiConsumer<? super X, ? super Y, ?> biConsumer) {
+    requireNonNull(biConsumer);
+    return (x, y) -> {
+      try {
+        biConsumer.checkedAccept(x, y);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaSupplier} into a {@link Supplier}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <R> Supplier<R>
+  toJavaFunCarrying(LavaSupplier<? extends R, ?> supplier) {
+    requireNonNull(supplier);
+    return () -> {
+      try {
+        return supplier.checkedGet();
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaFunction} into a {@link Function}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X, R> Function<X, R>
+  toJavaFunCarrying(LavaFunction<? super X, ? extends R, ?> function) {
+    requireNonNull(function);
+    return x -> {
+      try {
+        return function.checkedApply(x);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaBiFunction} into a {@link BiFunction}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X, Y, R> BiFunction<X, Y, R>
+  toJavaFunCarrying(LavaBiFunction<? super X, ? super Y, ? extends R, ?> biFunction) {
+    requireNonNull(biFunction);
+    return (x, y) -> {
+      try {
+        return biFunction.checkedApply(x, y);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaPredicate} into a {@link Predicate}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X> Predicate<X>
+  toJavaFunCarrying(LavaPredicate<? super X, ?> predicate) {
+    requireNonNull(predicate);
+    return x -> {
+      try {
+        return predicate.checkedTest(x);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Turn a {@link LavaBiPredicate} into a {@link BiPredicate}, checked exceptions are
+   * rethrown wrapped in a stackless {@link CheckedCarrier}.
+   */
+  public static <X, Y> BiPredicate<X, Y>
+  toJavaFunCarrying(LavaBiPredicate<? super X, ? super Y, ?> biPredicate) {
+    requireNonNull(biPredicate);
+    return (x, y) -> {
+      try {
+        return biPredicate.checkedTest(x, y);
+      } catch (Exception e) {
+        throw CheckedCarrier.carry(e);
+      }
+    };
+  }
+
+  /**
+   * Invoke {@code body}, a {@link CheckedCarrier} thrown by it carrying an
+   * instance of {@code type} is replaced by the exception it carries. Other
+   * carriers are rethrown as they are. Use at the boundary of code invoking
+   * functors created by {@code toJavaFunCarrying(...)}.
+   */
+  public static <R, E extends Exception> R
+  unwrapCarried(Class<E> type, LavaSupplier<? extends R, ? extends E> body) throws E {
+    requireNonNull(type);
+    requireNonNull(body);
+    try {
+      return body.checkedGet();
+    } catch (CheckedCarrier carrier) {
+      throw unwrap(type, carrier);
+    }
+  }
+
+  /**
+   * Invoke {@code body}, a {@link CheckedCarrier} thrown by it carrying an
+   * instance of {@code type} is replaced by the exception it carries. Other
+   * carriers are rethrown as they are. Use at the boundary of code invoking
+   * functors created by {@code toJavaFunCarrying(...)}.
+   */
+  public static <E extends Exception> void
+  unwrapCarried(Class<E> type, LavaRunnable<? extends E> body) throws E {
+    requireNonNull(type);
+    requireNonNull(body);
+    try {
+      body.checkedRun();
+    } catch (CheckedCarrier carrier) {
+      throw unwrap(type, carrier);
+    }
+  }
+
+  private static <E extends Exception> E
+  unwrap(Class<E> type, CheckedCarrier carrier) {
+    if (type.isInstance(carrier.carried())) {
+      return type.cast(carrier.carried());
+    }
+    throw carrier;
   }
 }
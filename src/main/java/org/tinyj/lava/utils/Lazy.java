@@ -0,0 +1,66 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaSupplier;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazy supplier, invokes the wrapped supplier once on first use and returns
+ * that result from there on. Can be used where ever a {@link Supplier} or
+ * {@link LavaSupplier} is required.
+ * <p>
+ * The first invocation is serialized, subsequent invocations neither lock nor
+ * perform a volatile read: the result is published through the final field of
+ * a {@link Constant}. If the wrapped supplier fails, the exception is passed on
+ * and the next invocation tries again. Once a result is obtained the reference
+ * to the wrapped supplier is dropped.
+ *
+ * @param <R> the type of the result of the supplier
+ */
+public final class Lazy<R, E extends Exception>
+    implements Supplier<R>, LavaSupplier<R, E> {
+
+  /** Not volatile on purpose, a stale read ends up in the synchronized {@link Initializer}. */
+  private LavaSupplier<R, E> current;
+
+  public Lazy(LavaSupplier<? extends R, ? extends E> supplier) {
+    requireNonNull(supplier);
+    this.current = new Initializer(LavaSupplier.castDown(supplier));
+  }
+
+  @Override
+  public R checkedGet() throws E { return current.checkedGet(); }
+
+  @Override
+  public R get() {
+    try {
+      return current.checkedGet();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  private final class Initializer
+      implements LavaSupplier<R, E> {
+
+    private LavaSupplier<R, E> supplier;
+
+    Initializer(LavaSupplier<R, E> supplier) { this.supplier = supplier; }
+
+    @Override
+    public synchronized R checkedGet() throws E {
+      if (current != this) {
+        return current.checkedGet();
+      }
+      final R value = supplier.checkedGet();
+      current = new Constant<>(value);
+      supplier = null;
+      return value;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.*;
+
+/**
+ * A {@code long} constant, always returns {@code value}. This is equivalent to
+ * {@code (...) -> value}. Can be used where ever a {@link LongSupplier},
+ * {@link LongUnaryOperator}, {@link LongBinaryOperator}, {@link ToLongFunction},
+ * {@link ToLongBiFunction}, {@link IntToLongFunction}, or
+ * {@link DoubleToLongFunction} is required, without boxing {@code value}.
+ */
+public final class LongConstant<X, Y>
+    implements LongSupplier, LongUnaryOperator, LongBinaryOperator, ToLongFunction<X>, ToLongBiFunction<X, Y>,
+    IntToLongFunction, DoubleToLongFunction {
+
+  private final long value;
+
+  public LongConstant(long value) { this.value = value; }
+
+  @Override
+  public long getAsLong() { return value; }
+
+  @Override
+  public long applyAsLong(long x) { return value; }
+
+  @Override
+  public long applyAsLong(long x, long y) { return value; }
+
+  @Override
+  public long applyAsLong(X x) { return value; }
+
+  @Override
+  public long applyAsLong(X x, Y y) { return value; }
+
+  @Override
+  public long applyAsLong(int x) { return value; }
+
+  @Override
+  public long applyAsLong(double x) { return value; }
+}
@@ -0,0 +1,50 @@
+package org.tinyj.lava.utils;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes keys and results of a {@link Memoized} function into snapshots, see
+ * {@link Memoized#snapshot}. Equal values must be encoded into equal bytes.
+ *
+ * @param <T> the type of the encoded values
+ */
+public interface MemoCodec<T> {
+
+  MemoCodec<String> STRING = new MemoCodec<String>() {
+    @Override
+    public void write(String value, DataOutput out) throws IOException { out.write(value.getBytes(StandardCharsets.UTF_8)); }
+
+    @Override
+    public String read(ByteBuffer in) { return StandardCharsets.UTF_8.decode(in).toString(); }
+  };
+
+  MemoCodec<Integer> INTEGER = new MemoCodec<Integer>() {
+    @Override
+    public void write(Integer value, DataOutput out) throws IOException { out.writeInt(value); }
+
+    @Override
+    public Integer read(ByteBuffer in) { return in.getInt(); }
+  };
+
+  MemoCodec<Long> LONG = new MemoCodec<Long>() {
+    @Override
+    public void write(Long value, DataOutput out) throws IOException { out.writeLong(value); }
+
+    @Override
+    public Long read(ByteBuffer in) { return in.getLong(); }
+  };
+
+  /**
+   * Encode {@code value} to {@code out}.
+   */
+  void write(T value, DataOutput out) throws IOException;
+
+  /**
+   * Decode a value from {@code in}, which holds exactly the bytes written by
+   * {@link #write(Object, DataOutput)} in big-endian order.
+   */
+  T read(ByteBuffer in);
+}
@@ -0,0 +1,204 @@
+package org.tinyj.lava.utils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A snapshot file of memoized results, mapped into memory and looked up
+ * without decoding the entries not asked for.
+ * <p>
+ * The file starts with a header holding a magic number, the format version,
+ * the caller's version, the number of entries, the size of the index, the file
+ * size and a CRC32C checksum of everything following the header. The index is
+ * an open addressing table of key hashes and record offsets, each record holds
+ * the encoded key and result prefixed by their length.
+ */
+final class MemoSnapshot<K, V> {
+
+  static final Object ABSENT = new Object();
+
+  private static final int MAGIC = 0x4C4D454D;
+  private static final int FORMAT = 1;
+  private static final int HEADER_BYTES = 40;
+  private static final int SLOT_BYTES = 12;
+  private static final int CHECKSUM_OFFSET = 32;
+
+  private final ByteBuffer file;
+  private final int slotMask;
+  private final MemoCodec<K> keyCodec;
+  private final MemoCodec<V> valueCodec;
+
+  private MemoSnapshot(ByteBuffer file, int slots, MemoCodec<K> keyCodec, MemoCodec<V> valueCodec) {
+    this.file = file;
+    this.slotMask = slots - 1;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+  }
+
+  /**
+   * Write {@code entries} to {@code path}. The snapshot is written to a
+   * temporary file first and moved into place once complete.
+   */
+  static <K, V> void
+  write(Path path, long version, Iterable<? extends Map.Entry<K, V>> entries,
+        MemoCodec<K> keyCodec, MemoCodec<V> valueCodec) throws IOException {
+    final Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, READ, WRITE, TRUNCATE_EXISTING)) {
+      int count = 0;
+      int[] hashes = new int[64];
+      long[] offsets = new long[64];
+      final ByteArrayOutputStream key = new ByteArrayOutputStream();
+      final ByteArrayOutputStream value = new ByteArrayOutputStream();
+      final ByteArrayOutputStream records = new ByteArrayOutputStream();
+      final DataOutputStream recordsOut = new DataOutputStream(records);
+      for (Map.Entry<K, V> entry : entries) {
+        key.reset();
+        value.reset();
+        keyCodec.write(entry.getKey(), new DataOutputStream(key));
+        valueCodec.write(entry.getValue(), new DataOutputStream(value));
+        if (count == hashes.length) {
+          hashes = Arrays.copyOf(hashes, count * 2);
+          offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        hashes[count] = hash(key.toByteArray());
+        offsets[count] = records.size();
+        count++;
+        recordsOut.writeInt(key.size());
+        key.writeTo(recordsOut);
+        recordsOut.writeInt(value.size());
+        value.writeTo(recordsOut);
+      }
+      final int slots = Integer.highestOneBit(Math.max(count, 1) * 4 - 1);
+      final long recordsOffset = HEADER_BYTES + (long) slots * SLOT_BYTES;
+      final long size = recordsOffset + records.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("snapshot too large: " + size + " bytes");
+      }
+
+      final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      buffer.putInt(MAGIC).putInt(FORMAT).putLong(version).putInt(count).putInt(slots).putLong(size);
+      for (int i = 0; i < count; i++) {
+        int slot = hashes[i] & (slots - 1);
+        while (buffer.getLong(slotOffset(slot) + 4) != 0) {
+          slot = (slot + 1) & (slots - 1);
+        }
+        buffer.putInt(slotOffset(slot), hashes[i]);
+        buffer.putLong(slotOffset(slot) + 4, recordsOffset + offsets[i]);
+      }
+      buffer.position((int) recordsOffset);
+      buffer.put(records.toByteArray());
+      buffer.putInt(CHECKSUM_OFFSET, checksum(buffer, (int) size));
+      buffer.clear();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+  }
+
+  /**
+   * Map the snapshot at {@code path}. The checksum covers the whole file,
+   * validating it reads every page of the mapping.
+   *
+   * @return {@code null} if there is no such file, or the file is not a
+   * snapshot of {@code version}, or it is corrupted
+   */
+  static <K, V> MemoSnapshot<K, V>
+  open(Path path, long version, MemoCodec<K> keyCodec, MemoCodec<V> valueCodec) throws IOException {
+    final MappedByteBuffer file;
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      final long size = channel.size();
+      if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+        return null;
+      }
+      file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+    if (file.getInt(0) != MAGIC || file.getInt(4) != FORMAT || file.getLong(8) != version
+        || file.getLong(24) != file.capacity()) {
+      return null;
+    }
+    final int slots = file.getInt(20);
+    if (slots <= 0 || Integer.bitCount(slots) != 1 || HEADER_BYTES + (long) slots * SLOT_BYTES > file.capacity()
+        || file.getInt(CHECKSUM_OFFSET) != checksum(file, file.capacity())) {
+      return null;
+    }
+    return new MemoSnapshot<>(file, slots, keyCodec, valueCodec);
+  }
+
+  /**
+   * Encodes {@code key} and probes the index, on every call whether the key
+   * is stored or not.
+   *
+   * @return the result stored for {@code key}, {@link #ABSENT} if there is none
+   */
+  Object
+  find(K key) {
+    final byte[] encoded;
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      keyCodec.write(key, new DataOutputStream(out));
+      encoded = out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    final int hash = hash(encoded);
+    for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+      final long offset = file.getLong(slotOffset(slot) + 4);
+      if (offset == 0) {
+        return ABSENT;
+      }
+      if (file.getInt(slotOffset(slot)) == hash && matches(offset, encoded)) {
+        final int keyLength = file.getInt((int) offset);
+        final int valueOffset = (int) offset + 4 + keyLength;
+        final ByteBuffer value = file.duplicate();
+        value.limit(valueOffset + 4 + file.getInt(valueOffset)).position(valueOffset + 4);
+        return valueCodec.read(value.slice());
+      }
+    }
+  }
+
+  private boolean matches(long offset, byte[] key) {
+    if (file.getInt((int) offset) != key.length) {
+      return false;
+    }
+    for (int i = 0; i < key.length; i++) {
+      if (file.get((int) offset + 4 + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int slotOffset(int slot) { return HEADER_BYTES + slot * SLOT_BYTES; }
+
+  private static int hash(byte[] bytes) {
+    final int hash = Arrays.hashCode(bytes) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int checksum(ByteBuffer buffer, int size) {
+    final ByteBuffer covered = buffer.duplicate();
+    covered.limit(size).position(HEADER_BYTES);
+    final CRC32C crc = new CRC32C();
+    crc.update(covered);
+    return (int) crc.getValue();
+  }
+}
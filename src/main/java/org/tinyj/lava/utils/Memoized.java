@@ -0,0 +1,263 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaFunction;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.file.Path;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A memoized function, caches up to about {@code maxSize} results of the
+ * wrapped function. Can be used where ever a {@link Function} or
+ * {@link LavaFunction} is required.
+ * <p>
+ * Lookups are lock-free. Misses compute the result without holding a lock,
+ * concurrent misses on the same argument may thus invoke the wrapped function
+ * more than once, the first result stored wins. Once full, entries are evicted
+ * in approximate least-recently-used order by a CLOCK sweep. Eviction state is
+ * striped to keep contention low.
+ * <p>
+ * Exceptions thrown by the wrapped function are only cached if
+ * {@code cacheFailures} is set, the cached exception instance is then rethrown
+ * on each lookup of the same argument. {@link Error}s are never cached.
+ * <p>
+ * The cached results can be saved with {@link #snapshot} and restored into a
+ * new instance with {@link #restore}, e.g. to start warm after a restart.
+ *
+ * @param <X> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+public final class Memoized<X, R, E extends Exception>
+    implements Function<X, R>, LavaFunction<X, R, E>, CacheStats {
+
+  private static final Object NULL_KEY = new Object();
+  private static final int MAX_STRIPES = 64;
+
+  private final LavaFunction<X, R, E> function;
+  private final boolean cacheFailures;
+  private final ConcurrentHashMap<Object, Entry<R, E>> entries;
+  private final Stripe[] stripes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile MemoSnapshot<X, R> restored;
+
+  public Memoized(LavaFunction<? super X, ? extends R, ? extends E> function, int maxSize, boolean cacheFailures) {
+    requireNonNull(function);
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    this.function = LavaFunction.castDown(function);
+    this.cacheFailures = cacheFailures;
+    this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    final int stripeCount = Integer.highestOneBit(
+        Math.min(Math.min(maxSize, MAX_STRIPES), 4 * Runtime.getRuntime().availableProcessors()));
+    final int stripeSize = (maxSize + stripeCount - 1) / stripeCount;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(stripeSize);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x) throws E {
+    final Object key = x == null ? NULL_KEY : x;
+    final Entry<R, E> cached = entries.get(key);
+    if (cached != null) {
+      hits.increment();
+      cached.touch();
+      return cached.get();
+    }
+    final MemoSnapshot<X, R> restored = this.restored;
+    if (restored != null && x != null) {
+      final Object value = restored.find(x);
+      if (value != MemoSnapshot.ABSENT) {
+        hits.increment();
+        return admit(new Entry<>(key, (R) value, null)).get();
+      }
+    }
+    misses.increment();
+    final R result;
+    try {
+      result = function.checkedApply(x);
+    } catch (Exception e) {
+      if (cacheFailures) {
+        admit(new Entry<>(key, null, e));
+      }
+      throw e;
+    }
+    return admit(new Entry<>(key, result, null)).get();
+  }
+
+  @Override
+  public R apply(X x) {
+    try {
+      return checkedApply(x);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * @return the number of lookups answered from the cache
+   */
+  public long hitCount() { return hits.sum(); }
+
+  /**
+   * @return the number of lookups that invoked the wrapped function
+   */
+  public long missCount() { return misses.sum(); }
+
+  /**
+   * @return the number of entries evicted to make room for new ones
+   */
+  public long evictionCount() { return evictions.sum(); }
+
+  /**
+   * @return the current number of cached entries
+   */
+  public int size() { return entries.size(); }
+
+  /**
+   * Write the cached results to {@code file}, replacing it atomically. Cached
+   * exceptions, {@code null} results and the result for {@code null} are left
+   * out.
+   *
+   * @param version identifies the function, {@link #restore} ignores
+   *                snapshots of any other version
+   */
+  @SuppressWarnings("unchecked")
+  public void
+  snapshot(Path file, long version, MemoCodec<X> keyCodec, MemoCodec<R> valueCodec) throws IOException {
+    final List<Map.Entry<X, R>> results = new ArrayList<>(entries.size());
+    for (Entry<R, E> entry : entries.values()) {
+      if (entry.failure == null && entry.key != NULL_KEY && entry.value != null) {
+        results.add(new SimpleImmutableEntry<>((X) entry.key, entry.value));
+      }
+    }
+    MemoSnapshot.write(file, version, results, keyCodec, valueCodec);
+  }
+
+  /**
+   * Restore results from a snapshot written by {@link #snapshot}. The file is
+   * mapped into memory and validated once, results are decoded as they are
+   * looked up. Lookups not answered from the cache consult the snapshot
+   * before invoking the wrapped function.
+   * <p>
+   * Validating checksums the whole file, reading every page of it. Each
+   * lookup consulting the snapshot encodes its argument and probes the
+   * mapping, misses included. Once the cache is warm the snapshot should be
+   * dropped with {@link #dropSnapshot()}.
+   *
+   * @return {@code true} iff the snapshot was restored, {@code false} if there
+   * is no snapshot of {@code version} at {@code file} or it is corrupted
+   */
+  public boolean
+  restore(Path file, long version, MemoCodec<X> keyCodec, MemoCodec<R> valueCodec) throws IOException {
+    final MemoSnapshot<X, R> snapshot = MemoSnapshot.open(file, version, keyCodec, valueCodec);
+    if (snapshot == null) {
+      return false;
+    }
+    restored = snapshot;
+    return true;
+  }
+
+  /**
+   * Stop consulting the restored snapshot. The mapping is released once
+   * garbage collected.
+   *
+   * @return {@code true} iff a snapshot was restored
+   */
+  public boolean
+  dropSnapshot() {
+    final boolean dropped = restored != null;
+    restored = null;
+    return dropped;
+  }
+
+  /**
+   * @return {@code true} iff a result or exception is cached for {@code x}
+   */
+  boolean isCached(X x) { return entries.containsKey(x == null ? NULL_KEY : x); }
+
+  private Entry<R, E> admit(Entry<R, E> entry) {
+    final Entry<R, E> present = entries.putIfAbsent(entry.key, entry);
+    if (present != null) {
+      return present;
+    }
+    final Entry<?, ?> evicted = stripes[spread(entry.key.hashCode()) & (stripes.length - 1)].add(entry);
+    if (evicted != null && entries.remove(evicted.key, evicted)) {
+      evictions.increment();
+    }
+    return entry;
+  }
+
+  private static int spread(int hash) { return hash ^ (hash >>> 16); }
+
+  private static final class Entry<R, E extends Exception> {
+
+    final Object key;
+    final R value;
+    final Exception failure;
+    /** CLOCK reference bit, races are benign. */
+    boolean referenced;
+
+    Entry(Object key, R value, Exception failure) {
+      this.key = key;
+      this.value = value;
+      this.failure = failure;
+    }
+
+    void touch() {
+      if (!referenced) {
+        referenced = true;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    R get() throws E {
+      if (failure != null) {
+        throw (E) failure;
+      }
+      return value;
+    }
+  }
+
+  private static final class Stripe {
+
+    private final Entry<?, ?>[] ring;
+    private int hand;
+
+    Stripe(int size) { this.ring = new Entry<?, ?>[size]; }
+
+    /**
+     * Put {@code entry} into the ring, sweeping the clock hand past recently
+     * referenced entries.
+     *
+     * @return the entry replaced, {@code null} if there was none
+     */
+    synchronized Entry<?, ?> add(Entry<?, ?> entry) {
+      Entry<?, ?> current = ring[hand];
+      while (current != null && current.referenced) {
+        current.referenced = false;
+        hand = (hand + 1) % ring.length;
+        current = ring[hand];
+      }
+      ring[hand] = entry;
+      hand = (hand + 1) % ring.length;
+      return current;
+    }
+  }
+}
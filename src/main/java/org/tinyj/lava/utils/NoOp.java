@@ -8,10 +8,15 @@ import org.tinyj.lava.NoException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The no-operation, does absolutely nothing. This is equivalent to
  * {@code (...) -> {}}. Can be used where ever a {@link Runnable},
  * {@link Consumer}, or {@link BiConsumer} is required.
+ * <p>
+ * Sequencing a {@code NoOp} with another operation yields that other
+ * operation.
  */
 public final class NoOp<X, Y, E extends Exception>
     implements Runnable, Consumer<X>, BiConsumer<X, Y>,
@@ -38,4 +43,18 @@ public final class NoOp<X, Y, E extends Exception>
 
   @Override
   public void checkedRun() throws NoException {}
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Consumer<X> andThen(Consumer<? super X> after) {
+    requireNonNull(after);
+    return (Consumer<X>) after;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public BiConsumer<X, Y> andThen(BiConsumer<? super X, ? super Y> after) {
+    requireNonNull(after);
+    return (BiConsumer<X, Y>) after;
+  }
 }
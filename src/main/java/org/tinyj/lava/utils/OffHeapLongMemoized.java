@@ -0,0 +1,239 @@
+package org.tinyj.lava.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A memoized {@link LongUnaryOperator} keeping its cache off-heap, caches up
+ * to {@code capacity} results, rounded up to the next power of two.
+ * <p>
+ * Keys and results are stored in direct {@link ByteBuffer}s, 16 bytes per
+ * entry plus 4 bytes per 8 entries, the heap footprint does not grow with the
+ * number of cached entries. The cache is 8-way set associative, each key has a
+ * fixed set of 8 slots. Once these are taken an entry of the set is evicted by
+ * a CLOCK sweep. Lookups neither lock nor allocate unless they race with a
+ * store into the same set. Misses compute the result without holding a lock.
+ * <p>
+ * {@link #close()} releases the off-heap memory right away if the JDK permits,
+ * otherwise once the buffers are collected. Invoking the function after
+ * {@code close()} fails, invoking it concurrently with {@code close()} is not
+ * supported.
+ */
+public final class OffHeapLongMemoized
+    implements LongUnaryOperator, AutoCloseable {
+
+  private static final int WAYS = 8;
+  private static final int ENTRY_BYTES = 16;
+  private static final int SET_BYTES = WAYS * ENTRY_BYTES;
+  private static final int CHUNK_SETS_BITS = 23;
+  private static final int CHUNK_SETS = 1 << CHUNK_SETS_BITS;
+  private static final int MAX_STRIPES = 256;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  /** Offsets into the per set metadata. */
+  private static final int OCCUPIED = 0;
+  private static final int REFERENCED = 1;
+  private static final int HAND = 2;
+
+  private final LongUnaryOperator function;
+  private final int setMask;
+  private final StampedLock[] stripes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile ByteBuffer[] entries;
+  private volatile ByteBuffer[] sets;
+
+  public OffHeapLongMemoized(LongUnaryOperator function, int capacity) {
+    requireNonNull(function);
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be within [1, 2^30]: " + capacity);
+    }
+    this.function = function;
+    final int setCount = Integer.highestOneBit(Math.max(WAYS, capacity) * 2 - 1) / WAYS;
+    this.setMask = setCount - 1;
+    final int chunkCount = (setCount + CHUNK_SETS - 1) / CHUNK_SETS;
+    final int chunkSets = Math.min(setCount, CHUNK_SETS);
+    final ByteBuffer[] entries = new ByteBuffer[chunkCount];
+    final ByteBuffer[] sets = new ByteBuffer[chunkCount];
+    for (int i = 0; i < chunkCount; i++) {
+      entries[i] = ByteBuffer.allocateDirect(chunkSets * SET_BYTES).order(ByteOrder.nativeOrder());
+      sets[i] = ByteBuffer.allocateDirect(chunkSets * 4);
+    }
+    this.entries = entries;
+    this.sets = sets;
+    this.stripes = new StampedLock[Math.min(setCount, MAX_STRIPES)];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new StampedLock();
+    }
+  }
+
+  @Override
+  public long applyAsLong(long x) {
+    final ByteBuffer[] entries = this.entries;
+    final ByteBuffer[] sets = this.sets;
+    if (entries == null) {
+      throw new IllegalStateException("memoized function is closed");
+    }
+    final int set = setOf(x);
+    final ByteBuffer chunk = entries[set >>> CHUNK_SETS_BITS];
+    final ByteBuffer meta = sets[set >>> CHUNK_SETS_BITS];
+    final int setOffset = (set & (CHUNK_SETS - 1)) * SET_BYTES;
+    final int metaOffset = (set & (CHUNK_SETS - 1)) * 4;
+    final StampedLock lock = stripes[set & (stripes.length - 1)];
+
+    long stamp = lock.tryOptimisticRead();
+    int way = find(chunk, meta, setOffset, metaOffset, x);
+    long value = way < 0 ? 0 : chunk.getLong(setOffset + way * ENTRY_BYTES + 8);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        way = find(chunk, meta, setOffset, metaOffset, x);
+        value = way < 0 ? 0 : chunk.getLong(setOffset + way * ENTRY_BYTES + 8);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    if (way >= 0) {
+      hits.increment();
+      final byte referenced = meta.get(metaOffset + REFERENCED);
+      if ((referenced & (1 << way)) == 0) {
+        // races with other lookups in the same set may drop the bit, that is benign
+        meta.put(metaOffset + REFERENCED, (byte) (referenced | (1 << way)));
+      }
+      return value;
+    }
+
+    misses.increment();
+    final long result = function.applyAsLong(x);
+    stamp = lock.writeLock();
+    try {
+      if (this.entries != null && find(chunk, meta, setOffset, metaOffset, x) < 0) {
+        store(chunk, meta, setOffset, metaOffset, x, result);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of lookups answered from the cache
+   */
+  public long hitCount() { return hits.sum(); }
+
+  /**
+   * @return the number of lookups that invoked the wrapped function
+   */
+  public long missCount() { return misses.sum(); }
+
+  /**
+   * @return the number of entries evicted to make room for new ones
+   */
+  public long evictionCount() { return evictions.sum(); }
+
+  /**
+   * @return the number of entries the cache can hold
+   */
+  public int capacity() { return (setMask + 1) * WAYS; }
+
+  /**
+   * Release the off-heap memory held by the cache.
+   */
+  @Override
+  public void close() {
+    final long[] stamps = new long[stripes.length];
+    for (int i = 0; i < stripes.length; i++) {
+      stamps[i] = stripes[i].writeLock();
+    }
+    final ByteBuffer[] entries = this.entries;
+    final ByteBuffer[] sets = this.sets;
+    this.entries = null;
+    this.sets = null;
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i].unlockWrite(stamps[i]);
+    }
+    if (entries != null) {
+      for (int i = 0; i < entries.length; i++) {
+        Cleaner.clean(entries[i]);
+        Cleaner.clean(sets[i]);
+      }
+    }
+  }
+
+  private int setOf(long x) {
+    final long hash = x * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & setMask;
+  }
+
+  private static int find(ByteBuffer chunk, ByteBuffer meta, int setOffset, int metaOffset, long x) {
+    final int occupied = meta.get(metaOffset + OCCUPIED) & 0xFF;
+    for (int way = 0; way < WAYS; way++) {
+      if ((occupied & (1 << way)) != 0 && chunk.getLong(setOffset + way * ENTRY_BYTES) == x) {
+        return way;
+      }
+    }
+    return -1;
+  }
+
+  /** Store an entry into the set, the caller holds the write lock of its stripe. */
+  private void store(ByteBuffer chunk, ByteBuffer meta, int setOffset, int metaOffset, long x, long value) {
+    final int occupied = meta.get(metaOffset + OCCUPIED) & 0xFF;
+    int way;
+    if (occupied != 0xFF) {
+      way = Integer.numberOfTrailingZeros(~occupied);
+    } else {
+      int referenced = meta.get(metaOffset + REFERENCED) & 0xFF;
+      way = meta.get(metaOffset + HAND);
+      while ((referenced & (1 << way)) != 0) {
+        referenced &= ~(1 << way);
+        way = (way + 1) & (WAYS - 1);
+      }
+      meta.put(metaOffset + REFERENCED, (byte) referenced);
+      meta.put(metaOffset + HAND, (byte) ((way + 1) & (WAYS - 1)));
+      evictions.increment();
+    }
+    chunk.putLong(setOffset + way * ENTRY_BYTES, x);
+    chunk.putLong(setOffset + way * ENTRY_BYTES + 8, value);
+    meta.put(metaOffset + OCCUPIED, (byte) (occupied | (1 << way)));
+  }
+
+  /** Frees direct buffers through {@code sun.misc.Unsafe} where available. */
+  private static final class Cleaner {
+
+    static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    static void clean(ByteBuffer buffer) {
+      if (INVOKE_CLEANER == null) {
+        return;
+      }
+      try {
+        INVOKE_CLEANER.invokeExact(buffer);
+      } catch (Throwable t) {
+        // left to the garbage collector
+      }
+    }
+
+    private static MethodHandle invokeCleaner() {
+      try {
+        final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        return MethodHandles.lookup()
+                            .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                            .bindTo(theUnsafe.get(null));
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@literal false}-predicate on primitive values, see {@link JavaFun#IntFalse()},
+ * {@link JavaFun#LongFalse()} and {@link JavaFun#DoubleFalse()}. Kept apart
+ * from {@link False} so lambdas passed to {@code False().or(...)} keep a
+ * single target type.
+ */
+final class PrimitiveFalse
+    implements IntPredicate, LongPredicate, DoublePredicate {
+
+  static final PrimitiveFalse FALSE = new PrimitiveFalse();
+
+  private PrimitiveFalse() {}
+
+  @Override
+  public boolean test(int x) { return false; }
+
+  @Override
+  public boolean test(long x) { return false; }
+
+  @Override
+  public boolean test(double x) { return false; }
+
+  @Override
+  public PrimitiveTrue negate() { return PrimitiveTrue.TRUE; }
+
+  @Override
+  public IntPredicate and(IntPredicate other) { return this; }
+
+  @Override
+  public LongPredicate and(LongPredicate other) { return this; }
+
+  @Override
+  public DoublePredicate and(DoublePredicate other) { return this; }
+
+  @Override
+  public IntPredicate or(IntPredicate other) { return requireNonNull(other); }
+
+  @Override
+  public LongPredicate or(LongPredicate other) { return requireNonNull(other); }
+
+  @Override
+  public DoublePredicate or(DoublePredicate other) { return requireNonNull(other); }
+}
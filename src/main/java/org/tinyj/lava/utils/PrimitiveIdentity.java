@@ -0,0 +1,47 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The identity on primitive values, see {@link JavaFun#IntIdentity()},
+ * {@link JavaFun#LongIdentity()} and {@link JavaFun#DoubleIdentity()}.
+ * Composing it with another operator yields that other operator.
+ */
+final class PrimitiveIdentity
+    implements IntUnaryOperator, LongUnaryOperator, DoubleUnaryOperator {
+
+  static final PrimitiveIdentity IDENTITY = new PrimitiveIdentity();
+
+  private PrimitiveIdentity() {}
+
+  @Override
+  public int applyAsInt(int x) { return x; }
+
+  @Override
+  public long applyAsLong(long x) { return x; }
+
+  @Override
+  public double applyAsDouble(double x) { return x; }
+
+  @Override
+  public IntUnaryOperator andThen(IntUnaryOperator after) { return requireNonNull(after); }
+
+  @Override
+  public IntUnaryOperator compose(IntUnaryOperator before) { return requireNonNull(before); }
+
+  @Override
+  public LongUnaryOperator andThen(LongUnaryOperator after) { return requireNonNull(after); }
+
+  @Override
+  public LongUnaryOperator compose(LongUnaryOperator before) { return requireNonNull(before); }
+
+  @Override
+  public DoubleUnaryOperator andThen(DoubleUnaryOperator after) { return requireNonNull(after); }
+
+  @Override
+  public DoubleUnaryOperator compose(DoubleUnaryOperator before) { return requireNonNull(before); }
+}
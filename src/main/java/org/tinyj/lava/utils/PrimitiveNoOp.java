@@ -0,0 +1,38 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The no-operation on primitive values, see {@link JavaFun#IntNoOp()},
+ * {@link JavaFun#LongNoOp()} and {@link JavaFun#DoubleNoOp()}. Sequencing it
+ * with another operation yields that other operation.
+ */
+final class PrimitiveNoOp
+    implements IntConsumer, LongConsumer, DoubleConsumer {
+
+  static final PrimitiveNoOp NO_OP = new PrimitiveNoOp();
+
+  private PrimitiveNoOp() {}
+
+  @Override
+  public void accept(int x) {}
+
+  @Override
+  public void accept(long x) {}
+
+  @Override
+  public void accept(double x) {}
+
+  @Override
+  public IntConsumer andThen(IntConsumer after) { return requireNonNull(after); }
+
+  @Override
+  public LongConsumer andThen(LongConsumer after) { return requireNonNull(after); }
+
+  @Override
+  public DoubleConsumer andThen(DoubleConsumer after) { return requireNonNull(after); }
+}
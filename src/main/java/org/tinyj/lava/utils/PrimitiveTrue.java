@@ -0,0 +1,51 @@
+package org.tinyj.lava.utils;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@literal true}-predicate on primitive values, see {@link JavaFun#IntTrue()},
+ * {@link JavaFun#LongTrue()} and {@link JavaFun#DoubleTrue()}. Kept apart from
+ * {@link True} so lambdas passed to {@code True().and(...)} keep a single
+ * target type.
+ */
+final class PrimitiveTrue
+    implements IntPredicate, LongPredicate, DoublePredicate {
+
+  static final PrimitiveTrue TRUE = new PrimitiveTrue();
+
+  private PrimitiveTrue() {}
+
+  @Override
+  public boolean test(int x) { return true; }
+
+  @Override
+  public boolean test(long x) { return true; }
+
+  @Override
+  public boolean test(double x) { return true; }
+
+  @Override
+  public PrimitiveFalse negate() { return PrimitiveFalse.FALSE; }
+
+  @Override
+  public IntPredicate and(IntPredicate other) { return requireNonNull(other); }
+
+  @Override
+  public LongPredicate and(LongPredicate other) { return requireNonNull(other); }
+
+  @Override
+  public DoublePredicate and(DoublePredicate other) { return requireNonNull(other); }
+
+  @Override
+  public IntPredicate or(IntPredicate other) { return this; }
+
+  @Override
+  public LongPredicate or(LongPredicate other) { return this; }
+
+  @Override
+  public DoublePredicate or(DoublePredicate other) { return this; }
+}
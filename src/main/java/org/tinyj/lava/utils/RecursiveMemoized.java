@@ -0,0 +1,142 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A memoized recursive function, the wrapped function receives this function
+ * to recurse on and thus shares its cache across the recursion. Can be used
+ * where ever a {@link Function} or {@link LavaFunction} is required.
+ * <p>
+ * Results are cached as by {@link Memoized}. Exceptions are not cached. With
+ * a positive {@code maxDepth} recursion is trampolined to keep the stack
+ * bounded: a recursive invocation deeper than {@code maxDepth} on an argument
+ * not cached is suspended, its argument evaluated first and the suspended
+ * evaluation started over. The wrapped function may thus be invoked more than
+ * once on an argument, it must be free of side effects and must not catch the
+ * {@link RuntimeException} used to suspend it.
+ *
+ * @param <X> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+public final class RecursiveMemoized<X, R, E extends Exception>
+    implements Function<X, R>, LavaFunction<X, R, E>, CacheStats {
+
+  private final Memoized<X, R, E> memo;
+  private final int maxDepth;
+  private final ThreadLocal<Trampoline> trampolines = ThreadLocal.withInitial(Trampoline::new);
+
+  public RecursiveMemoized(LavaBiFunction<? super RecursiveMemoized<X, R, E>, ? super X, ? extends R, ? extends E> body,
+                           int maxSize, int maxDepth) {
+    requireNonNull(body);
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("maxDepth must not be negative: " + maxDepth);
+    }
+    this.memo = new Memoized<>(x -> body.checkedApply(this, x), maxSize, false);
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x) throws E {
+    if (maxDepth == 0) {
+      return memo.checkedApply(x);
+    }
+    final Trampoline trampoline = trampolines.get();
+    if (trampoline.depth > 0) {
+      return recurse(trampoline, x);
+    }
+    // arguments are boxed into arrays, ArrayDeque does not permit null
+    final ArrayDeque<Object> pending = new ArrayDeque<>();
+    pending.push(new Object[]{x});
+    try {
+      while (true) {
+        final X next = (X) ((Object[]) pending.peek())[0];
+        final R result;
+        try {
+          trampoline.depth = 1;
+          result = memo.checkedApply(next);
+        } catch (Suspend suspend) {
+          pending.push(new Object[]{suspend.argument});
+          continue;
+        }
+        pending.pop();
+        if (pending.isEmpty()) {
+          return result;
+        }
+        trampoline.pinned.put(next, result);
+      }
+    } finally {
+      trampoline.depth = 0;
+      trampoline.pinned.clear();
+    }
+  }
+
+  @Override
+  public R apply(X x) {
+    try {
+      return checkedApply(x);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  @Override
+  public long hitCount() { return memo.hitCount(); }
+
+  @Override
+  public long missCount() { return memo.missCount(); }
+
+  @Override
+  public long evictionCount() { return memo.evictionCount(); }
+
+  @Override
+  public int size() { return memo.size(); }
+
+  @SuppressWarnings("unchecked")
+  private R recurse(Trampoline trampoline, X x) throws E {
+    if (trampoline.depth >= maxDepth && !memo.isCached(x)) {
+      if (trampoline.pinned.containsKey(x)) {
+        return (R) trampoline.pinned.get(x);
+      }
+      throw new Suspend(x);
+    }
+    trampoline.depth++;
+    try {
+      return memo.checkedApply(x);
+    } finally {
+      trampoline.depth--;
+    }
+  }
+
+  /** Per thread state of a trampolined evaluation. */
+  private static final class Trampoline {
+
+    int depth;
+    /** Results evaluated on behalf of suspended evaluations, kept until the evaluation completes. */
+    final HashMap<Object, Object> pinned = new HashMap<>();
+  }
+
+  /** Suspends an evaluation recursing too deep, stackless as it is thrown often. */
+  private static final class Suspend
+      extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    final Object argument;
+
+    Suspend(Object argument) {
+      super(null, null, false, false);
+      this.argument = argument;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaFunction;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A coalescing function, concurrent invocations with equal arguments share a
+ * single invocation of the wrapped function. Can be used where ever a
+ * {@link Function} or {@link LavaFunction} is required.
+ * <p>
+ * The first invocation on an argument invokes the wrapped function, invocations
+ * on an equal argument arriving meanwhile wait for it and receive the same
+ * result or the same exception instance. Nothing is retained once the
+ * invocation completes, the next one invokes the wrapped function again. The
+ * wrapped function must not recursively invoke the coalescing function on an
+ * equal argument, that invocation would wait for itself.
+ *
+ * @param <X> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+public final class SingleFlight<X, R, E extends Exception>
+    implements Function<X, R>, LavaFunction<X, R, E> {
+
+  private static final Object NULL_KEY = new Object();
+
+  private final LavaFunction<X, R, E> function;
+  private final ConcurrentHashMap<Object, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+
+  public SingleFlight(LavaFunction<? super X, ? extends R, ? extends E> function) {
+    requireNonNull(function);
+    this.function = LavaFunction.castDown(function);
+  }
+
+  @Override
+  public R checkedApply(X x) throws E {
+    final Object key = x == null ? NULL_KEY : x;
+    final CompletableFuture<R> running = inFlight.get(key);
+    if (running != null) {
+      return await(running);
+    }
+    final CompletableFuture<R> call = new CompletableFuture<>();
+    final CompletableFuture<R> raced = inFlight.putIfAbsent(key, call);
+    if (raced != null) {
+      return await(raced);
+    }
+    try {
+      final R result = function.checkedApply(x);
+      call.complete(result);
+      return result;
+    } catch (Throwable t) {
+      call.completeExceptionally(t);
+      throw t;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  @Override
+  public R apply(X x) {
+    try {
+      return checkedApply(x);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * @return the number of distinct arguments currently being computed
+   */
+  public int inFlightCount() { return inFlight.size(); }
+
+  @SuppressWarnings("unchecked")
+  private R await(CompletableFuture<R> running) throws E {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (E) cause;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.NoException;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function over an enum tabulated up front, looks up the result by the
+ * argument's ordinal. Can be used where ever a {@link Function} or
+ * {@link LavaFunction} is required.
+ *
+ * @param <K> the enum type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+public final class Tabulated<K extends Enum<K>, R, E extends Exception>
+    implements Function<K, R>, LavaFunction<K, R, E> {
+
+  private final Object[] results;
+
+  private Tabulated(Object[] results) { this.results = results; }
+
+  /**
+   * Evaluate {@code function} for each constant of {@code type}.
+   */
+  static <K extends Enum<K>, R, E extends Exception> Tabulated<K, R, E>
+  of(Class<K> type, LavaFunction<? super K, ? extends R, ? extends E> function) throws E {
+    requireNonNull(function);
+    final K[] constants = constantsOf(type);
+    final Object[] results = new Object[constants.length];
+    for (int i = 0; i < constants.length; i++) {
+      results[i] = function.checkedApply(constants[i]);
+    }
+    return new Tabulated<>(results);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(K k) { return (R) results[k.ordinal()]; }
+
+  @Override
+  public R checkedApply(K k) throws NoException { return apply(k); }
+
+  static <K extends Enum<K>> K[] constantsOf(Class<K> type) {
+    final K[] constants = requireNonNull(type).getEnumConstants();
+    if (constants == null) {
+      throw new IllegalArgumentException("not an enum: " + type.getName());
+    }
+    return constants;
+  }
+}
@@ -0,0 +1,112 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaPredicate;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate over an int range tabulated up front into a bitset, tests the
+ * bit at the argument's offset into the range. Testing values outside the
+ * range fails with an {@link IndexOutOfBoundsException}.
+ * <p>
+ * Composing with {@code and}, {@code or} and {@code negate} combines bitsets
+ * if the other predicate is tabulated over the same range,
+ * {@link JavaFun#IntTrue()} or {@link JavaFun#IntFalse()}.
+ */
+public final class TabulatedIntPredicate
+    implements IntPredicate {
+
+  private final int from;
+  private final int size;
+  private final long[] bits;
+
+  private TabulatedIntPredicate(int from, int size, long[] bits) {
+    this.from = from;
+    this.size = size;
+    this.bits = bits;
+  }
+
+  /**
+   * Evaluate {@code predicate} for each value in {@code [from, to)}.
+   */
+  static <E extends Exception> TabulatedIntPredicate
+  of(int from, int to, LavaPredicate<? super Integer, ? extends E> predicate) throws E {
+    requireNonNull(predicate);
+    if (from > to) {
+      throw new IllegalArgumentException("empty range: [" + from + ", " + to + ")");
+    }
+    final long range = (long) to - from;
+    if (range > Integer.MAX_VALUE - 63) {
+      throw new IllegalArgumentException("range too large: [" + from + ", " + to + ")");
+    }
+    final int size = (int) range;
+    final long[] bits = new long[(size + 63) >>> 6];
+    for (int i = 0; i < size; i++) {
+      if (predicate.checkedTest(from + i)) {
+        bits[i >>> 6] |= 1L << i;
+      }
+    }
+    return new TabulatedIntPredicate(from, size, bits);
+  }
+
+  @Override
+  public boolean test(int x) {
+    final int offset = Objects.checkIndex(x - from, size);
+    return (bits[offset >>> 6] & (1L << offset)) != 0;
+  }
+
+  @Override
+  public TabulatedIntPredicate negate() {
+    final long[] negated = new long[bits.length];
+    for (int i = 0; i < bits.length; i++) {
+      negated[i] = ~bits[i];
+    }
+    if ((size & 63) != 0) {
+      negated[negated.length - 1] &= (1L << size) - 1;
+    }
+    return new TabulatedIntPredicate(from, size, negated);
+  }
+
+  @Override
+  public IntPredicate and(IntPredicate other) {
+    if (other == PrimitiveTrue.TRUE) {
+      return this;
+    }
+    if (other == PrimitiveFalse.FALSE) {
+      return other;
+    }
+    if (other instanceof TabulatedIntPredicate && sameRange((TabulatedIntPredicate) other)) {
+      final long[] otherBits = ((TabulatedIntPredicate) other).bits;
+      final long[] combined = new long[bits.length];
+      for (int i = 0; i < bits.length; i++) {
+        combined[i] = bits[i] & otherBits[i];
+      }
+      return new TabulatedIntPredicate(from, size, combined);
+    }
+    return IntPredicate.super.and(other);
+  }
+
+  @Override
+  public IntPredicate or(IntPredicate other) {
+    if (other == PrimitiveTrue.TRUE) {
+      return other;
+    }
+    if (other == PrimitiveFalse.FALSE) {
+      return this;
+    }
+    if (other instanceof TabulatedIntPredicate && sameRange((TabulatedIntPredicate) other)) {
+      final long[] otherBits = ((TabulatedIntPredicate) other).bits;
+      final long[] combined = new long[bits.length];
+      for (int i = 0; i < bits.length; i++) {
+        combined[i] = bits[i] | otherBits[i];
+      }
+      return new TabulatedIntPredicate(from, size, combined);
+    }
+    return IntPredicate.super.or(other);
+  }
+
+  private boolean sameRange(TabulatedIntPredicate other) { return other.from == from && other.size == size; }
+}
@@ -0,0 +1,110 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.LavaPredicate;
+import org.tinyj.lava.NoException;
+
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate over an enum tabulated up front into a bitset, tests the bit at
+ * the argument's ordinal. Can be used where ever a {@link Predicate} or
+ * {@link LavaPredicate} is required.
+ * <p>
+ * Composing with {@code and}, {@code or} and {@code negate} combines bitsets
+ * if the other predicate is tabulated over the same enum, {@link True} or
+ * {@link False}.
+ *
+ * @param <K> the enum type of the tested values
+ */
+public final class TabulatedPredicate<K extends Enum<K>, E extends Exception>
+    implements Predicate<K>, LavaPredicate<K, E> {
+
+  private final Class<K> type;
+  private final int size;
+  private final long[] bits;
+
+  private TabulatedPredicate(Class<K> type, int size, long[] bits) {
+    this.type = type;
+    this.size = size;
+    this.bits = bits;
+  }
+
+  /**
+   * Evaluate {@code predicate} for each constant of {@code type}.
+   */
+  static <K extends Enum<K>, E extends Exception> TabulatedPredicate<K, E>
+  of(Class<K> type, LavaPredicate<? super K, ? extends E> predicate) throws E {
+    requireNonNull(predicate);
+    final K[] constants = Tabulated.constantsOf(type);
+    final long[] bits = new long[(constants.length + 63) >>> 6];
+    for (int i = 0; i < constants.length; i++) {
+      if (predicate.checkedTest(constants[i])) {
+        bits[i >>> 6] |= 1L << i;
+      }
+    }
+    return new TabulatedPredicate<>(type, constants.length, bits);
+  }
+
+  @Override
+  public boolean test(K k) {
+    final int ordinal = k.ordinal();
+    return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+  }
+
+  @Override
+  public boolean checkedTest(K k) throws NoException { return test(k); }
+
+  @Override
+  public TabulatedPredicate<K, E> negate() {
+    final long[] negated = new long[bits.length];
+    for (int i = 0; i < bits.length; i++) {
+      negated[i] = ~bits[i];
+    }
+    if ((size & 63) != 0) {
+      negated[negated.length - 1] &= (1L << size) - 1;
+    }
+    return new TabulatedPredicate<>(type, size, negated);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Predicate<K> and(Predicate<? super K> other) {
+    if (other instanceof True) {
+      return this;
+    }
+    if (other instanceof False) {
+      return JavaFun.castDown(other);
+    }
+    if (other instanceof TabulatedPredicate && ((TabulatedPredicate) other).type == type) {
+      final long[] otherBits = ((TabulatedPredicate) other).bits;
+      final long[] combined = new long[bits.length];
+      for (int i = 0; i < bits.length; i++) {
+        combined[i] = bits[i] & otherBits[i];
+      }
+      return new TabulatedPredicate<>(type, size, combined);
+    }
+    return Predicate.super.and(other);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Predicate<K> or(Predicate<? super K> other) {
+    if (other instanceof True) {
+      return JavaFun.castDown(other);
+    }
+    if (other instanceof False) {
+      return this;
+    }
+    if (other instanceof TabulatedPredicate && ((TabulatedPredicate) other).type == type) {
+      final long[] otherBits = ((TabulatedPredicate) other).bits;
+      final long[] combined = new long[bits.length];
+      for (int i = 0; i < bits.length; i++) {
+        combined[i] = bits[i] | otherBits[i];
+      }
+      return new TabulatedPredicate<>(type, size, combined);
+    }
+    return Predicate.super.or(other);
+  }
+}
@@ -0,0 +1,332 @@
+package org.tinyj.lava.utils;
+
+import org.tinyj.lava.*;
+
+import java.util.function.*;
+
+/**
+ * Emits an {@link InvocationEvent} around each functor invocation. Events are
+ * only committed if JFR records them and the invocation took longer than the
+ * configured threshold, otherwise creating them is optimized away. Without
+ * the {@code jdk.jfr} module functors are returned as they are.
+ */
+@SuppressWarnings("overloads")
+final class FunctorEvents {
+
+  /**
+   * {@code jdk.jfr} is an optional dependency, without it functors are
+   * returned as they are instead of failing on the first invocation.
+   */
+  private static final boolean ENABLED =
+      ModuleLayer.boot().findModule("jdk.jfr")
+                 .map(FunctorEvents.class.getModule()::canRead)
+                 .orElse(false);
+
+  private FunctorEvents() {}
+
+  static <E extends Exception> LavaRunnable<E>
+  instrument(String label, LavaRunnable<? extends E> runnable) {
+    if (!ENABLED) return LavaRunnable.castDown(runnable);
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        runnable.checkedRun();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <R, E extends Exception> LavaSupplier<R, E>
+  instrument(String label, LavaSupplier<? extends R, ? extends E> supplier) {
+    if (!ENABLED) return LavaSupplier.castDown(supplier);
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return supplier.checkedGet();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <E extends Exception> LavaCondition<E>
+  instrument(String label, LavaCondition<? extends E> condition) {
+    if (!ENABLED) return LavaCondition.castDown(condition);
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return condition.checkedTest();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, E extends Exception> LavaConsumer<X, E>
+  instrument(String label, LavaConsumer<? super X, ? extends E> consumer) {
+    if (!ENABLED) return LavaConsumer.castDown(consumer);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        consumer.checkedAccept(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y, E extends Exception> LavaBiConsumer<X, Y, E>
+  instrument(String label, LavaBiConsumer<? super X, ? super Y, ? extends E> biConsumer) {
+    if (!ENABLED) return LavaBiConsumer.castDown(biConsumer);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        biConsumer.checkedAccept(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, R, E extends Exception> LavaFunction<X, R, E>
+  instrument(String label, LavaFunction<? super X, ? extends R, ? extends E> function) {
+    if (!ENABLED) return LavaFunction.castDown(function);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return function.checkedApply(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y, R, E extends Exception> LavaBiFunction<X, Y, R, E>
+  instrument(String label, LavaBiFunction<? super X, ? super Y, ? extends R, ? extends E> biFunction) {
+    if (!ENABLED) return LavaBiFunction.castDown(biFunction);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return biFunction.checkedApply(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, E extends Exception> LavaPredicate<X, E>
+  instrument(String label, LavaPredicate<? super X, ? extends E> predicate) {
+    if (!ENABLED) return LavaPredicate.castDown(predicate);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return predicate.checkedTest(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y, E extends Exception> LavaBiPredicate<X, Y, E>
+  instrument(String label, LavaBiPredicate<? super X, ? super Y, ? extends E> biPredicate) {
+    if (!ENABLED) return LavaBiPredicate.castDown(biPredicate);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return biPredicate.checkedTest(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static Runnable
+  instrument(String label, Runnable runnable) {
+    if (!ENABLED) return runnable;
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        runnable.run();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <R> Supplier<R>
+  instrument(String label, Supplier<? extends R> supplier) {
+    if (!ENABLED) return JavaFun.castDown(supplier);
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return supplier.get();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static BooleanSupplier
+  instrument(String label, BooleanSupplier condition) {
+    if (!ENABLED) return condition;
+    return () -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return condition.getAsBoolean();
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X> Consumer<X>
+  instrument(String label, Consumer<? super X> consumer) {
+    if (!ENABLED) return JavaFun.castDown(consumer);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        consumer.accept(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y> BiConsumer<X, Y>
+  instrument(String label, BiConsumer<? super X, ? super Y> biConsumer) {
+    if (!ENABLED) return JavaFun.castDown(biConsumer);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        biConsumer.accept(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, R> Function<X, R>
+  instrument(String label, Function<? super X, ? extends R> function) {
+    if (!ENABLED) return JavaFun.castDown(function);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return function.apply(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y, R> BiFunction<X, Y, R>
+  instrument(String label, BiFunction<? super X, ? super Y, ? extends R> biFunction) {
+    if (!ENABLED) return JavaFun.castDown(biFunction);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return biFunction.apply(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X> Predicate<X>
+  instrument(String label, Predicate<? super X> predicate) {
+    if (!ENABLED) return JavaFun.castDown(predicate);
+    return x -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return predicate.test(x);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+
+  static <X, Y> BiPredicate<X, Y>
+  instrument(String label, BiPredicate<? super X, ? super Y> biPredicate) {
+    if (!ENABLED) return JavaFun.castDown(biPredicate);
+    return (x, y) -> {
+      final InvocationEvent event = new InvocationEvent(label);
+      event.begin();
+      try {
+        return biPredicate.test(x, y);
+      } catch (Throwable t) {
+        event.exceptionType = t.getClass();
+        throw t;
+      } finally {
+        event.commit();
+      }
+    };
+  }
+}
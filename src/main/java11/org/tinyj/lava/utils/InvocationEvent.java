@@ -0,0 +1,23 @@
+package org.tinyj.lava.utils;
+
+import jdk.jfr.*;
+
+/**
+ * Invocation of a functor instrumented with {@code instrumented(...)}.
+ */
+@Name("org.tinyj.lava.Invocation")
+@Label("Functor Invocation")
+@Category("Lava")
+@Threshold("10 ms")
+@StackTrace(false)
+final class InvocationEvent
+    extends Event {
+
+  @Label("Label")
+  final String label;
+
+  @Label("Exception Type")
+  Class<?> exceptionType;
+
+  InvocationEvent(String label) { this.label = label; }
+}
@@ -0,0 +1,73 @@
+package org.tinyj.lava.binder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Compiles bound functors into dedicated classes. Each compilation defines a
+ * hidden copy of a template class ({@code Compiled*}) holding the functor in
+ * a {@code static final} field. The JIT treats that field as constant and
+ * every copy has its own type profile, so call sites stay monomorphic no
+ * matter how many functors are compiled from the same template.
+ * <p>
+ * Hidden classes are not strongly linked to their class loader, a compiled
+ * functor and its class are unloaded once unreachable.
+ */
+final class BinderCompiler {
+
+  private static final ThreadLocal<Object> HANDOFF = new ThreadLocal<>();
+  private static final ConcurrentHashMap<String, byte[]> TEMPLATES = new ConcurrentHashMap<>();
+
+  private BinderCompiler() {}
+
+  /**
+   * @return a new instance of a hidden copy of {@code template} bound to {@code functor}
+   */
+  static <T> T
+  compile(String template, T functor) { return compile(template, functor, functor); }
+
+  /**
+   * @return a new instance of a hidden copy of {@code template} bound to
+   * {@code constant}, {@code fallback} is only used where hidden classes are
+   * not available
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T
+  compile(String template, T fallback, Object constant) {
+    final byte[] bytes = TEMPLATES.computeIfAbsent(template, BinderCompiler::load);
+    HANDOFF.set(constant);
+    try {
+      final MethodHandles.Lookup compiled = MethodHandles.lookup().defineHiddenClass(bytes, true);
+      return (T) compiled.findConstructor(compiled.lookupClass(), methodType(void.class)).invoke();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to compile " + template, e);
+    } finally {
+      HANDOFF.remove();
+    }
+  }
+
+  /**
+   * @return the constant being compiled, read by the templates' static initializers
+   */
+  static Object
+  bound() { return HANDOFF.get(); }
+
+  private static byte[]
+  load(String template) {
+    try (InputStream in = BinderCompiler.class.getResourceAsStream(template + ".class")) {
+      if (in == null) {
+        throw new IllegalStateException("Missing template " + template);
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Template of a compiled {@link BiConsumer}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledBiConsumer<X, Y>
+    implements BiConsumer<X, Y> {
+
+  @SuppressWarnings("unchecked")
+  private static final BiConsumer<Object, Object> BOUND =
+      (BiConsumer<Object, Object>) BinderCompiler.bound();
+
+  @Override
+  public void accept(X x, Y y) { BOUND.accept(x, y); }
+}
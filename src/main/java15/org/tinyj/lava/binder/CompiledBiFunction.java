@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiFunction;
+
+/**
+ * Template of a compiled {@link BiFunction}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledBiFunction<X, Y, R>
+    implements BiFunction<X, Y, R> {
+
+  @SuppressWarnings("unchecked")
+  private static final BiFunction<Object, Object, Object> BOUND =
+      (BiFunction<Object, Object, Object>) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x, Y y) { return (R) BOUND.apply(x, y); }
+}
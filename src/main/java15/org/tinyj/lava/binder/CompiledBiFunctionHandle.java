@@ -0,0 +1,26 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiFunction;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Template of a compiled {@link JavaBiFunctionHandle}, see
+ * {@link BinderCompiler}. Never loaded itself, each compilation defines a
+ * hidden copy of it holding the method handle tree as constant.
+ */
+final class CompiledBiFunctionHandle<X, Y, R>
+    implements BiFunction<X, Y, R> {
+
+  private static final MethodHandle HANDLE = (MethodHandle) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x, Y y) {
+    try {
+      return (R) (Object) HANDLE.invokeExact((Object) x, (Object) y);
+    } catch (Throwable t) {
+      throw Handles.<RuntimeException>rethrow(t);
+    }
+  }
+}
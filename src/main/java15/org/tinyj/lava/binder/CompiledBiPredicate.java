@@ -0,0 +1,18 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Template of a compiled {@link BiPredicate}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledBiPredicate<X, Y>
+    implements BiPredicate<X, Y> {
+
+  @SuppressWarnings("unchecked")
+  private static final BiPredicate<Object, Object> BOUND =
+      (BiPredicate<Object, Object>) BinderCompiler.bound();
+
+  @Override
+  public boolean test(X x, Y y) { return BOUND.test(x, y); }
+}
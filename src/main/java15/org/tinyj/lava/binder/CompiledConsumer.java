@@ -0,0 +1,17 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Consumer;
+
+/**
+ * Template of a compiled {@link Consumer}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledConsumer<X>
+    implements Consumer<X> {
+
+  @SuppressWarnings("unchecked")
+  private static final Consumer<Object> BOUND = (Consumer<Object>) BinderCompiler.bound();
+
+  @Override
+  public void accept(X x) { BOUND.accept(x); }
+}
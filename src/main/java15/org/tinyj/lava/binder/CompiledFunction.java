@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+
+/**
+ * Template of a compiled {@link Function}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledFunction<X, R>
+    implements Function<X, R> {
+
+  @SuppressWarnings("unchecked")
+  private static final Function<Object, Object> BOUND =
+      (Function<Object, Object>) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x) { return (R) BOUND.apply(x); }
+}
@@ -0,0 +1,26 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Function;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Template of a compiled {@link JavaFunctionHandle}, see
+ * {@link BinderCompiler}. Never loaded itself, each compilation defines a
+ * hidden copy of it holding the method handle tree as constant.
+ */
+final class CompiledFunctionHandle<X, R>
+    implements Function<X, R> {
+
+  private static final MethodHandle HANDLE = (MethodHandle) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R apply(X x) {
+    try {
+      return (R) (Object) HANDLE.invokeExact((Object) x);
+    } catch (Throwable t) {
+      throw Handles.<RuntimeException>rethrow(t);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiConsumer;
+
+/**
+ * Template of a compiled {@link LavaBiConsumer}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaBiConsumer<X, Y, E extends Exception>
+    implements LavaBiConsumer<X, Y, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaBiConsumer<Object, Object, RuntimeException> BOUND =
+      (LavaBiConsumer<Object, Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  public void checkedAccept(X x, Y y) throws E { BOUND.checkedAccept(x, y); }
+}
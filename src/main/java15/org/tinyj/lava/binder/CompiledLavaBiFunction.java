@@ -0,0 +1,20 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+
+/**
+ * Template of a compiled {@link LavaBiFunction}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaBiFunction<X, Y, R, E extends Exception>
+    implements LavaBiFunction<X, Y, R, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaBiFunction<Object, Object, Object, RuntimeException> BOUND =
+      (LavaBiFunction<Object, Object, Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x, Y y) throws E { return (R) BOUND.checkedApply(x, y); }
+}
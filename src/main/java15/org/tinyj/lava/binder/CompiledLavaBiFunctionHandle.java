@@ -0,0 +1,26 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiFunction;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Template of a compiled {@link LavaBiFunctionHandle}, see
+ * {@link BinderCompiler}. Never loaded itself, each compilation defines a
+ * hidden copy of it holding the method handle tree as constant.
+ */
+final class CompiledLavaBiFunctionHandle<X, Y, R, E extends Exception>
+    implements LavaBiFunction<X, Y, R, E> {
+
+  private static final MethodHandle HANDLE = (MethodHandle) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x, Y y) throws E {
+    try {
+      return (R) (Object) HANDLE.invokeExact((Object) x, (Object) y);
+    } catch (Throwable t) {
+      throw Handles.<E>rethrow(t);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaBiPredicate;
+
+/**
+ * Template of a compiled {@link LavaBiPredicate}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaBiPredicate<X, Y, E extends Exception>
+    implements LavaBiPredicate<X, Y, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaBiPredicate<Object, Object, RuntimeException> BOUND =
+      (LavaBiPredicate<Object, Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  public boolean checkedTest(X x, Y y) throws E { return BOUND.checkedTest(x, y); }
+}
@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaConsumer;
+
+/**
+ * Template of a compiled {@link LavaConsumer}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaConsumer<X, E extends Exception>
+    implements LavaConsumer<X, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaConsumer<Object, RuntimeException> BOUND =
+      (LavaConsumer<Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  public void checkedAccept(X x) throws E { BOUND.checkedAccept(x); }
+}
@@ -0,0 +1,20 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaFunction;
+
+/**
+ * Template of a compiled {@link LavaFunction}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaFunction<X, R, E extends Exception>
+    implements LavaFunction<X, R, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaFunction<Object, Object, RuntimeException> BOUND =
+      (LavaFunction<Object, Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x) throws E { return (R) BOUND.checkedApply(x); }
+}
@@ -0,0 +1,26 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaFunction;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Template of a compiled {@link LavaFunctionHandle}, see
+ * {@link BinderCompiler}. Never loaded itself, each compilation defines a
+ * hidden copy of it holding the method handle tree as constant.
+ */
+final class CompiledLavaFunctionHandle<X, R, E extends Exception>
+    implements LavaFunction<X, R, E> {
+
+  private static final MethodHandle HANDLE = (MethodHandle) BinderCompiler.bound();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R checkedApply(X x) throws E {
+    try {
+      return (R) (Object) HANDLE.invokeExact((Object) x);
+    } catch (Throwable t) {
+      throw Handles.<E>rethrow(t);
+    }
+  }
+}
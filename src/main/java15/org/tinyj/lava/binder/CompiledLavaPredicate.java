@@ -0,0 +1,19 @@
+package org.tinyj.lava.binder;
+
+import org.tinyj.lava.LavaPredicate;
+
+/**
+ * Template of a compiled {@link LavaPredicate}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it. Checked
+ * exceptions thrown by the bound functor are passed through as they are.
+ */
+final class CompiledLavaPredicate<X, E extends Exception>
+    implements LavaPredicate<X, E> {
+
+  @SuppressWarnings("unchecked")
+  private static final LavaPredicate<Object, RuntimeException> BOUND =
+      (LavaPredicate<Object, RuntimeException>) BinderCompiler.bound();
+
+  @Override
+  public boolean checkedTest(X x) throws E { return BOUND.checkedTest(x); }
+}
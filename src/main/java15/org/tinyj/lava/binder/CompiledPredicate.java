@@ -0,0 +1,17 @@
+package org.tinyj.lava.binder;
+
+import java.util.function.Predicate;
+
+/**
+ * Template of a compiled {@link Predicate}, see {@link BinderCompiler}. Never
+ * loaded itself, each compilation defines a hidden copy of it.
+ */
+final class CompiledPredicate<X>
+    implements Predicate<X> {
+
+  @SuppressWarnings("unchecked")
+  private static final Predicate<Object> BOUND = (Predicate<Object>) BinderCompiler.bound();
+
+  @Override
+  public boolean test(X x) { return BOUND.test(x); }
+}
@@ -0,0 +1,179 @@
+package org.tinyj.lava.binder;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.testng.Assert.*;
+
+public class FlatCompositeTest {
+
+  static Function<String, String> append(String suffix) { return s -> s + suffix; }
+
+  static LavaFunction<String, String, RuntimeException> lavaAppend(String suffix) { return s -> s + suffix; }
+
+  static int depth() { return new Throwable().getStackTrace().length; }
+
+  @Test
+  public void chainRunsStagesInOrder() {
+    final JavaFunctionBinder<String, String> chained = new JavaFunctionBinder<>(append("b"))
+        .andThen(append("c"))
+        .compose(append("a"))
+        .andThen(append("d"))
+        .linkTo(append("0"));
+
+    assertEquals(chained.apply("x"), "x0abcd");
+    assertEquals(((JavaFunctionChain<?, ?>) chained.bound()).size(), 5);
+  }
+
+  @Test
+  public void chainingChainsSplicesStages() {
+    final JavaFunctionBinder<String, String> head = new JavaFunctionBinder<>(append("a")).andThen(append("b"));
+    final JavaFunctionBinder<String, String> tail = new JavaFunctionBinder<>(append("c")).andThen(append("d"));
+    final JavaFunctionBinder<String, String> spliced = head.andThen(tail);
+
+    assertEquals(spliced.apply("x"), "xabcd");
+    assertEquals(((JavaFunctionChain<?, ?>) spliced.bound()).size(), 4);
+    assertEquals(((JavaFunctionChain<?, ?>) tail.compose(head).bound()).size(), 4);
+  }
+
+  @Test
+  public void identityStagesAreDropped() {
+    final JavaFunctionBinder<String, String> binder = new JavaFunctionBinder<>(append("a"));
+    final Function<String, String> identity = JavaFun.Identity();
+
+    assertSame(binder.andThen(identity).bound(), binder.bound());
+    assertSame(binder.compose(identity).bound(), binder.bound());
+    assertSame(binder.andThen(new JavaFunctionBinder<>(identity)).bound(), binder.bound());
+  }
+
+  @Test
+  public void binderSubclassesAreKeptAsStages() {
+    final List<String> calls = new ArrayList<>();
+    final JavaFunctionBinder<String, String> traced = new JavaFunctionBinder<String, String>(append("a")) {
+      @Override
+      public String apply(String s) {
+        calls.add(s);
+        return super.apply(s);
+      }
+    };
+    final JavaFunctionBinder<String, String> chained = new JavaFunctionBinder<>(append("0")).andThen(traced).andThen(append("b"));
+
+    assertEquals(chained.apply("x"), "x0ab");
+    assertEquals(calls.size(), 1);
+    assertEquals(calls.get(0), "x0");
+    assertEquals(((JavaFunctionChain<?, ?>) chained.bound()).size(), 3);
+    assertSame(new JavaFunctionBinder<>(chained).bound(), chained.bound());
+    assertSame(new JavaFunctionBinder<>(traced).bound(), traced);
+  }
+
+  @Test
+  public void lavaChainRunsStagesInOrder() throws Exception {
+    final LavaFunctionBinder<String, String, ?> chained = new LavaFunctionBinder<>(lavaAppend("b"))
+        .linkTo(lavaAppend("a"))
+        .linkTo(lavaAppend("0"));
+
+    assertEquals(chained.checkedApply("x"), "x0ab");
+    assertEquals(((LavaFunctionChain<?, ?, ?>) chained.bound()).size(), 3);
+  }
+
+  @Test
+  public void sequenceAcceptsInOrder() {
+    final List<String> accepted = new ArrayList<>();
+    final Consumer<String> noOp = JavaFun.NoOp();
+    final JavaConsumerBinder<String> first = new JavaConsumerBinder<>(s -> accepted.add("1" + s));
+    final Consumer<String> sequence = first
+        .andThen(s -> accepted.add("2" + s))
+        .andThen(noOp)
+        .andThen(new JavaConsumerBinder<String>(s -> accepted.add("3" + s)).andThen(s -> accepted.add("4" + s)));
+
+    sequence.accept("x");
+    assertEquals(accepted.toString(), "[1x, 2x, 3x, 4x]");
+    assertEquals(((JavaConsumerSequence<?>) ((JavaConsumerBinder<String>) sequence).bound()).size(), 4);
+    assertSame(((JavaConsumerBinder<String>) first.andThen(noOp)).bound(), first.bound());
+  }
+
+  @Test
+  public void biSequenceAcceptsInOrder() {
+    final List<String> accepted = new ArrayList<>();
+    final BiConsumer<String, String> noOp = JavaFun.NoOp();
+    final JavaBiConsumerBinder<String, String> sequence = new JavaBiConsumerBinder<String, String>((x, y) -> accepted.add("1" + x + y))
+        .andThen(noOp)
+        .andThen((x, y) -> accepted.add("2" + x + y))
+        .andThen((x, y) -> accepted.add("3" + x + y));
+
+    sequence.accept("x", "y");
+    assertEquals(accepted.toString(), "[1xy, 2xy, 3xy]");
+    assertEquals(((JavaBiConsumerSequence<?, ?>) sequence.bound()).size(), 3);
+  }
+
+  @Test
+  public void linkedMappersRunOutsideIn() {
+    final JavaBiFunctionBinder<String, String, String> pair = new JavaBiFunctionBinder<>((String x, String y) -> "(" + x + "," + y + ")");
+    final BiFunction<String, String, String> linked = pair
+        .linkFirst(append("1"))
+        .linkFirst(append("2"))
+        .linkSecond(append("3"))
+        .andThen(append("4"))
+        .link(append("5"), append("6"))
+        .andThen(append("7"));
+
+    assertEquals(linked.apply("x", "y"), "(x521,y63)47");
+    assertTrue(((JavaBiFunctionBinder<String, String, String>) linked).bound() instanceof JavaLinkedBiFunction);
+  }
+
+  @Test
+  public void lavaLinkedMappersRunOutsideIn() throws Exception {
+    final LavaBiFunctionBinder<String, String, String, ?> linked = new LavaBiFunctionBinder<>((LavaBiFunction<String, String, String, RuntimeException>) (x, y) -> "(" + x + "," + y + ")")
+        .linkFirst(lavaAppend("1"))
+        .linkSecond(lavaAppend("2"))
+        .link(lavaAppend("3"), lavaAppend("4"));
+
+    assertEquals(linked.checkedApply("x", "y"), "(x31,y42)");
+    assertTrue(linked.bound() instanceof LavaLinkedBiFunction);
+  }
+
+  @Test
+  public void linkingDoesNotGrowTheStack() {
+    final int[] depth = new int[1];
+    final BiFunction<String, String, String> head = (x, y) -> {
+      depth[0] = depth();
+      return x + y;
+    };
+    JavaBiFunctionBinder<String, String, String> linked = new JavaBiFunctionBinder<>(head).linkFirst(append("a"));
+    linked.apply("x", "y");
+    final int shallow = depth[0];
+    for (int i = 0; i < 50; i++) {
+      linked = linked.linkFirst(append("a")).linkSecond(append("b")).andThen(append("c"));
+    }
+
+    assertEquals(linked.apply("x", "y").length(), 2 + 51 + 50 + 50);
+    assertEquals(depth[0], shallow);
+  }
+
+  @Test
+  public void linkedConsumersAndPredicatesMapInOrder() {
+    final List<String> accepted = new ArrayList<>();
+    final JavaConsumerBinder<String> consumer = new JavaConsumerBinder<String>(accepted::add)
+        .linkTo(append("1"))
+        .linkTo(append("2"));
+    final Predicate<String> predicate = new JavaPredicateBinder<String>("x21"::equals)
+        .linkTo(append("1"))
+        .linkTo(append("2"));
+
+    consumer.accept("x");
+    assertEquals(accepted.toString(), "[x21]");
+    assertTrue(consumer.bound() instanceof JavaLinkedConsumer);
+    assertTrue(predicate.test("x"));
+    assertFalse(predicate.test("y"));
+  }
+}
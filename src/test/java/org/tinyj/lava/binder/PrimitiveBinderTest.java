@@ -0,0 +1,149 @@
+package org.tinyj.lava.binder;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.function.*;
+
+import static org.testng.Assert.*;
+
+public class PrimitiveBinderTest {
+
+  static int depth() { return new Throwable().getStackTrace().length; }
+
+  @Test
+  public void intUnaryChainsRunInOrder() {
+    final JavaIntUnaryOperatorBinder chained = JavaFun.bindInt((IntUnaryOperator) x -> x * 10 + 1)
+        .andThen(x -> x * 10 + 2)
+        .compose(x -> x * 10 + 3)
+        .linkTo((IntUnaryOperator) x -> x * 10 + 4);
+
+    assertEquals(chained.applyAsInt(0), 4312);
+    assertEquals(((JavaIntUnaryOperatorChain) chained.bound()).size(), 4);
+    assertEquals(chained.bind(0).getAsInt(), 4312);
+    assertEquals(chained.linkTo(() -> 1).getAsInt(), 14312);
+    assertEquals(JavaFun.bindInt((IntUnaryOperator) x -> x * 2).linkTo((IntBinaryOperator) (x, y) -> x - y).applyAsInt(5, 1), 8);
+  }
+
+  @Test
+  public void intChainsDropIdentityAndSplice() {
+    final JavaIntUnaryOperatorBinder binder = JavaFun.bindInt((IntUnaryOperator) x -> x + 1);
+    final JavaIntUnaryOperatorBinder twice = binder.andThen(x -> x * 2);
+
+    assertSame(binder.andThen(JavaFun.IntIdentity()).bound(), binder.bound());
+    assertSame(binder.compose(JavaFun.IntIdentity()).bound(), binder.bound());
+    assertEquals(((JavaIntUnaryOperatorChain) twice.andThen(twice).bound()).size(), 4);
+    assertEquals(twice.andThen(twice).applyAsInt(1), 10);
+  }
+
+  @Test
+  public void intBinaryBindsAndFlips() {
+    final JavaIntBinaryOperatorBinder pair = JavaFun.bindInt((IntBinaryOperator) (x, y) -> x * 100 + y);
+
+    assertEquals(pair.applyAsInt(1, 2), 102);
+    assertEquals(pair.flip().applyAsInt(1, 2), 201);
+    assertEquals(pair.bind(3, 4).getAsInt(), 304);
+    assertEquals(pair.bindFirst(5).applyAsInt(6), 506);
+    assertEquals(pair.bindSecond(7).applyAsInt(8), 807);
+    assertEquals(pair.link(() -> 1, () -> 9).getAsInt(), 109);
+    assertEquals(pair.linkFirst(() -> 2).applyAsInt(3), 203);
+    assertEquals(pair.linkSecond(() -> 4).applyAsInt(5), 504);
+  }
+
+  @Test
+  public void intLinkedMappersMergeInOrder() {
+    final JavaIntBinaryOperatorBinder linked = JavaFun.bindInt((IntBinaryOperator) (x, y) -> x * 100 + y)
+        .linkFirst((IntUnaryOperator) x -> x + 1)
+        .linkFirst((IntUnaryOperator) x -> x * 2)
+        .andThen(r -> r + 5)
+        .linkSecond((IntUnaryOperator) y -> y * 3)
+        .link(x -> x - 1, y -> y + 1)
+        .andThen(r -> -r);
+
+    assertEquals(linked.applyAsInt(2, 1), -(((2 - 1) * 2 + 1) * 100 + (1 + 1) * 3 + 5));
+    assertTrue(linked.bound() instanceof JavaLinkedIntBinaryOperator);
+  }
+
+  @Test
+  public void intLinkingDoesNotGrowTheStack() {
+    final int[] depth = new int[1];
+    JavaIntBinaryOperatorBinder linked = JavaFun.bindInt((IntBinaryOperator) (x, y) -> {
+      depth[0] = depth();
+      return x + y;
+    }).linkFirst((IntUnaryOperator) x -> x + 1);
+    linked.applyAsInt(0, 0);
+    final int shallow = depth[0];
+    for (int i = 0; i < 50; i++) {
+      linked = linked.linkFirst((IntUnaryOperator) x -> x + 1).linkSecond((IntUnaryOperator) y -> y + 1).andThen(r -> r + 1);
+    }
+
+    assertEquals(linked.applyAsInt(0, 0), 51 + 50 + 50);
+    assertEquals(depth[0], shallow);
+    assertSame(linked.link(JavaFun.IntIdentity(), JavaFun.IntIdentity()).bound(), linked.bound());
+  }
+
+  @Test
+  public void intPredicatesLinkInOrder() {
+    final JavaIntPredicateBinder predicate = JavaFun.bindInt((IntPredicate) x -> x > 10)
+        .linkTo(x -> x * 3)
+        .linkTo(x -> x + 1);
+
+    assertTrue(predicate.test(3));
+    assertFalse(predicate.test(2));
+    assertTrue(predicate.bind(3).getAsBoolean());
+    assertFalse(predicate.linkTo(() -> 2).getAsBoolean());
+  }
+
+  @Test
+  public void toIntFunctionsBindAndMap() {
+    final JavaToIntFunctionBinder<String> length = JavaFun.bindInt((ToIntFunction<String>) String::length);
+    final JavaToIntFunctionBinder<String> mapped = length.andThen(x -> x * 10).linkTo((String s) -> s + "!");
+
+    assertEquals(mapped.applyAsInt("ab"), 30);
+    assertEquals(length.bind("abc").getAsInt(), 3);
+    assertEquals(length.linkTo(() -> "abcd").getAsInt(), 4);
+    assertEquals(length.linkTo((String x, String y) -> x + y).applyAsInt("a", "bc"), 3);
+  }
+
+  @Test
+  public void longBindersBindLinkAndChain() {
+    final JavaLongBinaryOperatorBinder pair = JavaFun.bindLong((LongBinaryOperator) (x, y) -> x * 100 + y);
+    final JavaLongUnaryOperatorBinder chained = JavaFun.bindLong((LongUnaryOperator) x -> x * 10 + 1)
+        .andThen(x -> x * 10 + 2)
+        .compose(x -> x * 10 + 3);
+    final JavaLongPredicateBinder predicate = JavaFun.bindLong((LongPredicate) x -> x > 10).linkTo(x -> x * 3).linkTo(x -> x + 1);
+
+    assertEquals(pair.flip().applyAsLong(1, 2), 201L);
+    assertEquals(pair.bindFirst(5).applyAsLong(6), 506L);
+    assertEquals(pair.bindSecond(7).applyAsLong(8), 807L);
+    assertEquals(pair.linkFirst((LongUnaryOperator) x -> x + 1).linkFirst((LongUnaryOperator) x -> x * 2).andThen(r -> r + 5).applyAsLong(1, 2), 307L);
+    assertTrue(pair.linkSecond((LongUnaryOperator) y -> y + 1).andThen(r -> r + 1).bound() instanceof JavaLinkedLongBinaryOperator);
+    assertEquals(chained.applyAsLong(0), 312L);
+    assertEquals(((JavaLongUnaryOperatorChain) chained.bound()).size(), 3);
+    assertSame(chained.andThen(JavaFun.LongIdentity()).bound(), chained.bound());
+    assertTrue(predicate.test(3));
+    assertFalse(predicate.test(2));
+    assertEquals(JavaFun.bindLong((ToLongFunction<String>) String::length).andThen(x -> x << 32).applyAsLong("ab"), 2L << 32);
+  }
+
+  @Test
+  public void doubleBindersBindLinkAndChain() {
+    final JavaDoubleBinaryOperatorBinder pair = JavaFun.bindDouble((DoubleBinaryOperator) (x, y) -> x * 100 + y);
+    final JavaDoubleUnaryOperatorBinder chained = JavaFun.bindDouble((DoubleUnaryOperator) x -> x * 10 + 1)
+        .andThen(x -> x * 10 + 2)
+        .compose(x -> x * 10 + 3);
+    final JavaDoublePredicateBinder predicate = JavaFun.bindDouble((DoublePredicate) x -> x > 10).linkTo(x -> x * 3).linkTo(x -> x + 1);
+
+    assertEquals(pair.flip().applyAsDouble(1, 2), 201.0);
+    assertEquals(pair.bindFirst(5).applyAsDouble(6), 506.0);
+    assertEquals(pair.bindSecond(7).applyAsDouble(8), 807.0);
+    assertEquals(pair.linkFirst((DoubleUnaryOperator) x -> x + 1).linkFirst((DoubleUnaryOperator) x -> x * 2).andThen(r -> r + 5).applyAsDouble(1, 2), 307.0);
+    assertTrue(pair.linkSecond((DoubleUnaryOperator) y -> y + 1).andThen(r -> r + 1).bound() instanceof JavaLinkedDoubleBinaryOperator);
+    assertEquals(chained.applyAsDouble(0), 312.0);
+    assertEquals(((JavaDoubleUnaryOperatorChain) chained.bound()).size(), 3);
+    assertSame(chained.compose(JavaFun.DoubleIdentity()).bound(), chained.bound());
+    assertTrue(predicate.test(3));
+    assertFalse(predicate.test(2));
+    assertEquals(JavaFun.bindDouble((ToDoubleFunction<String>) String::length).andThen(Math::sqrt).applyAsDouble("abcd"), 2.0);
+  }
+}
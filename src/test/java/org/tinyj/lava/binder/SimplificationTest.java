@@ -0,0 +1,120 @@
+package org.tinyj.lava.binder;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.utils.Constant;
+import org.tinyj.lava.utils.JavaFun;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.testng.Assert.*;
+
+public class SimplificationTest {
+
+  @Test
+  public void stagesAfterConstantRunOnEachInvocation() {
+    final Map<String, String> map = new HashMap<>();
+    final Function<Object, String> lookup = new JavaFunctionBinder<>(JavaFun.<Object, Object, String, RuntimeException>Constant("k")).andThen(map::get);
+    final int[] n = new int[1];
+    final Function<Object, Integer> count = new JavaFunctionBinder<>(JavaFun.<Object, Object, String, RuntimeException>Constant("k")).andThen(k -> ++n[0]);
+
+    assertNull(lookup.apply(null));
+    map.put("k", "v");
+    assertEquals(lookup.apply(null), "v");
+    assertEquals(n[0], 0);
+    assertEquals(count.apply(null), Integer.valueOf(1));
+    assertEquals(count.apply(null), Integer.valueOf(2));
+  }
+
+  @Test
+  public void linkedConstantRunsItsMappers() {
+    final List<String> mapped = new ArrayList<>();
+    final Constant<String, String, String, RuntimeException> constant = JavaFun.Constant("c");
+    final BiFunction<String, String, String> linked = new JavaBiFunctionBinder<>((BiFunction<String, String, String>) constant)
+        .linkFirst((String x) -> {
+          mapped.add("first " + x);
+          return x;
+        })
+        .andThen(c -> {
+          mapped.add("after " + c);
+          return c + "!";
+        });
+
+    assertTrue(mapped.isEmpty());
+    assertEquals(linked.apply("x", "y"), "c!");
+    assertEquals(linked.apply("z", "y"), "c!");
+    assertEquals(mapped.toString(), "[first x, after c, first z, after c]");
+  }
+
+  @Test
+  public void linkedPrototypesRunTheirMappers() {
+    final List<String> mapped = new ArrayList<>();
+    final Predicate<String> alwaysTrue = JavaFun.True();
+    final Consumer<String> noOp = JavaFun.NoOp();
+    final BiConsumer<String, String> biNoOp = JavaFun.NoOp();
+    final Function<String, String> record = x -> {
+      mapped.add(x);
+      return x;
+    };
+
+    assertTrue(new JavaPredicateBinder<>(alwaysTrue).linkTo(record).test("p"));
+    new JavaConsumerBinder<>(noOp).linkTo(record).accept("c");
+    new JavaBiConsumerBinder<>(biNoOp).linkFirst(record).accept("b", "y");
+    assertEquals(mapped.toString(), "[p, c, b]");
+  }
+
+  @Test
+  public void constantAndThenEvaluatesOnce() {
+    final int[] n = new int[1];
+    final Constant<Object, Object, Integer, RuntimeException> constant = JavaFun.<Object, Object, Integer, RuntimeException>Constant(1).andThen(x -> x + ++n[0]);
+
+    assertEquals(n[0], 1);
+    assertEquals(constant.get(), Integer.valueOf(2));
+    assertEquals(constant.apply(null), Integer.valueOf(2));
+    assertEquals(n[0], 1);
+  }
+
+  @Test
+  public void identityComposesToTheOtherFunction() {
+    final Function<String, Integer> length = String::length;
+    final Function<String, String> identity = JavaFun.Identity();
+
+    assertSame(identity.andThen(length), length);
+    assertEquals(identity.apply("x"), "x");
+    assertSame(new JavaFunctionBinder<>(length).compose(identity).bound(), length);
+    assertSame(new JavaFunctionBinder<>(identity).andThen(length).bound(), length);
+  }
+
+  @Test
+  public void composeWithIdentityReturnsTheOtherFunction() {
+    final Function<Integer, String> show = String::valueOf;
+    final Function<String, String> identity = JavaFun.Identity();
+
+    assertSame(identity.compose(show), show);
+  }
+
+  @Test
+  public void flippingTwiceReturnsTheOriginal() {
+    final BiFunction<String, Integer, String> repeat = (s, n) -> new String(new char[n]).replace("\0", s);
+
+    assertSame(JavaFun.flipArguments(JavaFun.flipArguments(repeat)), repeat);
+    assertSame(new JavaBiFunctionBinder<>(new JavaBiFunctionBinder<>(repeat).flip()).flip(), repeat);
+  }
+
+  @Test
+  public void noOpSequencesCollapse() {
+    final List<String> accepted = new ArrayList<>();
+    final Consumer<String> add = accepted::add;
+    final Consumer<String> noOp = JavaFun.NoOp();
+
+    assertSame(noOp.andThen(add), add);
+    assertSame(((JavaConsumerBinder<String>) new JavaConsumerBinder<>(add).andThen(noOp)).bound(), add);
+  }
+}
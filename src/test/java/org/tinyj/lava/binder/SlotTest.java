@@ -0,0 +1,95 @@
+package org.tinyj.lava.binder;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaBiFunction;
+import org.tinyj.lava.utils.JavaFun;
+import org.tinyj.lava.utils.LavaFun;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class SlotTest {
+
+  final BiFunction<String, Integer, String> repeat = (s, n) -> new String(new char[n]).replace("\0", s);
+
+  @Test
+  public void slotFirstIsRebound() {
+    final JavaFunctionSlot<String, Integer, String> slot = JavaFun.bind(repeat).slotFirst();
+
+    assertEquals(slot.set("a").apply(3), "aaa");
+    assertEquals(slot.set("b").apply(2), "bb");
+    assertEquals(slot.value(), "b");
+    assertSame(slot.owner(), Thread.currentThread());
+  }
+
+  @Test
+  public void slotSecondIsRebound() {
+    final JavaFunctionSlot<Integer, String, String> slot = JavaFun.bind(repeat).slotSecond();
+
+    assertEquals(slot.set(2).apply("x"), "xx");
+    assertEquals(slot.set(0).apply("x"), "");
+  }
+
+  @Test
+  public void unarySlotsSupplyHeldArgument() {
+    final List<String> accepted = new ArrayList<>();
+    final JavaSupplierSlot<String, Integer> length = JavaFun.bind((Function<String, Integer>) String::length).slot();
+    final JavaConditionSlot<String> isEmpty = JavaFun.bind((String s) -> s.isEmpty()).slot();
+    final JavaRunnableSlot<String> accept = JavaFun.bind((Consumer<String>) accepted::add).slot();
+
+    assertEquals(length.set("abc").get(), Integer.valueOf(3));
+    assertTrue(isEmpty.set("").getAsBoolean());
+    assertFalse(isEmpty.set("a").getAsBoolean());
+    accept.set("a").run();
+    accept.set("b").run();
+    assertEquals(accepted, List.of("a", "b"));
+  }
+
+  @Test
+  public void binarySlotsCurryEitherArgument() {
+    final List<String> accepted = new ArrayList<>();
+    final BiConsumer<String, Integer> add = (s, n) -> accepted.add(s + n);
+    final BiPredicate<String, Integer> longer = (s, n) -> s.length() > n;
+
+    JavaFun.bind(add).slotFirst().set("a").accept(1);
+    JavaFun.bind(add).slotSecond().set(2).accept("b");
+    assertEquals(accepted, List.of("a1", "b2"));
+    assertTrue(JavaFun.bind(longer).slotFirst().set("abc").test(2));
+    assertFalse(JavaFun.bind(longer).slotSecond().set(3).test("abc"));
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void lavaSlotsPassExceptionsOn() throws IOException {
+    final LavaBiFunction<String, Integer, String, IOException> fails = (s, n) -> { throw new IOException(s); };
+    final LavaFunctionSlot<String, Integer, String, IOException> slot = LavaFun.bind(fails).slotFirst();
+
+    slot.set("a").checkedApply(1);
+  }
+
+  @Test
+  public void slotsAreConfinedToTheirThread() throws InterruptedException {
+    final JavaFunctionSlot<String, Integer, String> slot = JavaFun.bind(repeat).slotFirst();
+    slot.set("a");
+    boolean assertionsEnabled = false;
+    assert assertionsEnabled = true;
+    if (!assertionsEnabled) {
+      return;
+    }
+    try {
+      CompletableFuture.supplyAsync(() -> slot.apply(1)).get();
+      fail("expected AssertionError");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof AssertionError);
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package org.tinyj.lava.binder;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.utils.JavaFun;
+import org.tinyj.lava.utils.LavaFun;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class TriQuadBinderTest {
+
+  final List<String> mapped = new ArrayList<>();
+  final TriFunction<String, String, String, String> tri = (x, y, z) -> x + y + z;
+  final QuadFunction<String, String, String, String, String> quad = (w, x, y, z) -> w + x + y + z;
+
+  /** Appends {@code tag} to its argument, records the mapped argument. */
+  Function<String, String> tag(String tag) {
+    return s -> {
+      mapped.add(s);
+      return s + tag;
+    };
+  }
+
+  @Test
+  public void triArgumentsAreReordered() {
+    final JavaTriFunctionBinder<String, String, String, String> binder = JavaFun.bind(tri);
+
+    assertEquals(binder.apply("a", "b", "c"), "abc");
+    assertEquals(binder.flipFirst().apply("a", "b", "c"), "bac");
+    assertEquals(binder.flipLast().apply("a", "b", "c"), "acb");
+    assertEquals(binder.rotateLeft().apply("a", "b", "c"), "cab");
+    assertEquals(binder.rotateRight().apply("a", "b", "c"), "bca");
+    assertEquals(binder.reverse().apply("a", "b", "c"), "cba");
+    assertEquals(binder.rotateLeft().rotateRight().apply("a", "b", "c"), "abc");
+    assertEquals(binder.rotateLeft().rotateLeft().rotateLeft().apply("a", "b", "c"), "abc");
+  }
+
+  @Test
+  public void quadArgumentsAreReordered() {
+    final JavaQuadFunctionBinder<String, String, String, String, String> binder = JavaFun.bind(quad);
+
+    assertEquals(binder.apply("a", "b", "c", "d"), "abcd");
+    assertEquals(binder.flipFirst().apply("a", "b", "c", "d"), "bacd");
+    assertEquals(binder.flipLast().apply("a", "b", "c", "d"), "abdc");
+    assertEquals(binder.rotateLeft().apply("a", "b", "c", "d"), "dabc");
+    assertEquals(binder.rotateRight().apply("a", "b", "c", "d"), "bcda");
+    assertEquals(binder.reverse().apply("a", "b", "c", "d"), "dcba");
+    assertEquals(binder.rotateLeft().rotateRight().apply("a", "b", "c", "d"), "abcd");
+    assertEquals(binder.reverse().reverse().apply("a", "b", "c", "d"), "abcd");
+  }
+
+  @Test
+  public void triBindingKeepsTheOtherArgumentsInPlace() {
+    final JavaTriFunctionBinder<String, String, String, String> binder = JavaFun.bind(tri);
+
+    assertEquals(binder.bind("a", "b", "c").get(), "abc");
+    assertEquals(binder.bindFirst("X").apply("b", "c"), "Xbc");
+    assertEquals(binder.bindSecond("Y").apply("a", "c"), "aYc");
+    assertEquals(binder.bindThird("Z").apply("a", "b"), "abZ");
+    assertEquals(binder.bindFirst("X").bindFirst("Y").bind("Z").get(), "XYZ");
+  }
+
+  @Test
+  public void quadBindingKeepsTheOtherArgumentsInPlace() {
+    final JavaQuadFunctionBinder<String, String, String, String, String> binder = JavaFun.bind(quad);
+
+    assertEquals(binder.bind("a", "b", "c", "d").get(), "abcd");
+    assertEquals(binder.bindFirst("W").apply("b", "c", "d"), "Wbcd");
+    assertEquals(binder.bindSecond("X").apply("a", "c", "d"), "aXcd");
+    assertEquals(binder.bindThird("Y").apply("a", "b", "d"), "abYd");
+    assertEquals(binder.bindFourth("Z").apply("a", "b", "c"), "abcZ");
+    assertEquals(binder.bindFourth("Z").bindSecond("X").apply("a", "c"), "aXcZ");
+  }
+
+  @Test
+  public void triLinksMapTheirOwnArgument() {
+    final JavaTriFunctionBinder<String, String, String, String> binder = JavaFun.bind(tri);
+
+    assertEquals(binder.link(tag("1"), tag("2"), tag("3")).apply("a", "b", "c"), "a1b2c3");
+    assertEquals(mapped.toString(), "[a, b, c]");
+    assertEquals(binder.linkFirst(tag("1")).apply("a", "b", "c"), "a1bc");
+    assertEquals(binder.linkSecond(tag("2")).apply("a", "b", "c"), "ab2c");
+    assertEquals(binder.linkThird(tag("3")).apply("a", "b", "c"), "abc3");
+    assertEquals(binder.link(() -> "x", () -> "y", () -> "z").get(), "xyz");
+    assertEquals(binder.linkFirst(() -> "x").apply("b", "c"), "xbc");
+    assertEquals(binder.linkSecond(() -> "y").apply("a", "c"), "ayc");
+    assertEquals(binder.linkThird(() -> "z").apply("a", "b"), "abz");
+  }
+
+  @Test
+  public void quadLinksMapTheirOwnArgument() {
+    final JavaQuadFunctionBinder<String, String, String, String, String> binder = JavaFun.bind(quad);
+
+    assertEquals(binder.link(tag("1"), tag("2"), tag("3"), tag("4")).apply("a", "b", "c", "d"), "a1b2c3d4");
+    assertEquals(mapped.toString(), "[a, b, c, d]");
+    assertEquals(binder.linkFirst(tag("1")).apply("a", "b", "c", "d"), "a1bcd");
+    assertEquals(binder.linkSecond(tag("2")).apply("a", "b", "c", "d"), "ab2cd");
+    assertEquals(binder.linkThird(tag("3")).apply("a", "b", "c", "d"), "abc3d");
+    assertEquals(binder.linkFourth(tag("4")).apply("a", "b", "c", "d"), "abcd4");
+    assertEquals(binder.link(() -> "w", () -> "x", () -> "y", () -> "z").get(), "wxyz");
+    assertEquals(binder.linkFourth(() -> "z").apply("a", "b", "c"), "abcz");
+  }
+
+  @Test
+  public void laterLinksMapBeforeEarlierOnes() {
+    final int[] supplied = new int[1];
+    final JavaTriFunctionBinder<String, String, String, String> linked = JavaFun.bind(tri)
+        .linkFirst(tag("1"))
+        .linkFirst(tag("2"))
+        .andThen(r -> r + "!");
+
+    assertEquals(linked.apply("a", "b", "c"), "a21bc!");
+    assertEquals(mapped.toString(), "[a, a2]");
+    final JavaBiFunctionBinder<String, String, String> counted = JavaFun.bind(tri).linkSecond(() -> "" + ++supplied[0]);
+    assertEquals(counted.apply("a", "c"), "a1c");
+    assertEquals(counted.apply("a", "c"), "a2c");
+  }
+
+  @Test
+  public void consumersReceiveArgumentsInPlace() {
+    final List<String> accepted = new ArrayList<>();
+    final TriConsumer<String, String, String> triAdd = (x, y, z) -> accepted.add(x + y + z);
+    final QuadConsumer<String, String, String, String> quadAdd = (w, x, y, z) -> accepted.add(w + x + y + z);
+    final JavaTriConsumerBinder<String, String, String> triBinder = JavaFun.bind(triAdd);
+    final JavaQuadConsumerBinder<String, String, String, String> quadBinder = JavaFun.bind(quadAdd);
+
+    triBinder.rotateLeft().accept("a", "b", "c");
+    triBinder.bindSecond("Y").accept("a", "c");
+    triBinder.linkThird(tag("3")).accept("a", "b", "c");
+    triBinder.andThen(triBinder.reverse()).accept("a", "b", "c");
+    quadBinder.rotateRight().accept("a", "b", "c", "d");
+    quadBinder.bindThird("Y").accept("a", "b", "d");
+    quadBinder.linkFirst(tag("1")).accept("a", "b", "c", "d");
+    quadBinder.bind("w", "x", "y", "z").run();
+    assertEquals(accepted.toString(), "[cab, aYc, abc3, abc, cba, bcda, abYd, a1bcd, wxyz]");
+  }
+
+  @Test
+  public void predicatesReceiveArgumentsInPlace() {
+    final TriPredicate<Integer, Integer, Integer> ascending = (x, y, z) -> x < y && y < z;
+    final QuadPredicate<Integer, Integer, Integer, Integer> quadAscending = (w, x, y, z) -> w < x && x < y && y < z;
+    final JavaTriPredicateBinder<Integer, Integer, Integer> triBinder = JavaFun.bind(ascending);
+    final JavaQuadPredicateBinder<Integer, Integer, Integer, Integer> quadBinder = JavaFun.bind(quadAscending);
+
+    assertTrue(triBinder.test(1, 2, 3));
+    assertTrue(triBinder.reverse().test(3, 2, 1));
+    assertTrue(triBinder.flipFirst().test(2, 1, 3));
+    assertTrue(triBinder.bindThird(3).test(1, 2));
+    assertFalse(triBinder.bindFirst(3).test(1, 2));
+    assertTrue(triBinder.linkSecond((Integer v) -> v * 10).test(1, 1, 11));
+    assertTrue(quadBinder.rotateLeft().test(2, 3, 4, 1));
+    assertTrue(quadBinder.flipLast().test(1, 2, 4, 3));
+    assertTrue(quadBinder.bindSecond(2).test(1, 3, 4));
+    assertFalse(quadBinder.bindFourth(0).test(1, 2, 3));
+    assertTrue(quadBinder.link(() -> 1, () -> 2, () -> 3, () -> 4).getAsBoolean());
+  }
+
+  @Test
+  public void lavaBindersReorderAndPassExceptionsOn() throws Exception {
+    final LavaTriFunction<String, String, String, String, IOException> checkedTri = (x, y, z) -> {
+      if (x.isEmpty()) {
+        throw new IOException("empty");
+      }
+      return x + y + z;
+    };
+    final LavaQuadFunction<String, String, String, String, String, IOException> checkedQuad = (w, x, y, z) -> w + x + y + z;
+    final LavaTriFunctionBinder<String, String, String, String, IOException> triBinder = LavaFun.bind(checkedTri);
+    final LavaQuadFunctionBinder<String, String, String, String, String, IOException> quadBinder = LavaFun.bind(checkedQuad);
+
+    assertEquals(triBinder.rotateLeft().checkedApply("a", "b", "c"), "cab");
+    assertEquals(triBinder.rotateRight().checkedApply("a", "b", "c"), "bca");
+    assertEquals(triBinder.bindSecond("Y").checkedApply("a", "c"), "aYc");
+    assertEquals(triBinder.linkThird((String s) -> s + "3").checkedApply("a", "b", "c"), "abc3");
+    assertEquals(quadBinder.reverse().checkedApply("a", "b", "c", "d"), "dcba");
+    assertEquals(quadBinder.rotateLeft().checkedApply("a", "b", "c", "d"), "dabc");
+    assertEquals(quadBinder.bindFourth("Z").checkedApply("a", "b", "c"), "abcZ");
+    assertEquals(quadBinder.link((String s) -> s + "1", (String s) -> s + "2", (String s) -> s + "3", (String s) -> s + "4")
+                     .checkedApply("a", "b", "c", "d"), "a1b2c3d4");
+    try {
+      triBinder.flipLast().checkedApply("", "b", "c");
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertEquals(e.getMessage(), "empty");
+    }
+  }
+
+  @Test
+  public void lavaConsumersAndPredicatesReceiveArgumentsInPlace() throws IOException {
+    final List<String> accepted = new ArrayList<>();
+    final LavaTriConsumer<String, String, String, IOException> triAdd = (x, y, z) -> accepted.add(x + y + z);
+    final LavaQuadConsumer<String, String, String, String, IOException> quadAdd = (w, x, y, z) -> accepted.add(w + x + y + z);
+    final LavaTriPredicate<String, String, String, IOException> triSorted = (x, y, z) -> x.compareTo(y) < 0 && y.compareTo(z) < 0;
+    final LavaQuadPredicate<String, String, String, String, IOException> quadSorted =
+        (w, x, y, z) -> w.compareTo(x) < 0 && x.compareTo(y) < 0 && y.compareTo(z) < 0;
+
+    LavaFun.bind(triAdd).flipFirst().checkedAccept("a", "b", "c");
+    LavaFun.bind(triAdd).bindFirst("X").checkedAccept("b", "c");
+    LavaFun.bind(quadAdd).flipLast().checkedAccept("a", "b", "c", "d");
+    LavaFun.bind(quadAdd).bindSecond("X").checkedAccept("a", "c", "d");
+    assertEquals(accepted.toString(), "[bac, Xbc, abdc, aXcd]");
+    assertTrue(LavaFun.bind(triSorted).reverse().checkedTest("c", "b", "a"));
+    assertTrue(LavaFun.bind(triSorted).bindSecond("b").checkedTest("a", "c"));
+    assertTrue(LavaFun.bind(quadSorted).rotateRight().checkedTest("d", "a", "b", "c"));
+    assertFalse(LavaFun.bind(quadSorted).bindThird("a").checkedTest("a", "b", "d"));
+  }
+
+  @Test
+  public void plainBindersAreUnwrapped() {
+    final JavaTriFunctionBinder<String, String, String, String> triBinder = JavaFun.bind(tri);
+    final JavaQuadFunctionBinder<String, String, String, String, String> quadBinder = JavaFun.bind(quad);
+
+    assertSame(JavaFun.bind(triBinder).bound(), tri);
+    assertSame(JavaFun.bind(quadBinder).bound(), quad);
+    assertSame(new JavaTriFunctionBinder<>(new JavaTriFunctionBinder<>(tri)).bound(), tri);
+  }
+
+  @Test
+  public void subclassesAreKept() {
+    final JavaTriFunctionBinder<String, String, String, String> triUpper = new JavaTriFunctionBinder<String, String, String, String>(tri) {
+      @Override
+      public String apply(String x, String y, String z) { return super.apply(x, y, z).toUpperCase(); }
+    };
+    final JavaQuadFunctionBinder<String, String, String, String, String> quadUpper = new JavaQuadFunctionBinder<String, String, String, String, String>(quad) {
+      @Override
+      public String apply(String w, String x, String y, String z) { return super.apply(w, x, y, z).toUpperCase(); }
+    };
+    final JavaTriConsumerBinder<String, String, String> triConsumer = new JavaTriConsumerBinder<String, String, String>((x, y, z) -> {}) {};
+    final JavaQuadPredicateBinder<String, String, String, String> quadPredicate =
+        new JavaQuadPredicateBinder<String, String, String, String>((w, x, y, z) -> true) {};
+    final LavaTriFunctionBinder<String, String, String, String, IOException> lavaTri =
+        new LavaTriFunctionBinder<String, String, String, String, IOException>((x, y, z) -> x) {};
+
+    assertSame(JavaFun.bind(triUpper).bound(), triUpper);
+    assertEquals(JavaFun.bind(triUpper).apply("a", "b", "c"), "ABC");
+    assertEquals(JavaFun.bind(triUpper).reverse().apply("a", "b", "c"), "CBA");
+    assertSame(JavaFun.bind(quadUpper).bound(), quadUpper);
+    assertEquals(JavaFun.bind(quadUpper).bindFirst("w").apply("x", "y", "z"), "WXYZ");
+    assertSame(JavaFun.bind(triConsumer).bound(), triConsumer);
+    assertSame(JavaFun.bind(quadPredicate).bound(), quadPredicate);
+    assertSame(LavaFun.bind(lavaTri).bound(), lavaTri);
+  }
+}
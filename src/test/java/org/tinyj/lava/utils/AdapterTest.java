@@ -0,0 +1,63 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+import org.tinyj.lava.LavaPredicate;
+import org.tinyj.lava.LavaRunnable;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.*;
+import static org.tinyj.lava.utils.JavaFun.toLavaFun;
+import static org.tinyj.lava.utils.LavaFun.toJavaFun;
+
+public class AdapterTest {
+
+  @Test
+  public void javaRoundTripReturnsOriginal() {
+    final Function<String, String> trim = String::trim;
+    final Predicate<String> isEmpty = String::isEmpty;
+    final Supplier<String> supplier = () -> "x";
+    final BiConsumer<String, String> biConsumer = (x, y) -> {};
+    final Runnable runnable = () -> {};
+
+    assertSame(toJavaFun(toLavaFun(trim)), trim);
+    assertSame(toJavaFun(toLavaFun(toJavaFun(toLavaFun(trim)))), trim);
+    assertSame(toJavaFun(toLavaFun(isEmpty)), isEmpty);
+    assertSame(toJavaFun(toLavaFun(supplier)), supplier);
+    assertSame(toJavaFun(toLavaFun(biConsumer)), biConsumer);
+    assertSame(toJavaFun(toLavaFun(runnable)), runnable);
+  }
+
+  @Test
+  public void lavaRoundTripReturnsOriginal() {
+    final LavaFunction<String, String, RuntimeException> trim = String::trim;
+    final LavaPredicate<String, RuntimeException> isEmpty = String::isEmpty;
+    final LavaRunnable<RuntimeException> runnable = () -> {};
+
+    assertSame(toLavaFun(toJavaFun(trim)), trim);
+    assertSame(toLavaFun(toJavaFun(isEmpty)), isEmpty);
+    assertSame(toLavaFun(toJavaFun(runnable)), runnable);
+  }
+
+  @Test
+  public void adaptersDelegate() {
+    final Function<String, String> trim = String::trim;
+
+    assertEquals(toLavaFun(trim).checkedApply(" a "), "a");
+    assertEquals(toJavaFun(toLavaFun(trim)).apply(" a "), "a");
+    assertTrue(toJavaFun((LavaPredicate<String, RuntimeException>) String::isEmpty).test(""));
+  }
+
+  @Test
+  public void prototypesAreNotWrapped() {
+    final Predicate<Object> True = JavaFun.True();
+    final Runnable noOp = JavaFun.NoOp();
+
+    assertSame(toLavaFun(True), True);
+    assertSame(toLavaFun(noOp), noOp);
+  }
+}
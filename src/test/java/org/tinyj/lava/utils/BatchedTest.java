@@ -0,0 +1,181 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class BatchedTest {
+
+  final Queue<Runnable> batches = new ArrayDeque<>();
+  final List<List<String>> requested = new ArrayList<>();
+
+  /** Maps each key to its upper case, records the requested keys. */
+  final LavaFunction<List<String>, Map<String, String>, IOException> upper = keys -> {
+    requested.add(keys);
+    final Map<String, String> results = new HashMap<>();
+    keys.forEach(key -> results.put(key, key.toUpperCase()));
+    return results;
+  };
+
+  Batched<String, String, IOException> batched(LavaFunction<List<String>, Map<String, String>, IOException> bulk,
+                                               int maxBatchSize, Duration window, Executor executor) {
+    return LavaFun.batch(bulk, maxBatchSize, window, executor);
+  }
+
+  void runBatches() {
+    while (!batches.isEmpty()) {
+      batches.poll().run();
+    }
+  }
+
+  static Throwable failureOf(CompletableFuture<?> future) {
+    try {
+      future.join();
+    } catch (CompletionException e) {
+      return e.getCause();
+    }
+    throw new AssertionError("completed normally");
+  }
+
+  @Test
+  public void fullBatchIsDispatched() {
+    final Batched<String, String, IOException> batched = batched(upper, 3, Duration.ofMinutes(1), batches::add);
+    final CompletableFuture<String> a = batched.submit("a");
+    final CompletableFuture<String> b = batched.submit("b");
+
+    assertTrue(batches.isEmpty());
+    final CompletableFuture<String> c = batched.submit("c");
+    assertEquals(batches.size(), 1);
+    runBatches();
+    assertEquals(requested.size(), 1);
+    assertEquals(requested.get(0).toString(), "[a, b, c]");
+    assertEquals(a.join(), "A");
+    assertEquals(b.join(), "B");
+    assertEquals(c.join(), "C");
+  }
+
+  @Test
+  public void batchIsDispatchedAfterWindow() throws Exception {
+    final Batched<String, String, IOException> batched = batched(upper, 100, Duration.ofMillis(20), Runnable::run);
+    final CompletableFuture<String> a = batched.submit("a");
+    final CompletableFuture<String> b = batched.submit("b");
+
+    assertEquals(a.get(10, TimeUnit.SECONDS), "A");
+    assertEquals(b.get(10, TimeUnit.SECONDS), "B");
+    assertEquals(requested.size(), 1);
+    assertEquals(requested.get(0).toString(), "[a, b]");
+    assertEquals(batched.submit("c").get(10, TimeUnit.SECONDS), "C");
+    assertEquals(requested.size(), 2);
+  }
+
+  @Test
+  public void equalKeysAreRequestedOnce() {
+    final Batched<String, String, IOException> batched = batched(upper, 2, Duration.ofMinutes(1), batches::add);
+    final CompletableFuture<String> a1 = batched.submit("a");
+    final CompletableFuture<String> a2 = batched.submit("a");
+
+    assertTrue(batches.isEmpty());
+    final CompletableFuture<String> b = batched.submit("b");
+    runBatches();
+    assertEquals(requested.get(0).toString(), "[a, b]");
+    assertEquals(a1.join(), "A");
+    assertEquals(a2.join(), "A");
+    assertEquals(b.join(), "B");
+  }
+
+  @Test
+  public void unmappedKeysResolveToNull() throws IOException {
+    final Batched<String, String, IOException> partial = batched(keys -> {
+      final Map<String, String> results = new HashMap<>();
+      results.put("a", "A");
+      return results;
+    }, 1, Duration.ofMinutes(1), Runnable::run);
+    final Batched<String, String, IOException> none = batched(keys -> null, 1, Duration.ofMinutes(1), Runnable::run);
+
+    assertEquals(partial.checkedApply("a"), "A");
+    assertNull(partial.checkedApply("b"));
+    assertNull(none.checkedApply("a"));
+  }
+
+  @Test
+  public void bulkFailureReachesEveryCaller() {
+    final IOException failure = new IOException("bulk");
+    final Batched<String, String, IOException> batched = batched(keys -> {
+      throw failure;
+    }, 3, Duration.ofMinutes(1), batches::add);
+    final CompletableFuture<String> a = batched.submit("a");
+    final CompletableFuture<String> b = batched.submit("b");
+    final CompletableFuture<String> c = batched.submit("c");
+    runBatches();
+
+    assertSame(failureOf(a), failure);
+    assertSame(failureOf(b), failure);
+    assertSame(failureOf(c), failure);
+  }
+
+  @Test
+  public void bulkFailureIsRethrown() {
+    final IOException failure = new IOException("bulk");
+    final Batched<String, String, IOException> batched = batched(keys -> {
+      throw failure;
+    }, 1, Duration.ofMinutes(1), Runnable::run);
+
+    try {
+      batched.checkedApply("a");
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertSame(e, failure);
+    }
+    try {
+      batched.apply("a");
+      fail("expected UndeclaredThrowableException");
+    } catch (UndeclaredThrowableException e) {
+      assertSame(e.getCause(), failure);
+    }
+  }
+
+  @Test
+  public void rejectedBatchFailsItsCallers() {
+    final RejectedExecutionException rejected = new RejectedExecutionException("full");
+    final Batched<String, String, IOException> batched = batched(upper, 2, Duration.ofMinutes(1), batch -> {
+      throw rejected;
+    });
+    final CompletableFuture<String> a = batched.submit("a");
+    final CompletableFuture<String> b = batched.submit("b");
+
+    assertSame(failureOf(a), rejected);
+    assertSame(failureOf(b), rejected);
+    assertTrue(requested.isEmpty());
+  }
+
+  @Test
+  public void cancellingOneSubmissionKeepsTheOthers() {
+    final Batched<String, String, IOException> batched = batched(upper, 2, Duration.ofMinutes(1), batches::add);
+    final CompletableFuture<String> cancelled = batched.submit("a");
+    final CompletableFuture<String> other = batched.submit("a");
+
+    assertTrue(cancelled.cancel(false));
+    batched.submit("b");
+    runBatches();
+    assertEquals(requested.get(0).toString(), "[a, b]");
+    assertTrue(cancelled.isCancelled());
+    assertEquals(other.join(), "A");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void batchSizeMustBePositive() {
+    batched(upper, 0, Duration.ofMinutes(1), Runnable::run);
+  }
+}
@@ -0,0 +1,99 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaBiFunction;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class BiMemoizedTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void resultsAreCachedPerArgumentPair() {
+    final BiMemoized<Integer, Integer, Integer, RuntimeException> minus = JavaFun.memoize((Integer x, Integer y) -> {
+      calls.incrementAndGet();
+      return x - y;
+    }, 16);
+
+    assertEquals(minus.apply(3, 1), Integer.valueOf(2));
+    assertEquals(minus.apply(1, 3), Integer.valueOf(-2));
+    assertEquals(minus.apply(3, 1), Integer.valueOf(2));
+    assertEquals(calls.get(), 2);
+    assertEquals(minus.hitCount(), 1);
+    assertEquals(minus.missCount(), 2);
+    assertEquals(minus.size(), 2);
+  }
+
+  @Test
+  public void nullArgumentsAreCached() {
+    final BiMemoized<Object, Object, String, RuntimeException> concat = JavaFun.memoize((Object x, Object y) -> {
+      calls.incrementAndGet();
+      return x + "," + y;
+    }, 16);
+
+    assertEquals(concat.apply(null, "a"), "null,a");
+    assertEquals(concat.apply("a", null), "a,null");
+    assertEquals(concat.apply(null, null), "null,null");
+    assertEquals(concat.apply(null, "a"), "null,a");
+    assertEquals(calls.get(), 3);
+  }
+
+  @Test
+  public void sizeIsBounded() {
+    final BiMemoized<Integer, Integer, Integer, RuntimeException> times = JavaFun.memoize((Integer x, Integer y) -> x * y, 32);
+    for (int x = 0; x < 100; x++) {
+      for (int y = 0; y < 10; y++) {
+        assertEquals(times.apply(x, y), Integer.valueOf(x * y));
+      }
+    }
+    assertTrue(times.size() <= 32, "size " + times.size());
+    assertEquals(times.evictionCount(), times.missCount() - times.size());
+  }
+
+  @Test
+  public void capacityIsRoundedUp() {
+    assertEquals(JavaFun.memoize((Integer x, Integer y) -> x * y, 1).capacity(), 1);
+    assertEquals(JavaFun.memoize((Integer x, Integer y) -> x * y, 512).capacity(), 512);
+    assertEquals(JavaFun.memoize((Integer x, Integer y) -> x * y, 1000).capacity(), 1024);
+    assertEquals(JavaFun.memoize((Integer x, Integer y) -> x * y, 1025).capacity(), 2048);
+  }
+
+  @Test
+  public void failuresAreCachedOnRequest() {
+    final LavaBiFunction<String, String, String, IOException> fails = (x, y) -> {
+      calls.incrementAndGet();
+      throw new IOException(x + y);
+    };
+    final BiMemoized<String, String, String, IOException> notCaching = LavaFun.memoize(fails, 16);
+    final BiMemoized<String, String, String, IOException> caching = LavaFun.memoize(fails, 16, true);
+    for (int i = 0; i < 2; i++) {
+      try {
+        notCaching.checkedApply("a", "b");
+        fail("expected IOException");
+      } catch (IOException expected) {
+        assertEquals(expected.getMessage(), "ab");
+      }
+    }
+    assertEquals(calls.getAndSet(0), 2);
+    IOException first = null;
+    for (int i = 0; i < 2; i++) {
+      try {
+        caching.checkedApply("a", "b");
+        fail("expected IOException");
+      } catch (IOException e) {
+        if (first == null) first = e;
+        assertSame(e, first);
+      }
+    }
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void maxSizeMustBePositive() {
+    JavaFun.memoize((Object x, Object y) -> x, 0);
+  }
+}
@@ -0,0 +1,56 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+import static org.tinyj.lava.utils.LavaFun.toJavaFunCarrying;
+import static org.tinyj.lava.utils.LavaFun.unwrapCarried;
+
+public class CheckedCarrierTest {
+
+  final LavaFunction<String, String, IOException> open = name -> {
+    if (name.isEmpty()) throw new FileNotFoundException(name);
+    return name;
+  };
+
+  @Test
+  public void carriedExceptionIsUnwrapped() {
+    final Function<String, String> carrying = toJavaFunCarrying(open);
+    try {
+      unwrapCarried(IOException.class, () -> carrying.apply(""));
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertTrue(e instanceof FileNotFoundException);
+    }
+  }
+
+  @Test
+  public void resultIsPassedThrough() throws IOException {
+    final Function<String, String> carrying = toJavaFunCarrying(open);
+    assertEquals(unwrapCarried(IOException.class, () -> carrying.apply("a")), "a");
+  }
+
+  @Test
+  public void otherCarriersAreRethrown() throws TimeoutException {
+    final Function<String, String> carrying = toJavaFunCarrying(open);
+    try {
+      unwrapCarried(TimeoutException.class, () -> carrying.apply(""));
+      fail("expected CheckedCarrier");
+    } catch (CheckedCarrier carrier) {
+      assertTrue(carrier.carried() instanceof FileNotFoundException);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void uncheckedExceptionsAreNotCarried() throws IOException {
+    final LavaFunction<String, String, IOException> fails = x -> { throw new IllegalStateException(); };
+    final Function<String, String> carrying = toJavaFunCarrying(fails);
+    unwrapCarried(IOException.class, () -> { carrying.apply(""); });
+  }
+}
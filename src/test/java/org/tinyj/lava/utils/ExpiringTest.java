@@ -0,0 +1,187 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaSupplier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+public class ExpiringTest {
+
+  final AtomicLong clock = new AtomicLong();
+  final AtomicInteger calls = new AtomicInteger();
+  final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+  /** Supplies "v1", "v2", ... one per call. */
+  final LavaSupplier<String, IOException> counter = () -> "v" + calls.incrementAndGet();
+
+  Expiring<String, IOException> expiring(LavaSupplier<String, IOException> supplier, Executor executor) {
+    return LavaFun.expiring(supplier, Duration.ofNanos(100), Duration.ofNanos(50), executor, clock::get);
+  }
+
+  static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  void runRefreshes() {
+    while (!refreshes.isEmpty()) {
+      refreshes.poll().run();
+    }
+  }
+
+  @Test
+  public void freshValueIsCached() throws IOException {
+    final Expiring<String, IOException> expiring = expiring(counter, refreshes::add);
+    assertEquals(expiring.checkedGet(), "v1");
+    clock.set(49);
+    assertEquals(expiring.checkedGet(), "v1");
+    assertEquals(calls.get(), 1);
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  public void staleValueIsServedDuringRefresh() throws IOException {
+    final Expiring<String, IOException> expiring = expiring(counter, refreshes::add);
+    expiring.checkedGet();
+    clock.set(60);
+    assertEquals(expiring.checkedGet(), "v1");
+    assertEquals(expiring.checkedGet(), "v1");
+    assertEquals(calls.get(), 1);
+
+    runRefreshes();
+    assertEquals(expiring.checkedGet(), "v2");
+    clock.set(100);
+    assertEquals(expiring.checkedGet(), "v2", "refreshed at 60, not expired before 160");
+  }
+
+  @Test
+  public void oneRefreshAtATime() throws IOException {
+    final Expiring<String, IOException> expiring = expiring(counter, refreshes::add);
+    expiring.checkedGet();
+    clock.set(60);
+    for (int i = 0; i < 10; i++) {
+      expiring.checkedGet();
+    }
+    assertEquals(refreshes.size(), 1);
+
+    runRefreshes();
+    clock.set(120);
+    expiring.checkedGet();
+    assertEquals(refreshes.size(), 1, "the next refresh starts once the first one is done");
+  }
+
+  @Test
+  public void failedRefreshIsRetried() throws IOException {
+    final IOException failure = new IOException();
+    final Expiring<String, IOException> expiring = expiring(() -> {
+      if (calls.incrementAndGet() == 2) throw failure;
+      return "v" + calls.get();
+    }, refreshes::add);
+    expiring.checkedGet();
+    clock.set(60);
+    expiring.checkedGet();
+    runRefreshes();
+    assertSame(expiring.lastRefreshFailure(), failure);
+    assertEquals(expiring.checkedGet(), "v1");
+
+    runRefreshes();
+    assertNull(expiring.lastRefreshFailure());
+    assertEquals(expiring.checkedGet(), "v3");
+  }
+
+  @Test
+  public void expiredValueIsLoadedSynchronously() throws IOException {
+    final Expiring<String, IOException> expiring = expiring(counter, refreshes::add);
+    expiring.checkedGet();
+    clock.set(100);
+    assertEquals(expiring.checkedGet(), "v2");
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  public void loadBlocksConcurrentInvocations() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Expiring<String, IOException> expiring = expiring(() -> {
+      loading.countDown();
+      await(release);
+      return "v" + calls.incrementAndGet();
+    }, refreshes::add);
+    final ExecutorService threads = Executors.newFixedThreadPool(2);
+    try {
+      final Future<String> first = threads.submit(expiring::checkedGet);
+      loading.await();
+      final Thread[] waiter = new Thread[1];
+      final Future<String> second = threads.submit(() -> {
+        waiter[0] = Thread.currentThread();
+        return expiring.checkedGet();
+      });
+      while (waiter[0] == null || waiter[0].getState() != Thread.State.BLOCKED) {
+        assertFalse(second.isDone());
+        Thread.sleep(1);
+      }
+      release.countDown();
+      assertEquals(first.get(), "v1");
+      assertEquals(second.get(), "v1");
+      assertEquals(calls.get(), 1);
+    } finally {
+      threads.shutdownNow();
+    }
+  }
+
+  @Test
+  public void refreshDoesNotReplaceNewerLoad() throws Exception {
+    final CountDownLatch refreshing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService refresher = Executors.newSingleThreadExecutor();
+    final Expiring<String, IOException> expiring = expiring(() -> {
+      final int call = calls.incrementAndGet();
+      if (call == 2) {
+        refreshing.countDown();
+        await(release);
+      }
+      return "v" + call;
+    }, refresher);
+    try {
+      expiring.checkedGet();
+      clock.set(60);
+      expiring.checkedGet();
+      refreshing.await();
+      clock.set(100);
+      assertEquals(expiring.checkedGet(), "v3");
+      release.countDown();
+    } finally {
+      refresher.shutdown();
+      assertTrue(refresher.awaitTermination(10, TimeUnit.SECONDS));
+    }
+    clock.set(110);
+    assertEquals(expiring.checkedGet(), "v3");
+  }
+
+  @Test
+  public void failedLoadIsPassedOn() throws IOException {
+    final IOException failure = new IOException();
+    final Expiring<String, IOException> expiring = expiring(() -> {
+      if (calls.incrementAndGet() == 1) throw failure;
+      return "v" + calls.get();
+    }, refreshes::add);
+    try {
+      expiring.checkedGet();
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertSame(e, failure);
+    }
+    assertEquals(expiring.checkedGet(), "v2");
+  }
+}
@@ -0,0 +1,30 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+
+import java.io.IOException;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class FunctorEventsTest {
+
+  @Test
+  public void instrumentedFunctorsDelegate() throws IOException {
+    final Function<String, Integer> length = String::length;
+    final BiPredicate<String, String> equals = String::equals;
+    final LavaFunction<String, String, IOException> trim = String::trim;
+
+    assertEquals(JavaFun.instrumented("length", length).apply("abc"), Integer.valueOf(3));
+    assertTrue(JavaFun.instrumented("equals", equals).test("a", "a"));
+    assertEquals(LavaFun.instrumented("trim", trim).checkedApply(" a "), "a");
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void instrumentedFunctorsRethrow() throws IOException {
+    final LavaFunction<String, String, IOException> fails = x -> { throw new IOException(x); };
+    LavaFun.instrumented("fails", fails).checkedApply("x");
+  }
+}
@@ -0,0 +1,154 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class FunctorMetricsTest {
+
+  static final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+
+  static ObjectName objectName(String name) throws Exception {
+    final Hashtable<String, String> properties = new Hashtable<>();
+    properties.put("type", "Functor");
+    properties.put("name", ObjectName.quote(name));
+    return new ObjectName("org.tinyj.lava", properties);
+  }
+
+  @Test
+  public void attributesAreReadThroughThePlatformServer() throws Exception {
+    final String name = "metrics-test-attributes";
+    final Function<String, Integer> length = JavaFun.register(name, (String s) -> {
+      if (s.isEmpty()) {
+        throw new IllegalArgumentException("empty");
+      }
+      return s.length();
+    });
+    try {
+      final ObjectName objectName = objectName(name);
+      assertTrue(SERVER.isRegistered(objectName));
+      assertEquals(SERVER.getAttribute(objectName, "InvocationCount"), 0L);
+
+      assertEquals(length.apply("abc"), Integer.valueOf(3));
+      assertEquals(length.apply("ab"), Integer.valueOf(2));
+      try {
+        length.apply("");
+        fail("expected IllegalArgumentException");
+      } catch (IllegalArgumentException expected) {
+      }
+
+      assertEquals(SERVER.getAttribute(objectName, "Name"), name);
+      assertEquals(SERVER.getAttribute(objectName, "InvocationCount"), 3L);
+      assertEquals(SERVER.getAttribute(objectName, "ErrorCount"), 1L);
+      assertTrue((Double) SERVER.getAttribute(objectName, "MeanLatencyNanos") >= 0);
+      final long p99 = (Long) SERVER.getAttribute(objectName, "P99LatencyNanos");
+      assertTrue(p99 >= 0 && p99 <= FunctorMetrics.lookup(name).latency().max());
+      assertNull(SERVER.getAttribute(objectName, "CacheHitCount"));
+      assertNull(SERVER.getAttribute(objectName, "CacheSize"));
+    } finally {
+      JavaFun.unregister(name);
+    }
+  }
+
+  @Test
+  public void checkedFailuresAreCounted() throws Exception {
+    final String name = "metrics-test-checked";
+    final LavaFunction<String, String, IOException> fails = LavaFun.register(name, (String s) -> {
+      throw new IOException(s);
+    });
+    try {
+      try {
+        fails.checkedApply("x");
+        fail("expected IOException");
+      } catch (IOException e) {
+        assertEquals(e.getMessage(), "x");
+      }
+
+      assertEquals(SERVER.getAttribute(objectName(name), "InvocationCount"), 1L);
+      assertEquals(SERVER.getAttribute(objectName(name), "ErrorCount"), 1L);
+    } finally {
+      LavaFun.unregister(name);
+    }
+  }
+
+  @Test
+  public void memoizedFunctorsExposeCacheStatistics() throws Exception {
+    final String name = "metrics-test-cache";
+    final Function<Integer, Integer> square = JavaFun.register(name, JavaFun.memoize((Integer x) -> x * x, 16));
+    try {
+      square.apply(2);
+      square.apply(2);
+      square.apply(3);
+
+      final ObjectName objectName = objectName(name);
+      assertEquals(SERVER.getAttribute(objectName, "InvocationCount"), 3L);
+      assertEquals(SERVER.getAttribute(objectName, "CacheHitCount"), 1L);
+      assertEquals(SERVER.getAttribute(objectName, "CacheMissCount"), 2L);
+      assertEquals(SERVER.getAttribute(objectName, "CacheSize"), 2);
+    } finally {
+      JavaFun.unregister(name);
+    }
+  }
+
+  @Test
+  public void unregisterRemovesTheBeanAndKeepsCounting() throws Exception {
+    final String name = "metrics-test-unregister";
+    final Function<String, String> upper = JavaFun.register(name, (String s) -> s.toUpperCase());
+    final FunctorMetrics metrics = FunctorMetrics.lookup(name);
+
+    assertNotNull(metrics);
+    assertEquals(metrics.getName(), name);
+    assertTrue(JavaFun.unregister(name));
+    assertFalse(SERVER.isRegistered(objectName(name)));
+    assertNull(FunctorMetrics.lookup(name));
+    assertFalse(JavaFun.unregister(name));
+
+    assertEquals(upper.apply("a"), "A");
+    assertEquals(metrics.getInvocationCount(), 1);
+  }
+
+  @Test
+  public void nameCanBeRegisteredAgainAfterUnregister() throws Exception {
+    final String name = "metrics-test-reuse";
+    JavaFun.register(name, (String s) -> s);
+    try {
+      JavaFun.register(name, (String s) -> s);
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+    }
+    assertTrue(JavaFun.unregister(name));
+
+    final Function<String, String> again = JavaFun.register(name, (String s) -> s + s);
+    try {
+      assertEquals(again.apply("a"), "aa");
+      assertEquals(SERVER.getAttribute(objectName(name), "InvocationCount"), 1L);
+    } finally {
+      JavaFun.unregister(name);
+    }
+  }
+
+  @Test
+  public void namesAreQuoted() throws Exception {
+    final String name = "metrics,test=\"quoted\"";
+    JavaFun.register(name, (String s) -> s);
+    try {
+      assertTrue(SERVER.isRegistered(objectName(name)));
+      assertEquals(SERVER.getAttribute(objectName(name), "Name"), name);
+    } finally {
+      JavaFun.unregister(name);
+    }
+  }
+
+  @Test
+  public void lookupOfUnknownNameIsNull() {
+    assertNull(FunctorMetrics.lookup("metrics-test-unknown"));
+  }
+}
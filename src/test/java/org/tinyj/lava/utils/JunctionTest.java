@@ -0,0 +1,157 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaPredicate;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import static org.testng.Assert.*;
+
+public class JunctionTest {
+
+  interface Combine {
+    Predicate<Integer> of(Predicate<Integer> first, Predicate<Integer> second);
+  }
+
+  interface BiCombine {
+    BiPredicate<Integer, Integer> of(BiPredicate<Integer, Integer> first, BiPredicate<Integer, Integer> second);
+  }
+
+  static final Junction.Kind[] KINDS = Junction.Kind.values();
+
+  static Combine combine(Junction.Kind kind) {
+    switch (kind) {
+      case ALL: return (first, second) -> JavaFun.allOf(first, second);
+      case ANY: return (first, second) -> JavaFun.anyOf(first, second);
+      default: return (first, second) -> JavaFun.noneOf(first, second);
+    }
+  }
+
+  static BiCombine biCombine(Junction.Kind kind) {
+    switch (kind) {
+      case ALL: return (first, second) -> JavaFun.allOf(first, second);
+      case ANY: return (first, second) -> JavaFun.anyOf(first, second);
+      default: return (first, second) -> JavaFun.noneOf(first, second);
+    }
+  }
+
+  static boolean expected(Junction.Kind kind, boolean first, boolean second) {
+    switch (kind) {
+      case ALL: return first && second;
+      case ANY: return first || second;
+      default: return !(first || second);
+    }
+  }
+
+  static boolean flattens(Junction.Kind outer, Junction.Kind inner) {
+    return outer == inner && outer != Junction.Kind.NONE
+           || outer == Junction.Kind.NONE && inner == Junction.Kind.ANY;
+  }
+
+  static boolean bit(int bits, int i) { return (bits >> i & 1) != 0; }
+
+  @Test
+  public void nestedJunctionsKeepTheirMeaning() {
+    final Predicate<Integer> a = x -> bit(x, 0);
+    final Predicate<Integer> b = x -> bit(x, 1);
+    final Predicate<Integer> c = x -> bit(x, 2);
+    for (Junction.Kind outer : KINDS) {
+      for (Junction.Kind inner : KINDS) {
+        final Predicate<Integer> nested = combine(outer).of(a, combine(inner).of(b, c));
+        final String pair = outer + "(a, " + inner + "(b, c))";
+        assertEquals(((Junction<?, ?>) nested).size(), flattens(outer, inner) ? 3 : 2, pair);
+        for (int x = 0; x < 8; x++) {
+          assertEquals(nested.test(x), expected(outer, bit(x, 0), expected(inner, bit(x, 1), bit(x, 2))), pair + " at " + x);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void noneOfNoneOfIsNotFlattened() {
+    final Predicate<Boolean> a = x -> x;
+    final Predicate<Boolean> b = x -> true;
+    final Predicate<Boolean> nested = JavaFun.noneOf(a, JavaFun.noneOf(b));
+
+    assertFalse(nested.test(true));
+    assertTrue(nested.test(false));
+  }
+
+  @Test
+  public void nestedBiJunctionsKeepTheirMeaning() {
+    final BiPredicate<Integer, Integer> a = (x, y) -> bit(x, 0);
+    final BiPredicate<Integer, Integer> b = (x, y) -> bit(y, 0);
+    final BiPredicate<Integer, Integer> c = (x, y) -> bit(x, 1);
+    for (Junction.Kind outer : KINDS) {
+      for (Junction.Kind inner : KINDS) {
+        final BiPredicate<Integer, Integer> nested = biCombine(outer).of(a, biCombine(inner).of(b, c));
+        final String pair = outer + "(a, " + inner + "(b, c))";
+        assertEquals(((BiJunction<?, ?, ?>) nested).size(), flattens(outer, inner) ? 3 : 2, pair);
+        for (int x = 0; x < 4; x++) {
+          for (int y = 0; y < 2; y++) {
+            assertEquals(nested.test(x, y), expected(outer, bit(x, 0), expected(inner, bit(y, 0), bit(x, 1))), pair + " at " + x + ", " + y);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void lavaJunctionsFlattenLikeJavaJunctions() throws Exception {
+    final LavaPredicate<Integer, RuntimeException> a = x -> bit(x, 0);
+    final LavaPredicate<Integer, RuntimeException> b = x -> bit(x, 1);
+    final LavaPredicate<Integer, RuntimeException> c = x -> bit(x, 2);
+    final LavaPredicate<Integer, RuntimeException> noneNone = LavaFun.noneOf(a, LavaFun.noneOf(b, c));
+    final LavaPredicate<Integer, RuntimeException> noneAny = LavaFun.noneOf(a, LavaFun.anyOf(b, c));
+
+    assertEquals(((Junction<?, ?>) noneNone).size(), 2);
+    assertEquals(((Junction<?, ?>) noneAny).size(), 3);
+    for (int x = 0; x < 8; x++) {
+      assertEquals(noneNone.checkedTest(x), !bit(x, 0) && (bit(x, 1) || bit(x, 2)));
+      assertEquals(noneAny.checkedTest(x), x == 0);
+    }
+  }
+
+  @Test
+  public void trueAndFalseOperandsFold() {
+    final Predicate<Integer> p = x -> x > 0;
+    final Predicate<Integer> t = JavaFun.True();
+    final Predicate<Integer> f = JavaFun.False();
+
+    assertSame(JavaFun.allOf(p, t), p);
+    assertSame(JavaFun.allOf(p, f), f);
+    assertSame(JavaFun.anyOf(p, f), p);
+    assertSame(JavaFun.anyOf(p, t), t);
+    assertSame(JavaFun.noneOf(p, t), f);
+
+    final Predicate<Integer> notP = JavaFun.noneOf(p, f);
+    assertFalse(notP.test(1));
+    assertTrue(notP.test(-1));
+
+    assertSame(JavaFun.<Integer>allOf(), t);
+    assertSame(JavaFun.<Integer>anyOf(), f);
+    assertSame(JavaFun.<Integer>noneOf(), t);
+    assertSame(JavaFun.allOf(t, t), t);
+    assertSame(JavaFun.anyOf(f, f), f);
+    assertSame(JavaFun.noneOf(f), t);
+  }
+
+  @Test
+  public void andOrExtendTheJunction() {
+    final Predicate<Integer> a = x -> bit(x, 0);
+    final Predicate<Integer> b = x -> bit(x, 1);
+    final Predicate<Integer> c = x -> bit(x, 2);
+    final Predicate<Integer> all = JavaFun.allOf(a, b).and(c);
+    final Predicate<Integer> any = JavaFun.anyOf(a, b).or(c);
+    final Predicate<Integer> none = JavaFun.anyOf(a, b).negate();
+
+    assertEquals(((Junction<?, ?>) all).size(), 3);
+    assertEquals(((Junction<?, ?>) any).size(), 3);
+    for (int x = 0; x < 8; x++) {
+      assertEquals(all.test(x), x == 7);
+      assertEquals(any.test(x), x != 0);
+      assertEquals(none.test(x), !bit(x, 0) && !bit(x, 1));
+    }
+  }
+}
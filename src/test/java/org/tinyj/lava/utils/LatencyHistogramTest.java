@@ -0,0 +1,134 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class LatencyHistogramTest {
+
+  static final long[] EDGES = {
+      0, 1, 31, 32, 33, 63, 64, 65, 66, 1000, (1L << 43) - 1, 1L << 43, (1L << 44) - 1, 1L << 44, Long.MAX_VALUE
+  };
+
+  @Test
+  public void bucketsCoverTheirValues() {
+    for (long value : EDGES) {
+      final int index = LatencyHistogram.indexOf(value);
+      assertTrue(LatencyHistogram.highestValueAt(index) >= value, value + " above its bucket");
+      if (index > 0) {
+        assertTrue(LatencyHistogram.highestValueAt(index - 1) < value, value + " below its bucket");
+      }
+    }
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    for (long value = 0; value < 64; value++) {
+      assertEquals(LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value)), value);
+    }
+    assertEquals(LatencyHistogram.indexOf(64), LatencyHistogram.indexOf(65));
+    assertEquals(LatencyHistogram.indexOf(65) + 1, LatencyHistogram.indexOf(66));
+  }
+
+  @Test
+  public void bucketsAreWithinRelativeError() {
+    for (long value = 1; value < 1L << 43; value = value * 3 + 1) {
+      final long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+      assertTrue(highest - value <= value / 32, value + " in bucket up to " + highest);
+    }
+  }
+
+  @Test
+  public void percentilesRoundTrip() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 0; value < 100; value++) {
+      histogram.accept(value);
+    }
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.count(), 100);
+    assertEquals(snapshot.max(), 99);
+    assertEquals(snapshot.mean(), 49.5);
+    assertEquals(snapshot.percentile(0), 0);
+    assertEquals(snapshot.percentile(1), 0);
+    assertEquals(snapshot.percentile(50), 49);
+    assertEquals(snapshot.percentile(100), 99);
+  }
+
+  @Test
+  public void boundaryValueIsReportedByItsBucket() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.accept(64);
+    histogram.accept(1000);
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.percentile(50), 65);
+    assertEquals(snapshot.percentile(100), 1000);
+  }
+
+  @Test
+  public void largestValuesAreReportedByMax() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.accept(0);
+    histogram.accept(Long.MAX_VALUE);
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.percentile(50), 0);
+    assertEquals(snapshot.percentile(99), Long.MAX_VALUE);
+    assertEquals(snapshot.max(), Long.MAX_VALUE);
+  }
+
+  @Test
+  public void negativeValuesAreRecordedAsZero() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.accept(-5);
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.count(), 1);
+    assertEquals(snapshot.percentile(100), 0);
+    assertEquals(snapshot.mean(), 0.0);
+  }
+
+  @Test
+  public void emptySnapshotReportsZero() {
+    final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+    assertEquals(snapshot.count(), 0);
+    assertEquals(snapshot.percentile(99), 0);
+    assertEquals(snapshot.mean(), 0.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void percentileMustBeWithinRange() {
+    new LatencyHistogram().snapshot().percentile(100.5);
+  }
+
+  @Test
+  public void stripesAreMerged() throws InterruptedException {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      final long value = t * 100;
+      final Thread thread = new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          histogram.accept(value);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.count(), 8000);
+    assertEquals(snapshot.max(), 700);
+    assertEquals(snapshot.mean(), 350.0);
+    assertEquals(snapshot.percentile(12.5), 0);
+    assertTrue(snapshot.percentile(25) >= 100 && snapshot.percentile(25) <= 103);
+  }
+}
@@ -0,0 +1,138 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaSupplier;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class LazyTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+
+  static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    for (Thread thread : threads) {
+      while (thread.getState() != Thread.State.BLOCKED) {
+        assertTrue(System.nanoTime() < deadline, thread + " not blocked");
+        Thread.sleep(1);
+      }
+    }
+  }
+
+  @Test
+  public void resultIsCached() throws IOException {
+    final Lazy<String, IOException> lazy = LavaFun.lazy(() -> "v" + calls.incrementAndGet());
+
+    assertEquals(lazy.checkedGet(), "v1");
+    assertEquals(lazy.checkedGet(), "v1");
+    assertEquals(lazy.get(), "v1");
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void contendedFirstUseEvaluatesOnce() throws InterruptedException {
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Lazy<String, RuntimeException> lazy = JavaFun.lazy(() -> {
+      entered.countDown();
+      await(release);
+      return "v" + calls.incrementAndGet();
+    });
+    final ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+    final Thread first = new Thread(() -> results.add(lazy.get()));
+    first.start();
+    await(entered);
+    final List<Thread> waiting = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      final Thread thread = new Thread(() -> results.add(lazy.get()));
+      waiting.add(thread);
+      thread.start();
+    }
+    awaitBlocked(waiting);
+    release.countDown();
+    first.join();
+    for (Thread thread : waiting) {
+      thread.join();
+    }
+
+    assertEquals(calls.get(), 1);
+    assertEquals(results.size(), 5);
+    for (String result : results) {
+      assertEquals(result, "v1");
+    }
+  }
+
+  @Test
+  public void failedEvaluationIsRetried() throws IOException {
+    final Lazy<String, IOException> lazy = LavaFun.lazy(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IOException("first");
+      }
+      return "v" + calls.get();
+    });
+
+    try {
+      lazy.checkedGet();
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertEquals(e.getMessage(), "first");
+    }
+    assertEquals(lazy.checkedGet(), "v2");
+    assertEquals(lazy.checkedGet(), "v2");
+    assertEquals(calls.get(), 2);
+  }
+
+  @Test
+  public void uncheckedFailureIsPassedOnByGet() {
+    final Lazy<String, IOException> lazy = LavaFun.lazy(() -> {
+      throw new IOException("checked");
+    });
+
+    try {
+      lazy.get();
+      fail("expected UndeclaredThrowableException");
+    } catch (UndeclaredThrowableException e) {
+      assertEquals(e.getCause().getMessage(), "checked");
+    }
+  }
+
+  @Test
+  public void supplierIsDroppedAfterInitialization() throws InterruptedException {
+    final List<WeakReference<?>> supplier = new ArrayList<>();
+    final Lazy<String, RuntimeException> lazy = lazyCounter(supplier);
+
+    assertEquals(lazy.get(), "v1");
+    for (int i = 0; i < 100 && supplier.get(0).get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(supplier.get(0).get());
+    assertEquals(lazy.get(), "v1");
+    assertEquals(calls.get(), 1);
+  }
+
+  /** A lazy counter, adds a weak reference to its supplier to {@code supplier}. */
+  Lazy<String, RuntimeException> lazyCounter(List<WeakReference<?>> supplier) {
+    final LavaSupplier<String, RuntimeException> counter = () -> "v" + calls.incrementAndGet();
+    supplier.add(new WeakReference<>(counter));
+    return LavaFun.lazy(counter);
+  }
+}
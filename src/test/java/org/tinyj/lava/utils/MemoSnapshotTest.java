@@ -0,0 +1,111 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class MemoSnapshotTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+  final Function<String, Integer> length = s -> {
+    calls.incrementAndGet();
+    return s == null ? Integer.valueOf(-1) : s.isEmpty() ? null : Integer.valueOf(s.length());
+  };
+
+  Path snapshot(long version, String... keys) throws IOException {
+    final Memoized<String, Integer, RuntimeException> memoized = JavaFun.memoize(length, 64);
+    for (String key : keys) {
+      memoized.apply(key);
+    }
+    final Path file = Files.createTempFile("memo", ".snapshot");
+    file.toFile().deleteOnExit();
+    memoized.snapshot(file, version, MemoCodec.STRING, MemoCodec.INTEGER);
+    calls.set(0);
+    return file;
+  }
+
+  @Test
+  public void restoredResultsAreHits() throws IOException {
+    final Path file = snapshot(7, "a", "bb", "ccc");
+    final Memoized<String, Integer, RuntimeException> restored = JavaFun.memoize(length, 64);
+
+    assertTrue(restored.restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+    assertEquals(restored.apply("bb"), Integer.valueOf(2));
+    assertEquals(restored.apply("ccc"), Integer.valueOf(3));
+    assertEquals(restored.apply("bb"), Integer.valueOf(2));
+    assertEquals(calls.get(), 0);
+    assertEquals(restored.hitCount(), 3);
+    assertEquals(restored.apply("dddd"), Integer.valueOf(4));
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void nullKeyIsNotSnapshot() throws IOException {
+    final Path file = snapshot(7, "a", null);
+    final Memoized<String, Integer, RuntimeException> restored = JavaFun.memoize(length, 64);
+
+    assertTrue(restored.restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+    assertEquals(restored.apply(null), Integer.valueOf(-1));
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void nullResultsAreNotSnapshot() throws IOException {
+    final Path file = snapshot(7, "a", "");
+    final Memoized<String, Integer, RuntimeException> restored = JavaFun.memoize(length, 64);
+
+    assertTrue(restored.restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+    assertEquals(restored.apply("a"), Integer.valueOf(1));
+    assertNull(restored.apply(""));
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void droppedSnapshotIsNotConsulted() throws IOException {
+    final Path file = snapshot(7, "a", "bb");
+    final Memoized<String, Integer, RuntimeException> restored = JavaFun.memoize(length, 64);
+
+    assertTrue(restored.restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+    assertEquals(restored.apply("a"), Integer.valueOf(1));
+    assertTrue(restored.dropSnapshot());
+    assertFalse(restored.dropSnapshot());
+    assertEquals(restored.apply("a"), Integer.valueOf(1));
+    assertEquals(calls.get(), 0);
+    assertEquals(restored.apply("bb"), Integer.valueOf(2));
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void otherVersionsAreIgnored() throws IOException {
+    final Path file = snapshot(7, "a");
+    final Memoized<String, Integer, RuntimeException> restored = JavaFun.memoize(length, 64);
+
+    assertFalse(restored.restore(file, 8, MemoCodec.STRING, MemoCodec.INTEGER));
+    assertEquals(restored.apply("a"), Integer.valueOf(1));
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void corruptedSnapshotsAreIgnored() throws IOException {
+    final Path file = snapshot(7, "a", "bb");
+    final byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(file, bytes);
+
+    assertFalse(JavaFun.memoize(length, 64).restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+  }
+
+  @Test
+  public void missingSnapshotsAreIgnored() throws IOException {
+    final Path file = snapshot(7);
+    Files.delete(file);
+
+    assertFalse(JavaFun.memoize(length, 64).restore(file, 7, MemoCodec.STRING, MemoCodec.INTEGER));
+  }
+}
@@ -0,0 +1,127 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+import org.tinyj.lava.LavaFunction;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class MemoizedTest {
+
+  @Test
+  public void resultsAreCached() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Memoized<String, Integer, RuntimeException> length = JavaFun.memoize((String s) -> {
+      calls.incrementAndGet();
+      return s.length();
+    }, 16);
+
+    assertEquals(length.apply("abc"), Integer.valueOf(3));
+    assertEquals(length.apply("abc"), Integer.valueOf(3));
+    assertEquals(length.apply("de"), Integer.valueOf(2));
+    assertEquals(calls.get(), 2);
+    assertEquals(length.hitCount(), 1);
+    assertEquals(length.missCount(), 2);
+    assertEquals(length.size(), 2);
+  }
+
+  @Test
+  public void nullIsCached() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Memoized<Object, String, RuntimeException> describe = JavaFun.memoize((Object x) -> {
+      calls.incrementAndGet();
+      return String.valueOf(x);
+    }, 16);
+
+    assertEquals(describe.apply(null), "null");
+    assertEquals(describe.apply(null), "null");
+    assertEquals(calls.get(), 1);
+    assertTrue(describe.isCached(null));
+  }
+
+  @Test
+  public void sizeIsBounded() {
+    final Memoized<Integer, Integer, RuntimeException> square = JavaFun.memoize((Integer x) -> x * x, 8);
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(square.apply(i), Integer.valueOf(i * i));
+    }
+    assertTrue(square.size() < 16, "size " + square.size());
+    assertEquals(square.evictionCount(), 1000 - square.size());
+  }
+
+  @Test
+  public void latestEntryIsKept() {
+    final Memoized<Integer, Integer, RuntimeException> identity = JavaFun.memoize((Integer x) -> x, 1);
+    identity.apply(1);
+    identity.apply(1);
+    identity.apply(2);
+    assertFalse(identity.isCached(1));
+    assertTrue(identity.isCached(2));
+  }
+
+  @Test
+  public void failuresAreNotCachedByDefault() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LavaFunction<String, String, IOException> fails = x -> {
+      calls.incrementAndGet();
+      throw new IOException(x);
+    };
+    final Memoized<String, String, IOException> memoized = LavaFun.memoize(fails, 16);
+    for (int i = 0; i < 2; i++) {
+      try {
+        memoized.checkedApply("x");
+        fail("expected IOException");
+      } catch (IOException expected) {
+        assertEquals(expected.getMessage(), "x");
+      }
+    }
+    assertEquals(calls.get(), 2);
+    assertFalse(memoized.isCached("x"));
+  }
+
+  @Test
+  public void failuresAreCachedOnRequest() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LavaFunction<String, String, IOException> fails = x -> {
+      calls.incrementAndGet();
+      throw new IOException(x);
+    };
+    final Memoized<String, String, IOException> memoized = LavaFun.memoize(fails, 16, true);
+    IOException first = null;
+    for (int i = 0; i < 2; i++) {
+      try {
+        memoized.checkedApply("x");
+        fail("expected IOException");
+      } catch (IOException e) {
+        if (first == null) first = e;
+        assertSame(e, first);
+      }
+    }
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void concurrentLookupsAgree() throws Exception {
+    final Memoized<Integer, Object, RuntimeException> memoized = JavaFun.memoize((Integer x) -> new Object(), 64);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Callable<Object> lookup = () -> memoized.apply(7);
+      final Object first = lookup.call();
+      for (Future<Object> result : executor.invokeAll(Collections.nCopies(100, lookup))) {
+        assertSame(result.get(), first);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void maxSizeMustBePositive() {
+    JavaFun.memoize(Function.identity(), 0);
+  }
+}
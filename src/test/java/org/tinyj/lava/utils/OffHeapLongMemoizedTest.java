@@ -0,0 +1,64 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class OffHeapLongMemoizedTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void resultsAreCached() {
+    try (OffHeapLongMemoized negate = JavaFun.memoizeOffHeap(x -> {
+      calls.incrementAndGet();
+      return -x;
+    }, 64)) {
+      for (long x : new long[] {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE}) {
+        assertEquals(negate.applyAsLong(x), -x);
+        assertEquals(negate.applyAsLong(x), -x);
+      }
+      assertEquals(calls.get(), 5);
+      assertEquals(negate.hitCount(), 5);
+      assertEquals(negate.missCount(), 5);
+    }
+  }
+
+  @Test
+  public void capacityIsRoundedUp() {
+    try (OffHeapLongMemoized small = JavaFun.memoizeOffHeap(x -> x, 5);
+         OffHeapLongMemoized large = JavaFun.memoizeOffHeap(x -> x, 100)) {
+      assertEquals(small.capacity(), 8);
+      assertEquals(large.capacity(), 128);
+    }
+  }
+
+  @Test
+  public void entriesAreEvictedOnceFull() {
+    try (OffHeapLongMemoized square = JavaFun.memoizeOffHeap(x -> x * x, 16)) {
+      for (long x = 0; x < 1000; x++) {
+        assertEquals(square.applyAsLong(x), x * x);
+      }
+      assertEquals(square.missCount(), 1000);
+      assertTrue(square.evictionCount() >= 1000 - square.capacity());
+      for (long x = 0; x < 1000; x++) {
+        assertEquals(square.applyAsLong(x), x * x);
+      }
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void closedFunctionFails() {
+    final OffHeapLongMemoized identity = JavaFun.memoizeOffHeap(x -> x, 8);
+    identity.close();
+    identity.close();
+    identity.applyAsLong(1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void capacityMustBePositive() {
+    JavaFun.memoizeOffHeap(x -> x, 0);
+  }
+}
@@ -0,0 +1,144 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.*;
+
+import static org.testng.Assert.*;
+
+public class PrimitivePrototypeTest {
+
+  @Test
+  public void intPredicatesFold() {
+    final IntPredicate positive = x -> x > 0;
+
+    assertTrue(JavaFun.IntTrue().test(-1));
+    assertFalse(JavaFun.IntFalse().test(1));
+    assertSame(JavaFun.IntTrue().and(positive), positive);
+    assertSame(JavaFun.IntTrue().or(positive), JavaFun.IntTrue());
+    assertSame(JavaFun.IntFalse().and(positive), JavaFun.IntFalse());
+    assertSame(JavaFun.IntFalse().or(positive), positive);
+    assertSame(JavaFun.IntTrue().negate(), JavaFun.IntFalse());
+    assertSame(JavaFun.IntFalse().negate(), JavaFun.IntTrue());
+  }
+
+  @Test
+  public void longPredicatesFold() {
+    final LongPredicate positive = x -> x > 0;
+
+    assertTrue(JavaFun.LongTrue().test(-1));
+    assertFalse(JavaFun.LongFalse().test(1));
+    assertSame(JavaFun.LongTrue().and(positive), positive);
+    assertSame(JavaFun.LongTrue().or(positive), JavaFun.LongTrue());
+    assertSame(JavaFun.LongFalse().and(positive), JavaFun.LongFalse());
+    assertSame(JavaFun.LongFalse().or(positive), positive);
+    assertSame(JavaFun.LongTrue().negate(), JavaFun.LongFalse());
+    assertSame(JavaFun.LongFalse().negate(), JavaFun.LongTrue());
+  }
+
+  @Test
+  public void doublePredicatesFold() {
+    final DoublePredicate positive = x -> x > 0;
+
+    assertTrue(JavaFun.DoubleTrue().test(Double.NaN));
+    assertFalse(JavaFun.DoubleFalse().test(1));
+    assertSame(JavaFun.DoubleTrue().and(positive), positive);
+    assertSame(JavaFun.DoubleTrue().or(positive), JavaFun.DoubleTrue());
+    assertSame(JavaFun.DoubleFalse().and(positive), JavaFun.DoubleFalse());
+    assertSame(JavaFun.DoubleFalse().or(positive), positive);
+    assertSame(JavaFun.DoubleTrue().negate(), JavaFun.DoubleFalse());
+    assertSame(JavaFun.DoubleFalse().negate(), JavaFun.DoubleTrue());
+  }
+
+  @Test
+  public void identitiesFold() {
+    final IntUnaryOperator intIncrement = x -> x + 1;
+    final LongUnaryOperator longIncrement = x -> x + 1;
+    final DoubleUnaryOperator doubleIncrement = x -> x + 1;
+
+    assertEquals(JavaFun.IntIdentity().applyAsInt(7), 7);
+    assertSame(JavaFun.IntIdentity().andThen(intIncrement), intIncrement);
+    assertSame(JavaFun.IntIdentity().compose(intIncrement), intIncrement);
+    assertEquals(JavaFun.LongIdentity().applyAsLong(Long.MIN_VALUE), Long.MIN_VALUE);
+    assertSame(JavaFun.LongIdentity().andThen(longIncrement), longIncrement);
+    assertSame(JavaFun.LongIdentity().compose(longIncrement), longIncrement);
+    assertEquals(JavaFun.DoubleIdentity().applyAsDouble(-0.5), -0.5);
+    assertSame(JavaFun.DoubleIdentity().andThen(doubleIncrement), doubleIncrement);
+    assertSame(JavaFun.DoubleIdentity().compose(doubleIncrement), doubleIncrement);
+  }
+
+  @Test
+  public void noOpsFold() {
+    final List<Number> accepted = new ArrayList<>();
+    final IntConsumer intAdd = accepted::add;
+    final LongConsumer longAdd = accepted::add;
+    final DoubleConsumer doubleAdd = accepted::add;
+
+    JavaFun.IntNoOp().accept(1);
+    JavaFun.LongNoOp().accept(2);
+    JavaFun.DoubleNoOp().accept(3);
+    assertTrue(accepted.isEmpty());
+    assertSame(JavaFun.IntNoOp().andThen(intAdd), intAdd);
+    assertSame(JavaFun.LongNoOp().andThen(longAdd), longAdd);
+    assertSame(JavaFun.DoubleNoOp().andThen(doubleAdd), doubleAdd);
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void foldingRejectsNull() {
+    JavaFun.IntTrue().and(null);
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void identityRejectsNull() {
+    JavaFun.LongIdentity().andThen(null);
+  }
+
+  @Test
+  public void constantsIgnoreTheirArguments() {
+    final IntConstant<String, String> three = JavaFun.IntConstant(3);
+    final LongConstant<String, String> four = JavaFun.LongConstant(4);
+    final DoubleConstant<String, String> half = JavaFun.DoubleConstant(0.5);
+
+    assertEquals(three.getAsInt(), 3);
+    assertEquals(three.applyAsInt(1), 3);
+    assertEquals(three.applyAsInt(1, 2), 3);
+    assertEquals(three.applyAsInt("x"), 3);
+    assertEquals(three.applyAsInt("x", "y"), 3);
+    assertEquals(three.applyAsInt(1L), 3);
+    assertEquals(three.applyAsInt(1.0), 3);
+    assertEquals(four.getAsLong(), 4L);
+    assertEquals(four.applyAsLong(1L), 4L);
+    assertEquals(four.applyAsLong(1L, 2L), 4L);
+    assertEquals(four.applyAsLong("x"), 4L);
+    assertEquals(four.applyAsLong("x", "y"), 4L);
+    assertEquals(four.applyAsLong(1), 4L);
+    assertEquals(four.applyAsLong(1.0), 4L);
+    assertEquals(half.getAsDouble(), 0.5);
+    assertEquals(half.applyAsDouble(1.0), 0.5);
+    assertEquals(half.applyAsDouble(1.0, 2.0), 0.5);
+    assertEquals(half.applyAsDouble("x"), 0.5);
+    assertEquals(half.applyAsDouble("x", "y"), 0.5);
+    assertEquals(half.applyAsDouble(1), 0.5);
+    assertEquals(half.applyAsDouble(1L), 0.5);
+  }
+
+  @Test
+  public void constantsComposeLikeAnyOperator() {
+    final int[] calls = new int[1];
+    final IntUnaryOperator three = JavaFun.IntConstant(3);
+    final IntUnaryOperator counted = three.compose(x -> {
+      calls[0]++;
+      return x;
+    });
+
+    assertEquals(calls[0], 0);
+    assertEquals(counted.applyAsInt(1), 3);
+    assertEquals(counted.applyAsInt(2), 3);
+    assertEquals(calls[0], 2);
+    assertEquals(three.andThen(x -> x * 2).applyAsInt(0), 6);
+    assertEquals(((LongUnaryOperator) JavaFun.LongConstant(4)).andThen(x -> x + 1).applyAsLong(0), 5L);
+    assertEquals(((DoubleUnaryOperator) JavaFun.DoubleConstant(0.5)).andThen(x -> x * 4).applyAsDouble(0), 2.0);
+  }
+}
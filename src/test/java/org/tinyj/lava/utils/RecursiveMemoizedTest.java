@@ -0,0 +1,66 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class RecursiveMemoizedTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+
+  final BiFunction<Function<Integer, BigInteger>, Integer, BigInteger> fibonacci = (fib, n) -> {
+    calls.incrementAndGet();
+    return n < 2 ? BigInteger.valueOf(n) : fib.apply(n - 1).add(fib.apply(n - 2));
+  };
+
+  @Test
+  public void cacheIsSharedAcrossRecursion() {
+    final RecursiveMemoized<Integer, BigInteger, RuntimeException> fib = JavaFun.memoizeRecursive(fibonacci, 1000);
+
+    assertEquals(fib.apply(90), new BigInteger("2880067194370816120"));
+    assertEquals(calls.get(), 91);
+    assertEquals(fib.apply(50), new BigInteger("12586269025"));
+    assertEquals(calls.get(), 91);
+  }
+
+  @Test
+  public void trampolinedRecursionDoesNotOverflow() {
+    final RecursiveMemoized<Integer, Long, RuntimeException> sum =
+        JavaFun.memoizeRecursive((Function<Integer, Long> self, Integer n) -> n == 0 ? 0L : n + self.apply(n - 1), 200_000, 64);
+
+    assertEquals(sum.apply(100_000), Long.valueOf(5_000_050_000L));
+  }
+
+  @Test
+  public void trampolinedResultsMatch() {
+    final RecursiveMemoized<Integer, BigInteger, RuntimeException> fib = JavaFun.memoizeRecursive(fibonacci, 10_000, 8);
+
+    assertEquals(fib.apply(90), new BigInteger("2880067194370816120"));
+    assertEquals(fib.apply(2000).bitLength(), 1388);
+  }
+
+  @Test
+  public void failuresAreNotCached() {
+    final RecursiveMemoized<Integer, Integer, RuntimeException> fails = JavaFun.memoizeRecursive((Function<Integer, Integer> self, Integer n) -> {
+      if (calls.incrementAndGet() == 1) throw new IllegalStateException();
+      return n;
+    }, 16);
+    try {
+      fails.apply(1);
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException expected) {
+    }
+    assertEquals(fails.apply(1), Integer.valueOf(1));
+    assertEquals(calls.get(), 2);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void maxDepthMustNotBeNegative() {
+    JavaFun.memoizeRecursive(fibonacci, 16, -1);
+  }
+}
@@ -0,0 +1,254 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class SingleFlightTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+  final CountDownLatch entered = new CountDownLatch(1);
+  final CountDownLatch release = new CountDownLatch(1);
+
+  static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    for (Thread thread : threads) {
+      while (thread.getState() != Thread.State.WAITING) {
+        assertTrue(System.nanoTime() < deadline, thread + " not waiting");
+        Thread.sleep(1);
+      }
+    }
+  }
+
+  /** Start {@code n} threads running {@code call}, the first one is started alone and awaited in the wrapped function. */
+  List<Thread> start(int n, Runnable call) throws InterruptedException {
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      final Thread thread = new Thread(call);
+      threads.add(thread);
+      thread.start();
+      if (i == 0) {
+        await(entered);
+      }
+    }
+    awaitWaiting(threads.subList(1, n));
+    return threads;
+  }
+
+  static void join(List<Thread> threads) throws InterruptedException {
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  @Test
+  public void equalArgumentsShareOneInvocation() throws InterruptedException {
+    final SingleFlight<String, String, RuntimeException> upper = JavaFun.singleFlight((String s) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      return s.toUpperCase();
+    });
+    final ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(5, () -> results.add(upper.apply("a")));
+
+    assertEquals(upper.inFlightCount(), 1);
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(results.size(), 5);
+    for (String result : results) {
+      assertEquals(result, "A");
+    }
+    assertEquals(upper.inFlightCount(), 0);
+    assertEquals(upper.apply("a"), "A");
+    assertEquals(calls.get(), 2);
+  }
+
+  @Test
+  public void failureIsSharedAsTheSameInstance() throws InterruptedException {
+    final IOException failure = new IOException("shared");
+    final SingleFlight<String, String, IOException> fails = LavaFun.singleFlight((String s) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      throw failure;
+    });
+    final ConcurrentLinkedQueue<Throwable> thrown = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(4, () -> {
+      try {
+        fails.checkedApply("a");
+      } catch (IOException e) {
+        thrown.add(e);
+      }
+    });
+
+    assertEquals(fails.inFlightCount(), 1);
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(thrown.size(), 4);
+    for (Throwable t : thrown) {
+      assertSame(t, failure);
+    }
+    assertEquals(fails.inFlightCount(), 0);
+  }
+
+  @Test
+  public void uncheckedFailureIsSharedAsTheSameInstance() throws InterruptedException {
+    final IllegalStateException failure = new IllegalStateException("shared");
+    final SingleFlight<String, String, RuntimeException> fails = JavaFun.singleFlight((String s) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      throw failure;
+    });
+    final ConcurrentLinkedQueue<Throwable> thrown = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(3, () -> {
+      try {
+        fails.apply("a");
+      } catch (IllegalStateException e) {
+        thrown.add(e);
+      }
+    });
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(thrown.size(), 3);
+    for (Throwable t : thrown) {
+      assertSame(t, failure);
+    }
+    assertEquals(fails.inFlightCount(), 0);
+  }
+
+  @Test
+  public void distinctArgumentsAreInvokedSeparately() throws InterruptedException {
+    final CountDownLatch bothEntered = new CountDownLatch(2);
+    final SingleFlight<String, String, RuntimeException> upper = JavaFun.singleFlight((String s) -> {
+      calls.incrementAndGet();
+      bothEntered.countDown();
+      await(release);
+      return s.toUpperCase();
+    });
+    final Thread a = new Thread(() -> assertEquals(upper.apply("a"), "A"));
+    final Thread b = new Thread(() -> assertEquals(upper.apply("b"), "B"));
+    a.start();
+    b.start();
+    await(bothEntered);
+
+    assertEquals(upper.inFlightCount(), 2);
+    release.countDown();
+    a.join();
+    b.join();
+    assertEquals(calls.get(), 2);
+    assertEquals(upper.inFlightCount(), 0);
+  }
+
+  @Test
+  public void failedInvocationIsNotRetained() throws IOException {
+    final SingleFlight<String, String, IOException> flaky = LavaFun.singleFlight((String s) -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IOException("first");
+      }
+      return s;
+    });
+
+    try {
+      flaky.checkedApply("a");
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertEquals(e.getMessage(), "first");
+    }
+    assertEquals(flaky.inFlightCount(), 0);
+    assertEquals(flaky.checkedApply("a"), "a");
+    assertEquals(flaky.inFlightCount(), 0);
+  }
+
+  @Test
+  public void nullArgumentIsCoalesced() throws InterruptedException {
+    final SingleFlight<String, String, RuntimeException> describe = JavaFun.singleFlight((String s) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      return String.valueOf(s);
+    });
+    final ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(3, () -> results.add(describe.apply(null)));
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(results.toString(), "[null, null, null]");
+    assertEquals(describe.inFlightCount(), 0);
+  }
+
+  @Test
+  public void equalPairsShareOneInvocation() throws InterruptedException {
+    final BiSingleFlight<String, Integer, String, RuntimeException> repeat = JavaFun.singleFlight((String s, Integer n) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      return new String(new char[n]).replace("\0", String.valueOf(s));
+    });
+    final ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(4, () -> results.add(repeat.apply("ab", 2)));
+
+    assertEquals(repeat.inFlightCount(), 1);
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(results.toString(), "[abab, abab, abab, abab]");
+    assertEquals(repeat.inFlightCount(), 0);
+    assertEquals(repeat.apply("ab", 1), "ab");
+    assertEquals(repeat.apply(null, 1), "null");
+    assertEquals(calls.get(), 3);
+  }
+
+  @Test
+  public void pairFailureIsSharedAndReleased() throws InterruptedException {
+    final IOException failure = new IOException("shared");
+    final BiSingleFlight<String, String, String, IOException> fails = LavaFun.singleFlight((String x, String y) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      throw failure;
+    });
+    final ConcurrentLinkedQueue<Throwable> thrown = new ConcurrentLinkedQueue<>();
+    final List<Thread> threads = start(3, () -> {
+      try {
+        fails.checkedApply("a", "b");
+      } catch (IOException e) {
+        thrown.add(e);
+      }
+    });
+    release.countDown();
+    join(threads);
+
+    assertEquals(calls.get(), 1);
+    assertEquals(thrown.size(), 3);
+    for (Throwable t : thrown) {
+      assertSame(t, failure);
+    }
+    assertEquals(fails.inFlightCount(), 0);
+  }
+}
@@ -0,0 +1,70 @@
+package org.tinyj.lava.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import static org.testng.Assert.*;
+
+public class TabulatedTest {
+
+  enum Day { MON, TUE, WED, THU, FRI, SAT, SUN }
+
+  @Test
+  public void implicitLambdasResolve() {
+    final Function<Day, String> name = JavaFun.tabulate(Day.class, d -> d.name().toLowerCase());
+    final Predicate<Day> weekend = JavaFun.tabulatePredicate(Day.class, d -> d.ordinal() >= 5);
+
+    assertEquals(name.apply(Day.WED), "wed");
+    assertTrue(weekend.test(Day.SUN));
+    assertFalse(weekend.test(Day.FRI));
+  }
+
+  @Test
+  public void tabulatedPredicatesCombine() {
+    final TabulatedPredicate<Day, RuntimeException> weekend = JavaFun.tabulatePredicate(Day.class, d -> d.ordinal() >= 5);
+    final TabulatedPredicate<Day, RuntimeException> early = JavaFun.tabulatePredicate(Day.class, d -> d.ordinal() < 2);
+
+    final Predicate<Day> either = weekend.or(early);
+    assertTrue(either instanceof TabulatedPredicate);
+    assertTrue(either.test(Day.MON));
+    assertTrue(either.test(Day.SAT));
+    assertFalse(either.test(Day.WED));
+    assertFalse(weekend.and(early).test(Day.SAT));
+    assertSame(weekend.and(JavaFun.True()), weekend);
+    assertSame(weekend.or(JavaFun.False()), weekend);
+  }
+
+  @Test
+  public void intPredicatesCombine() {
+    final TabulatedIntPredicate even = JavaFun.tabulate(-10, 100, x -> x % 2 == 0);
+    final TabulatedIntPredicate small = JavaFun.tabulate(-10, 100, x -> x < 5);
+
+    assertTrue(even.test(-10));
+    assertFalse(even.test(99));
+    assertTrue(even.negate().test(99));
+    assertFalse(even.negate().test(-10));
+    final IntPredicate both = even.and(small);
+    assertTrue(both instanceof TabulatedIntPredicate);
+    assertTrue(both.test(4));
+    assertFalse(both.test(6));
+    assertTrue(even.or(small).test(3));
+  }
+
+  @Test
+  public void intPredicatesFoldTrueAndFalse() {
+    final TabulatedIntPredicate even = JavaFun.tabulate(0, 10, x -> x % 2 == 0);
+
+    assertSame(even.and(JavaFun.IntTrue()), even);
+    assertSame(even.and(JavaFun.IntFalse()), JavaFun.IntFalse());
+    assertSame(even.or(JavaFun.IntTrue()), JavaFun.IntTrue());
+    assertSame(even.or(JavaFun.IntFalse()), even);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void intPredicateRejectsValuesOutOfRange() {
+    JavaFun.tabulate(0, 10, x -> true).test(10);
+  }
+}